@@ -13,4 +13,23 @@ public class GitServiceConfig {
 
     @Value("gitInitializeRepo/GitConnect-Initialize-Repo-Template")
     private String readmeTemplatePath;
+
+    @Value("${appsmith.git.file-write.parallelism:4}")
+    private int fileWriteParallelism;
+
+    @Value("${appsmith.git.file-read.parallelism:4}")
+    private int fileReadParallelism;
+
+    @Value("${appsmith.git.repository-cache.max-size:64}")
+    private int repositoryCacheMaxSize;
+
+    @Value("${appsmith.git.repository-cache.idle-timeout-seconds:300}")
+    private int repositoryCacheIdleTimeoutSeconds;
+
+    // Number of commits fetched from the tip of the branches on clone, the whole history is fetched when it's 0
+    @Value("${appsmith.git.clone.depth:0}")
+    private int cloneDepth;
+
+    @Value("${appsmith.git.clone.single-branch:false}")
+    private boolean cloneSingleBranch;
 }
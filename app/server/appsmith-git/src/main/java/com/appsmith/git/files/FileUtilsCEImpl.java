@@ -1,5 +1,6 @@
 package com.appsmith.git.files;
 
+import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.dtos.ModifiedResources;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
@@ -11,21 +12,26 @@ import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.external.models.ArtifactGitReference;
+import com.appsmith.external.models.BaseDomain;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.helpers.DSLTransformerHelper;
+import com.appsmith.git.helpers.GitRepositoryCache;
+import com.appsmith.git.helpers.LastCommitDiff;
 import io.micrometer.tracing.Span;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.api.errors.RefNotFoundException;
 import org.json.JSONObject;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -41,6 +47,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -56,8 +64,10 @@ import static com.appsmith.external.git.constants.GitConstants.CUSTOM_JS_LIB_LIS
 import static com.appsmith.external.git.constants.GitConstants.NAME_SEPARATOR;
 import static com.appsmith.external.git.constants.GitConstants.PAGE_LIST;
 import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitMetricConstantsCE.ACTION_COLLECTION_BODY;
+import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitMetricConstantsCE.METADATA;
 import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitMetricConstantsCE.NEW_ACTION_BODY;
 import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitMetricConstantsCE.RESOURCE_TYPE;
+import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitMetricConstantsCE.WIDGETS;
 import static com.appsmith.git.constants.GitDirectories.ACTION_COLLECTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.ACTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.DATASOURCE_DIRECTORY;
@@ -74,6 +84,7 @@ public class FileUtilsCEImpl implements FileInterface {
     private final GitExecutor gitExecutor;
     private final FileOperations fileOperations;
     private final ObservationHelper observationHelper;
+    private final GitRepositoryCache repositoryCache;
 
     private static final String EDIT_MODE_URL_TEMPLATE = "{{editModeUrl}}";
 
@@ -86,15 +97,24 @@ public class FileUtilsCEImpl implements FileInterface {
 
     private static final String CANVAS_WIDGET = "(Canvas)[0-9]*.";
 
+    private static final Scheduler FILE_IO_SCHEDULER = Schedulers.newBoundedElastic(
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+            "git-file-io",
+            60,
+            true);
+
     public FileUtilsCEImpl(
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
             FileOperations fileOperations,
-            ObservationHelper observationHelper) {
+            ObservationHelper observationHelper,
+            GitRepositoryCache repositoryCache) {
         this.gitServiceConfig = gitServiceConfig;
         this.gitExecutor = gitExecutor;
         this.fileOperations = fileOperations;
         this.observationHelper = observationHelper;
+        this.repositoryCache = repositoryCache;
     }
 
     /**
@@ -202,12 +222,15 @@ public class FileUtilsCEImpl implements FileInterface {
         // baseRepo : root/orgId/defaultAppId/repoName/{applicationData}
         // Checkout to mentioned branch if not already checked-out
         Stopwatch processStopwatch = new Stopwatch("FS application save");
+        Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
         return gitExecutor
-                .resetToLastCommit(baseRepoSuffix, branchName)
-                .flatMap(isSwitched -> {
-                    Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
-
-                    updateEntitiesInRepo(applicationGitReference, baseRepo);
+                .resetChangedPathsToLastCommit(baseRepoSuffix, branchName)
+                .then(gitExecutor
+                        .getBlobIdsOfLastCommit(baseRepo, branchName)
+                        // The branch doesn't have any commit yet, hence every file has to be written
+                        .onErrorResume(RefNotFoundException.class, error -> Mono.just(Map.of())))
+                .flatMap(committedBlobIds -> {
+                    updateEntitiesInRepo(applicationGitReference, baseRepo, new LastCommitDiff(committedBlobIds));
 
                     processStopwatch.stopAndLogTimeInMillis();
                     return Mono.just(baseRepo);
@@ -215,7 +238,247 @@ public class FileUtilsCEImpl implements FileInterface {
                 .subscribeOn(scheduler);
     }
 
-    protected Set<String> updateEntitiesInRepo(ApplicationGitReference applicationGitReference, Path baseRepo) {
+    /**
+     * This method will compute the status of the application against the last commit of the branch, without saving
+     * the application to the local repo. Just like the save, only the resources which have been modified since the
+     * last commit are serialised. Their content is hashed and compared with the blob ids in the tree of the last
+     * commit, hence the working tree is neither written to nor reset to the last commit.
+     *
+     * @param baseRepoSuffix       path suffix used to create a repo path
+     * @param artifactGitReference application reference object from which entire application can be rehydrated
+     * @param branchName           name of the branch for the current application
+     * @return status of the branch against its last commit
+     */
+    @Override
+    public Mono<GitStatusDTO> getStatusFromLastCommit(
+            Path baseRepoSuffix, ArtifactGitReference artifactGitReference, String branchName) {
+
+        ApplicationGitReference applicationGitReference = (ApplicationGitReference) artifactGitReference;
+        Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
+
+        Stopwatch processStopwatch = new Stopwatch("FS application status");
+        return gitExecutor
+                .getBlobIdsOfLastCommit(baseRepo, branchName)
+                .flatMap(committedBlobIds -> {
+                    LastCommitDiff lastCommitDiff = new LastCommitDiff(committedBlobIds);
+                    compareEntitiesWithLastCommit(applicationGitReference, lastCommitDiff);
+
+                    processStopwatch.stopAndLogTimeInMillis();
+                    return gitExecutor.getStatus(
+                            baseRepo,
+                            branchName,
+                            lastCommitDiff.getModified(),
+                            lastCommitDiff.getAdded(),
+                            lastCommitDiff.getRemoved());
+                })
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * Mirrors {@link #updateEntitiesInRepo(ApplicationGitReference, Path)}: every file which would be written is
+     * compared with the last commit instead, and every file which would be deleted is marked as removed.
+     */
+    protected void compareEntitiesWithLastCommit(
+            ApplicationGitReference applicationGitReference, LastCommitDiff lastCommitDiff) {
+
+        ModifiedResources modifiedResources = applicationGitReference.getModifiedResources();
+
+        // Unwanted directories which was present in v1 of the git file format version
+        lastCommitDiff.removeIf(path -> path.startsWith(ACTION_DIRECTORY + CommonConstants.DELIMITER_PATH)
+                || path.startsWith(ACTION_COLLECTION_DIRECTORY + CommonConstants.DELIMITER_PATH));
+
+        lastCommitDiff.compare(
+                Paths.get(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION),
+                fileOperations.serialiseResource(applicationGitReference.getApplication()));
+        lastCommitDiff.compare(
+                Paths.get(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION),
+                fileOperations.serialiseMetadataResource(applicationGitReference));
+        lastCommitDiff.compare(
+                Paths.get(CommonConstants.THEME + CommonConstants.JSON_EXTENSION),
+                fileOperations.serialiseResource(applicationGitReference.getTheme()));
+
+        // Pages
+        Path pageDirectory = Paths.get(PAGE_DIRECTORY);
+        Set<String> validPages = new HashSet<>();
+        for (Map.Entry<String, Object> pageResource :
+                applicationGitReference.getPages().entrySet()) {
+            final String pageName = pageResource.getKey();
+            Path pageSpecificDirectory = pageDirectory.resolve(pageName);
+            if (modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName)) {
+                lastCommitDiff.compare(
+                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION),
+                        fileOperations.serialiseResource(pageResource.getValue()));
+
+                Set<String> validWidgetPaths = new HashSet<>();
+                getWidgetResources(
+                                pageSpecificDirectory,
+                                applicationGitReference.getPageDsl().get(pageName))
+                        .forEach(widgetResource -> {
+                            Path widgetPath = widgetResource
+                                    .directory()
+                                    .resolve(widgetResource.name() + CommonConstants.JSON_EXTENSION);
+                            validWidgetPaths.add(LastCommitDiff.toGitPath(widgetPath));
+                            lastCommitDiff.compare(widgetPath, fileOperations.serialiseWidget(widgetResource.widget()));
+                        });
+
+                // Widgets which have been deleted or moved to another parent
+                String widgetDirectory =
+                        LastCommitDiff.toGitPath(pageSpecificDirectory.resolve(CommonConstants.WIDGETS));
+                lastCommitDiff.removeIf(path -> path.startsWith(widgetDirectory + CommonConstants.DELIMITER_PATH)
+                        && !validWidgetPaths.contains(path));
+
+                lastCommitDiff.remove(
+                        pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
+            }
+            validPages.add(pageName);
+        }
+
+        removeDeletedDirectories(lastCommitDiff, pageDirectory, validPages);
+
+        // JS Libs
+        if (modifiedResources != null
+                && (modifiedResources.isAllModified()
+                        || !CollectionUtils.isEmpty(
+                                modifiedResources.getModifiedResourceMap().get(CUSTOM_JS_LIB_LIST)))) {
+
+            Path jsLibDirectory = Paths.get(JS_LIB_DIRECTORY);
+            Set<String> validJsLibs = new HashSet<>();
+            applicationGitReference.getJsLibraries().forEach((uidString, jsLib) -> {
+                String fileNameWithExtension = getJsLibFileName(uidString) + CommonConstants.JSON_EXTENSION;
+                if (modifiedResources.isResourceUpdated(CUSTOM_JS_LIB_LIST, uidString)) {
+                    lastCommitDiff.compare(
+                            jsLibDirectory.resolve(fileNameWithExtension), fileOperations.serialiseResource(jsLib));
+                }
+                validJsLibs.add(fileNameWithExtension);
+            });
+            removeDeletedFiles(lastCommitDiff, jsLibDirectory, validJsLibs);
+        }
+
+        HashMap<String, Set<String>> validActionsMap = new HashMap<>();
+        HashMap<String, Set<String>> validActionCollectionsMap = new HashMap<>();
+        validPages.forEach(validPage -> {
+            validActionsMap.put(validPage, new HashSet<>());
+            validActionCollectionsMap.put(validPage, new HashSet<>());
+        });
+
+        // Actions
+        for (Map.Entry<String, Object> resource :
+                applicationGitReference.getActions().entrySet()) {
+            String[] names = resource.getKey().split(NAME_SEPARATOR);
+            if (names.length > 1 && StringUtils.hasLength(names[1])) {
+                final String queryName = names[0].replace(".", "-");
+                final String pageName = names[1];
+                Path actionDirectory = pageDirectory.resolve(pageName).resolve(ACTION_DIRECTORY);
+
+                validActionsMap.computeIfAbsent(pageName, k -> new HashSet<>()).add(queryName);
+                if (modifiedResources != null && modifiedResources.isResourceUpdated(ACTION_LIST, resource.getKey())) {
+                    Path actionSpecificDirectory = actionDirectory.resolve(queryName);
+                    String body = applicationGitReference.getActionBody().get(resource.getKey());
+                    if (StringUtils.hasLength(body)) {
+                        lastCommitDiff.compare(
+                                actionSpecificDirectory.resolve(queryName + CommonConstants.TEXT_FILE_EXTENSION), body);
+                    }
+                    lastCommitDiff.compare(
+                            actionSpecificDirectory.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION),
+                            fileOperations.serialiseResource(resource.getValue()));
+                    // Resource from the old file structure v2
+                    lastCommitDiff.remove(actionDirectory.resolve(queryName + CommonConstants.JSON_EXTENSION));
+                }
+            }
+        }
+
+        validActionsMap.forEach((pageName, validActionNames) -> removeDeletedDirectories(
+                lastCommitDiff, pageDirectory.resolve(pageName).resolve(ACTION_DIRECTORY), validActionNames));
+
+        // JSObjects
+        for (Map.Entry<String, Object> resource :
+                applicationGitReference.getActionCollections().entrySet()) {
+            String[] names = resource.getKey().split(NAME_SEPARATOR);
+            if (names.length > 1 && StringUtils.hasLength(names[1])) {
+                final String actionCollectionName = names[0];
+                final String pageName = names[1];
+                Path actionCollectionDirectory = pageDirectory.resolve(pageName).resolve(ACTION_COLLECTION_DIRECTORY);
+
+                validActionCollectionsMap
+                        .computeIfAbsent(pageName, k -> new HashSet<>())
+                        .add(actionCollectionName);
+                if (modifiedResources != null
+                        && modifiedResources.isResourceUpdated(ACTION_COLLECTION_LIST, resource.getKey())) {
+                    Path actionCollectionSpecificDirectory = actionCollectionDirectory.resolve(actionCollectionName);
+                    String body =
+                            applicationGitReference.getActionCollectionBody().get(resource.getKey());
+                    if (StringUtils.hasText(body)) {
+                        lastCommitDiff.compare(
+                                actionCollectionSpecificDirectory.resolve(
+                                        actionCollectionName + CommonConstants.JS_EXTENSION),
+                                body);
+                    }
+                    lastCommitDiff.compare(
+                            actionCollectionSpecificDirectory.resolve(
+                                    CommonConstants.METADATA + CommonConstants.JSON_EXTENSION),
+                            fileOperations.serialiseResource(resource.getValue()));
+                    // Resource from the old file structure v2
+                    lastCommitDiff.remove(
+                            actionCollectionDirectory.resolve(actionCollectionName + CommonConstants.JSON_EXTENSION));
+                }
+            }
+        }
+
+        validActionCollectionsMap.forEach((pageName, validActionCollectionNames) -> removeDeletedDirectories(
+                lastCommitDiff,
+                pageDirectory.resolve(pageName).resolve(ACTION_COLLECTION_DIRECTORY),
+                validActionCollectionNames));
+
+        // Datasources
+        Path datasourceDirectory = Paths.get(DATASOURCE_DIRECTORY);
+        Set<String> validDatasourceFileNames = new HashSet<>();
+        applicationGitReference.getDatasources().forEach((datasourceName, datasource) -> {
+            lastCommitDiff.compare(
+                    datasourceDirectory.resolve(datasourceName + CommonConstants.JSON_EXTENSION),
+                    fileOperations.serialiseResource(datasource));
+            validDatasourceFileNames.add(datasourceName + CommonConstants.JSON_EXTENSION);
+        });
+        if (!applicationGitReference.getDatasources().isEmpty()) {
+            removeDeletedFiles(lastCommitDiff, datasourceDirectory, validDatasourceFileNames);
+        }
+    }
+
+    /**
+     * Counterpart of {@link FileOperations#scanAndDeleteDirectoryForDeletedResources(Set, Path)} for the last commit
+     */
+    private void removeDeletedDirectories(
+            LastCommitDiff lastCommitDiff, Path resourceDirectory, Set<String> validResources) {
+        String directoryPrefix = LastCommitDiff.toGitPath(resourceDirectory) + CommonConstants.DELIMITER_PATH;
+        lastCommitDiff.removeIf(path -> {
+            if (!path.startsWith(directoryPrefix)) {
+                return false;
+            }
+            String[] relativePath = path.substring(directoryPrefix.length()).split(CommonConstants.DELIMITER_PATH);
+            return relativePath.length > 1 && !validResources.contains(relativePath[0]);
+        });
+    }
+
+    /**
+     * Counterpart of {@link FileOperations#scanAndDeleteFileForDeletedResources(Set, Path)} for the last commit
+     */
+    private void removeDeletedFiles(LastCommitDiff lastCommitDiff, Path resourceDirectory, Set<String> validResources) {
+        String directoryPrefix = LastCommitDiff.toGitPath(resourceDirectory) + CommonConstants.DELIMITER_PATH;
+        lastCommitDiff.removeIf(path -> path.startsWith(directoryPrefix)
+                && !validResources.contains(path.substring(path.lastIndexOf(CommonConstants.DELIMITER_PATH) + 1)));
+    }
+
+    /**
+     * Writes the resources which have been modified since the last commit to the repo. The working tree is expected to
+     * be reset to the last commit, hence a file whose serialised content hashes to the blob id of the last commit
+     * already holds that content and is not written again. Pages are written in parallel.
+     *
+     * @param applicationGitReference application reference object from which entire application can be rehydrated
+     * @param baseRepo                path of the repo
+     * @param lastCommitDiff          blob ids of the files in the last commit of the branch
+     * @return names of the pages of the application
+     */
+    protected Set<String> updateEntitiesInRepo(
+            ApplicationGitReference applicationGitReference, Path baseRepo, LastCommitDiff lastCommitDiff) {
 
         Set<String> validDatasourceFileNames = new HashSet<>();
         ModifiedResources modifiedResources = applicationGitReference.getModifiedResources();
@@ -227,62 +490,43 @@ public class FileUtilsCEImpl implements FileInterface {
         // Save application
         saveResource(
                 applicationGitReference.getApplication(),
-                baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION));
+                baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION),
+                baseRepo,
+                lastCommitDiff);
 
         // Save application metadata
-        fileOperations.saveMetadataResource(applicationGitReference, baseRepo);
+        saveString(
+                fileOperations.serialiseMetadataResource(applicationGitReference),
+                baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION),
+                METADATA,
+                baseRepo,
+                lastCommitDiff);
 
         // Save application theme
         saveResource(
                 applicationGitReference.getTheme(),
-                baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION));
+                baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION),
+                baseRepo,
+                lastCommitDiff);
 
         // Save pages
         Path pageDirectory = baseRepo.resolve(PAGE_DIRECTORY);
-        Set<Map.Entry<String, Object>> pageEntries =
-                applicationGitReference.getPages().entrySet();
-
-        Set<String> validPages = new HashSet<>();
-        for (Map.Entry<String, Object> pageResource : pageEntries) {
-            Map<String, String> validWidgetToParentMap = new HashMap<>();
-            final String pageName = pageResource.getKey();
-            Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-            boolean isResourceUpdated =
-                    modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName);
-            if (Boolean.TRUE.equals(isResourceUpdated)) {
-                // Save page metadata
-                saveResource(
+        Set<String> validPages =
+                new HashSet<>(applicationGitReference.getPages().keySet());
+        Flux.fromIterable(applicationGitReference.getPages().entrySet())
+                .filter(pageResource -> modifiedResources != null
+                        && modifiedResources.isResourceUpdated(PAGE_LIST, pageResource.getKey()))
+                .parallel(Math.max(1, gitServiceConfig.getFileWriteParallelism()))
+                .runOn(FILE_IO_SCHEDULER)
+                .doOnNext(pageResource -> savePage(
+                        pageResource.getKey(),
                         pageResource.getValue(),
-                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
-                Map<String, JSONObject> result = DSLTransformerHelper.flatten(
-                        new JSONObject(applicationGitReference.getPageDsl().get(pageName)));
-                result.forEach((key, jsonObject) -> {
-                    // get path with splitting the name via key
-                    String widgetName = key.substring(key.lastIndexOf(CommonConstants.DELIMITER_POINT) + 1);
-                    String childPath = key.replace(CommonConstants.MAIN_CONTAINER, CommonConstants.EMPTY_STRING)
-                            .replace(CommonConstants.DELIMITER_POINT, CommonConstants.DELIMITER_PATH);
-                    // Replace the canvas Widget as a child and add it to the same level as parent
-                    childPath = childPath.replaceAll(CANVAS_WIDGET, CommonConstants.EMPTY_STRING);
-                    if (!DSLTransformerHelper.hasChildren(jsonObject)
-                            && !DSLTransformerHelper.isTabsWidget(jsonObject)) {
-                        // Save the widget as a directory or Save the widget as a file
-                        childPath = childPath.replace(widgetName, CommonConstants.EMPTY_STRING);
-                    }
-                    Path path = Paths.get(
-                            String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
-                    validWidgetToParentMap.put(widgetName, path.toFile().toString());
-                    fileOperations.saveWidgets(jsonObject, widgetName, path);
-                });
-                // Remove deleted widgets from the file system
-                deleteWidgets(
-                        pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
-
-                // Remove the canvas.json from the file system since the value is stored in the page.json
-                fileOperations.deleteFile(
-                        pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
-            }
-            validPages.add(pageName);
-        }
+                        applicationGitReference.getPageDsl().get(pageResource.getKey()),
+                        pageDirectory.resolve(pageResource.getKey()),
+                        baseRepo,
+                        lastCommitDiff))
+                .sequential()
+                .blockLast();
 
         fileOperations.scanAndDeleteDirectoryForDeletedResources(validPages, baseRepo.resolve(PAGE_DIRECTORY));
 
@@ -304,7 +548,7 @@ public class FileUtilsCEImpl implements FileInterface {
 
                 Path jsLibSpecificFile = jsLibDirectory.resolve(fileNameWithExtension);
                 if (isResourceUpdated) {
-                    saveResource(jsLibEntry.getValue(), jsLibSpecificFile);
+                    saveResource(jsLibEntry.getValue(), jsLibSpecificFile, baseRepo, lastCommitDiff);
                 }
                 validJsLibs.add(fileNameWithExtension);
             });
@@ -346,7 +590,9 @@ public class FileUtilsCEImpl implements FileInterface {
                                     ? applicationGitReference.getActionBody().get(resource.getKey())
                                     : null,
                             queryName,
-                            actionSpecificDirectory.resolve(queryName));
+                            actionSpecificDirectory.resolve(queryName),
+                            baseRepo,
+                            lastCommitDiff);
                     // Delete the resource from the old file structure v2
                     fileOperations.deleteFile(pageSpecificDirectory
                             .resolve(ACTION_DIRECTORY)
@@ -384,7 +630,9 @@ public class FileUtilsCEImpl implements FileInterface {
                             resource.getValue(),
                             applicationGitReference.getActionCollectionBody().get(resource.getKey()),
                             actionCollectionName,
-                            actionCollectionSpecificDirectory.resolve(actionCollectionName));
+                            actionCollectionSpecificDirectory.resolve(actionCollectionName),
+                            baseRepo,
+                            lastCommitDiff);
                     // Delete the resource from the old file structure v2
                     fileOperations.deleteFile(actionCollectionSpecificDirectory.resolve(
                             actionCollectionName + CommonConstants.JSON_EXTENSION));
@@ -404,7 +652,9 @@ public class FileUtilsCEImpl implements FileInterface {
                 applicationGitReference.getDatasources().entrySet()) {
             saveResource(
                     resource.getValue(),
-                    baseRepo.resolve(DATASOURCE_DIRECTORY).resolve(resource.getKey() + CommonConstants.JSON_EXTENSION));
+                    baseRepo.resolve(DATASOURCE_DIRECTORY).resolve(resource.getKey() + CommonConstants.JSON_EXTENSION),
+                    baseRepo,
+                    lastCommitDiff);
             validDatasourceFileNames.add(resource.getKey() + CommonConstants.JSON_EXTENSION);
         }
         // Scan datasource directory and delete any unwanted files if present
@@ -416,6 +666,82 @@ public class FileUtilsCEImpl implements FileInterface {
         return validPages;
     }
 
+    /**
+     * This method will store the page metadata along with its widgets, each widget in a file of its own
+     *
+     * @param pageName              name of the page
+     * @param pageResource          page metadata extracted from DB
+     * @param pageDsl               DSL of the page
+     * @param pageSpecificDirectory directory of the page
+     * @param baseRepo              path of the repo
+     * @param lastCommitDiff        blob ids of the files in the last commit of the branch
+     */
+    private void savePage(
+            String pageName,
+            Object pageResource,
+            String pageDsl,
+            Path pageSpecificDirectory,
+            Path baseRepo,
+            LastCommitDiff lastCommitDiff) {
+        // Save page metadata
+        saveResource(
+                pageResource,
+                pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION),
+                baseRepo,
+                lastCommitDiff);
+
+        Map<String, String> validWidgetToParentMap = new HashMap<>();
+        getWidgetResources(pageSpecificDirectory, pageDsl).forEach(widgetResource -> {
+            validWidgetToParentMap.put(
+                    widgetResource.name(), widgetResource.directory().toFile().toString());
+            saveString(
+                    fileOperations.serialiseWidget(widgetResource.widget()),
+                    widgetResource.directory().resolve(widgetResource.name() + CommonConstants.JSON_EXTENSION),
+                    WIDGETS,
+                    baseRepo,
+                    lastCommitDiff);
+        });
+        // Remove deleted widgets from the file system
+        deleteWidgets(pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
+
+        // Remove the canvas.json from the file system since the value is stored in the page.json
+        fileOperations.deleteFile(
+                pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
+    }
+
+    /**
+     * A widget of the page DSL along with the directory where its file is stored.
+     */
+    protected record WidgetResource(String name, Path directory, JSONObject widget) {}
+
+    /**
+     * Flattens the page DSL into the widgets which are stored as separate files. Widgets with children are stored in a
+     * directory of their own, next to the files of their children.
+     *
+     * @param pageSpecificDirectory directory of the page
+     * @param pageDsl               DSL of the page
+     * @return widgets along with the directory where their file is stored
+     */
+    protected List<WidgetResource> getWidgetResources(Path pageSpecificDirectory, String pageDsl) {
+        List<WidgetResource> widgetResources = new ArrayList<>();
+        Map<String, JSONObject> result = DSLTransformerHelper.flatten(new JSONObject(pageDsl));
+        result.forEach((key, jsonObject) -> {
+            // get path with splitting the name via key
+            String widgetName = key.substring(key.lastIndexOf(CommonConstants.DELIMITER_POINT) + 1);
+            String childPath = key.replace(CommonConstants.MAIN_CONTAINER, CommonConstants.EMPTY_STRING)
+                    .replace(CommonConstants.DELIMITER_POINT, CommonConstants.DELIMITER_PATH);
+            // Replace the canvas Widget as a child and add it to the same level as parent
+            childPath = childPath.replaceAll(CANVAS_WIDGET, CommonConstants.EMPTY_STRING);
+            if (!DSLTransformerHelper.hasChildren(jsonObject) && !DSLTransformerHelper.isTabsWidget(jsonObject)) {
+                // Save the widget as a directory or Save the widget as a file
+                childPath = childPath.replace(widgetName, CommonConstants.EMPTY_STRING);
+            }
+            Path path = Paths.get(String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
+            widgetResources.add(new WidgetResource(widgetName, path, jsonObject));
+        });
+        return widgetResources;
+    }
+
     /**
      * This method will be used to store the DB resource to JSON file
      *
@@ -434,34 +760,38 @@ public class FileUtilsCEImpl implements FileInterface {
         return false;
     }
 
+    private boolean saveResource(Object sourceEntity, Path path, Path baseRepo, LastCommitDiff lastCommitDiff) {
+        String resourceType =
+                sourceEntity instanceof BaseDomain ? sourceEntity.getClass().getSimpleName() : METADATA;
+        return saveString(fileOperations.serialiseResource(sourceEntity), path, resourceType, baseRepo, lastCommitDiff);
+    }
+
     /**
-     * This method is used to write actionCollection specific resource to file system. We write the data in two steps
-     * 1. Actual js code
-     * 2. Metadata of the actionCollection
+     * This method will write the serialised resource to the file, unless the content is the same as in the last
+     * commit. The working tree has been reset to the last commit, hence such a file already holds the content.
      *
-     * @param sourceEntity the metadata of the action collection
-     * @param body         actual js code written by the user
-     * @param resourceName name of the action collection
-     * @param path         file path where the resource will be stored
+     * @param content        serialised resource
+     * @param path           file path where the resource to be stored
+     * @param resourceType   type of the resource, used to tag the span
+     * @param baseRepo       path of the repo
+     * @param lastCommitDiff blob ids of the files in the last commit of the branch
      * @return if the file operation is successful
      */
-    private boolean saveActionCollection(Object sourceEntity, String body, String resourceName, Path path) {
+    private boolean saveString(
+            String content, Path path, String resourceType, Path baseRepo, LastCommitDiff lastCommitDiff) {
+        if (!lastCommitDiff.compare(baseRepo.relativize(path), content)) {
+            return true;
+        }
+
         Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
         try {
-            Files.createDirectories(path);
-            if (StringUtils.hasText(body)) {
-                // Write the js Object body to .js file to make conflict handling easier
-                Path bodyPath = path.resolve(resourceName + CommonConstants.JS_EXTENSION);
-                String resourceType = ACTION_COLLECTION_BODY;
-                span.tag(RESOURCE_TYPE, resourceType);
-                observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
-            }
-
-            // Write metadata for the jsObject
-            Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
-            return fileOperations.writeToFile(sourceEntity, metadataPath);
+            Files.createDirectories(path.getParent());
+            span.tag(RESOURCE_TYPE, resourceType);
+            observationHelper.startSpan(span, true);
+            writeStringToFile(content, path);
+            return true;
         } catch (IOException e) {
+            log.error("Error while writing resource to file {} with {}", path, e.getMessage());
             log.debug(e.getMessage());
         } finally {
             observationHelper.endSpan(span, true);
@@ -469,6 +799,37 @@ public class FileUtilsCEImpl implements FileInterface {
         return false;
     }
 
+    /**
+     * This method is used to write actionCollection specific resource to file system. We write the data in two steps
+     * 1. Actual js code
+     * 2. Metadata of the actionCollection
+     *
+     * @param sourceEntity the metadata of the action collection
+     * @param body         actual js code written by the user
+     * @param resourceName name of the action collection
+     * @param path         file path where the resource will be stored
+     * @param baseRepo       path of the repo
+     * @param lastCommitDiff blob ids of the files in the last commit of the branch
+     * @return if the file operation is successful
+     */
+    private boolean saveActionCollection(
+            Object sourceEntity,
+            String body,
+            String resourceName,
+            Path path,
+            Path baseRepo,
+            LastCommitDiff lastCommitDiff) {
+        if (StringUtils.hasText(body)) {
+            // Write the js Object body to .js file to make conflict handling easier
+            Path bodyPath = path.resolve(resourceName + CommonConstants.JS_EXTENSION);
+            saveString(body, bodyPath, ACTION_COLLECTION_BODY, baseRepo, lastCommitDiff);
+        }
+
+        // Write metadata for the jsObject
+        Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
+        return saveResource(sourceEntity, metadataPath, baseRepo, lastCommitDiff);
+    }
+
     /**
      * This method is used to write action specific resource to file system. We write the data in two steps
      * * 1. Actual query written by the user
@@ -478,31 +839,27 @@ public class FileUtilsCEImpl implements FileInterface {
      * @param body         actual query written by the user
      * @param resourceName name of the action
      * @param path         file path where the resource will be stored
+     * @param baseRepo       path of the repo
+     * @param lastCommitDiff blob ids of the files in the last commit of the branch
      * @return if the file operation is successful
      */
-    private boolean saveActions(Object sourceEntity, String body, String resourceName, Path path) {
-        Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
-        try {
-            Files.createDirectories(path);
-            // Write the user written query to .txt file to make conflict handling easier
-            // Body will be null if the action is of type JS
-            if (StringUtils.hasLength(body)) {
-                Path bodyPath = path.resolve(resourceName + CommonConstants.TEXT_FILE_EXTENSION);
-                String resourceType = NEW_ACTION_BODY;
-                span.tag(RESOURCE_TYPE, resourceType);
-                observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
-            }
-
-            // Write metadata for the actions
-            Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
-            return fileOperations.writeToFile(sourceEntity, metadataPath);
-        } catch (IOException e) {
-            log.error("Error while reading file {} with message {} with cause", path, e.getMessage(), e.getCause());
-        } finally {
-            observationHelper.endSpan(span, true);
+    private boolean saveActions(
+            Object sourceEntity,
+            String body,
+            String resourceName,
+            Path path,
+            Path baseRepo,
+            LastCommitDiff lastCommitDiff) {
+        // Write the user written query to .txt file to make conflict handling easier
+        // Body will be null if the action is of type JS
+        if (StringUtils.hasLength(body)) {
+            Path bodyPath = path.resolve(resourceName + CommonConstants.TEXT_FILE_EXTENSION);
+            saveString(body, bodyPath, NEW_ACTION_BODY, baseRepo, lastCommitDiff);
         }
-        return false;
+
+        // Write metadata for the actions
+        Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
+        return saveResource(sourceEntity, metadataPath, baseRepo, lastCommitDiff);
     }
 
     private void writeStringToFile(String sourceEntity, Path path) throws IOException {
@@ -580,6 +937,7 @@ public class FileUtilsCEImpl implements FileInterface {
                 .resolve(baseRepoSuffix)
                 .getParent()
                 .toFile();
+        repositoryCache.evictAll(file.toPath());
         while (file.exists()) {
             FileSystemUtils.deleteRecursively(file);
         }
@@ -795,29 +1153,24 @@ public class FileUtilsCEImpl implements FileInterface {
         Map<String, String> actionCollectionBodyMap = new HashMap<>();
         if (directory.isDirectory()) {
             // Loop through all the directories and nested directories inside the pages directory to extract
-            // pages, actions and actionCollections from the JSON files
-            for (File page : Objects.requireNonNull(directory.listFiles())) {
-                if (page.isDirectory()) {
-                    pageMap.put(page.getName(), readPageMetadata(page.toPath()));
-
-                    JSONObject mainContainer = fileOperations.getMainContainer(pageMap.get(page.getName()));
-
-                    // Read widgets data recursively from the widgets directory
-                    Map<String, JSONObject> widgetsData = readWidgetsData(
-                            page.toPath().resolve(CommonConstants.WIDGETS).toString());
-                    // Construct the nested DSL from the widgets data
-                    Map<String, List<String>> parentDirectories = DSLTransformerHelper.calculateParentDirectories(
-                            widgetsData.keySet().stream().toList());
-                    JSONObject nestedDSL =
-                            DSLTransformerHelper.getNestedDSL(widgetsData, parentDirectories, mainContainer);
-                    pageDsl.put(page.getName(), nestedDSL.toString());
-                    actionMap.putAll(
-                            readAction(page.toPath().resolve(ACTION_DIRECTORY), page.getName(), actionBodyMap));
-                    actionCollectionMap.putAll(readActionCollection(
-                            page.toPath().resolve(ACTION_COLLECTION_DIRECTORY),
-                            page.getName(),
-                            actionCollectionBodyMap));
-                }
+            // pages, actions and actionCollections from the JSON files. Pages are independent of each other, hence
+            // they are read and parsed in parallel.
+            List<PageResources> pageResourcesList = Flux.fromArray(Objects.requireNonNull(directory.listFiles()))
+                    .filter(File::isDirectory)
+                    .parallel(Math.max(1, gitServiceConfig.getFileReadParallelism()))
+                    .runOn(FILE_IO_SCHEDULER)
+                    .map(page -> readPageResources(page.toPath()))
+                    .sequential()
+                    .collectList()
+                    .block();
+
+            for (PageResources pageResources : pageResourcesList) {
+                pageMap.put(pageResources.name(), pageResources.metadata());
+                pageDsl.put(pageResources.name(), pageResources.dsl());
+                actionMap.putAll(pageResources.actions());
+                actionBodyMap.putAll(pageResources.actionBodies());
+                actionCollectionMap.putAll(pageResources.actionCollections());
+                actionCollectionBodyMap.putAll(pageResources.actionCollectionBodies());
             }
         }
         applicationGitReference.setActions(actionMap);
@@ -831,6 +1184,55 @@ public class FileUtilsCEImpl implements FileInterface {
                 fileOperations.readFiles(baseRepoPath.resolve(DATASOURCE_DIRECTORY), CommonConstants.EMPTY_STRING));
     }
 
+    /**
+     * A page read from the repo along with its nested actions and actionCollections
+     */
+    protected record PageResources(
+            String name,
+            Object metadata,
+            String dsl,
+            Map<String, Object> actions,
+            Map<String, String> actionBodies,
+            Map<String, Object> actionCollections,
+            Map<String, String> actionCollectionBodies) {}
+
+    /**
+     * This method will read the page metadata, its widgets and its nested actions and actionCollections from the
+     * page directory. It doesn't share any state with other pages, hence pages can be read in parallel.
+     *
+     * @param pagePath directory of the page
+     * @return resources of the page
+     */
+    protected PageResources readPageResources(Path pagePath) {
+        String pageName = pagePath.toFile().getName();
+        Object pageMetadata = readPageMetadata(pagePath);
+
+        JSONObject mainContainer = fileOperations.getMainContainer(pageMetadata);
+
+        // Read widgets data recursively from the widgets directory
+        Map<String, JSONObject> widgetsData =
+                readWidgetsData(pagePath.resolve(CommonConstants.WIDGETS).toString());
+        // Construct the nested DSL from the widgets data
+        Map<String, List<String>> parentDirectories = DSLTransformerHelper.calculateParentDirectories(
+                widgetsData.keySet().stream().toList());
+        JSONObject nestedDSL = DSLTransformerHelper.getNestedDSL(widgetsData, parentDirectories, mainContainer);
+
+        Map<String, String> actionBodyMap = new HashMap<>();
+        Map<String, Object> actionMap = readAction(pagePath.resolve(ACTION_DIRECTORY), pageName, actionBodyMap);
+        Map<String, String> actionCollectionBodyMap = new HashMap<>();
+        Map<String, Object> actionCollectionMap =
+                readActionCollection(pagePath.resolve(ACTION_COLLECTION_DIRECTORY), pageName, actionCollectionBodyMap);
+
+        return new PageResources(
+                pageName,
+                pageMetadata,
+                nestedDSL.toString(),
+                actionMap,
+                actionBodyMap,
+                actionCollectionMap,
+                actionCollectionBodyMap);
+    }
+
     private Map<String, JSONObject> readWidgetsData(String directoryPath) {
         Map<String, JSONObject> jsonMap = new HashMap<>();
         File directory = new File(directoryPath);
@@ -1013,4 +1415,19 @@ public class FileUtilsCEImpl implements FileInterface {
 
         return pageObjectMono.subscribeOn(scheduler);
     }
+
+    @Override
+    public Mono<List<String>> getPageNamesFromGitRepo(Path baseRepoSuffixPath) {
+        return Mono.fromCallable(() -> {
+                    Path pageDirectory = Paths.get(gitServiceConfig.getGitRootPath())
+                            .resolve(baseRepoSuffixPath)
+                            .resolve(PAGE_DIRECTORY);
+                    File[] pageDirectories = pageDirectory.toFile().listFiles(File::isDirectory);
+                    if (pageDirectories == null) {
+                        return List.<String>of();
+                    }
+                    return Arrays.stream(pageDirectories).map(File::getName).toList();
+                })
+                .subscribeOn(scheduler);
+    }
 }
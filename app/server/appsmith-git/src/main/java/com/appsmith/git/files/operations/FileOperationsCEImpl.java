@@ -103,9 +103,15 @@ public class FileOperationsCEImpl implements FileOperationsCE {
 
     @Override
     public void saveMetadataResource(ApplicationGitReference applicationGitReference, Path baseRepo) {
+        saveResource(
+                getMetadataResource(applicationGitReference),
+                baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION));
+    }
+
+    private JsonObject getMetadataResource(ApplicationGitReference applicationGitReference) {
         JsonObject metadata = gson.fromJson(gson.toJson(applicationGitReference.getMetadata()), JsonObject.class);
         metadata.addProperty(CommonConstants.FILE_FORMAT_VERSION, CommonConstants.fileFormatVersion);
-        saveResource(metadata, baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION));
+        return metadata;
     }
 
     /**
@@ -169,6 +175,21 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         }
     }
 
+    @Override
+    public String serialiseResource(Object sourceEntity) {
+        return gson.toJson(sourceEntity);
+    }
+
+    @Override
+    public String serialiseWidget(JSONObject sourceEntity) {
+        return sourceEntity.toString(4);
+    }
+
+    @Override
+    public String serialiseMetadataResource(ApplicationGitReference applicationGitReference) {
+        return serialiseResource(getMetadataResource(applicationGitReference));
+    }
+
     /**
      * This method will delete the JSON resource available in local git directory on subsequent commit made after the
      * deletion of respective resource from DB
@@ -76,9 +76,15 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
     @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_autocommit_feature_enabled)
     @Override
     public void saveMetadataResource(ApplicationGitReference applicationGitReference, Path baseRepo) {
+        saveResource(
+                getMetadataResource(applicationGitReference),
+                baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION));
+    }
+
+    private ObjectNode getMetadataResource(ApplicationGitReference applicationGitReference) {
         ObjectNode metadata = objectMapper.valueToTree(applicationGitReference.getMetadata());
         metadata.put(CommonConstants.FILE_FORMAT_VERSION, CommonConstants.fileFormatVersion);
-        saveResource(metadata, baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION));
+        return metadata;
     }
 
     @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_autocommit_feature_enabled)
@@ -120,6 +126,32 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
         }
     }
 
+    @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_autocommit_feature_enabled)
+    @Override
+    public String serialiseResource(Object sourceEntity) {
+        try {
+            return objectWriter.writeValueAsString(sourceEntity);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_autocommit_feature_enabled)
+    @Override
+    public String serialiseWidget(JSONObject sourceEntity) {
+        try {
+            return serialiseResource(objectReader.readTree(sourceEntity.toString()));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_autocommit_feature_enabled)
+    @Override
+    public String serialiseMetadataResource(ApplicationGitReference applicationGitReference) {
+        return serialiseResource(getMetadataResource(applicationGitReference));
+    }
+
     /**
      * This method will be used to read and dehydrate the json file present from the local git repo
      *
@@ -0,0 +1,236 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryBuilder;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.storage.file.WindowCacheStats;
+import org.eclipse.jgit.util.FS;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the JGit repositories open across git commands, so that the config, the refs and the pack files of a repo are
+ * not read again for every command. Repositories are reference counted: the {@link Git} handed out by
+ * {@link #open(Path)} releases its reference when it is closed, and a repository is only closed once it has no
+ * references left. Repositories which have been idle for too long, or which don't fit in the cache, are closed.
+ * <p>
+ * The cache doesn't replace the file lock on the repo, every command still has to be run under the lock. A repository
+ * is reopened if its git directory has been deleted and created again, e.g. when the repo is cloned again.
+ */
+@Slf4j
+@Component
+public class GitRepositoryCache {
+
+    private final GitServiceConfig gitServiceConfig;
+
+    // Guarded by this, access ordered so that the eldest entry is the least recently used one
+    private final LinkedHashMap<Path, CachedRepository> repositories = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static class CachedRepository {
+        private final Repository repository;
+        private final Object gitDirectoryKey;
+        private int references;
+        private long lastReleasedAt = System.currentTimeMillis();
+        private boolean isEvicted;
+
+        private CachedRepository(Repository repository, Object gitDirectoryKey) {
+            this.repository = repository;
+            this.gitDirectoryKey = gitDirectoryKey;
+        }
+    }
+
+    public GitRepositoryCache(GitServiceConfig gitServiceConfig) {
+        this.gitServiceConfig = gitServiceConfig;
+
+        MeterRegistry meterRegistry = Metrics.globalRegistry;
+        Gauge.builder("appsmith.git.repositories.open", this, GitRepositoryCache::getOpenRepositoryCount)
+                .description("Number of git repositories kept open")
+                .register(meterRegistry);
+        Gauge.builder("appsmith.git.repositories.in_use", this, GitRepositoryCache::getInUseRepositoryCount)
+                .description("Number of open git repositories which are used by a running git command")
+                .register(meterRegistry);
+        Gauge.builder(
+                        "appsmith.git.pack_cache.open_files",
+                        WindowCacheStats.getStats(),
+                        stats -> stats.getOpenFileCount())
+                .description("Number of pack files kept open by the git pack cache")
+                .register(meterRegistry);
+        Gauge.builder(
+                        "appsmith.git.pack_cache.open_bytes",
+                        WindowCacheStats.getStats(),
+                        stats -> stats.getOpenByteCount())
+                .description("Number of bytes of pack files cached by the git pack cache")
+                .register(meterRegistry);
+        Gauge.builder("appsmith.git.pack_cache.hit_ratio", WindowCacheStats.getStats(), stats -> stats.getHitRatio())
+                .description("Hit ratio of the git pack cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens the repository at the given path, or reuses it if it's already open.
+     *
+     * @param repoPath path of the working tree of the repo
+     * @return git command handle, which has to be closed once the command is done
+     * @throws IOException if the path is not a git repository
+     */
+    public Git open(Path repoPath) throws IOException {
+        Path key = repoPath.toAbsolutePath().normalize();
+        File gitDirectory =
+                RepositoryCache.FileKey.lenient(key.toFile(), FS.DETECTED).getFile();
+        if (!gitDirectory.isDirectory()) {
+            evict(key);
+            // Not a repository, let JGit report it
+            return Git.open(key.toFile());
+        }
+        Object gitDirectoryKey = getGitDirectoryKey(gitDirectory);
+
+        CachedRepository cachedRepository;
+        synchronized (this) {
+            cachedRepository = repositories.get(key);
+            if (cachedRepository != null && !Objects.equals(cachedRepository.gitDirectoryKey, gitDirectoryKey)) {
+                // The repo has been deleted and created again since it was opened
+                evict(key, cachedRepository);
+                cachedRepository = null;
+            }
+
+            if (cachedRepository == null) {
+                Repository repository = new RepositoryBuilder()
+                        .setFS(FS.DETECTED)
+                        .setGitDir(gitDirectory)
+                        .setMustExist(true)
+                        .build();
+                cachedRepository = new CachedRepository(repository, gitDirectoryKey);
+                repositories.put(key, cachedRepository);
+                evictLeastRecentlyUsed();
+            }
+            cachedRepository.references++;
+        }
+
+        final CachedRepository usedRepository = cachedRepository;
+        return new Git(usedRepository.repository) {
+            private boolean isReleased;
+
+            @Override
+            public void close() {
+                if (!isReleased) {
+                    isReleased = true;
+                    release(usedRepository);
+                }
+            }
+        };
+    }
+
+    /**
+     * Closes the repository at the given path, once it's not used anymore. Has to be called before the repo is deleted
+     * or replaced on the file system.
+     *
+     * @param repoPath path of the working tree of the repo
+     */
+    public synchronized void evict(Path repoPath) {
+        Path key = repoPath.toAbsolutePath().normalize();
+        CachedRepository cachedRepository = repositories.get(key);
+        if (cachedRepository != null) {
+            evict(key, cachedRepository);
+        }
+    }
+
+    /**
+     * Closes all the repositories inside the given directory, once they are not used anymore. Has to be called before
+     * the directory is deleted.
+     *
+     * @param directory directory which holds the repos
+     */
+    public synchronized void evictAll(Path directory) {
+        Path prefix = directory.toAbsolutePath().normalize();
+        List<Map.Entry<Path, CachedRepository>> entries = new ArrayList<>(repositories.entrySet());
+        entries.stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .forEach(entry -> evict(entry.getKey(), entry.getValue()));
+    }
+
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictIdleRepositories() {
+        long idleSince = System.currentTimeMillis() - gitServiceConfig.getRepositoryCacheIdleTimeoutSeconds() * 1000L;
+        List<Repository> idleRepositories = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Map.Entry<Path, CachedRepository>> iterator =
+                    repositories.entrySet().iterator();
+            while (iterator.hasNext()) {
+                CachedRepository cachedRepository = iterator.next().getValue();
+                if (cachedRepository.references == 0 && cachedRepository.lastReleasedAt < idleSince) {
+                    iterator.remove();
+                    cachedRepository.isEvicted = true;
+                    idleRepositories.add(cachedRepository.repository);
+                }
+            }
+        }
+        idleRepositories.forEach(Repository::close);
+        if (!idleRepositories.isEmpty()) {
+            log.debug("Closed {} idle git repositories", idleRepositories.size());
+        }
+    }
+
+    public synchronized int getOpenRepositoryCount() {
+        return repositories.size();
+    }
+
+    public synchronized int getInUseRepositoryCount() {
+        return (int) repositories.values().stream()
+                .filter(cachedRepository -> cachedRepository.references > 0)
+                .count();
+    }
+
+    private synchronized void release(CachedRepository cachedRepository) {
+        cachedRepository.references--;
+        cachedRepository.lastReleasedAt = System.currentTimeMillis();
+        if (cachedRepository.isEvicted && cachedRepository.references == 0) {
+            cachedRepository.repository.close();
+        }
+    }
+
+    private void evict(Path key, CachedRepository cachedRepository) {
+        repositories.remove(key);
+        cachedRepository.isEvicted = true;
+        // Repositories which are still in use are closed when they are released
+        if (cachedRepository.references == 0) {
+            cachedRepository.repository.close();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        int maxSize = Math.max(1, gitServiceConfig.getRepositoryCacheMaxSize());
+        Iterator<Map.Entry<Path, CachedRepository>> iterator =
+                repositories.entrySet().iterator();
+        while (repositories.size() > maxSize && iterator.hasNext()) {
+            CachedRepository cachedRepository = iterator.next().getValue();
+            iterator.remove();
+            cachedRepository.isEvicted = true;
+            if (cachedRepository.references == 0) {
+                cachedRepository.repository.close();
+            }
+        }
+    }
+
+    private static Object getGitDirectoryKey(File gitDirectory) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(gitDirectory.toPath(), BasicFileAttributes.class);
+        return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+    }
+}
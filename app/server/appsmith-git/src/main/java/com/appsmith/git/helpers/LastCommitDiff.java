@@ -0,0 +1,87 @@
+package com.appsmith.git.helpers;
+
+import lombok.Getter;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectInserter;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Collects the changes of the files of an artifact against the last commit of its branch, without writing them to the
+ * working tree. The serialised content of a file is hashed the way git hashes a blob, and the resulting id is compared
+ * with the blob id of the same path in the tree of the last commit.
+ */
+@Getter
+public class LastCommitDiff {
+
+    private final Map<String, String> committedBlobIds;
+
+    private final Set<String> modified = ConcurrentHashMap.newKeySet();
+
+    private final Set<String> added = ConcurrentHashMap.newKeySet();
+
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+
+    public LastCommitDiff(Map<String, String> committedBlobIds) {
+        this.committedBlobIds = committedBlobIds;
+    }
+
+    /**
+     * Compares the content which would be written to the file at the given path with the last commit.
+     *
+     * @param path    path of the file relative to the repo root
+     * @param content content which would be written to the file
+     * @return true if the content differs from the last commit
+     */
+    public boolean compare(Path path, String content) {
+        String gitPath = toGitPath(path);
+        String committedBlobId = committedBlobIds.get(gitPath);
+        if (committedBlobId == null) {
+            added.add(gitPath);
+            return true;
+        }
+
+        String blobId = new ObjectInserter.Formatter()
+                .idFor(Constants.OBJ_BLOB, content.getBytes(StandardCharsets.UTF_8))
+                .name();
+        if (!committedBlobId.equals(blobId)) {
+            modified.add(gitPath);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks the file at the given path as removed, if it is present in the last commit.
+     *
+     * @param path path of the file relative to the repo root
+     */
+    public void remove(Path path) {
+        String gitPath = toGitPath(path);
+        if (committedBlobIds.containsKey(gitPath)) {
+            removed.add(gitPath);
+        }
+    }
+
+    /**
+     * Marks all the files of the last commit which match the predicate as removed.
+     *
+     * @param predicate condition on the path of the committed files relative to the repo root
+     */
+    public void removeIf(Predicate<String> predicate) {
+        committedBlobIds.keySet().stream().filter(predicate).forEach(removed::add);
+    }
+
+    public static String toGitPath(Path path) {
+        return StreamSupport.stream(path.normalize().spliterator(), false)
+                .map(Path::toString)
+                .collect(Collectors.joining("/"));
+    }
+}
@@ -126,7 +126,9 @@ public class SshTransportConfigCallback implements TransportConfigCallback {
 
     @Override
     public void configure(Transport transport) {
-        SshTransport sshTransport = (SshTransport) transport;
-        sshTransport.setSshSessionFactory(sshSessionFactory);
+        // Only the ssh transport needs the keys, the others, like the one for local repos, are left as they are
+        if (transport instanceof SshTransport sshTransport) {
+            sshTransport.setSshSessionFactory(sshSessionFactory);
+        }
     }
 }
@@ -5,6 +5,7 @@ import com.appsmith.external.constants.AnalyticsEvents;
 import com.appsmith.external.constants.ErrorReferenceDocUrl;
 import com.appsmith.external.dtos.GitBranchDTO;
 import com.appsmith.external.dtos.GitLogDTO;
+import com.appsmith.external.dtos.GitRepositoryStatisticsDTO;
 import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.dtos.MergeStatusDTO;
 import com.appsmith.external.git.GitExecutor;
@@ -15,13 +16,16 @@ import com.appsmith.git.constants.AppsmithBotAsset;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.constants.Constraint;
 import com.appsmith.git.constants.GitDirectories;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import com.appsmith.git.helpers.RepositoryHelper;
 import com.appsmith.git.helpers.SshTransportConfigCallback;
 import com.appsmith.git.helpers.StopwatchHelpers;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.CreateBranchCommand;
+import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.ListBranchCommand;
 import org.eclipse.jgit.api.MergeCommand;
@@ -33,34 +37,50 @@ import org.eclipse.jgit.api.Status;
 import org.eclipse.jgit.api.TransportConfigCallback;
 import org.eclipse.jgit.api.errors.CheckoutConflictException;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.api.errors.RefNotFoundException;
 import org.eclipse.jgit.lib.BranchTrackingStatus;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryBuilder;
 import org.eclipse.jgit.lib.StoredConfig;
 import org.eclipse.jgit.merge.MergeStrategy;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.util.FS;
 import org.eclipse.jgit.util.StringUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.util.FileSystemUtils;
 import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -82,6 +102,7 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     private final GitServiceConfig gitServiceConfig;
     private final GitConfig gitConfig;
+    private final GitRepositoryCache repositoryCache;
 
     protected final ObservationRegistry observationRegistry;
 
@@ -92,6 +113,22 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     private static final String SUCCESS_MERGE_STATUS = "This branch has no conflicts with the base branch.";
 
+    private static final int MAX_CACHED_COMMITTED_TREES = 64;
+
+    /**
+     * Blob ids of the files in the last commit of a branch. Trees are immutable, hence the ids stay valid for as long
+     * as the branch points to a commit with the same tree.
+     */
+    private record CommittedTree(ObjectId treeId, Map<String, String> blobIds) {}
+
+    private final Map<String, CommittedTree> committedTrees =
+            Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHED_COMMITTED_TREES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CommittedTree> eldest) {
+                    return size() > MAX_CACHED_COMMITTED_TREES;
+                }
+            });
+
     /**
      * This method will handle the git-commit functionality. Under the hood it checks if the repo has already been
      * initialised and will be initialised if git repo is not present
@@ -118,7 +155,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         final Path repoPath = TRUE.equals(isSuffixedPath) ? createRepoPath(path) : path;
 
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> repositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug("Trying to commit to local repo path, {}", path);
 
@@ -161,6 +198,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public boolean createNewRepository(Path repoPath) throws GitAPIException {
         // create new repo to the mentioned path
         log.debug("Trying to create new repository: {}", repoPath);
+        repositoryCache.evict(repoPath);
         try (Git ignored = Git.init().setDirectory(repoPath.toFile()).call()) {
             return true;
         }
@@ -175,7 +213,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<List<GitLogDTO>> getCommitHistory(Path repoSuffix) {
         Path repoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> repositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": get commit history for  "
                                             + repoSuffix);
@@ -228,7 +266,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 .getIsAtomicPushAllowed()
                 .flatMap(isAtomicPushAllowed -> {
                     return Mono.using(
-                            () -> Git.open(baseRepoPath.toFile()),
+                            () -> repositoryCache.open(baseRepoPath),
                             git -> Mono.fromCallable(() -> {
                                         log.debug(Thread.currentThread().getName() + ": pushing changes to remote "
                                                 + remoteUrl);
@@ -291,17 +329,49 @@ public class GitExecutorCEImpl implements GitExecutor {
                     File file = Paths.get(gitServiceConfig.getGitRootPath())
                             .resolve(repoSuffix)
                             .toFile();
+                    repositoryCache.evict(file.toPath());
                     while (file.exists()) {
                         FileSystemUtils.deleteRecursively(file);
                     }
-                    String branchName;
-                    try (Git git = Git.cloneRepository()
+                    CloneCommand cloneCommand = Git.cloneRepository()
                             .setURI(remoteUrl)
                             .setTransportConfigCallback(transportConfigCallback)
-                            .setDirectory(file)
-                            .call()) {
+                            .setDirectory(file);
+                    if (gitServiceConfig.getCloneDepth() > 0) {
+                        cloneCommand.setDepth(gitServiceConfig.getCloneDepth());
+                    }
+                    if (gitServiceConfig.isCloneSingleBranch()) {
+                        // Only the default branch is cloned, the other branches are fetched when they are listed
+                        Ref remoteHead = Git.lsRemoteRepository()
+                                .setRemote(remoteUrl)
+                                .setTransportConfigCallback(transportConfigCallback)
+                                .callAsMap()
+                                .get(Constants.HEAD);
+                        if (remoteHead != null && remoteHead.isSymbolic()) {
+                            String defaultBranchRef = remoteHead.getTarget().getName();
+                            cloneCommand
+                                    .setBranchesToClone(List.of(defaultBranchRef))
+                                    .setBranch(defaultBranchRef);
+                        }
+                    }
+
+                    String branchName;
+                    try (Git git = cloneCommand.call()) {
                         branchName = git.getRepository().getBranch();
 
+                        if (gitServiceConfig.isCloneSingleBranch()) {
+                            // The clone saves a fetch refspec for the default branch alone, restore the one for all
+                            // the branches so that the later fetches see the other branches
+                            StoredConfig config = git.getRepository().getConfig();
+                            config.setString(
+                                    "remote",
+                                    Constants.DEFAULT_REMOTE_NAME,
+                                    "fetch",
+                                    "+" + Constants.R_HEADS + "*:" + Constants.R_REMOTES + Constants.DEFAULT_REMOTE_NAME
+                                            + "/*");
+                            config.save();
+                        }
+
                         repositoryHelper.updateRemoteBranchTrackingConfig(branchName, git);
                     }
                     processStopwatch.stopAndLogTimeInMillis();
@@ -313,6 +383,38 @@ public class GitExecutorCEImpl implements GitExecutor {
                 .subscribeOn(scheduler);
     }
 
+    @Override
+    public Mono<Boolean> unshallowRepository(Path repoSuffix, String publicKey, String privateKey) {
+        Path repoPath = createRepoPath(repoSuffix);
+        return Mono.using(
+                        () -> repositoryCache.open(repoPath),
+                        git -> Mono.fromCallable(() -> {
+                                    if (!isShallow(git.getRepository())) {
+                                        return FALSE;
+                                    }
+                                    log.debug(Thread.currentThread().getName()
+                                            + ": Fetching the complete history of the repo " + repoSuffix);
+                                    Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
+                                            repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
+                                    git.fetch()
+                                            .setUnshallow(true)
+                                            .setTransportConfigCallback(
+                                                    new SshTransportConfigCallback(privateKey, publicKey))
+                                            .call();
+                                    processStopwatch.stopAndLogTimeInMillis();
+                                    return TRUE;
+                                })
+                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
+                                .name(GitSpan.FS_FETCH_REMOTE)
+                                .tap(Micrometer.observation(observationRegistry)),
+                        Git::close)
+                .subscribeOn(scheduler);
+    }
+
+    private static boolean isShallow(Repository repository) throws IOException {
+        return !repository.getObjectDatabase().getShallowCommits().isEmpty();
+    }
+
     @Override
     public Mono<String> createAndCheckoutToBranch(Path repoSuffix, String branchName) {
         // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
@@ -320,7 +422,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CREATE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> repositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Creating branch  " + branchName
                                             + "for the repo " + repoSuffix);
@@ -350,7 +452,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_DELETE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> repositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Deleting branch  " + branchName
                                             + "for the repo " + repoSuffix);
@@ -379,7 +481,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CHECKOUT.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> repositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Switching to the branch "
                                             + branchName);
@@ -419,7 +521,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
 
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> repositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Pull changes from remote  "
                                             + remoteUrl + " for the branch " + branchName);
@@ -486,7 +588,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Path baseRepoPath = createRepoPath(repoSuffix);
 
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> repositoryCache.open(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get branches for the application "
                                             + repoSuffix);
@@ -523,7 +625,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<String> getRemoteDefaultBranch(Path repoSuffix, String remoteUrl, String privateKey, String publicKey) {
         Path baseRepoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> repositoryCache.open(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback transportConfigCallback =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -554,7 +656,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_STATUS.getEventName());
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> repositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get status for repo  " + repoPath
                                             + ", branch " + branchName);
@@ -583,21 +685,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                     response.setIsClean(status.isClean());
 
                                     // remote status changes
-                                    BranchTrackingStatus trackingStatus =
-                                            BranchTrackingStatus.of(git.getRepository(), branchName);
-                                    if (trackingStatus != null) {
-                                        response.setAheadCount(trackingStatus.getAheadCount());
-                                        response.setBehindCount(trackingStatus.getBehindCount());
-                                        response.setRemoteBranch(trackingStatus.getRemoteTrackingBranch());
-                                    } else {
-                                        log.debug(
-                                                "Remote tracking details not present for branch: {}, repo: {}",
-                                                branchName,
-                                                repoPath);
-                                        response.setAheadCount(0);
-                                        response.setBehindCount(0);
-                                        response.setRemoteBranch("untracked");
-                                    }
+                                    populateTrackingStatus(git, repoPath, branchName, response);
 
                                     // Remove modified changes from current branch so that checkout to other branches
                                     // will be
@@ -619,6 +707,90 @@ public class GitExecutorCEImpl implements GitExecutor {
                 .subscribeOn(scheduler);
     }
 
+    @Override
+    public Mono<GitStatusDTO> getStatus(
+            Path repoPath, String branchName, Set<String> modified, Set<String> added, Set<String> removed) {
+        return Mono.using(
+                        () -> repositoryCache.open(repoPath),
+                        git -> Mono.fromCallable(() -> {
+                                    GitStatusDTO response = new GitStatusDTO();
+
+                                    // resource changes
+                                    response.setModified(modified);
+                                    response.setAdded(added);
+                                    response.setRemoved(removed);
+
+                                    populateModifiedEntities(response);
+
+                                    // Changes are computed against the last commit, hence there can't be conflicts
+                                    response.setConflicting(Set.of());
+                                    response.setIsClean(modified.isEmpty() && added.isEmpty() && removed.isEmpty());
+
+                                    // remote status changes
+                                    populateTrackingStatus(git, repoPath, branchName, response);
+                                    return response;
+                                })
+                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
+                                .name(GitSpan.FS_STATUS)
+                                .tap(Micrometer.observation(observationRegistry)),
+                        Git::close)
+                .subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Map<String, String>> getBlobIdsOfLastCommit(Path repoPath, String branchName) {
+        return Mono.using(
+                        () -> repositoryCache.open(repoPath),
+                        git -> Mono.fromCallable(() -> {
+                                    Repository repository = git.getRepository();
+                                    ObjectId treeId = repository.resolve(Constants.R_HEADS + branchName + "^{tree}");
+                                    if (treeId == null) {
+                                        throw new RefNotFoundException("Branch " + branchName + " not found");
+                                    }
+
+                                    String cacheKey = repoPath.toAbsolutePath() + ":" + branchName;
+                                    CommittedTree committedTree = committedTrees.get(cacheKey);
+                                    if (committedTree != null
+                                            && committedTree.treeId().equals(treeId)) {
+                                        return committedTree.blobIds();
+                                    }
+
+                                    Map<String, String> blobIds = new HashMap<>();
+                                    try (TreeWalk treeWalk = new TreeWalk(repository)) {
+                                        treeWalk.addTree(treeId);
+                                        treeWalk.setRecursive(true);
+                                        while (treeWalk.next()) {
+                                            blobIds.put(
+                                                    treeWalk.getPathString(),
+                                                    treeWalk.getObjectId(0).name());
+                                        }
+                                    }
+                                    committedTree = new CommittedTree(treeId, Map.copyOf(blobIds));
+                                    committedTrees.put(cacheKey, committedTree);
+                                    return committedTree.blobIds();
+                                })
+                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
+                                .name(GitSpan.FS_STATUS)
+                                .tap(Micrometer.observation(observationRegistry)),
+                        Git::close)
+                .subscribeOn(scheduler);
+    }
+
+    private void populateTrackingStatus(Git git, Path repoPath, String branchName, GitStatusDTO response)
+            throws IOException {
+        BranchTrackingStatus trackingStatus = BranchTrackingStatus.of(git.getRepository(), branchName);
+        if (trackingStatus != null) {
+            response.setAheadCount(trackingStatus.getAheadCount());
+            response.setBehindCount(trackingStatus.getBehindCount());
+            response.setRemoteBranch(trackingStatus.getRemoteTrackingBranch());
+        } else {
+            log.debug("Remote tracking details not present for branch: {}, repo: {}", branchName, repoPath);
+            response.setAheadCount(0);
+            response.setBehindCount(0);
+            response.setRemoteBranch("untracked");
+        }
+    }
+
     protected void populateModifiedEntities(GitStatusDTO response) {
         populatePageChanges(response);
         populateQueryChanges(response);
@@ -794,7 +966,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     @Override
     public Mono<String> mergeBranch(Path repoSuffix, String sourceBranch, String destinationBranch) {
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> repositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
                                             repoSuffix, AnalyticsEvents.GIT_MERGE.getEventName());
@@ -849,27 +1021,23 @@ public class GitExecutorCEImpl implements GitExecutor {
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> repositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback config =
                                             new SshTransportConfigCallback(privateKey, publicKey);
-                                    String fetchMessages;
-                                    if (TRUE.equals(isFetchAll)) {
-                                        fetchMessages = git.fetch()
-                                                .setRemoveDeletedRefs(true)
-                                                .setTransportConfigCallback(config)
-                                                .call()
-                                                .getMessages();
-                                    } else {
-                                        RefSpec ref = new RefSpec(
-                                                "refs/heads/" + branchName + ":refs/remotes/origin/" + branchName);
-                                        fetchMessages = git.fetch()
-                                                .setRefSpecs(ref)
-                                                .setRemoveDeletedRefs(true)
-                                                .setTransportConfigCallback(config)
-                                                .call()
-                                                .getMessages();
+                                    FetchCommand fetchCommand = git.fetch()
+                                            .setRemoveDeletedRefs(true)
+                                            .setTransportConfigCallback(config);
+                                    if (!TRUE.equals(isFetchAll)) {
+                                        fetchCommand.setRefSpecs(new RefSpec(
+                                                "refs/heads/" + branchName + ":refs/remotes/origin/" + branchName));
+                                    }
+                                    if (gitServiceConfig.getCloneDepth() > 0 && isShallow(git.getRepository())) {
+                                        // Keep the repo shallow, else the complete history of the fetched branches
+                                        // would be fetched
+                                        fetchCommand.setDepth(gitServiceConfig.getCloneDepth());
                                     }
+                                    String fetchMessages = fetchCommand.call().getMessages();
                                     processStopwatch.stopAndLogTimeInMillis();
                                     return fetchMessages;
                                 })
@@ -889,7 +1057,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_MERGE_CHECK.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> repositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(
                                             Thread.currentThread().getName()
@@ -974,7 +1142,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
         // open the repo
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> repositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Checking out remote branch origin/"
                                             + branchName + " for the repo " + repoSuffix);
@@ -1039,17 +1207,94 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     public Mono<Boolean> resetToLastCommit(Path repoSuffix, String branchName) throws GitAPIException, IOException {
         return Mono.using(
-                () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                () -> repositoryCache.open(createRepoPath(repoSuffix)),
                 git -> this.resetToLastCommit(git)
                         .flatMap(ref -> checkoutToBranch(repoSuffix, branchName))
                         .flatMap(checkedOut -> resetToLastCommit(git).thenReturn(true)),
                 Git::close);
     }
 
+    @Override
+    public Mono<Boolean> resetChangedPathsToLastCommit(Path repoSuffix, String branchName) {
+        Path repoPath = createRepoPath(repoSuffix);
+        return Mono.using(
+                        () -> repositoryCache.open(repoPath),
+                        git -> Mono.fromCallable(() -> {
+                                    Repository repository = git.getRepository();
+                                    if (!branchName.equals(repository.getBranch())
+                                            || repository.resolve(Constants.HEAD) == null) {
+                                        return FALSE;
+                                    }
+
+                                    Status status = git.status().call();
+                                    if (!status.getConflicting().isEmpty()) {
+                                        return FALSE;
+                                    }
+                                    if (status.isClean()) {
+                                        return TRUE;
+                                    }
+
+                                    Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
+                                            repoPath, AnalyticsEvents.GIT_RESET.getEventName());
+                                    // Files which are staged as new are only unstaged here, they are deleted along with
+                                    // the untracked files
+                                    if (!status.getAdded().isEmpty()) {
+                                        ResetCommand resetCommand = git.reset();
+                                        status.getAdded().forEach(resetCommand::addPath);
+                                        resetCommand.call();
+                                    }
+
+                                    // Restore the index and the working tree of the tracked files which differ
+                                    Set<String> changedPaths = Stream.of(
+                                                    status.getChanged(),
+                                                    status.getModified(),
+                                                    status.getRemoved(),
+                                                    status.getMissing())
+                                            .flatMap(Set::stream)
+                                            .collect(Collectors.toSet());
+                                    if (!changedPaths.isEmpty()) {
+                                        git.checkout()
+                                                .setStartPoint(Constants.HEAD)
+                                                .addPaths(new ArrayList<>(changedPaths))
+                                                .call();
+                                    }
+
+                                    for (String untrackedFolder : status.getUntrackedFolders()) {
+                                        FileSystemUtils.deleteRecursively(repoPath.resolve(untrackedFolder));
+                                    }
+                                    for (String untrackedPath : Stream.concat(
+                                                    status.getAdded().stream(), status.getUntracked().stream())
+                                            .toList()) {
+                                        Files.deleteIfExists(repoPath.resolve(untrackedPath));
+                                    }
+                                    processStopwatch.stopAndLogTimeInMillis();
+                                    return TRUE;
+                                })
+                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
+                                .tag(HARD_RESET, FALSE.toString())
+                                .name(GitSpan.FS_RESET)
+                                .tap(Micrometer.observation(observationRegistry)),
+                        Git::close)
+                .flatMap(isReset -> {
+                    if (TRUE.equals(isReset)) {
+                        return Mono.just(TRUE);
+                    }
+                    // The branch has to be switched, or has no commit yet
+                    return Mono.defer(() -> {
+                        try {
+                            return resetToLastCommit(repoSuffix, branchName);
+                        } catch (GitAPIException | IOException e) {
+                            return Mono.error(e);
+                        }
+                    });
+                })
+                .subscribeOn(scheduler);
+    }
+
     public Mono<Boolean> resetHard(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName)
                 .flatMap(aBoolean -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> repositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     git.reset()
                                             .setMode(ResetCommand.ResetType.HARD)
@@ -1071,7 +1316,7 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     public Mono<Boolean> rebaseBranch(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName).flatMap(isCheckedOut -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> repositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     RebaseResult result = git.rebase()
                                             .setUpstream("origin/" + branchName)
@@ -1105,7 +1350,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     @Override
     public Mono<BranchTrackingStatus> getBranchTrackingStatus(Path repoPath, String branchName) {
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> repositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> BranchTrackingStatus.of(git.getRepository(), branchName))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_BRANCH_TRACK)
@@ -1113,4 +1358,115 @@ public class GitExecutorCEImpl implements GitExecutor {
                         Git::close)
                 .subscribeOn(scheduler);
     }
+
+    @Override
+    public Flux<GitRepositoryStatisticsDTO> getRepositoryStatistics() {
+        Path rootPath = Paths.get(gitServiceConfig.getGitRootPath());
+        return Flux.defer(() -> {
+                    if (!Files.isDirectory(rootPath)) {
+                        return Flux.empty();
+                    }
+                    // Repos are placed at gitRoot/workspaceId/baseArtifactId/repoName
+                    return Flux.using(
+                            () -> Files.walk(rootPath, 3),
+                            paths -> Flux.fromStream(paths.filter(
+                                    path -> rootPath.relativize(path).getNameCount() == 3
+                                            && Files.isDirectory(path.resolve(Constants.DOT_GIT)))),
+                            Stream::close);
+                })
+                .concatMap(repoPath -> Mono.fromCallable(() -> getRepositoryStatistics(rootPath, repoPath))
+                        .onErrorResume(error -> {
+                            log.error("Error while reading the statistics of the repo {}", repoPath, error);
+                            return Mono.empty();
+                        }))
+                .subscribeOn(scheduler);
+    }
+
+    private static GitRepositoryStatisticsDTO getRepositoryStatistics(Path rootPath, Path repoPath)
+            throws IOException, GitAPIException {
+        Path gitDirectory = repoPath.resolve(Constants.DOT_GIT);
+        // Opened outside the repository cache, so that the repos in use are not evicted by the scan
+        try (Repository repository = new RepositoryBuilder()
+                .setFS(FS.DETECTED)
+                .setGitDir(gitDirectory.toFile())
+                .setMustExist(true)
+                .build()) {
+            Properties statistics = Git.wrap(repository).gc().getStatistics();
+            // The index is written by almost every command which changes the working tree
+            Path indexPath = gitDirectory.resolve("index");
+            Instant lastUsedAt = Files.getLastModifiedTime(Files.exists(indexPath) ? indexPath : gitDirectory)
+                    .toInstant();
+            return new GitRepositoryStatisticsDTO(
+                    rootPath.relativize(repoPath),
+                    getStatistic(statistics, "numberOfLooseObjects"),
+                    getStatistic(statistics, "numberOfPackFiles"),
+                    getObjectsSize(statistics),
+                    lastUsedAt);
+        }
+    }
+
+    @Override
+    public Mono<Long> maintainRepository(Path repoSuffix, int staleLockFileSeconds) {
+        return Mono.using(
+                        () -> repositoryCache.open(createRepoPath(repoSuffix)),
+                        git -> Mono.fromCallable(() -> {
+                                    log.debug(Thread.currentThread().getName() + ": Running maintenance on the repo "
+                                            + repoSuffix);
+                                    Path gitDirectory =
+                                            git.getRepository().getDirectory().toPath();
+                                    deleteStaleLockFiles(gitDirectory, staleLockFileSeconds);
+
+                                    long sizeBefore = getObjectsSize(git.gc().getStatistics());
+                                    git.gc().call();
+                                    long sizeAfter = getObjectsSize(git.gc().getStatistics());
+                                    return Math.max(0L, sizeBefore - sizeAfter);
+                                })
+                                .name(GitSpan.FS_MAINTENANCE)
+                                .tap(Micrometer.observation(observationRegistry)),
+                        Git::close)
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * Deletes the lock files of the index, the config and the refs which are older than the given age. Git creates them
+     * for the duration of a single write, so an old one has been left behind by a command which has been interrupted,
+     * and makes every following command which writes the same file fail.
+     */
+    private static void deleteStaleLockFiles(Path gitDirectory, int staleLockFileSeconds) throws IOException {
+        Instant staleBefore = Instant.now().minusSeconds(staleLockFileSeconds);
+        List<Path> lockFiles = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(gitDirectory)) {
+            paths.filter(GitExecutorCEImpl::isLockFile).forEach(lockFiles::add);
+        }
+        Path refsDirectory = gitDirectory.resolve(Constants.R_REFS);
+        if (Files.isDirectory(refsDirectory)) {
+            try (Stream<Path> paths = Files.walk(refsDirectory)) {
+                paths.filter(GitExecutorCEImpl::isLockFile).forEach(lockFiles::add);
+            }
+        }
+
+        for (Path lockFile : lockFiles) {
+            try {
+                if (Files.getLastModifiedTime(lockFile).toInstant().isBefore(staleBefore)) {
+                    log.info("Deleting the stale lock file {}", lockFile);
+                    Files.deleteIfExists(lockFile);
+                }
+            } catch (NoSuchFileException e) {
+                // The command which held the lock has finished in the meantime
+            }
+        }
+    }
+
+    private static boolean isLockFile(Path path) {
+        return Files.isRegularFile(path) && path.getFileName().toString().endsWith(".lock");
+    }
+
+    private static long getObjectsSize(Properties statistics) {
+        return getStatistic(statistics, "sizeOfLooseObjects") + getStatistic(statistics, "sizeOfPackedObjects");
+    }
+
+    private static long getStatistic(Properties statistics, String name) {
+        Object value = statistics.get(name);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
 }
@@ -1,5 +1,7 @@
 package com.appsmith.git.helpers;
 
+import com.appsmith.external.dtos.GitStatusDTO;
+import com.appsmith.external.dtos.ModifiedResources;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.models.ApplicationGitReference;
@@ -10,6 +12,9 @@ import com.appsmith.git.service.GitExecutorImpl;
 import com.google.gson.GsonBuilder;
 import org.apache.commons.io.FileUtils;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,11 +25,15 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.appsmith.external.git.constants.GitConstants.NAME_SEPARATOR;
 import static com.appsmith.git.constants.GitDirectories.ACTION_COLLECTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.ACTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.PAGE_DIRECTORY;
@@ -44,7 +53,12 @@ public class FileUtilsImplTest {
         gitServiceConfig.setGitRootPath(localTestDirectoryPath.toString());
         FileOperations fileOperations =
                 new FileOperationsImpl(gitServiceConfig, gitExecutor, new GsonBuilder(), null, ObservationHelper.NOOP);
-        fileUtils = new FileUtilsImpl(gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP);
+        fileUtils = new FileUtilsImpl(
+                gitServiceConfig,
+                gitExecutor,
+                fileOperations,
+                ObservationHelper.NOOP,
+                new GitRepositoryCache(gitServiceConfig));
     }
 
     @AfterEach
@@ -60,8 +74,10 @@ public class FileUtilsImplTest {
         Files.createDirectories(actionDirectoryPath);
         Files.createDirectories(actionCollectionDirectoryPath);
 
-        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+        Mockito.when(gitExecutor.resetChangedPathsToLastCommit(Mockito.any(Path.class), Mockito.any()))
                 .thenReturn(Mono.just(true));
+        Mockito.when(gitExecutor.getBlobIdsOfLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(Map.of()));
 
         ApplicationGitReference applicationGitReference = new ApplicationGitReference();
         applicationGitReference.setApplication(new Object());
@@ -114,6 +130,21 @@ public class FileUtilsImplTest {
         }
     }
 
+    @Test
+    public void getPageNamesFromGitRepo_whenPagesArePresent_returnsOnlyPageDirectories() throws IOException {
+        Path pageDirectoryPath = localTestDirectoryPath.resolve(PAGE_DIRECTORY);
+        Files.createDirectories(pageDirectoryPath.resolve("Page1"));
+        Files.createDirectories(pageDirectoryPath.resolve("Page2"));
+        Files.writeString(pageDirectoryPath.resolve("notAPage.json"), "{}");
+
+        List<String> pageNames = fileUtils.getPageNamesFromGitRepo(Path.of("")).block();
+
+        Assertions.assertEquals(Set.of("Page1", "Page2"), Set.copyOf(pageNames));
+        Assertions.assertEquals(
+                List.of(),
+                fileUtils.getPageNamesFromGitRepo(Path.of("missingRepo")).block());
+    }
+
     @Test
     public void testScanAndDeleteFileForDeletedResources() {
         Path actionDirectoryPath = localTestDirectoryPath.resolve(ACTION_DIRECTORY);
@@ -162,6 +193,194 @@ public class FileUtilsImplTest {
         }
     }
 
+    @Test
+    public void getStatusFromLastCommit_whenResourcesChanged_returnsSameChangesAsSavedFiles()
+            throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetChangedPathsToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        Mockito.when(gitExecutor.getBlobIdsOfLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(Map.of()));
+
+        ApplicationGitReference applicationGitReference = getApplicationGitReference("Hello");
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        // Treat the saved files as the last commit
+        Map<String, String> committedBlobIds = getBlobIdsOfSavedFiles();
+        Assertions.assertTrue(committedBlobIds.containsKey("pages/Page1/widgets/Text1.json"));
+        Assertions.assertTrue(committedBlobIds.containsKey("pages/Page1/queries/Query1/metadata.json"));
+
+        Mockito.when(gitExecutor.getBlobIdsOfLastCommit(Mockito.any(Path.class), Mockito.eq("branch")))
+                .thenReturn(Mono.just(committedBlobIds));
+        Mockito.when(gitExecutor.getStatus(
+                        Mockito.any(Path.class), Mockito.eq("branch"), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    GitStatusDTO gitStatusDTO = new GitStatusDTO();
+                    gitStatusDTO.setModified(invocation.getArgument(2));
+                    gitStatusDTO.setAdded(invocation.getArgument(3));
+                    gitStatusDTO.setRemoved(invocation.getArgument(4));
+                    return Mono.just(gitStatusDTO);
+                });
+
+        // Nothing has changed since the save
+        GitStatusDTO unchangedStatus = fileUtils
+                .getStatusFromLastCommit(Path.of(""), getApplicationGitReference("Hello"), "branch")
+                .block();
+        Assertions.assertTrue(unchangedStatus.getModified().isEmpty());
+        Assertions.assertTrue(unchangedStatus.getAdded().isEmpty());
+        Assertions.assertTrue(unchangedStatus.getRemoved().isEmpty());
+
+        // Update a widget, delete the query and add a datasource
+        ApplicationGitReference changedApplicationGitReference = getApplicationGitReference("Hello world");
+        changedApplicationGitReference.setActions(new HashMap<>());
+        changedApplicationGitReference.getDatasources().put("Datasource2", Map.of("name", "Datasource2"));
+
+        GitStatusDTO changedStatus = fileUtils
+                .getStatusFromLastCommit(Path.of(""), changedApplicationGitReference, "branch")
+                .block();
+        Assertions.assertEquals(Set.of("pages/Page1/widgets/Text1.json"), changedStatus.getModified());
+        Assertions.assertEquals(Set.of("datasources/Datasource2.json"), changedStatus.getAdded());
+        Assertions.assertEquals(
+                Set.of("pages/Page1/queries/Query1/metadata.json", "pages/Page1/queries/Query1/Query1.txt"),
+                changedStatus.getRemoved());
+    }
+
+    @Test
+    public void saveApplicationRef_whenContentMatchesLastCommit_onlyChangedFilesAreWritten()
+            throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetChangedPathsToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        Mockito.when(gitExecutor.getBlobIdsOfLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(Map.of()));
+
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), getApplicationGitReference("Hello"), "branch")
+                .block();
+
+        // Treat the saved files as the last commit
+        Map<String, String> committedBlobIds = getBlobIdsOfSavedFiles();
+        Mockito.when(gitExecutor.getBlobIdsOfLastCommit(Mockito.any(Path.class), Mockito.eq("branch")))
+                .thenReturn(Mono.just(committedBlobIds));
+
+        FileTime lastCommitTime = FileTime.fromMillis(0);
+        Path applicationPath = localTestDirectoryPath.resolve("application.json");
+        Path widgetPath = localTestDirectoryPath.resolve("pages/Page1/widgets/Text1.json");
+        Files.setLastModifiedTime(applicationPath, lastCommitTime);
+        Files.setLastModifiedTime(widgetPath, lastCommitTime);
+
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), getApplicationGitReference("Hello world"), "branch")
+                .block();
+
+        Assertions.assertEquals(lastCommitTime, Files.getLastModifiedTime(applicationPath));
+        Assertions.assertNotEquals(lastCommitTime, Files.getLastModifiedTime(widgetPath));
+        Assertions.assertTrue(Files.readString(widgetPath).contains("Hello world"));
+    }
+
+    @Test
+    public void reconstructApplicationReference_whenMultiplePagesSaved_allPagesAreRead()
+            throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetChangedPathsToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        Mockito.when(gitExecutor.getBlobIdsOfLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(Map.of()));
+        Mockito.when(gitExecutor.checkoutToBranch(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        ApplicationGitReference applicationGitReference = getApplicationGitReference("Hello");
+        for (int i = 2; i <= 10; i++) {
+            String pageName = "Page" + i;
+            applicationGitReference.getPages().put(pageName, Map.of("name", pageName));
+            applicationGitReference
+                    .getPageDsl()
+                    .put(
+                            pageName,
+                            applicationGitReference.getPageDsl().get("Page1").replace("Hello", pageName));
+            applicationGitReference.getActions().put("Query1" + NAME_SEPARATOR + pageName, Map.of("name", "Query1"));
+            applicationGitReference.getActionBody().put("Query1" + NAME_SEPARATOR + pageName, "SELECT " + i);
+        }
+        // The page metadata holds the main container of the DSL
+        applicationGitReference
+                .getPages()
+                .replaceAll((pageName, page) -> Map.of(
+                        "name",
+                        pageName,
+                        "unpublishedPage",
+                        Map.of(
+                                "layouts",
+                                List.of(Map.of(
+                                        "dsl", Map.of("widgetName", "MainContainer", "type", "CANVAS_WIDGET"))))));
+
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        ApplicationGitReference reconstructedReference = fileUtils
+                .reconstructApplicationReferenceFromGitRepo("", "", "", "branch")
+                .block();
+
+        Assertions.assertEquals(
+                applicationGitReference.getPages().keySet(),
+                reconstructedReference.getPages().keySet());
+        // Actions are read back with the page name as the key suffix
+        Map<String, String> expectedActionBody = applicationGitReference.getActionBody().entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().replace(NAME_SEPARATOR, ""), Map.Entry::getValue));
+        Assertions.assertEquals(
+                expectedActionBody.keySet(), reconstructedReference.getActions().keySet());
+        Assertions.assertEquals(expectedActionBody, reconstructedReference.getActionBody());
+        for (int i = 2; i <= 10; i++) {
+            Assertions.assertTrue(
+                    reconstructedReference.getPageDsl().get("Page" + i).contains("Page" + i));
+        }
+    }
+
+    private Map<String, String> getBlobIdsOfSavedFiles() throws IOException {
+        Map<String, String> blobIds = new HashMap<>();
+        ObjectInserter.Formatter formatter = new ObjectInserter.Formatter();
+        try (Stream<Path> paths = Files.walk(localTestDirectoryPath)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                blobIds.put(
+                        LastCommitDiff.toGitPath(localTestDirectoryPath.relativize(path)),
+                        formatter
+                                .idFor(Constants.OBJ_BLOB, Files.readAllBytes(path))
+                                .name());
+            }
+        }
+        return blobIds;
+    }
+
+    private ApplicationGitReference getApplicationGitReference(String text) {
+        String pageDsl = new JSONObject(Map.of(
+                        "widgetName",
+                        "MainContainer",
+                        "type",
+                        "CANVAS_WIDGET",
+                        "children",
+                        List.of(Map.of("widgetName", "Text1", "type", "TEXT_WIDGET", "text", text))))
+                .toString();
+
+        ModifiedResources modifiedResources = new ModifiedResources();
+        modifiedResources.setAllModified(true);
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "Application"));
+        applicationGitReference.setTheme(Map.of("name", "Theme"));
+        applicationGitReference.setMetadata(Map.of("artifactJsonType", "APPLICATION"));
+        applicationGitReference.setPages(new HashMap<>(Map.of("Page1", Map.of("name", "Page1"))));
+        applicationGitReference.setPageDsl(new HashMap<>(Map.of("Page1", pageDsl)));
+        applicationGitReference.setActions(
+                new HashMap<>(Map.of("Query1" + NAME_SEPARATOR + "Page1", Map.of("name", "Query1"))));
+        applicationGitReference.setActionBody(
+                new HashMap<>(Map.of("Query1" + NAME_SEPARATOR + "Page1", "SELECT * FROM users")));
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setActionCollectionBody(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>(Map.of("Datasource1", Map.of("name", "Datasource1"))));
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        applicationGitReference.setModifiedResources(modifiedResources);
+        return applicationGitReference;
+    }
+
     /**
      * This will delete localTestDirectory and its contents after the test is executed.
      */
@@ -0,0 +1,120 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.RepositoryNotFoundException;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class GitRepositoryCacheTest {
+
+    private Path rootPath;
+
+    private GitServiceConfig gitServiceConfig;
+
+    private GitRepositoryCache repositoryCache;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        rootPath = Files.createTempDirectory("gitRepositoryCacheTest");
+        gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(rootPath.toString());
+        gitServiceConfig.setRepositoryCacheMaxSize(2);
+        gitServiceConfig.setRepositoryCacheIdleTimeoutSeconds(300);
+        repositoryCache = new GitRepositoryCache(gitServiceConfig);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(rootPath);
+    }
+
+    @Test
+    public void open_whenRepoIsOpenedTwice_reusesRepository() throws IOException, GitAPIException {
+        Path repoPath = createRepository("repo");
+
+        Repository repository;
+        try (Git git = repositoryCache.open(repoPath)) {
+            repository = git.getRepository();
+            try (Git otherGit = repositoryCache.open(repoPath)) {
+                Assertions.assertSame(repository, otherGit.getRepository());
+                Assertions.assertEquals(1, repositoryCache.getInUseRepositoryCount());
+            }
+        }
+
+        Assertions.assertEquals(0, repositoryCache.getInUseRepositoryCount());
+        Assertions.assertEquals(1, repositoryCache.getOpenRepositoryCount());
+        try (Git git = repositoryCache.open(repoPath)) {
+            Assertions.assertSame(repository, git.getRepository());
+        }
+    }
+
+    @Test
+    public void open_whenRepoIsCreatedAgain_opensNewRepository() throws IOException, GitAPIException {
+        Path repoPath = createRepository("repo");
+
+        Repository repository;
+        try (Git git = repositoryCache.open(repoPath)) {
+            repository = git.getRepository();
+        }
+
+        FileSystemUtils.deleteRecursively(repoPath);
+        Assertions.assertThrows(RepositoryNotFoundException.class, () -> repositoryCache.open(repoPath));
+        Assertions.assertEquals(0, repositoryCache.getOpenRepositoryCount());
+
+        createRepository("repo");
+        try (Git git = repositoryCache.open(repoPath)) {
+            Assertions.assertNotSame(repository, git.getRepository());
+        }
+    }
+
+    @Test
+    public void open_whenCacheIsFull_evictsLeastRecentlyUsedRepository() throws IOException, GitAPIException {
+        Path firstRepoPath = createRepository("first");
+        Path secondRepoPath = createRepository("second");
+        Path thirdRepoPath = createRepository("third");
+
+        Repository firstRepository;
+        try (Git git = repositoryCache.open(firstRepoPath)) {
+            firstRepository = git.getRepository();
+        }
+        repositoryCache.open(secondRepoPath).close();
+        repositoryCache.open(thirdRepoPath).close();
+
+        Assertions.assertEquals(2, repositoryCache.getOpenRepositoryCount());
+        try (Git git = repositoryCache.open(firstRepoPath)) {
+            Assertions.assertNotSame(firstRepository, git.getRepository());
+        }
+    }
+
+    @Test
+    public void evictIdleRepositories_whenRepositoryIsInUse_keepsRepository() throws IOException, GitAPIException {
+        gitServiceConfig.setRepositoryCacheIdleTimeoutSeconds(-1);
+        Path usedRepoPath = createRepository("used");
+        Path idleRepoPath = createRepository("idle");
+
+        repositoryCache.open(idleRepoPath).close();
+        try (Git git = repositoryCache.open(usedRepoPath)) {
+            repositoryCache.evictIdleRepositories();
+
+            Assertions.assertEquals(1, repositoryCache.getOpenRepositoryCount());
+            Assertions.assertNotNull(git.getRepository().getBranch());
+        }
+    }
+
+    private Path createRepository(String name) throws GitAPIException {
+        Path repoPath = rootPath.resolve(name);
+        try (Git ignored = Git.init().setDirectory(repoPath.toFile()).call()) {
+            return repoPath;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.appsmith.external.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+@AllArgsConstructor
+@Data
+public class GitRepositoryStatisticsDTO {
+    // Path of the repo relative to the git root, i.e. workspaceId/baseArtifactId/repoName
+    Path repoSuffix;
+
+    long numberOfLooseObjects;
+
+    long numberOfPackFiles;
+
+    // Size of the loose and the packed objects in bytes
+    long sizeOfObjects;
+
+    Instant lastUsedAt;
+}
@@ -1,5 +1,6 @@
 package com.appsmith.external.git;
 
+import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.external.models.ArtifactGitReference;
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -7,6 +8,7 @@ import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
 
 public interface FileInterface {
@@ -34,6 +36,19 @@ public interface FileInterface {
             Path baseRepoSuffix, ArtifactGitReference artifactGitReference, String branchName)
             throws IOException, GitAPIException;
 
+    /**
+     * This method computes the status of the application against the last commit of the branch without saving the
+     * application to the repo. Only the resources which have been modified since the last commit are serialised, and
+     * their content is compared with the blob ids of the last commit.
+     *
+     * @param baseRepoSuffix path suffix used to create a repo path
+     * @param artifactGitReference application reference object from which entire application can be rehydrated
+     * @param branchName name of the branch for the current application
+     * @return status of the branch against its last commit
+     */
+    Mono<GitStatusDTO> getStatusFromLastCommit(
+            Path baseRepoSuffix, ArtifactGitReference artifactGitReference, String branchName);
+
     /**
      * This method will reconstruct the application from the repo
      *
@@ -68,6 +83,15 @@ public interface FileInterface {
     Mono<Object> reconstructPageFromGitRepo(
             String pageName, String branchName, Path repoSuffixPath, Boolean checkoutRequired);
 
+    /**
+     * Lists the names of the pages in the repo from their directories, none of the files of the pages are read. The
+     * repo is expected to be checked out to the required branch.
+     *
+     * @param repoSuffixPath path suffix of the repo
+     * @return names of the pages
+     */
+    Mono<List<String>> getPageNamesFromGitRepo(Path repoSuffixPath);
+
     /**
      * Once the user connects the existing application to a remote repo, we will initialize the repo with Readme.md -
      * Url to the deployed app(view and edit mode)
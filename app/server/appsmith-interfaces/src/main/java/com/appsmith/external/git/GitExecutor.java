@@ -2,16 +2,20 @@ package com.appsmith.external.git;
 
 import com.appsmith.external.dtos.GitBranchDTO;
 import com.appsmith.external.dtos.GitLogDTO;
+import com.appsmith.external.dtos.GitRepositoryStatisticsDTO;
 import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.dtos.MergeStatusDTO;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.BranchTrackingStatus;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Component
 public interface GitExecutor {
@@ -70,6 +74,17 @@ public interface GitExecutor {
      * */
     Mono<String> cloneRemoteIntoArtifactRepo(Path repoSuffix, String remoteUrl, String privateKey, String publicKey);
 
+    /**
+     * Fetches the complete history of the repo, if it has been cloned with a limited depth. Has to be called before the
+     * commands which need the history, like merges and the log.
+     *
+     * @param repoSuffix combination of orgId, defaultId and repoName
+     * @param publicKey generated by us and specific to the defaultApplication
+     * @param privateKey generated by us and specific to the defaultApplication
+     * @return true if the history has been fetched, false if the repo already had the complete history
+     */
+    Mono<Boolean> unshallowRepository(Path repoSuffix, String publicKey, String privateKey);
+
     /**
      * Create a new branch in the local repo and checkout to that branch
      *
@@ -130,6 +145,30 @@ public interface GitExecutor {
      */
     Mono<GitStatusDTO> getStatus(Path repoPath, String branchName);
 
+    /**
+     * This method will build the git-status from changes which have been computed without the working tree, along with
+     * the tracking status of the branch against its remote branch
+     *
+     * @param repoPath Path to actual repo
+     * @param branchName branch name for which the status is required
+     * @param modified paths of the files which have been modified since the last commit
+     * @param added paths of the files which have been added since the last commit
+     * @param removed paths of the files which have been removed since the last commit
+     * @return Map of file names those are added, removed, modified
+     */
+    Mono<GitStatusDTO> getStatus(
+            Path repoPath, String branchName, Set<String> modified, Set<String> added, Set<String> removed);
+
+    /**
+     * This method will list the blob ids of all the files in the last commit of the branch. Only the object database is
+     * read, the working tree is neither checked out nor scanned.
+     *
+     * @param repoPath Path to actual repo
+     * @param branchName branch name for which the blob ids are required
+     * @return Map of file paths relative to the repo root to the hex string of their blob id
+     */
+    Mono<Map<String, String>> getBlobIdsOfLastCommit(Path repoPath, String branchName);
+
     /**
      * @param repoSuffix suffixedPath used to generate the base repo path this includes orgId, defaultAppId, repoName
      * @param sourceBranch name of the branch whose commits will be referred amd merged to destinationBranch
@@ -173,6 +212,16 @@ public interface GitExecutor {
      */
     Mono<Boolean> resetToLastCommit(Path repoSuffix, String branchName) throws GitAPIException, IOException;
 
+    /**
+     * This method will reset the repo to last commit for the specific branch by restoring only the paths which differ
+     * from it, unchanged files are left untouched. Falls back to a hard reset if the branch is not checked out.
+     *
+     * @param repoSuffix suffixedPath used to generate the base repo path this includes orgId, defaultAppId, repoName
+     * @param branchName branch for which the repo should be reset
+     * @return success status
+     */
+    Mono<Boolean> resetChangedPathsToLastCommit(Path repoSuffix, String branchName);
+
     /**
      *
      * @param repoSuffix suffixedPath used to generate the base repo path this includes orgId, defaultAppId, repoName
@@ -197,4 +246,22 @@ public interface GitExecutor {
     Path createRepoPath(Path suffix);
 
     Mono<BranchTrackingStatus> getBranchTrackingStatus(Path repoPath, String branchName);
+
+    /**
+     * Collects the object statistics of all the repos under the git root, in order to decide which of them need
+     * maintenance. Directories which are not git repos are skipped.
+     *
+     * @return statistics of the repos
+     */
+    Flux<GitRepositoryStatisticsDTO> getRepositoryStatistics();
+
+    /**
+     * Deletes the lock files left behind by git commands which have been interrupted, and packs the objects of the repo.
+     * Has to be called under the file lock of the repo.
+     *
+     * @param repoSuffix           path of the repo relative to the git root
+     * @param staleLockFileSeconds age after which a lock file is considered to be stale
+     * @return number of bytes reclaimed
+     */
+    Mono<Long> maintainRepository(Path repoSuffix, int staleLockFileSeconds);
 }
@@ -51,5 +51,6 @@ public class GitConstantsCE {
         public static final String DISCARD = "discard";
         public static final String PAGE_DSL_VERSION = "pageDslVersion";
         public static final String AUTO_COMMIT_ELIGIBILITY = "autoCommitEligibility";
+        public static final String MAINTENANCE = "maintenance";
     }
 }
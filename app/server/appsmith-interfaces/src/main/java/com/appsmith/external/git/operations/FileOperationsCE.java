@@ -20,6 +20,22 @@ public interface FileOperationsCE {
 
     boolean writeToFile(Object sourceEntity, Path path) throws IOException;
 
+    /**
+     * Serialises the resource to the exact content which {@link #writeToFile(Object, Path)} would write to its file.
+     */
+    String serialiseResource(Object sourceEntity);
+
+    /**
+     * Serialises the widget to the exact content which {@link #saveWidgets(JSONObject, String, Path)} would write.
+     */
+    String serialiseWidget(JSONObject sourceEntity);
+
+    /**
+     * Serialises the metadata to the exact content which
+     * {@link #saveMetadataResource(ApplicationGitReference, Path)} would write.
+     */
+    String serialiseMetadataResource(ApplicationGitReference applicationGitReference);
+
     void scanAndDeleteFileForDeletedResources(Set<String> validResources, Path resourceDirectory);
 
     void scanAndDeleteDirectoryForDeletedResources(Set<String> validResources, Path resourceDirectory);
@@ -2,14 +2,16 @@ package com.appsmith.external.helpers.restApiUtils.helpers;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
+import com.appsmith.external.helpers.restApiUtils.helpers.StreamingResponseUtils.StreamingConfig;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
+import com.appsmith.util.HttpClientPoolConfig;
+import com.appsmith.util.SharedHttpClientRegistry;
 import com.appsmith.util.WebClientUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -18,39 +20,45 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ClientHttpRequest;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
 @NoArgsConstructor
+@Slf4j
 public class RestAPIActivateUtils {
 
+    public static final String REST_API_CONNECTION_PROVIDER_NAME = "rest-api-provider";
+
     public static final String SIGNATURE_HEADER_NAME = "X-APPSMITH-SIGNATURE";
     public static final String RESPONSE_DATA_TYPE = "X-APPSMITH-DATATYPE";
     public static final int MAX_REDIRECTS = 5;
@@ -62,6 +70,12 @@ public class RestAPIActivateUtils {
             "application/x-binary");
     public static HeaderUtils headerUtils = new HeaderUtils();
 
+    private HttpClientPoolConfig httpClientPoolConfig = HttpClientPoolConfig.DEFAULT;
+
+    public RestAPIActivateUtils(HttpClientPoolConfig httpClientPoolConfig) {
+        this.httpClientPoolConfig = httpClientPoolConfig;
+    }
+
     public Mono<ActionExecutionResult> triggerApiCall(
             WebClient client,
             HttpMethod httpMethod,
@@ -73,107 +87,221 @@ public class RestAPIActivateUtils {
             ActionExecutionResult errorResult,
             RequestCaptureFilter requestCaptureFilter,
             DatasourceConfiguration datasourceConfiguration) {
-        return httpCall(client, httpMethod, uri, requestBody, 0)
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(stringResponseEntity -> {
-                    HttpHeaders headers = stringResponseEntity.getHeaders();
-                    /*
-                       Find the media type of the response to parse the body as required. In case the content-type
-                       header is not present in the response then set it to our default i.e. "text/plain" although
-                       the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
-                       it's not present in response header.
-                    */
-                    MediaType contentType = headers.getContentType();
-                    if (contentType == null) {
-                        contentType = MediaType.TEXT_PLAIN;
-                    }
-                    byte[] body = stringResponseEntity.getBody();
-                    HttpStatusCode statusCode = stringResponseEntity.getStatusCode();
-
-                    ActionExecutionResult result = new ActionExecutionResult();
-
-                    // Set the request fields
-                    boolean isBodySentWithApiRequest = requestBody == null ? false : true;
-                    result.setRequest(requestCaptureFilter.populateRequestFields(
-                            actionExecutionRequest, isBodySentWithApiRequest, datasourceConfiguration));
-
-                    result.setStatusCode(statusCode.toString());
-
-                    // if something has moved permanently should we mark it as an execution failure?
-                    // here marking a redirection as an execution success if the url has moved permanently without a
-                    // forwarding Location
-                    boolean isExecutionSuccess = statusCode.is2xxSuccessful() || statusCode.is3xxRedirection();
-                    result.setIsExecutionSuccess(isExecutionSuccess);
-
-                    // Convert the headers into json tree to store in the results
-                    String headerInJsonString;
-                    try {
-                        headerInJsonString = objectMapper.writeValueAsString(headers);
-                    } catch (JsonProcessingException e) {
-                        throw Exceptions.propagate(e);
-                    }
+        return triggerApiCall(
+                client,
+                httpMethod,
+                uri,
+                requestBody,
+                actionExecutionRequest,
+                objectMapper,
+                hintMessages,
+                errorResult,
+                requestCaptureFilter,
+                datasourceConfiguration,
+                null);
+    }
 
-                    // Set headers in the result now
-                    try {
-                        result.setHeaders(objectMapper.readTree(headerInJsonString));
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR, headerInJsonString, e.getMessage()));
-                    }
+    /**
+     * Same as above, except that the response is read in a streaming fashion when a streaming configuration is
+     * provided. See {@link StreamingResponseUtils}.
+     */
+    public Mono<ActionExecutionResult> triggerApiCall(
+            WebClient client,
+            HttpMethod httpMethod,
+            URI uri,
+            Object requestBody,
+            ActionExecutionRequest actionExecutionRequest,
+            ObjectMapper objectMapper,
+            Set<String> hintMessages,
+            ActionExecutionResult errorResult,
+            RequestCaptureFilter requestCaptureFilter,
+            DatasourceConfiguration datasourceConfiguration,
+            StreamingConfig streamingConfig) {
+        return httpCall(client, httpMethod, uri, requestBody, 0).flatMap(clientResponse -> {
+            if (streamingConfig == null) {
+                return clientResponse.toEntity(byte[].class).map(responseEntity -> {
+                    ActionExecutionResult result = getActionExecutionResult(
+                            responseEntity.getHeaders(),
+                            responseEntity.getStatusCode(),
+                            requestBody,
+                            actionExecutionRequest,
+                            objectMapper,
+                            requestCaptureFilter,
+                            datasourceConfiguration);
+                    setResponseBody(
+                            result,
+                            getContentType(responseEntity.getHeaders()),
+                            responseEntity.getBody(),
+                            objectMapper,
+                            hintMessages);
+                    result.setMessages(hintMessages);
+                    return result;
+                });
+            }
+
+            HttpHeaders headers = clientResponse.headers().asHttpHeaders();
+            MediaType contentType = getContentType(headers);
+            ActionExecutionResult result = getActionExecutionResult(
+                    headers,
+                    clientResponse.statusCode(),
+                    requestBody,
+                    actionExecutionRequest,
+                    objectMapper,
+                    requestCaptureFilter,
+                    datasourceConfiguration);
+            Flux<DataBuffer> body = clientResponse.body(BodyExtractors.toDataBuffers());
+
+            if (!contentType.includes(MediaType.APPLICATION_JSON)) {
+                return StreamingResponseUtils.readBody(body, streamingConfig.getMaxBytes())
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .map(bytes -> {
+                            setResponseBody(result, contentType, bytes.orElse(null), objectMapper, hintMessages);
+                            result.setMessages(hintMessages);
+                            return result;
+                        });
+            }
+
+            return StreamingResponseUtils.readJsonBody(body, streamingConfig, objectMapper)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .map(jsonBody -> {
+                        if (jsonBody.isEmpty()) {
+                            result.setMessages(hintMessages);
+                            return result;
+                        }
 
-                    if (body != null) {
-
-                        ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
-
-                        /**TODO
-                         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
-                         * are kept as is and returned as a string.
-                         */
-                        if (contentType.includes(MediaType.APPLICATION_JSON)) {
-                            try {
-                                String jsonBody = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(objectMapper.readTree(jsonBody));
-                                responseDataType = ResponseDataType.JSON;
-                            } catch (IOException e) {
-                                System.out.println("Unable to parse response JSON. Setting response body as string.");
-                                String bodyString = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(bodyString.trim());
-
-                                // Warn user that the API response is not a valid JSON.
-                                hintMessages.add("The response returned by this API is not a valid JSON. Please "
-                                        + "be careful when using the API response anywhere a valid JSON is required"
-                                        + ". You may resolve this issue either by modifying the 'Content-Type' "
-                                        + "Header to indicate a non-JSON response or by modifying the API response "
-                                        + "to return a valid JSON.");
-                            }
-                        } else if (MediaType.IMAGE_GIF.equals(contentType)
-                                || MediaType.IMAGE_JPEG.equals(contentType)
-                                || MediaType.IMAGE_PNG.equals(contentType)) {
-                            String encode = Base64.getEncoder().encodeToString(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.IMAGE;
-
-                        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
-                            String encode = Base64.getEncoder().encodeToString(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.BINARY;
+                        if (jsonBody.get().getInvalidBody() != null) {
+                            // Handled like any other response which claims to be a JSON but isn't
+                            setResponseBody(
+                                    result, contentType, jsonBody.get().getInvalidBody(), objectMapper, hintMessages);
+                        } else if (jsonBody.get().getNode().isMissingNode()) {
+                            hintMessages.add("The response path did not match any part of the response returned "
+                                    + "by this API. Please check the response path configured for this API.");
+                            addResponseDataTypeHeader(result, ResponseDataType.JSON);
                         } else {
-                            // If the body is not of JSON type, just set it as is.
-                            String bodyString = new String(body, StandardCharsets.UTF_8);
-                            result.setBody(bodyString.trim());
-                            responseDataType = ResponseDataType.TEXT;
+                            result.setBody(jsonBody.get().getNode());
+                            addResponseDataTypeHeader(result, ResponseDataType.JSON);
                         }
+                        result.setMessages(hintMessages);
+                        return result;
+                    });
+        });
+    }
 
-                        // Now add a new header which specifies the data type of the response as per Appsmith
-                        JsonNode headersJsonNode = result.getHeaders();
-                        ObjectNode headersObjectNode = (ObjectNode) headersJsonNode;
-                        headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType));
-                        result.setHeaders(headersObjectNode);
-                    }
+    private ActionExecutionResult getActionExecutionResult(
+            HttpHeaders headers,
+            HttpStatusCode statusCode,
+            Object requestBody,
+            ActionExecutionRequest actionExecutionRequest,
+            ObjectMapper objectMapper,
+            RequestCaptureFilter requestCaptureFilter,
+            DatasourceConfiguration datasourceConfiguration) {
+        ActionExecutionResult result = new ActionExecutionResult();
+
+        // Set the request fields
+        boolean isBodySentWithApiRequest = requestBody == null ? false : true;
+        result.setRequest(requestCaptureFilter.populateRequestFields(
+                actionExecutionRequest, isBodySentWithApiRequest, datasourceConfiguration));
+
+        result.setStatusCode(statusCode.toString());
+
+        // if something has moved permanently should we mark it as an execution failure?
+        // here marking a redirection as an execution success if the url has moved permanently without a
+        // forwarding Location
+        boolean isExecutionSuccess = statusCode.is2xxSuccessful() || statusCode.is3xxRedirection();
+        result.setIsExecutionSuccess(isExecutionSuccess);
+
+        // Convert the headers into json tree to store in the results
+        String headerInJsonString;
+        try {
+            headerInJsonString = objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw Exceptions.propagate(e);
+        }
 
-                    result.setMessages(hintMessages);
-                    return result;
-                });
+        // Set headers in the result now
+        try {
+            result.setHeaders(objectMapper.readTree(headerInJsonString));
+        } catch (IOException e) {
+            throw Exceptions.propagate(new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR, headerInJsonString, e.getMessage()));
+        }
+
+        return result;
+    }
+
+    private MediaType getContentType(HttpHeaders headers) {
+        /*
+           Find the media type of the response to parse the body as required. In case the content-type
+           header is not present in the response then set it to our default i.e. "text/plain" although
+           the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
+           it's not present in response header.
+        */
+        MediaType contentType = headers.getContentType();
+        return contentType == null ? MediaType.TEXT_PLAIN : contentType;
+    }
+
+    private void setResponseBody(
+            ActionExecutionResult result,
+            MediaType contentType,
+            byte[] body,
+            ObjectMapper objectMapper,
+            Set<String> hintMessages) {
+        if (body == null) {
+            return;
+        }
+
+        ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
+
+        /**TODO
+         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
+         * are kept as is and returned as a string.
+         */
+        if (contentType.includes(MediaType.APPLICATION_JSON)) {
+            try {
+                String jsonBody = new String(body, StandardCharsets.UTF_8);
+                result.setBody(objectMapper.readTree(jsonBody));
+                responseDataType = ResponseDataType.JSON;
+            } catch (IOException e) {
+                log.debug("Unable to parse response JSON. Setting response body as string.");
+                String bodyString = new String(body, StandardCharsets.UTF_8);
+                result.setBody(bodyString.trim());
+
+                // Warn user that the API response is not a valid JSON.
+                hintMessages.add("The response returned by this API is not a valid JSON. Please "
+                        + "be careful when using the API response anywhere a valid JSON is required"
+                        + ". You may resolve this issue either by modifying the 'Content-Type' "
+                        + "Header to indicate a non-JSON response or by modifying the API response "
+                        + "to return a valid JSON.");
+            }
+        } else if (MediaType.IMAGE_GIF.equals(contentType)
+                || MediaType.IMAGE_JPEG.equals(contentType)
+                || MediaType.IMAGE_PNG.equals(contentType)) {
+            String encode = Base64.getEncoder().encodeToString(body);
+            result.setBody(encode);
+            responseDataType = ResponseDataType.IMAGE;
+
+        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
+            String encode = Base64.getEncoder().encodeToString(body);
+            result.setBody(encode);
+            responseDataType = ResponseDataType.BINARY;
+        } else {
+            // If the body is not of JSON type, just set it as is.
+            String bodyString = new String(body, StandardCharsets.UTF_8);
+            result.setBody(bodyString.trim());
+            responseDataType = ResponseDataType.TEXT;
+        }
+
+        addResponseDataTypeHeader(result, responseDataType);
+    }
+
+    private void addResponseDataTypeHeader(ActionExecutionResult result, ResponseDataType responseDataType) {
+        // Now add a new header which specifies the data type of the response as per Appsmith
+        JsonNode headersJsonNode = result.getHeaders();
+        ObjectNode headersObjectNode = (ObjectNode) headersJsonNode;
+        headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType));
+        result.setHeaders(headersObjectNode);
     }
 
     protected Mono<ClientResponse> httpCall(
@@ -305,17 +433,9 @@ public class RestAPIActivateUtils {
         if (httpProtocol == null) {
             httpProtocol = HttpProtocol.HTTP11;
         }
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .protocol(httpProtocol)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
-
-        return httpClient;
+
+        // Connections are pooled per target host and shared across executions, see SharedHttpClientRegistry.
+        return SharedHttpClientRegistry.getHttpClient(
+                REST_API_CONNECTION_PROVIDER_NAME, httpClientPoolConfig, httpProtocol, datasourceConfiguration);
     }
 }
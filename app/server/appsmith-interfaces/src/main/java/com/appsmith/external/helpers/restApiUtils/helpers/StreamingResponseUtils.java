@@ -0,0 +1,468 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionConfiguration;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromFormData;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Reads API responses straight off the wire instead of aggregating the whole body in memory first.
+ *
+ * JSON bodies are fed chunk by chunk to a non-blocking token parser and only the subtree selected by the configured
+ * response path is materialised, so a large report can be narrowed down to the part that is actually used without
+ * ever holding the full document. Every other content type is aggregated as before. In both cases the number of bytes
+ * received is checked as the chunks arrive, and the response is aborted as soon as it crosses the limit.
+ */
+public class StreamingResponseUtils {
+
+    public static final String RESPONSE_STREAMING_ENABLED = "responseStreaming.enabled";
+    public static final String RESPONSE_STREAMING_PATH = "responseStreaming.path";
+
+    // Bodies which fail to parse within this many bytes are returned as a string, the ones which fail later on are
+    // reported as an error, as the bytes read before aren't kept.
+    private static final int MAX_FALLBACK_BYTES = 16 * 1024;
+
+    private static final String ROOT_PATH = "$";
+    private static final String WILDCARD = "*";
+
+    @Getter
+    @AllArgsConstructor
+    public static class StreamingConfig {
+        private final List<PathSegment> responsePath;
+        private final long maxBytes;
+
+        public boolean hasWildcard() {
+            return responsePath.stream().anyMatch(PathSegment::isWildcard);
+        }
+    }
+
+    /**
+     * One step of a response path: an object key, an array index or a wildcard matching either.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PathSegment {
+        private final String name;
+        private final Integer index;
+        private final boolean wildcard;
+
+        boolean matches(PathContext context) {
+            if (wildcard) {
+                return true;
+            }
+
+            if (context.isArray()) {
+                return index != null
+                        ? index == context.getIndex()
+                        : String.valueOf(context.getIndex()).equals(name);
+            }
+
+            return name != null && name.equals(context.getFieldName());
+        }
+    }
+
+    @Getter
+    @Setter
+    private static class PathContext {
+        private final boolean array;
+        private String fieldName;
+        private int index = -1;
+
+        PathContext(boolean array) {
+            this.array = array;
+        }
+    }
+
+    /**
+     * Returns the streaming configuration if streaming has been turned on for this action, null otherwise.
+     */
+    public static StreamingConfig getStreamingConfig(ActionConfiguration actionConfiguration, long maxBytes)
+            throws AppsmithPluginException {
+        Map<String, Object> formData = actionConfiguration.getFormData();
+        if (formData == null) {
+            return null;
+        }
+
+        Object enabled = getValueSafelyFromFormData(formData, RESPONSE_STREAMING_ENABLED);
+        if (!Boolean.parseBoolean(String.valueOf(enabled))) {
+            return null;
+        }
+
+        String responsePath = getValueSafelyFromFormData(formData, RESPONSE_STREAMING_PATH, String.class, "");
+        return new StreamingConfig(parseResponsePath(responsePath), maxBytes);
+    }
+
+    /**
+     * Parses a JSONPath style expression like `$.data.items[*].name`. Supported are object keys (dotted or bracketed
+     * with quotes), array indexes and the `*` wildcard. A blank path or `$` selects the whole document.
+     */
+    public static List<PathSegment> parseResponsePath(String responsePath) throws AppsmithPluginException {
+        List<PathSegment> segments = new ArrayList<>();
+        if (isBlank(responsePath)) {
+            return segments;
+        }
+
+        String path = responsePath.trim();
+        if (path.startsWith(ROOT_PATH)) {
+            path = path.substring(1);
+        }
+
+        int position = 0;
+        while (position < path.length()) {
+            char current = path.charAt(position);
+            if (current == '.') {
+                if (position + 1 >= path.length() || path.charAt(position + 1) == '.') {
+                    throw getInvalidPathException(responsePath);
+                }
+                position++;
+            } else if (current == '[') {
+                int end = path.indexOf(']', position);
+                if (end < 0) {
+                    throw getInvalidPathException(responsePath);
+                }
+                segments.add(getBracketSegment(path.substring(position + 1, end).trim(), responsePath));
+                position = end + 1;
+            } else {
+                int end = position;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                String name = path.substring(position, end);
+                segments.add(
+                        WILDCARD.equals(name) ? new PathSegment(null, null, true) : new PathSegment(name, null, false));
+                position = end;
+            }
+        }
+
+        return segments;
+    }
+
+    private static PathSegment getBracketSegment(String content, String responsePath) throws AppsmithPluginException {
+        if (WILDCARD.equals(content)) {
+            return new PathSegment(null, null, true);
+        }
+
+        if (content.length() >= 2
+                && (content.startsWith("'") && content.endsWith("'")
+                        || content.startsWith("\"") && content.endsWith("\""))) {
+            return new PathSegment(content.substring(1, content.length() - 1), null, false);
+        }
+
+        if (content.matches("\\d+")) {
+            return new PathSegment(null, Integer.parseInt(content), false);
+        }
+
+        throw getInvalidPathException(responsePath);
+    }
+
+    private static AppsmithPluginException getInvalidPathException(String responsePath) {
+        return new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                "Invalid response path: " + responsePath
+                        + ". Please use a path like $.data.items[*] made of keys, array indexes and wildcards.");
+    }
+
+    /**
+     * Body of a JSON response read by {@link #readJsonBody}.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class JsonBody {
+        // Node selected by the response path, a MissingNode if nothing in the body matched the path
+        private final JsonNode node;
+
+        // Raw bytes of the body, only set if the body turned out not to be a valid JSON
+        private final byte[] invalidBody;
+    }
+
+    /**
+     * Parses a JSON body as it arrives and returns the node selected by the response path. With a wildcard in the
+     * path, all the matching nodes are returned as an array. If the body isn't a valid JSON from its first token on,
+     * like an HTML error page, the raw body is returned instead so that it can be handed back as a string. A body which
+     * turns invalid later on fails with an error. An empty Mono is returned if the body was empty.
+     */
+    public static Mono<JsonBody> readJsonBody(
+            Flux<DataBuffer> body, StreamingConfig streamingConfig, ObjectMapper objectMapper) {
+        return Mono.defer(() -> {
+            final JsonStreamProjector projector;
+            try {
+                projector = new JsonStreamProjector(objectMapper, streamingConfig);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+
+            return body.<DataBuffer>handle((dataBuffer, sink) -> {
+                        try {
+                            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                            dataBuffer.read(bytes);
+                            projector.feed(bytes);
+                        } catch (IOException | AppsmithPluginException e) {
+                            sink.error(e);
+                            return;
+                        } finally {
+                            DataBufferUtils.release(dataBuffer);
+                        }
+
+                        // Nothing after the selected node is needed, stop reading the rest of the response.
+                        if (projector.isComplete()) {
+                            sink.complete();
+                        }
+                    })
+                    .then(Mono.fromCallable(projector::finish));
+        });
+    }
+
+    /**
+     * Aggregates a body that can't be streamed, failing as soon as it grows beyond the limit.
+     */
+    public static Mono<byte[]> readBody(Flux<DataBuffer> body, long maxBytes) {
+        return DataBufferUtils.join(body, (int) Math.min(maxBytes, Integer.MAX_VALUE))
+                .map(dataBuffer -> {
+                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                    dataBuffer.read(bytes);
+                    DataBufferUtils.release(dataBuffer);
+                    return bytes;
+                })
+                .onErrorMap(DataBufferLimitException.class, e -> getResponseSizeException(maxBytes));
+    }
+
+    private static AppsmithPluginException getResponseSizeException(long maxBytes) {
+        return new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_ERROR,
+                "Response size exceeded the maximum supported size of " + maxBytes / (1024 * 1024)
+                        + " MB. Please use the response path to pick the part of the response that is needed or "
+                        + "reduce the amount of data returned by the API.");
+    }
+
+    /**
+     * Walks the token stream of a JSON document keeping track of the current path, skips every subtree that can't
+     * lead to the response path, and buffers the tokens of the matching subtrees until they can be turned into nodes.
+     */
+    private static class JsonStreamProjector {
+        private final ObjectMapper objectMapper;
+        private final List<PathSegment> responsePath;
+        private final boolean hasWildcard;
+        private final long maxBytes;
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final Deque<PathContext> contexts = new ArrayDeque<>();
+        private final List<JsonNode> matches = new ArrayList<>();
+
+        // The bytes received are only kept until the first token has been parsed, or until they cross
+        // MAX_FALLBACK_BYTES, as they are returned as they are if the body turns out not to be a valid JSON by then.
+        private final List<byte[]> received = new ArrayList<>();
+        private boolean retaining = true;
+        private boolean tokenParsed;
+
+        private TokenBuffer capture;
+        private int captureDepth;
+        private int skipDepth;
+        private long bytesRead;
+        private boolean invalid;
+
+        @Getter
+        private boolean complete;
+
+        JsonStreamProjector(ObjectMapper objectMapper, StreamingConfig streamingConfig) throws IOException {
+            this.objectMapper = objectMapper;
+            this.responsePath = streamingConfig.getResponsePath();
+            this.hasWildcard = streamingConfig.hasWildcard();
+            this.maxBytes = streamingConfig.getMaxBytes();
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        void feed(byte[] bytes) throws IOException {
+            bytesRead += bytes.length;
+            if (bytesRead > maxBytes) {
+                throw getResponseSizeException(maxBytes);
+            }
+
+            if (invalid) {
+                // The rest of the body is only needed to be returned as it is
+                received.add(bytes);
+                return;
+            }
+
+            if (retaining) {
+                received.add(bytes);
+            }
+
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                processAvailableTokens();
+            } catch (JsonProcessingException e) {
+                handleInvalidJson(e);
+            }
+
+            if (retaining && (tokenParsed || bytesRead > MAX_FALLBACK_BYTES)) {
+                retaining = false;
+                received.clear();
+            }
+        }
+
+        private void handleInvalidJson(JsonProcessingException e) {
+            if (!retaining) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "The response returned by this API is not a valid JSON: " + e.getOriginalMessage());
+            }
+            invalid = true;
+        }
+
+        JsonBody finish() throws IOException {
+            if (!complete && !invalid) {
+                try {
+                    feeder.endOfInput();
+                    processAvailableTokens();
+                    if (!contexts.isEmpty() || capture != null || skipDepth > 0) {
+                        throw new JsonEOFException(parser, null, "Unexpected end of input");
+                    }
+                } catch (JsonProcessingException e) {
+                    handleInvalidJson(e);
+                }
+            }
+            parser.close();
+
+            if (bytesRead == 0) {
+                return null;
+            }
+
+            if (invalid) {
+                ByteArrayOutputStream invalidBody = new ByteArrayOutputStream((int) bytesRead);
+                for (byte[] bytes : received) {
+                    invalidBody.write(bytes);
+                }
+                return new JsonBody(null, invalidBody.toByteArray());
+            }
+
+            if (hasWildcard) {
+                ArrayNode arrayNode = objectMapper.createArrayNode();
+                arrayNode.addAll(matches);
+                return new JsonBody(arrayNode, null);
+            }
+
+            return new JsonBody(matches.isEmpty() ? MissingNode.getInstance() : matches.get(0), null);
+        }
+
+        private void processAvailableTokens() throws IOException {
+            JsonToken token;
+            while (!complete && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                tokenParsed = true;
+                processToken(token);
+            }
+        }
+
+        private void processToken(JsonToken token) throws IOException {
+            if (capture != null) {
+                capture.copyCurrentEvent(parser);
+                captureDepth += getDepthChange(token);
+                if (captureDepth == 0) {
+                    finishCapture();
+                }
+                return;
+            }
+
+            if (skipDepth > 0) {
+                skipDepth += getDepthChange(token);
+                return;
+            }
+
+            if (token == JsonToken.FIELD_NAME) {
+                contexts.peek().setFieldName(parser.getCurrentName());
+                return;
+            }
+
+            if (token.isStructEnd()) {
+                contexts.pop();
+                return;
+            }
+
+            // A new value starts here, its path is given by the enclosing contexts.
+            PathContext parent = contexts.peek();
+            if (parent != null && parent.isArray()) {
+                parent.setIndex(parent.getIndex() + 1);
+            }
+
+            if (!isOnResponsePath()) {
+                skipDepth = token.isStructStart() ? 1 : 0;
+                return;
+            }
+
+            if (contexts.size() == responsePath.size()) {
+                capture = new TokenBuffer(parser);
+                capture.copyCurrentEvent(parser);
+                captureDepth = getDepthChange(token);
+                if (captureDepth == 0) {
+                    finishCapture();
+                }
+                return;
+            }
+
+            if (token.isStructStart()) {
+                contexts.push(new PathContext(token == JsonToken.START_ARRAY));
+            }
+        }
+
+        private boolean isOnResponsePath() {
+            // Contexts are stacked with the innermost first, walk them from the root instead.
+            Iterator<PathContext> iterator = contexts.descendingIterator();
+            int depth = 0;
+            while (iterator.hasNext()) {
+                if (depth >= responsePath.size() || !responsePath.get(depth).matches(iterator.next())) {
+                    return false;
+                }
+                depth++;
+            }
+            return true;
+        }
+
+        private void finishCapture() throws IOException {
+            try (JsonParser captureParser = capture.asParser(objectMapper)) {
+                matches.add(objectMapper.readTree(captureParser));
+            }
+            capture = null;
+
+            if (!hasWildcard) {
+                complete = true;
+            }
+        }
+
+        private static int getDepthChange(JsonToken token) {
+            if (token.isStructStart()) {
+                return 1;
+            }
+            return token.isStructEnd() ? -1 : 0;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.appsmith.external.services.ce;
 
+import com.appsmith.util.HttpClientPoolConfig;
+
 public interface SharedConfigCE {
 
     int getCodecSize();
@@ -7,4 +9,8 @@ public interface SharedConfigCE {
     int getMaxResponseSize();
 
     String getRemoteExecutionUrl();
+
+    default HttpClientPoolConfig getHttpClientPoolConfig() {
+        return HttpClientPoolConfig.DEFAULT;
+    }
 }
@@ -0,0 +1,49 @@
+package com.appsmith.util;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Tunables for the connection pools shared by the HTTP based plugins. The limits apply per target host, since a
+ * Reactor Netty connection provider keeps a separate pool for every remote address it connects to.
+ */
+@Getter
+@Builder
+@ToString
+public class HttpClientPoolConfig {
+
+    public static final HttpClientPoolConfig DEFAULT =
+            HttpClientPoolConfig.builder().build();
+
+    // Maximum number of connections that can be open to a single host at any time.
+    @Builder.Default
+    private final int maxConnections = 500;
+
+    // Maximum number of requests that can wait for a connection to a single host before they are rejected.
+    @Builder.Default
+    private final int pendingAcquireMaxCount = 1000;
+
+    @Builder.Default
+    private final Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+
+    @Builder.Default
+    private final Duration maxIdleTime = Duration.ofSeconds(600);
+
+    @Builder.Default
+    private final Duration maxLifeTime = Duration.ofSeconds(600);
+
+    // Interval at which idle and expired connections are evicted, even if there is no traffic to the host.
+    @Builder.Default
+    private final Duration evictInBackground = Duration.ofSeconds(120);
+
+    // Offer HTTP/2 via ALPN to HTTPS hosts when the action is configured with the default HTTP/1.1 protocol.
+    @Builder.Default
+    private final boolean http2Enabled = false;
+
+    // Publish Micrometer gauges for active, idle and pending connections per host.
+    @Builder.Default
+    private final boolean metricsEnabled = true;
+}
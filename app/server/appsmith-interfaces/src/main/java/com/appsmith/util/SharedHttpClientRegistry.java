@@ -0,0 +1,133 @@
+package com.appsmith.util;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide registry of connection providers and HTTP clients for the HTTP based plugins.
+ *
+ * Creating a connection provider per request means that no connection is ever reused across executions, which costs
+ * a TCP connect and a TLS handshake on every call and leaves the old pools behind. Instead, every plugin family gets
+ * one named connection provider for the lifetime of the server. Reactor Netty partitions a provider into one pool per
+ * remote host, so the limits in {@link HttpClientPoolConfig} apply per host.
+ *
+ * HTTP clients are cached as well, keyed by the protocol and the SSL configuration. Pooled connections are only
+ * reused by clients with the same configuration, and a new SSL context is created every time a client is secured.
+ * Reusing the client keeps the same SSL context around so that warm connections can actually be picked up again.
+ */
+@Slf4j
+public class SharedHttpClientRegistry {
+
+    private static final int MAX_CACHED_HTTP_CLIENTS = 512;
+
+    private static final String DEFAULT_SSL_KEY = "default";
+
+    private static final Map<String, ConnectionProvider> connectionProviders = new ConcurrentHashMap<>();
+
+    private static final Map<String, HttpClient> httpClients =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, HttpClient> eldest) {
+                    return size() > MAX_CACHED_HTTP_CLIENTS;
+                }
+            });
+
+    private SharedHttpClientRegistry() {}
+
+    /**
+     * Returns the connection provider registered against this name, creating it with the given configuration on first
+     * use. The configuration of an existing provider is never changed.
+     */
+    public static ConnectionProvider getConnectionProvider(String name, HttpClientPoolConfig poolConfig) {
+        return connectionProviders.computeIfAbsent(name, providerName -> {
+            log.debug("Creating shared connection provider {} with {}", providerName, poolConfig);
+            return ConnectionProvider.builder(providerName)
+                    .maxConnections(poolConfig.getMaxConnections())
+                    .pendingAcquireMaxCount(poolConfig.getPendingAcquireMaxCount())
+                    .pendingAcquireTimeout(poolConfig.getPendingAcquireTimeout())
+                    .maxIdleTime(poolConfig.getMaxIdleTime())
+                    .maxLifeTime(poolConfig.getMaxLifeTime())
+                    .evictInBackground(poolConfig.getEvictInBackground())
+                    .metrics(poolConfig.isMetricsEnabled())
+                    .build();
+        });
+    }
+
+    /**
+     * Returns a secured, compressing HTTP client backed by the shared connection provider of this name.
+     */
+    public static HttpClient getHttpClient(
+            String name,
+            HttpClientPoolConfig poolConfig,
+            HttpProtocol httpProtocol,
+            DatasourceConfiguration datasourceConfiguration) {
+        final HttpProtocol[] protocols = getProtocols(httpProtocol, poolConfig);
+        final String key = name + ":" + String.join(",", toNames(protocols)) + ":" + getSslKey(datasourceConfiguration);
+
+        return httpClients.computeIfAbsent(key, clientKey -> HttpClient.create(getConnectionProvider(name, poolConfig))
+                .protocol(protocols)
+                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                .compress(true));
+    }
+
+    private static HttpProtocol[] getProtocols(HttpProtocol httpProtocol, HttpClientPoolConfig poolConfig) {
+        if (httpProtocol == null) {
+            httpProtocol = HttpProtocol.HTTP11;
+        }
+
+        if (HttpProtocol.HTTP11.equals(httpProtocol) && poolConfig.isHttp2Enabled()) {
+            // HTTP/2 is only negotiated over TLS, plain HTTP hosts keep using HTTP/1.1.
+            return new HttpProtocol[] {HttpProtocol.HTTP11, HttpProtocol.H2};
+        }
+
+        return new HttpProtocol[] {httpProtocol};
+    }
+
+    private static String[] toNames(HttpProtocol[] protocols) {
+        String[] names = new String[protocols.length];
+        for (int i = 0; i < protocols.length; i++) {
+            names[i] = protocols[i].name();
+        }
+        return names;
+    }
+
+    /**
+     * Datasources trusting a self-signed certificate need their own SSL context. All other datasources use the default
+     * trust store and can share a client.
+     */
+    private static String getSslKey(DatasourceConfiguration datasourceConfiguration) {
+        if (datasourceConfiguration == null
+                || datasourceConfiguration.getConnection() == null
+                || datasourceConfiguration.getConnection().getSsl() == null
+                || datasourceConfiguration.getConnection().getSsl().getAuthType()
+                        != SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+            return DEFAULT_SSL_KEY;
+        }
+
+        UploadedFile certificateFile =
+                datasourceConfiguration.getConnection().getSsl().getCertificateFile();
+        String certificate = certificateFile == null ? "" : String.valueOf(certificateFile.getBase64Content());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(certificate.getBytes(StandardCharsets.UTF_8));
+            return "self-signed:" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256, fall back to the raw content just in case.
+            return "self-signed:" + certificate;
+        }
+    }
+}
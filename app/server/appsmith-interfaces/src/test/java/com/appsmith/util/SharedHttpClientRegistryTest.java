@@ -0,0 +1,104 @@
+package com.appsmith.util;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SharedHttpClientRegistryTest {
+
+    @Test
+    public void testGetConnectionProvider_sameName_returnsSameProvider() {
+        HttpClientPoolConfig poolConfig = HttpClientPoolConfig.builder()
+                .maxConnections(10)
+                .maxIdleTime(Duration.ofSeconds(5))
+                .build();
+
+        ConnectionProvider provider = SharedHttpClientRegistry.getConnectionProvider("test-provider", poolConfig);
+
+        assertSame(
+                provider,
+                SharedHttpClientRegistry.getConnectionProvider("test-provider", HttpClientPoolConfig.DEFAULT));
+        assertEquals(10, provider.maxConnections());
+        assertNotSame(
+                provider,
+                SharedHttpClientRegistry.getConnectionProvider("other-provider", HttpClientPoolConfig.DEFAULT));
+    }
+
+    @Test
+    public void testGetHttpClient_sameConfiguration_returnsCachedClient() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+
+        HttpClient httpClient = SharedHttpClientRegistry.getHttpClient(
+                "test-client-provider", HttpClientPoolConfig.DEFAULT, HttpProtocol.HTTP11, datasourceConfiguration);
+
+        assertSame(
+                httpClient,
+                SharedHttpClientRegistry.getHttpClient(
+                        "test-client-provider",
+                        HttpClientPoolConfig.DEFAULT,
+                        HttpProtocol.HTTP11,
+                        new DatasourceConfiguration()));
+        assertNotSame(
+                httpClient,
+                SharedHttpClientRegistry.getHttpClient(
+                        "test-client-provider",
+                        HttpClientPoolConfig.DEFAULT,
+                        HttpProtocol.H2C,
+                        datasourceConfiguration));
+    }
+
+    @Test
+    public void testGetHttpClient_selfSignedCertificate_usesSeparateClient() {
+        HttpClient defaultClient = SharedHttpClientRegistry.getHttpClient(
+                "test-ssl-provider", HttpClientPoolConfig.DEFAULT, HttpProtocol.HTTP11, new DatasourceConfiguration());
+
+        HttpClient selfSignedClient = SharedHttpClientRegistry.getHttpClient(
+                "test-ssl-provider",
+                HttpClientPoolConfig.DEFAULT,
+                HttpProtocol.HTTP11,
+                getSelfSignedDatasourceConfiguration("Y2VydGlmaWNhdGUtb25l"));
+
+        assertNotSame(defaultClient, selfSignedClient);
+        assertSame(
+                selfSignedClient,
+                SharedHttpClientRegistry.getHttpClient(
+                        "test-ssl-provider",
+                        HttpClientPoolConfig.DEFAULT,
+                        HttpProtocol.HTTP11,
+                        getSelfSignedDatasourceConfiguration("Y2VydGlmaWNhdGUtb25l")));
+        assertNotSame(
+                selfSignedClient,
+                SharedHttpClientRegistry.getHttpClient(
+                        "test-ssl-provider",
+                        HttpClientPoolConfig.DEFAULT,
+                        HttpProtocol.HTTP11,
+                        getSelfSignedDatasourceConfiguration("Y2VydGlmaWNhdGUtdHdv")));
+    }
+
+    private DatasourceConfiguration getSelfSignedDatasourceConfiguration(String certificate) {
+        UploadedFile certificateFile = new UploadedFile();
+        certificateFile.setBase64Content(certificate);
+
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+        sslDetails.setCertificateFile(certificateFile);
+
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+}
@@ -4,6 +4,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ApiKeyAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.util.HttpClientPoolConfig;
+import com.appsmith.util.SharedHttpClientRegistry;
 import com.external.plugins.constants.AnthropicConstants;
 import com.external.plugins.constants.AnthropicErrorMessages;
 import org.springframework.http.HttpMethod;
@@ -77,13 +79,15 @@ public class RequestUtils {
     }
 
     private static ConnectionProvider connectionProvider() {
-        return ConnectionProvider.builder("anthropic")
-                .maxConnections(100)
-                .maxIdleTime(Duration.ofSeconds(60))
-                .maxLifeTime(Duration.ofSeconds(60))
-                .pendingAcquireTimeout(Duration.ofSeconds(30))
-                .evictInBackground(Duration.ofSeconds(120))
-                .build();
+        return SharedHttpClientRegistry.getConnectionProvider(
+                "anthropic",
+                HttpClientPoolConfig.builder()
+                        .maxConnections(100)
+                        .maxIdleTime(Duration.ofSeconds(60))
+                        .maxLifeTime(Duration.ofSeconds(60))
+                        .pendingAcquireTimeout(Duration.ofSeconds(30))
+                        .evictInBackground(Duration.ofSeconds(120))
+                        .build());
     }
 
     public static Set<String> validateApiKeyAuthDatasource(DatasourceConfiguration datasourceConfiguration) {
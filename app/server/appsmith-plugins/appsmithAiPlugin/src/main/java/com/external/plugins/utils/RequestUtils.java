@@ -2,6 +2,8 @@ package com.external.plugins.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.util.HttpClientPoolConfig;
+import com.appsmith.util.SharedHttpClientRegistry;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import jakarta.validation.constraints.NotNull;
@@ -140,12 +142,14 @@ public class RequestUtils {
     }
 
     private static ConnectionProvider connectionProvider() {
-        return ConnectionProvider.builder("appsmithAiServer")
-                .maxConnections(100)
-                .maxIdleTime(Duration.ofSeconds(60))
-                .maxLifeTime(Duration.ofSeconds(60))
-                .pendingAcquireTimeout(Duration.ofSeconds(30))
-                .evictInBackground(Duration.ofSeconds(120))
-                .build();
+        return SharedHttpClientRegistry.getConnectionProvider(
+                "appsmithAiServer",
+                HttpClientPoolConfig.builder()
+                        .maxConnections(100)
+                        .maxIdleTime(Duration.ofSeconds(60))
+                        .maxLifeTime(Duration.ofSeconds(60))
+                        .pendingAcquireTimeout(Duration.ofSeconds(30))
+                        .evictInBackground(Duration.ofSeconds(120))
+                        .build());
     }
 }
@@ -4,12 +4,15 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.BearerTokenAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.databricks.sdk.service.sql.GetStatementResponse;
+import com.databricks.sdk.service.sql.StatementExecutionAPI;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
@@ -24,6 +27,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -33,14 +37,27 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_CLOSED_ERROR_MSG;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_INVALID_ERROR_MSG;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_NULL_ERROR_MSG;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
 import static com.external.plugins.exceptions.DatabricksErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG;
 import static com.external.plugins.exceptions.DatabricksPluginError.QUERY_EXECUTION_FAILED;
+import static com.external.utils.StatementExecutionUtils.cancelStatement;
+import static com.external.utils.StatementExecutionUtils.getHostFromEndpoints;
+import static com.external.utils.StatementExecutionUtils.getHostFromJdbcUrl;
+import static com.external.utils.StatementExecutionUtils.getHttpPathFromJdbcUrl;
+import static com.external.utils.StatementExecutionUtils.getRows;
+import static com.external.utils.StatementExecutionUtils.getStatement;
+import static com.external.utils.StatementExecutionUtils.getStatementExecutionApi;
+import static com.external.utils.StatementExecutionUtils.getWarehouseId;
+import static com.external.utils.StatementExecutionUtils.hasResultSet;
+import static com.external.utils.StatementExecutionUtils.isStillRunning;
+import static com.external.utils.StatementExecutionUtils.submitStatement;
 
 public class DatabricksPlugin extends BasePlugin {
 
@@ -56,6 +73,11 @@ public class DatabricksPlugin extends BasePlugin {
     private static final int USER_AGENT_TAG = 4;
     private static final String FORM_PROPERTIES_CONFIGURATION = "FORM_PROPERTIES_CONFIGURATION";
     private static final String JDBC_URL_CONFIGURATION = "JDBC_URL_CONFIGURATION";
+    private static final String DEFAULT_CATALOG = "samples";
+    private static final String DEFAULT_SCHEMA = "default";
+    private static final int ASYNC_EXECUTION_INDEX = 0;
+    private static final Duration ASYNC_POLL_INITIAL_DELAY = Duration.ofMillis(250);
+    private static final Duration ASYNC_POLL_MAX_DELAY = Duration.ofSeconds(2);
 
     private static final String TABLES_QUERY =
             """
@@ -81,6 +103,27 @@ public class DatabricksPlugin extends BasePlugin {
 
             String query = actionConfiguration.getBody();
 
+            if (isAsyncExecutionEnabled(actionConfiguration)) {
+                String warehouseId = getWarehouseId(getHttpPath(datasourceConfiguration));
+                String host = getHost(datasourceConfiguration);
+                if (warehouseId != null && StringUtils.hasText(host)) {
+                    return executeAsync(
+                                    getStatementExecutionApi(host, datasourceConfiguration),
+                                    warehouseId,
+                                    query,
+                                    datasourceConfiguration,
+                                    Duration.ofMillis(actionConfiguration.getTimeoutInMillisecond()))
+                            .map(result -> {
+                                ActionExecutionRequest request = new ActionExecutionRequest();
+                                request.setQuery(query);
+                                result.setRequest(request);
+                                return result;
+                            });
+                }
+
+                log.debug("Databricks datasource does not point to a SQL warehouse, executing query over JDBC");
+            }
+
             List<Map<String, Object>> rowsList = new ArrayList<>(INITIAL_ROWLIST_CAPACITY);
             final List<String> columnsList = new ArrayList<>();
 
@@ -176,6 +219,124 @@ public class DatabricksPlugin extends BasePlugin {
                     .subscribeOn(Schedulers.boundedElastic());
         }
 
+        private boolean isAsyncExecutionEnabled(ActionConfiguration actionConfiguration) {
+            Object asyncExecution = getValueSafelyFromPropertyList(
+                    actionConfiguration.getPluginSpecifiedTemplates(), ASYNC_EXECUTION_INDEX);
+            return Boolean.parseBoolean(String.valueOf(asyncExecution));
+        }
+
+        private boolean isJdbcUrlConfiguration(DatasourceConfiguration datasourceConfiguration) {
+            return JDBC_URL_CONFIGURATION.equals(
+                    getValueSafelyFromPropertyList(datasourceConfiguration.getProperties(), CONFIGURATION_TYPE_INDEX));
+        }
+
+        private String getHttpPath(DatasourceConfiguration datasourceConfiguration) {
+            if (isJdbcUrlConfiguration(datasourceConfiguration)) {
+                return getHttpPathFromJdbcUrl(getValueSafelyFromPropertyList(
+                        datasourceConfiguration.getProperties(), JDBC_URL_INDEX, String.class));
+            }
+
+            return getValueSafelyFromPropertyList(
+                    datasourceConfiguration.getProperties(), HTTP_PATH_INDEX, String.class);
+        }
+
+        private String getHost(DatasourceConfiguration datasourceConfiguration) {
+            if (isJdbcUrlConfiguration(datasourceConfiguration)) {
+                return getHostFromJdbcUrl(getValueSafelyFromPropertyList(
+                        datasourceConfiguration.getProperties(), JDBC_URL_INDEX, String.class));
+            }
+
+            return getHostFromEndpoints(datasourceConfiguration.getEndpoints());
+        }
+
+        /**
+         * Runs the query on the SQL warehouse through the Statement Execution API instead of the JDBC connection. The
+         * query is submitted without waiting for it to finish, and its status is then polled with a growing delay, so
+         * that no thread or connection is held while the warehouse is busy. The result is read chunk by chunk once
+         * the query has succeeded. If the action times out or its execution is cancelled, the statement is cancelled
+         * on the warehouse as well. Statements which return no rows, like updates, get the same result as over JDBC.
+         */
+        Mono<ActionExecutionResult> executeAsync(
+                StatementExecutionAPI statementExecutionApi,
+                String warehouseId,
+                String query,
+                DatasourceConfiguration datasourceConfiguration,
+                Duration timeout) {
+            String catalog = null;
+            String schema = null;
+            if (!isJdbcUrlConfiguration(datasourceConfiguration)) {
+                catalog = getValueSafelyFromPropertyList(
+                        datasourceConfiguration.getProperties(), CATALOG_INDEX, String.class, DEFAULT_CATALOG);
+                schema = getValueSafelyFromPropertyList(
+                        datasourceConfiguration.getProperties(), SCHEMA_INDEX, String.class, DEFAULT_SCHEMA);
+            }
+            final String statementCatalog = StringUtils.hasText(catalog) ? catalog : null;
+            final String statementSchema = StringUtils.hasText(schema) ? schema : null;
+
+            return Mono.fromCallable(() -> submitStatement(
+                            statementExecutionApi, warehouseId, query, statementCatalog, statementSchema))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(submitted -> {
+                        String statementId = submitted.getStatementId();
+                        log.debug("Submitted databricks statement {} for asynchronous execution", statementId);
+
+                        Mono<GetStatementResponse> finishedStatement = isStillRunning(submitted.getStatus())
+                                ? awaitStatement(statementExecutionApi, statementId)
+                                : Mono.just(new GetStatementResponse()
+                                        .setStatementId(statementId)
+                                        .setStatus(submitted.getStatus())
+                                        .setManifest(submitted.getManifest())
+                                        .setResult(submitted.getResult()));
+
+                        return finishedStatement
+                                .flatMap(statement -> Mono.fromCallable(() -> {
+                                            ActionExecutionResult result = new ActionExecutionResult();
+                                            result.setIsExecutionSuccess(true);
+                                            if (!hasResultSet(statement.getManifest())) {
+                                                // This must be an update/delete/insert kind of query which did not
+                                                // return any results.
+                                                result.setBody(objectMapper.valueToTree(Map.of("success", true)));
+                                                return result;
+                                            }
+
+                                            result.setBody(objectMapper.valueToTree(getRows(
+                                                    statementExecutionApi,
+                                                    statementId,
+                                                    statement.getManifest(),
+                                                    statement.getResult())));
+                                            return result;
+                                        })
+                                        .subscribeOn(Schedulers.boundedElastic()))
+                                .timeout(timeout)
+                                .doOnError(
+                                        TimeoutException.class,
+                                        e -> cancelStatementQuietly(statementExecutionApi, statementId))
+                                .doOnCancel(() -> cancelStatementQuietly(statementExecutionApi, statementId));
+                    });
+        }
+
+        private Mono<GetStatementResponse> awaitStatement(
+                StatementExecutionAPI statementExecutionApi, String statementId) {
+            return Mono.fromCallable(() -> getStatement(statementExecutionApi, statementId))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .filter(statement -> !isStillRunning(statement.getStatus()))
+                    .repeatWhenEmpty(attempts -> attempts.concatMap(attempt -> Mono.delay(getPollDelay(attempt))));
+        }
+
+        private Duration getPollDelay(long attempt) {
+            long delayMillis = ASYNC_POLL_INITIAL_DELAY.toMillis() << Math.min(attempt, 10);
+            return Duration.ofMillis(Math.min(delayMillis, ASYNC_POLL_MAX_DELAY.toMillis()));
+        }
+
+        private void cancelStatementQuietly(StatementExecutionAPI statementExecutionApi, String statementId) {
+            Mono.fromRunnable(() -> cancelStatement(statementExecutionApi, statementId))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe(
+                            ignored -> {},
+                            error -> log.debug("Unable to cancel databricks statement {}", statementId, error),
+                            () -> log.debug("Cancelled databricks statement {}", statementId));
+        }
+
         @Override
         public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
@@ -255,7 +416,7 @@ public class DatabricksPlugin extends BasePlugin {
                                         .get(CATALOG_INDEX)
                                         .getValue();
                                 if (!StringUtils.hasText(catalog)) {
-                                    catalog = "samples";
+                                    catalog = DEFAULT_CATALOG;
                                 }
                                 String useCatalogQuery = "USE CATALOG " + catalog;
                                 statement.execute(useCatalogQuery);
@@ -272,7 +433,7 @@ public class DatabricksPlugin extends BasePlugin {
                                         .get(SCHEMA_INDEX)
                                         .getValue();
                                 if (!StringUtils.hasText(schema)) {
-                                    schema = "default";
+                                    schema = DEFAULT_SCHEMA;
                                 }
                                 String useSchemaQuery = "USE SCHEMA " + schema;
                                 statement.execute(useSchemaQuery);
@@ -7,4 +7,8 @@ import lombok.NoArgsConstructor;
 public class DatabricksErrorMessages {
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG = "Your query failed to execute. ";
+
+    public static final String RESULT_TRUNCATED_ERROR_MSG =
+            "The result of the query is too large to be returned when it's run asynchronously. Please limit the rows "
+                    + "or columns it returns, or turn off asynchronous execution for this query.";
 }
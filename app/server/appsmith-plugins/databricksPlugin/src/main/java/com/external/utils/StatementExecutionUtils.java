@@ -0,0 +1,287 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.BearerTokenAuth;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.databricks.sdk.WorkspaceClient;
+import com.databricks.sdk.core.DatabricksConfig;
+import com.databricks.sdk.service.sql.ColumnInfo;
+import com.databricks.sdk.service.sql.ColumnInfoTypeName;
+import com.databricks.sdk.service.sql.Disposition;
+import com.databricks.sdk.service.sql.ExecuteStatementRequest;
+import com.databricks.sdk.service.sql.ExecuteStatementRequestOnWaitTimeout;
+import com.databricks.sdk.service.sql.ExecuteStatementResponse;
+import com.databricks.sdk.service.sql.Format;
+import com.databricks.sdk.service.sql.GetStatementResponse;
+import com.databricks.sdk.service.sql.ResultData;
+import com.databricks.sdk.service.sql.ResultManifest;
+import com.databricks.sdk.service.sql.StatementExecutionAPI;
+import com.databricks.sdk.service.sql.StatementState;
+import com.databricks.sdk.service.sql.StatementStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.external.plugins.exceptions.DatabricksErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG;
+import static com.external.plugins.exceptions.DatabricksErrorMessages.RESULT_TRUNCATED_ERROR_MSG;
+import static com.external.plugins.exceptions.DatabricksPluginError.QUERY_EXECUTION_FAILED;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Helpers to run queries through the Databricks SQL Statement Execution API. Unlike a JDBC statement, a query
+ * submitted here does not keep a thread or a connection busy while it runs on the warehouse. It is identified by its
+ * statement ID, which is used to poll for its status, fetch its result chunk by chunk, or cancel it.
+ */
+@Slf4j
+public class StatementExecutionUtils {
+
+    private static final Pattern WAREHOUSE_ID_PATTERN = Pattern.compile("/warehouses/([^/;?&]+)");
+    private static final Pattern JDBC_HOST_PATTERN = Pattern.compile("^jdbc:databricks://([^:/;]+)");
+    private static final Pattern JDBC_HTTP_PATH_PATTERN =
+            Pattern.compile("[;?&]httpPath=([^;&]+)", Pattern.CASE_INSENSITIVE);
+
+    private static final Set<StatementState> RUNNING_STATES = Set.of(StatementState.PENDING, StatementState.RUNNING);
+
+    private static final Map<String, StatementExecutionAPI> statementExecutionApis = new ConcurrentHashMap<>();
+
+    /**
+     * Only SQL warehouses support the Statement Execution API. Returns null for any other compute, e.g. all purpose
+     * clusters, in which case queries have to go through JDBC.
+     */
+    public static String getWarehouseId(String httpPath) {
+        if (isBlank(httpPath)) {
+            return null;
+        }
+
+        Matcher matcher = WAREHOUSE_ID_PATTERN.matcher(httpPath);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    public static String getHttpPathFromJdbcUrl(String jdbcUrl) {
+        if (isBlank(jdbcUrl)) {
+            return null;
+        }
+
+        Matcher matcher = JDBC_HTTP_PATH_PATTERN.matcher(jdbcUrl);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    public static String getHostFromJdbcUrl(String jdbcUrl) {
+        if (isBlank(jdbcUrl)) {
+            return null;
+        }
+
+        Matcher matcher = JDBC_HOST_PATTERN.matcher(jdbcUrl.trim());
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    public static String getHostFromEndpoints(List<Endpoint> endpoints) {
+        if (endpoints == null || endpoints.isEmpty() || endpoints.get(0) == null) {
+            return null;
+        }
+
+        return endpoints.get(0).getHost();
+    }
+
+    /**
+     * Workspace clients hold their own HTTP connection pool, hence one client is kept per workspace and token.
+     */
+    public static StatementExecutionAPI getStatementExecutionApi(
+            String host, DatasourceConfiguration datasourceConfiguration) {
+        BearerTokenAuth bearerTokenAuth = (BearerTokenAuth) datasourceConfiguration.getAuthentication();
+        String token = bearerTokenAuth == null || bearerTokenAuth.getBearerToken() == null
+                ? ""
+                : bearerTokenAuth.getBearerToken();
+        String workspaceUrl = host.startsWith("https://") ? host : "https://" + host;
+
+        return statementExecutionApis.computeIfAbsent(workspaceUrl + ":" + DigestUtils.sha256Hex(token), key -> {
+            DatabricksConfig config =
+                    new DatabricksConfig().setHost(workspaceUrl).setToken(token).setAuthType("pat");
+            return new WorkspaceClient(config).statementExecution();
+        });
+    }
+
+    /**
+     * Submit the query without waiting for it to finish. The returned response may already hold the result if the
+     * query completed right away.
+     */
+    public static ExecuteStatementResponse submitStatement(
+            StatementExecutionAPI statementExecutionApi,
+            String warehouseId,
+            String query,
+            String catalog,
+            String schema) {
+        ExecuteStatementRequest request = new ExecuteStatementRequest()
+                .setWarehouseId(warehouseId)
+                .setStatement(query)
+                .setCatalog(isBlank(catalog) ? null : catalog)
+                .setSchema(isBlank(schema) ? null : schema)
+                .setDisposition(Disposition.INLINE)
+                .setFormat(Format.JSON_ARRAY)
+                .setWaitTimeout("0s")
+                .setOnWaitTimeout(ExecuteStatementRequestOnWaitTimeout.CONTINUE);
+
+        try {
+            return statementExecutionApi.executeStatement(request);
+        } catch (AppsmithPluginException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AppsmithPluginException(QUERY_EXECUTION_FAILED, QUERY_EXECUTION_FAILED_ERROR_MSG, e.getMessage());
+        }
+    }
+
+    public static GetStatementResponse getStatement(StatementExecutionAPI statementExecutionApi, String statementId) {
+        try {
+            return statementExecutionApi.getStatement(statementId);
+        } catch (Exception e) {
+            throw new AppsmithPluginException(QUERY_EXECUTION_FAILED, QUERY_EXECUTION_FAILED_ERROR_MSG, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns true while the statement is still queued or running. Statements that have failed, or have been
+     * cancelled or closed, are reported as an execution error.
+     */
+    public static boolean isStillRunning(StatementStatus status) {
+        StatementState state = status == null ? null : status.getState();
+        if (state == null || RUNNING_STATES.contains(state)) {
+            return true;
+        }
+
+        if (StatementState.SUCCEEDED.equals(state)) {
+            return false;
+        }
+
+        String errorMessage =
+                status.getError() == null || isBlank(status.getError().getMessage())
+                        ? "The query ended with state " + state
+                        : status.getError().getMessage();
+        String errorCode = status.getError() == null || status.getError().getErrorCode() == null
+                ? String.valueOf(state)
+                : String.valueOf(status.getError().getErrorCode());
+        throw new AppsmithPluginException(
+                QUERY_EXECUTION_FAILED, QUERY_EXECUTION_FAILED_ERROR_MSG, errorMessage, "Error code: " + errorCode);
+    }
+
+    /**
+     * Statements like updates, deletes and inserts return no columns.
+     */
+    public static boolean hasResultSet(ResultManifest manifest) {
+        return manifest != null
+                && manifest.getSchema() != null
+                && manifest.getSchema().getColumns() != null
+                && !manifest.getSchema().getColumns().isEmpty();
+    }
+
+    /**
+     * Read the rows of a finished statement. The first chunk comes along with the statement, every following chunk is
+     * fetched on its own. Inline results are limited in size, a result which has been cut short is reported as an
+     * error rather than returned partially.
+     */
+    public static List<Map<String, Object>> getRows(
+            StatementExecutionAPI statementExecutionApi,
+            String statementId,
+            ResultManifest manifest,
+            ResultData firstChunk) {
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        if (manifest == null
+                || manifest.getSchema() == null
+                || manifest.getSchema().getColumns() == null) {
+            return rowsList;
+        }
+
+        if (Boolean.TRUE.equals(manifest.getTruncated())) {
+            throw new AppsmithPluginException(
+                    QUERY_EXECUTION_FAILED, QUERY_EXECUTION_FAILED_ERROR_MSG, RESULT_TRUNCATED_ERROR_MSG);
+        }
+
+        List<ColumnInfo> columns = new ArrayList<>(manifest.getSchema().getColumns());
+        columns.sort(Comparator.comparing(column -> column.getPosition() == null ? 0L : column.getPosition()));
+
+        ResultData chunk = firstChunk;
+        while (chunk != null) {
+            addRows(rowsList, columns, chunk.getDataArray());
+
+            if (chunk.getNextChunkIndex() == null) {
+                break;
+            }
+
+            try {
+                chunk = statementExecutionApi.getStatementResultChunkN(statementId, chunk.getNextChunkIndex());
+            } catch (Exception e) {
+                throw new AppsmithPluginException(
+                        QUERY_EXECUTION_FAILED, QUERY_EXECUTION_FAILED_ERROR_MSG, e.getMessage());
+            }
+        }
+
+        return rowsList;
+    }
+
+    public static void cancelStatement(StatementExecutionAPI statementExecutionApi, String statementId) {
+        statementExecutionApi.cancelExecution(statementId);
+    }
+
+    private static void addRows(
+            List<Map<String, Object>> rowsList, List<ColumnInfo> columns, Collection<Collection<String>> dataArray) {
+        if (dataArray == null) {
+            return;
+        }
+
+        for (Collection<String> values : dataArray) {
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+            Map<String, Object> row = new LinkedHashMap<>(columns.size());
+            Iterator<String> valueIterator = values.iterator();
+            for (ColumnInfo column : columns) {
+                String value = valueIterator.hasNext() ? valueIterator.next() : null;
+                row.put(column.getName(), getTypedValue(value, column.getTypeName()));
+            }
+            rowsList.add(row);
+        }
+    }
+
+    /**
+     * The JSON_ARRAY format returns every value as a string. Convert the scalar types back to what the JDBC driver
+     * returns, everything else is kept as a string.
+     */
+    private static Object getTypedValue(String value, ColumnInfoTypeName typeName) {
+        if (value == null || typeName == null) {
+            return value;
+        }
+
+        try {
+            switch (typeName) {
+                case BYTE:
+                case SHORT:
+                case INT:
+                    return Integer.valueOf(value);
+                case LONG:
+                    return Long.valueOf(value);
+                case FLOAT:
+                case DOUBLE:
+                    return Double.valueOf(value);
+                case DECIMAL:
+                    return new BigDecimal(value);
+                case BOOLEAN:
+                    return Boolean.valueOf(value);
+                default:
+                    return value;
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Unable to convert Databricks value {} of type {}", value, typeName);
+            return value;
+        }
+    }
+}
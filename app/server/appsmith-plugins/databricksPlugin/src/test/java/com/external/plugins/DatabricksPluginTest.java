@@ -1,9 +1,22 @@
 package com.external.plugins;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.databricks.sdk.service.sql.ColumnInfo;
+import com.databricks.sdk.service.sql.ColumnInfoTypeName;
+import com.databricks.sdk.service.sql.ExecuteStatementResponse;
+import com.databricks.sdk.service.sql.GetStatementResponse;
+import com.databricks.sdk.service.sql.ResultData;
+import com.databricks.sdk.service.sql.ResultManifest;
+import com.databricks.sdk.service.sql.ResultSchema;
+import com.databricks.sdk.service.sql.StatementExecutionAPI;
+import com.databricks.sdk.service.sql.StatementState;
+import com.databricks.sdk.service.sql.StatementStatus;
+import com.external.utils.StatementExecutionUtils;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -12,11 +25,20 @@ import reactor.test.StepVerifier;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
 
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_CLOSED_ERROR_MSG;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_INVALID_ERROR_MSG;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_NULL_ERROR_MSG;
 import static com.external.plugins.DatabricksPlugin.VALIDITY_CHECK_TIMEOUT;
+import static com.external.plugins.exceptions.DatabricksErrorMessages.RESULT_TRUNCATED_ERROR_MSG;
+import static com.external.plugins.exceptions.DatabricksPluginError.QUERY_EXECUTION_FAILED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DatabricksPluginTest {
 
@@ -65,4 +87,160 @@ public class DatabricksPluginTest {
                         && throwable.getMessage().equals(CONNECTION_INVALID_ERROR_MSG))
                 .verify();
     }
+
+    private StatementExecutionAPI getStatementExecutionApi(StatementState... states) {
+        StatementExecutionAPI statementExecutionApi = Mockito.mock(StatementExecutionAPI.class);
+        Mockito.when(statementExecutionApi.executeStatement(Mockito.any()))
+                .thenReturn(new ExecuteStatementResponse()
+                        .setStatementId("statement-id")
+                        .setStatus(new StatementStatus().setState(StatementState.PENDING)));
+
+        ResultManifest manifest = new ResultManifest()
+                .setSchema(new ResultSchema()
+                        .setColumns(List.of(
+                                new ColumnInfo().setName("id").setPosition(0L).setTypeName(ColumnInfoTypeName.INT),
+                                new ColumnInfo()
+                                        .setName("name")
+                                        .setPosition(1L)
+                                        .setTypeName(ColumnInfoTypeName.STRING))));
+        List<GetStatementResponse> responses = new ArrayList<>();
+        for (StatementState state : states) {
+            responses.add(new GetStatementResponse()
+                    .setStatementId("statement-id")
+                    .setStatus(new StatementStatus().setState(state))
+                    .setManifest(manifest)
+                    .setResult(new ResultData()
+                            .setDataArray(List.of(List.of("1", "one")))
+                            .setNextChunkIndex(1L)));
+        }
+        Mockito.when(statementExecutionApi.getStatement("statement-id"))
+                .thenReturn(
+                        responses.get(0), responses.subList(1, responses.size()).toArray(new GetStatementResponse[0]));
+        Mockito.when(statementExecutionApi.getStatementResultChunkN("statement-id", 1L))
+                .thenReturn(new ResultData().setDataArray(List.of(List.of("2", "two"))));
+
+        return statementExecutionApi;
+    }
+
+    @Test
+    public void testExecuteAsync_statementSucceeds_readsAllChunks() {
+        StatementExecutionAPI statementExecutionApi =
+                getStatementExecutionApi(StatementState.RUNNING, StatementState.SUCCEEDED);
+
+        StepVerifier.create(databricksPluginExecutor.executeAsync(
+                        statementExecutionApi,
+                        "warehouse-id",
+                        "SELECT * FROM users",
+                        new DatasourceConfiguration(),
+                        Duration.ofSeconds(10)))
+                .assertNext(result -> {
+                    JsonNode rows = (JsonNode) result.getBody();
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(2, rows.size());
+                    assertEquals(1, rows.get(0).get("id").asInt());
+                    assertEquals("one", rows.get(0).get("name").asText());
+                    assertEquals(2, rows.get(1).get("id").asInt());
+                    assertEquals("two", rows.get(1).get("name").asText());
+                })
+                .verifyComplete();
+
+        Mockito.verify(statementExecutionApi, Mockito.times(2)).getStatement("statement-id");
+    }
+
+    @Test
+    public void testExecuteAsync_statementFails_returnsError() {
+        StatementExecutionAPI statementExecutionApi = getStatementExecutionApi(StatementState.FAILED);
+
+        StepVerifier.create(databricksPluginExecutor.executeAsync(
+                        statementExecutionApi,
+                        "warehouse-id",
+                        "SELECT * FROM users",
+                        new DatasourceConfiguration(),
+                        Duration.ofSeconds(10)))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithPluginException
+                        && ((AppsmithPluginException) throwable).getError().equals(QUERY_EXECUTION_FAILED))
+                .verify();
+    }
+
+    @Test
+    public void testExecuteAsync_timeout_cancelsStatement() {
+        StatementExecutionAPI statementExecutionApi = getStatementExecutionApi(StatementState.RUNNING);
+
+        StepVerifier.create(databricksPluginExecutor.executeAsync(
+                        statementExecutionApi,
+                        "warehouse-id",
+                        "SELECT * FROM users",
+                        new DatasourceConfiguration(),
+                        Duration.ofMillis(500)))
+                .expectError(TimeoutException.class)
+                .verify();
+
+        Mockito.verify(statementExecutionApi, Mockito.timeout(1000)).cancelExecution("statement-id");
+    }
+
+    @Test
+    public void testExecuteAsync_statementReturnsNoColumns_returnsSuccess() {
+        StatementExecutionAPI statementExecutionApi = Mockito.mock(StatementExecutionAPI.class);
+        Mockito.when(statementExecutionApi.executeStatement(Mockito.any()))
+                .thenReturn(new ExecuteStatementResponse()
+                        .setStatementId("statement-id")
+                        .setStatus(new StatementStatus().setState(StatementState.SUCCEEDED))
+                        .setManifest(new ResultManifest().setSchema(new ResultSchema())));
+
+        StepVerifier.create(databricksPluginExecutor.executeAsync(
+                        statementExecutionApi,
+                        "warehouse-id",
+                        "UPDATE users SET name = 'one' WHERE id = 1",
+                        new DatasourceConfiguration(),
+                        Duration.ofSeconds(10)))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertTrue(((JsonNode) result.getBody()).get("success").asBoolean());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteAsync_resultIsTruncated_returnsError() {
+        StatementExecutionAPI statementExecutionApi =
+                getStatementExecutionApi(StatementState.RUNNING, StatementState.SUCCEEDED);
+        Mockito.when(statementExecutionApi.getStatement("statement-id"))
+                .thenReturn(new GetStatementResponse()
+                        .setStatementId("statement-id")
+                        .setStatus(new StatementStatus().setState(StatementState.SUCCEEDED))
+                        .setManifest(new ResultManifest()
+                                .setTruncated(true)
+                                .setSchema(new ResultSchema()
+                                        .setColumns(List.of(new ColumnInfo()
+                                                .setName("id")
+                                                .setPosition(0L)
+                                                .setTypeName(ColumnInfoTypeName.INT)))))
+                        .setResult(new ResultData().setDataArray(List.of(List.of("1")))));
+
+        StepVerifier.create(databricksPluginExecutor.executeAsync(
+                        statementExecutionApi,
+                        "warehouse-id",
+                        "SELECT * FROM users",
+                        new DatasourceConfiguration(),
+                        Duration.ofSeconds(10)))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithPluginException
+                        && ((AppsmithPluginException) throwable).getError().equals(QUERY_EXECUTION_FAILED)
+                        && RESULT_TRUNCATED_ERROR_MSG.equals(
+                                ((AppsmithPluginException) throwable).getDownstreamErrorMessage()))
+                .verify();
+    }
+
+    @Test
+    public void testGetWarehouseId() {
+        assertEquals("abc123", StatementExecutionUtils.getWarehouseId("/sql/1.0/warehouses/abc123"));
+        assertNull(StatementExecutionUtils.getWarehouseId("sql/protocolv1/o/123/0123-456789-abcdefgh"));
+        assertEquals(
+                "/sql/1.0/warehouses/abc123",
+                StatementExecutionUtils.getHttpPathFromJdbcUrl(
+                        "jdbc:databricks://dbc-1.cloud.databricks.com:443/default;transportMode=http;ssl=1;httpPath=/sql/1.0/warehouses/abc123;AuthMech=3"));
+        assertEquals(
+                "dbc-1.cloud.databricks.com",
+                StatementExecutionUtils.getHostFromJdbcUrl(
+                        "jdbc:databricks://dbc-1.cloud.databricks.com:443/default;httpPath=/sql/1.0/warehouses/abc123"));
+    }
 }
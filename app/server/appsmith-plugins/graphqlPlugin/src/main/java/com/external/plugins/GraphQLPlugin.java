@@ -21,21 +21,27 @@ import com.appsmith.external.plugins.BaseRestApiPluginExecutor;
 import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.GraphQLErrorMessages;
 import com.external.plugins.exceptions.GraphQLPluginError;
+import com.external.utils.GraphQLFetchAllUtils.FetchAllConfig;
 import com.external.utils.GraphQLHintMessageUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
 import static com.appsmith.external.helpers.PluginUtils.setValueSafelyInPropertyList;
@@ -44,9 +50,23 @@ import static com.external.utils.GraphQLBodyUtils.QUERY_VARIABLES_INDEX;
 import static com.external.utils.GraphQLBodyUtils.convertToGraphQLPOSTBodyFormat;
 import static com.external.utils.GraphQLBodyUtils.getGraphQLQueryParamsForBodyAndVariables;
 import static com.external.utils.GraphQLBodyUtils.validateBodyAndVariablesSyntax;
+import static com.external.utils.GraphQLConstants.FETCH_ALL_SUMMARY_MESSAGE;
+import static com.external.utils.GraphQLConstants.LIMIT_VAL;
+import static com.external.utils.GraphQLConstants.LIMIT_VARIABLE_NAME;
+import static com.external.utils.GraphQLConstants.NEXT_CURSOR_VARIABLE_NAME;
+import static com.external.utils.GraphQLConstants.NEXT_LIMIT_VAL;
+import static com.external.utils.GraphQLConstants.NEXT_LIMIT_VARIABLE_NAME;
+import static com.external.utils.GraphQLConstants.OFFSET_VAL;
+import static com.external.utils.GraphQLConstants.OFFSET_VARIABLE_NAME;
 import static com.external.utils.GraphQLDataTypeUtils.smartlyReplaceGraphQLQueryBodyPlaceholderWithValue;
+import static com.external.utils.GraphQLFetchAllUtils.getActionConfigurationForPage;
+import static com.external.utils.GraphQLFetchAllUtils.getFetchAllConfig;
+import static com.external.utils.GraphQLFetchAllUtils.getNextCursor;
+import static com.external.utils.GraphQLFetchAllUtils.getNodeAtPath;
+import static com.external.utils.GraphQLPaginationUtils.getPaginationData;
 import static com.external.utils.GraphQLPaginationUtils.updateVariablesWithPaginationValues;
 import static java.lang.Boolean.TRUE;
+import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 public class GraphQLPlugin extends BasePlugin {
@@ -144,7 +164,15 @@ public class GraphQLPlugin extends BasePlugin {
                 return Mono.error(e);
             }
 
-            if (actionConfiguration.getPaginationType() != null
+            FetchAllConfig fetchAllConfig;
+            try {
+                fetchAllConfig = getFetchAllConfig(actionConfiguration);
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
+            }
+
+            if (fetchAllConfig == null
+                    && actionConfiguration.getPaginationType() != null
                     && !PaginationType.NONE.equals(actionConfiguration.getPaginationType())) {
                 updateVariablesWithPaginationValues(actionConfiguration, executeActionDTO);
             }
@@ -152,9 +180,194 @@ public class GraphQLPlugin extends BasePlugin {
             // Filter out any empty headers
             headerUtils.removeEmptyHeaders(actionConfiguration);
 
+            if (fetchAllConfig != null) {
+                return this.executeFetchAll(
+                        connection, datasourceConfiguration, actionConfiguration, parameters, fetchAllConfig);
+            }
+
             return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters);
         }
 
+        /**
+         * Fetches all pages of a paginated query in a single action execution and returns the items from every page
+         * as one list.
+         * - Cursor based pagination is inherently sequential since every request needs the cursor returned by the
+         * previous one. The next page is requested as soon as a page arrives until the response has no next cursor.
+         * - Limit based pagination allows requesting pages concurrently, bounded by the configured concurrency. It
+         * stops at the first page that returns fewer items than the limit.
+         * - In both cases the number of pages and items is capped by the configured guards, so that a misconfigured
+         * path can never make the server loop forever.
+         */
+        private Mono<ActionExecutionResult> executeFetchAll(
+                APIConnection connection,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration,
+                List<Map.Entry<String, String>> parameters,
+                FetchAllConfig fetchAllConfig) {
+            final Map<String, String> paginationDataMap;
+            final boolean isCursorBased = PaginationType.CURSOR.equals(actionConfiguration.getPaginationType());
+            final String limitVarName;
+            final int limitValue;
+            try {
+                paginationDataMap = getPaginationData(actionConfiguration);
+                if (isEmpty(paginationDataMap)) {
+                    return Mono.error(new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            GraphQLErrorMessages.MISSING_PAGINATION_DATA_ERROR_MSG));
+                }
+                limitVarName = paginationDataMap.get(isCursorBased ? NEXT_LIMIT_VARIABLE_NAME : LIMIT_VARIABLE_NAME);
+                limitValue = getFetchAllLimit(paginationDataMap.get(isCursorBased ? NEXT_LIMIT_VAL : LIMIT_VAL));
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
+            }
+
+            final Flux<ActionExecutionResult> pages;
+            if (isCursorBased) {
+                // The items are counted as every page arrives, so that the next page isn't requested once the max
+                // items have been reached.
+                final AtomicInteger fetchedItemsCount = new AtomicInteger(0);
+                final String cursorVarName = paginationDataMap.get(NEXT_CURSOR_VARIABLE_NAME);
+                pages = executePage(
+                                connection,
+                                datasourceConfiguration,
+                                actionConfiguration,
+                                parameters,
+                                getPaginationVariables(limitVarName, limitValue, null, null))
+                        .expand(result -> {
+                            String nextCursor = getNextCursor(result.getBody(), fetchAllConfig);
+                            if (!TRUE.equals(result.getIsExecutionSuccess())
+                                    || nextCursor == null
+                                    || fetchedItemsCount.addAndGet(getItemsCount(result, fetchAllConfig))
+                                            >= fetchAllConfig.getMaxItems()) {
+                                return Mono.empty();
+                            }
+
+                            return executePage(
+                                    connection,
+                                    datasourceConfiguration,
+                                    actionConfiguration,
+                                    parameters,
+                                    getPaginationVariables(limitVarName, limitValue, cursorVarName, nextCursor));
+                        })
+                        .take(fetchAllConfig.getMaxPages());
+            } else {
+                final String offsetVarName = paginationDataMap.get(OFFSET_VARIABLE_NAME);
+                final int startOffset;
+                try {
+                    startOffset = Integer.parseInt(paginationDataMap.get(OFFSET_VAL));
+                } catch (NumberFormatException e) {
+                    return Mono.error(new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            "Please provide a valid integer value for the offset variable in the pagination tab. "
+                                    + "Current value: " + paginationDataMap.get(OFFSET_VAL)));
+                }
+
+                // Pages are requested ahead of time when they are fetched concurrently, hence the pages are limited
+                // upfront to the ones which are needed to reach the max items, as every page holds at most limitValue
+                // items and pagination stops at the first page holding fewer.
+                final int maxPages = (int) Math.min(
+                        fetchAllConfig.getMaxPages(),
+                        ((long) fetchAllConfig.getMaxItems() + limitValue - 1) / limitValue);
+                pages = Flux.range(0, maxPages)
+                        .flatMapSequential(
+                                pageIndex -> executePage(
+                                        connection,
+                                        datasourceConfiguration,
+                                        actionConfiguration,
+                                        parameters,
+                                        getPaginationVariables(
+                                                limitVarName,
+                                                limitValue,
+                                                offsetVarName,
+                                                startOffset + pageIndex * limitValue)),
+                                fetchAllConfig.getConcurrency())
+                        .takeUntil(result -> !TRUE.equals(result.getIsExecutionSuccess())
+                                || getItemsCount(result, fetchAllConfig) < limitValue);
+            }
+
+            return pages.takeUntil(result -> !TRUE.equals(result.getIsExecutionSuccess()))
+                    .collectList()
+                    .map(results -> mergeFetchAllResults(results, fetchAllConfig));
+        }
+
+        private Mono<ActionExecutionResult> executePage(
+                APIConnection connection,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration,
+                List<Map.Entry<String, String>> parameters,
+                Map<String, Object> paginationVariables) {
+            return Mono.defer(() -> this.executeCommon(
+                    connection,
+                    datasourceConfiguration,
+                    getActionConfigurationForPage(actionConfiguration, paginationVariables),
+                    parameters));
+        }
+
+        private int getFetchAllLimit(String limitValueString) {
+            try {
+                int limitValue = Integer.parseInt(limitValueString);
+                if (limitValue > 0) {
+                    return limitValue;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through to the error below
+            }
+
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    String.format(GraphQLErrorMessages.INVALID_FETCH_ALL_LIMIT_ERROR_MSG, limitValueString));
+        }
+
+        private Map<String, Object> getPaginationVariables(
+                String limitVarName, int limitValue, String pageVarName, Object pageValue) {
+            Map<String, Object> paginationVariables = new HashMap<>();
+            paginationVariables.put(limitVarName, limitValue);
+            if (pageVarName != null) {
+                paginationVariables.put(pageVarName, pageValue);
+            }
+
+            return paginationVariables;
+        }
+
+        private int getItemsCount(ActionExecutionResult result, FetchAllConfig fetchAllConfig) {
+            JsonNode items = getNodeAtPath(result.getBody(), fetchAllConfig.getItemsPath());
+            return items != null && items.isArray() ? items.size() : 0;
+        }
+
+        /**
+         * Combines the results of all the fetched pages. If any page has failed, then its result is returned as is.
+         * Otherwise, the result of the last page is returned with its body replaced by the items from all pages.
+         */
+        private ActionExecutionResult mergeFetchAllResults(
+                List<ActionExecutionResult> results, FetchAllConfig fetchAllConfig) {
+            ArrayNode items = objectMapper.createArrayNode();
+            for (ActionExecutionResult result : results) {
+                if (!TRUE.equals(result.getIsExecutionSuccess())) {
+                    return result;
+                }
+
+                JsonNode pageItems = getNodeAtPath(result.getBody(), fetchAllConfig.getItemsPath());
+                if (pageItems == null || !pageItems.isArray()) {
+                    continue;
+                }
+
+                for (JsonNode item : pageItems) {
+                    if (items.size() >= fetchAllConfig.getMaxItems()) {
+                        break;
+                    }
+                    items.add(item);
+                }
+            }
+
+            ActionExecutionResult mergedResult = results.get(results.size() - 1);
+            mergedResult.setBody(items);
+            Set<String> messages =
+                    mergedResult.getMessages() == null ? new HashSet<>() : new HashSet<>(mergedResult.getMessages());
+            messages.add(String.format(FETCH_ALL_SUMMARY_MESSAGE, items.size(), results.size()));
+            mergedResult.setMessages(messages);
+            return mergedResult;
+        }
+
         public Mono<ActionExecutionResult> executeCommon(
                 APIConnection apiConnection,
                 DatasourceConfiguration datasourceConfiguration,
@@ -11,6 +11,12 @@ public class GraphQLErrorMessages extends BasePluginErrorMessages {
     public static final String NO_HTTP_METHOD_ERROR_MSG = "HTTPMethod must be set.";
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG =
             "An error occurred during the execution of your GraphQL query. Please check the error logs for more details.";
+    public static final String INVALID_FETCH_ALL_LIMIT_ERROR_MSG =
+            "Please provide a positive integer value for the limit variable in the pagination tab to fetch all pages. "
+                    + "Current value: %s";
+    public static final String MISSING_PAGINATION_DATA_ERROR_MSG =
+            "Appsmith server could not find any GraphQL pagination data even though pagination is toggled on. Please "
+                    + "provide pagination data by editing relevant fields in the pagination tab.";
     public static final String UNEXPECTED_HTTP_METHOD_ERROR_MSG =
             "Appsmith server has found an unexpected HTTP method configured with the GraphQL " + "plugin query: %s";
 }
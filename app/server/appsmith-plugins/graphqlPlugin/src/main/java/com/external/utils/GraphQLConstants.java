@@ -13,6 +13,14 @@ public class GraphQLConstants {
     public static final String LIMIT_VAL = "limitValue";
     public static final String OFFSET_VARIABLE_NAME = "offsetVariableName";
     public static final String OFFSET_VAL = "offsetValue";
+    public static final String FETCH_ALL_ENABLED = "enabled";
+    public static final String FETCH_ALL_ITEMS_PATH = "itemsPath";
+    public static final String FETCH_ALL_NEXT_CURSOR_PATH = "nextCursorPath";
+    public static final String FETCH_ALL_HAS_NEXT_PAGE_PATH = "hasNextPagePath";
+    public static final String FETCH_ALL_MAX_PAGES = "maxPages";
+    public static final String FETCH_ALL_MAX_ITEMS = "maxItems";
+    public static final String FETCH_ALL_CONCURRENCY = "concurrency";
+    public static final String FETCH_ALL_SUMMARY_MESSAGE = "Fetched %d items across %d pages.";
     protected static String HINT_MESSAGE_FOR_DUPLICATE_VARIABLE_DEFINITION = "Your GraphQL query may not run as "
             + "expected because it has duplicate definition for variable(s): {0}. Please remove one of the definitions "
             + "- either in the query variables section or the pagination tab to resolve this issue.";
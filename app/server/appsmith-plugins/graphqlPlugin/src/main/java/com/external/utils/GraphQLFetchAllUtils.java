@@ -0,0 +1,218 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.PaginationType;
+import com.appsmith.external.models.Property;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.Setter;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.beans.BeanUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromFormData;
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
+import static com.appsmith.external.helpers.PluginUtils.parseStringIntoJSONObject;
+import static com.external.utils.GraphQLBodyUtils.PAGINATION_DATA_INDEX;
+import static com.external.utils.GraphQLBodyUtils.QUERY_VARIABLES_INDEX;
+import static com.external.utils.GraphQLConstants.FETCH_ALL_CONCURRENCY;
+import static com.external.utils.GraphQLConstants.FETCH_ALL_ENABLED;
+import static com.external.utils.GraphQLConstants.FETCH_ALL_HAS_NEXT_PAGE_PATH;
+import static com.external.utils.GraphQLConstants.FETCH_ALL_ITEMS_PATH;
+import static com.external.utils.GraphQLConstants.FETCH_ALL_MAX_ITEMS;
+import static com.external.utils.GraphQLConstants.FETCH_ALL_MAX_PAGES;
+import static com.external.utils.GraphQLConstants.FETCH_ALL_NEXT_CURSOR_PATH;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Helpers for the "fetch all" pagination mode, where the server walks through all the pages of a paginated GraphQL
+ * query on its own instead of the client triggering one execution per page.
+ */
+public class GraphQLFetchAllUtils {
+
+    public static final int DEFAULT_MAX_PAGES = 100;
+    public static final int MAX_ALLOWED_PAGES = 1000;
+    public static final int DEFAULT_MAX_ITEMS = 10000;
+    public static final int DEFAULT_CONCURRENCY = 1;
+    public static final int MAX_ALLOWED_CONCURRENCY = 8;
+
+    private static final String NULL_STRING = "null";
+
+    @Getter
+    @Setter
+    public static class FetchAllConfig {
+        private String itemsPath;
+        private String nextCursorPath;
+        private String hasNextPagePath;
+        private int maxPages;
+        private int maxItems;
+        private int concurrency;
+    }
+
+    /**
+     * Returns the fetch all configuration if the mode has been turned on for the pagination type configured on the
+     * action, null otherwise.
+     */
+    public static FetchAllConfig getFetchAllConfig(ActionConfiguration actionConfiguration)
+            throws AppsmithPluginException {
+        if (actionConfiguration.getPaginationType() == null
+                || PaginationType.NONE.equals(actionConfiguration.getPaginationType())
+                || PaginationType.URL.equals(actionConfiguration.getPaginationType())) {
+            return null;
+        }
+
+        Object paginationData = getValueSafelyFromPropertyList(
+                actionConfiguration.getPluginSpecifiedTemplates(), PAGINATION_DATA_INDEX);
+        if (!(paginationData instanceof Map)) {
+            return null;
+        }
+
+        String paginationKey =
+                PaginationType.CURSOR.equals(actionConfiguration.getPaginationType()) ? "cursorBased" : "limitBased";
+        Map<String, Object> fetchAllData = getValueSafelyFromFormData(
+                (Map<String, Object>) paginationData, paginationKey + ".fetchAll", Map.class, null);
+        if (fetchAllData == null || !Boolean.parseBoolean(String.valueOf(fetchAllData.get(FETCH_ALL_ENABLED)))) {
+            return null;
+        }
+
+        FetchAllConfig fetchAllConfig = new FetchAllConfig();
+        fetchAllConfig.setItemsPath(getValueSafelyFromFormData(fetchAllData, FETCH_ALL_ITEMS_PATH, String.class, ""));
+        fetchAllConfig.setNextCursorPath(
+                getValueSafelyFromFormData(fetchAllData, FETCH_ALL_NEXT_CURSOR_PATH, String.class, ""));
+        fetchAllConfig.setHasNextPagePath(
+                getValueSafelyFromFormData(fetchAllData, FETCH_ALL_HAS_NEXT_PAGE_PATH, String.class, ""));
+        fetchAllConfig.setMaxPages(
+                Math.min(getPositiveInteger(fetchAllData, FETCH_ALL_MAX_PAGES, DEFAULT_MAX_PAGES), MAX_ALLOWED_PAGES));
+        fetchAllConfig.setMaxItems(getPositiveInteger(fetchAllData, FETCH_ALL_MAX_ITEMS, DEFAULT_MAX_ITEMS));
+        fetchAllConfig.setConcurrency(Math.min(
+                getPositiveInteger(fetchAllData, FETCH_ALL_CONCURRENCY, DEFAULT_CONCURRENCY), MAX_ALLOWED_CONCURRENCY));
+
+        if (isBlank(fetchAllConfig.getItemsPath())) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Please provide the path to the list of items in the response to fetch all pages.");
+        }
+
+        if (PaginationType.CURSOR.equals(actionConfiguration.getPaginationType())
+                && isBlank(fetchAllConfig.getNextCursorPath())) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Please provide the path to the next page cursor in the response to fetch all pages.");
+        }
+
+        return fetchAllConfig;
+    }
+
+    private static int getPositiveInteger(Map<String, Object> data, String key, int defaultValue) {
+        Object value = data.get(key);
+        if (value == null || isBlank(String.valueOf(value))) {
+            return defaultValue;
+        }
+
+        try {
+            int intValue = Integer.parseInt(String.valueOf(value).trim());
+            return intValue > 0 ? intValue : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Please provide a valid integer value for " + key + " in the pagination tab. Current value: "
+                            + value);
+        }
+    }
+
+    /**
+     * Creates a copy of the action configuration for a single page request, with the given pagination variables
+     * merged into the query variables. Execution rewrites the body and the query variables of the configuration it is
+     * given, hence every page needs its own copy.
+     */
+    public static ActionConfiguration getActionConfigurationForPage(
+            ActionConfiguration actionConfiguration, Map<String, Object> paginationVariables)
+            throws AppsmithPluginException {
+        ActionConfiguration pageActionConfiguration = new ActionConfiguration();
+        BeanUtils.copyProperties(actionConfiguration, pageActionConfiguration);
+
+        List<Property> pageProperties = new ArrayList<>();
+        for (Property property : actionConfiguration.getPluginSpecifiedTemplates()) {
+            Property pageProperty = new Property();
+            if (property != null) {
+                BeanUtils.copyProperties(property, pageProperty);
+            }
+            pageProperties.add(pageProperty);
+        }
+
+        String variables = getValueSafelyFromPropertyList(pageProperties, QUERY_VARIABLES_INDEX, String.class);
+        JSONObject queryVariablesJson;
+        try {
+            queryVariablesJson = isBlank(variables) ? new JSONObject() : parseStringIntoJSONObject(variables);
+        } catch (JSONException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "GraphQL query variables are not in proper JSON format: " + e.getMessage());
+        }
+
+        paginationVariables.forEach((name, value) -> {
+            if (!isBlank(name) && value != null) {
+                queryVariablesJson.put(name, value);
+            }
+        });
+        pageProperties.get(QUERY_VARIABLES_INDEX).setValue(queryVariablesJson.toString());
+        pageActionConfiguration.setPluginSpecifiedTemplates(pageProperties);
+
+        return pageActionConfiguration;
+    }
+
+    /**
+     * Walks a dot separated path like `data.repository.issues.nodes` in the response body. Numeric path segments are
+     * used as array indexes. Returns null if the path does not exist.
+     */
+    public static JsonNode getNodeAtPath(Object body, String path) {
+        if (!(body instanceof JsonNode)) {
+            return null;
+        }
+
+        JsonNode node = (JsonNode) body;
+        if (isBlank(path)) {
+            return node;
+        }
+
+        for (String segment : path.trim().split("\\.")) {
+            if (node == null || node.isNull() || node.isMissingNode()) {
+                return null;
+            }
+
+            if (node.isArray() && segment.matches("\\d+")) {
+                node = node.get(Integer.parseInt(segment));
+            } else {
+                node = node.get(segment);
+            }
+        }
+
+        return node == null || node.isMissingNode() ? null : node;
+    }
+
+    /**
+     * Returns the cursor for the next page, or null if the response indicates that there are no more pages.
+     */
+    public static String getNextCursor(Object body, FetchAllConfig fetchAllConfig) {
+        if (!isBlank(fetchAllConfig.getHasNextPagePath())) {
+            JsonNode hasNextPage = getNodeAtPath(body, fetchAllConfig.getHasNextPagePath());
+            if (hasNextPage == null || !hasNextPage.asBoolean(false)) {
+                return null;
+            }
+        }
+
+        JsonNode nextCursor = getNodeAtPath(body, fetchAllConfig.getNextCursorPath());
+        if (nextCursor == null || nextCursor.isNull()) {
+            return null;
+        }
+
+        String nextCursorValue = nextCursor.asText();
+        return isBlank(nextCursorValue) || NULL_STRING.equals(nextCursorValue) ? null : nextCursorValue;
+    }
+}
@@ -19,6 +19,7 @@ import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.GraphQLPluginError;
 import com.external.utils.GraphQLHintMessageUtils;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -1309,6 +1310,176 @@ public class GraphQLPluginTest {
                         .getValue());
     }
 
+    @Test
+    public void testFetchAllWithCursorBasedPagination() throws InterruptedException {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody("{\"data\":{\"posts\":{\"nodes\":[{\"id\":1},{\"id\":2}],"
+                        + "\"pageInfo\":{\"endCursor\":\"c2\",\"hasNextPage\":true}}}}")
+                .addHeader("Content-Type", "application/json"));
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody("{\"data\":{\"posts\":{\"nodes\":[{\"id\":3},{\"id\":4}],"
+                        + "\"pageInfo\":{\"endCursor\":\"c4\",\"hasNextPage\":true}}}}")
+                .addHeader("Content-Type", "application/json"));
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody("{\"data\":{\"posts\":{\"nodes\":[{\"id\":5}],"
+                        + "\"pageInfo\":{\"endCursor\":\"c5\",\"hasNextPage\":false}}}}")
+                .addHeader("Content-Type", "application/json"));
+
+        ActionConfiguration actionConfig = getDefaultActionConfiguration();
+        actionConfig.setPaginationType(PaginationType.CURSOR);
+        Map<String, Object> paginationDataMap = new HashMap<>();
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.limit.name", "first");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.limit.value", "2");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.cursor.name", "after");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.cursor.value", "null");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.fetchAll.enabled", true);
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.fetchAll.itemsPath", "data.posts.nodes");
+        setValueSafelyInFormData(
+                paginationDataMap, "cursorBased.fetchAll.nextCursorPath", "data.posts.pageInfo.endCursor");
+        setValueSafelyInFormData(
+                paginationDataMap, "cursorBased.fetchAll.hasNextPagePath", "data.posts.pageInfo.hasNextPage");
+        actionConfig.getPluginSpecifiedTemplates().add(new Property("paginationData", paginationDataMap));
+
+        Mono<ActionExecutionResult> resultMono =
+                pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(
+                            "[{\"id\":1},{\"id\":2},{\"id\":3},{\"id\":4},{\"id\":5}]",
+                            result.getBody().toString());
+                })
+                .verifyComplete();
+
+        assertEquals(3, mockEndpoint.getRequestCount());
+        String firstRequestBody =
+                mockEndpoint.takeRequest(30, TimeUnit.SECONDS).getBody().readUtf8();
+        assertTrue(firstRequestBody.contains("\"first\":2"));
+        assertFalse(firstRequestBody.contains("\"after\""));
+        mockEndpoint.takeRequest(30, TimeUnit.SECONDS);
+        String lastRequestBody =
+                mockEndpoint.takeRequest(30, TimeUnit.SECONDS).getBody().readUtf8();
+        assertTrue(lastRequestBody.contains("\"after\":\"c4\""));
+    }
+
+    @Test
+    public void testFetchAllWithLimitBasedPaginationStopsAtMaxPages() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        for (int i = 0; i < 3; i++) {
+            mockEndpoint.enqueue(new MockResponse()
+                    .setBody("{\"data\":{\"posts\":[{\"id\":" + (2 * i + 1) + "},{\"id\":" + (2 * i + 2) + "}]}}")
+                    .addHeader("Content-Type", "application/json"));
+        }
+
+        ActionConfiguration actionConfig = getDefaultActionConfiguration();
+        actionConfig.setPaginationType(PaginationType.PAGE_NO);
+        Map<String, Object> paginationDataMap = new HashMap<>();
+        setValueSafelyInFormData(paginationDataMap, "limitBased.limit.name", "limit");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.limit.value", "2");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.offset.name", "offset");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.offset.value", "0");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.fetchAll.enabled", "true");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.fetchAll.itemsPath", "data.posts");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.fetchAll.maxPages", "2");
+        actionConfig.getPluginSpecifiedTemplates().add(new Property("paginationData", paginationDataMap));
+
+        Mono<ActionExecutionResult> resultMono =
+                pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(4, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+
+        assertEquals(2, mockEndpoint.getRequestCount());
+    }
+
+    @Test
+    public void testFetchAllWithCursorBasedPaginationStopsAtMaxItemsBeforeNextRequest() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        for (int i = 0; i < 3; i++) {
+            mockEndpoint.enqueue(new MockResponse()
+                    .setBody("{\"data\":{\"posts\":{\"nodes\":[{\"id\":" + (2 * i + 1) + "},{\"id\":" + (2 * i + 2)
+                            + "}],\"pageInfo\":{\"endCursor\":\"c" + (2 * i + 2) + "\",\"hasNextPage\":true}}}}")
+                    .addHeader("Content-Type", "application/json"));
+        }
+
+        ActionConfiguration actionConfig = getDefaultActionConfiguration();
+        actionConfig.setPaginationType(PaginationType.CURSOR);
+        Map<String, Object> paginationDataMap = new HashMap<>();
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.limit.name", "first");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.limit.value", "2");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.cursor.name", "after");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.cursor.value", "null");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.fetchAll.enabled", true);
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.fetchAll.itemsPath", "data.posts.nodes");
+        setValueSafelyInFormData(
+                paginationDataMap, "cursorBased.fetchAll.nextCursorPath", "data.posts.pageInfo.endCursor");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.fetchAll.maxItems", "4");
+        actionConfig.getPluginSpecifiedTemplates().add(new Property("paginationData", paginationDataMap));
+
+        Mono<ActionExecutionResult> resultMono =
+                pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(4, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+
+        // The third page isn't requested, as the max items have been reached with the second one
+        assertEquals(2, mockEndpoint.getRequestCount());
+    }
+
+    @Test
+    public void testFetchAllWithLimitBasedPaginationStopsAtMaxItemsBeforeNextRequest() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        for (int i = 0; i < 4; i++) {
+            mockEndpoint.enqueue(new MockResponse()
+                    .setBody("{\"data\":{\"posts\":[{\"id\":" + (2 * i + 1) + "},{\"id\":" + (2 * i + 2) + "}]}}")
+                    .addHeader("Content-Type", "application/json"));
+        }
+
+        ActionConfiguration actionConfig = getDefaultActionConfiguration();
+        actionConfig.setPaginationType(PaginationType.PAGE_NO);
+        Map<String, Object> paginationDataMap = new HashMap<>();
+        setValueSafelyInFormData(paginationDataMap, "limitBased.limit.name", "limit");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.limit.value", "2");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.offset.name", "offset");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.offset.value", "0");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.fetchAll.enabled", "true");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.fetchAll.itemsPath", "data.posts");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.fetchAll.maxItems", "3");
+        setValueSafelyInFormData(paginationDataMap, "limitBased.fetchAll.concurrency", "4");
+        actionConfig.getPluginSpecifiedTemplates().add(new Property("paginationData", paginationDataMap));
+
+        Mono<ActionExecutionResult> resultMono =
+                pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(3, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+
+        // Only the pages needed for the max items are requested, even though more could be fetched concurrently
+        assertEquals(2, mockEndpoint.getRequestCount());
+    }
+
     @Test
     public void verifyUniquenessOfGraphQLPluginErrorCode() {
         assertEquals(
@@ -5,6 +5,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.BearerTokenAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.util.HttpClientPoolConfig;
+import com.appsmith.util.SharedHttpClientRegistry;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
@@ -103,13 +105,15 @@ public class RequestUtils {
     }
 
     private static ConnectionProvider connectionProvider() {
-        return ConnectionProvider.builder("openai")
-                .maxConnections(100)
-                .maxIdleTime(Duration.ofSeconds(60))
-                .maxLifeTime(Duration.ofSeconds(60))
-                .pendingAcquireTimeout(Duration.ofSeconds(30))
-                .evictInBackground(Duration.ofSeconds(120))
-                .build();
+        return SharedHttpClientRegistry.getConnectionProvider(
+                "openai",
+                HttpClientPoolConfig.builder()
+                        .maxConnections(100)
+                        .maxIdleTime(Duration.ofSeconds(60))
+                        .maxLifeTime(Duration.ofSeconds(60))
+                        .pendingAcquireTimeout(Duration.ofSeconds(30))
+                        .evictInBackground(Duration.ofSeconds(120))
+                        .build());
     }
 
     public static Set<String> validateBearerTokenDatasource(DatasourceConfiguration datasourceConfiguration) {
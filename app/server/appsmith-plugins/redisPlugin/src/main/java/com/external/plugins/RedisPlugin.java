@@ -15,6 +15,8 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.external.plugins.exceptions.RedisErrorMessages;
 import com.external.plugins.exceptions.RedisPluginError;
 import com.external.utils.RedisURIUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
@@ -27,7 +29,12 @@ import reactor.core.scheduler.Schedulers;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.util.SafeEncoder;
 
@@ -37,6 +44,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,6 +54,8 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
+import static com.external.utils.RedisPoolConfigUtils.buildPoolConfig;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @Slf4j
@@ -52,6 +63,19 @@ public class RedisPlugin extends BasePlugin {
     private static final int CONNECTION_TIMEOUT = 60;
     private static final String CMD_KEY = "cmd";
     private static final String ARGS_KEY = "args";
+    private static final String COMMAND_KEY = "command";
+    private static final String RESULT_KEY = "result";
+    private static final String ERROR_KEY = "error";
+
+    private static final int EXECUTION_MODE_INDEX = 0;
+    private static final int SCAN_COUNT_INDEX = 1;
+    private static final int DEFAULT_SCAN_COUNT = 100;
+    // Upper limit on the keys returned by a scan, so that a broad pattern on a large keyspace can't exhaust the memory
+    private static final int MAX_SCAN_KEYS = 10000;
+    private static final String EXECUTION_MODE_SINGLE = "SINGLE";
+    private static final String EXECUTION_MODE_PIPELINE = "PIPELINE";
+    private static final String EXECUTION_MODE_TRANSACTION = "TRANSACTION";
+    private static final String EXECUTION_MODE_SCAN = "SCAN";
 
     public RedisPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -88,35 +112,24 @@ public class RedisPlugin extends BasePlugin {
                                     String.format(RedisErrorMessages.BODY_IS_NULL_OR_EMPTY_ERROR_MSG, query)));
                         }
 
-                        Map cmdAndArgs = getCommandAndArgs(query.trim());
-                        if (!cmdAndArgs.containsKey(CMD_KEY)) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    RedisErrorMessages.QUERY_PARSING_FAILED_ERROR_MSG));
-                        }
-
-                        Protocol.Command command;
-                        try {
-                            // Commands are in upper case
-                            command = Protocol.Command.valueOf((String) cmdAndArgs.get(CMD_KEY));
-                        } catch (IllegalArgumentException exc) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    String.format(
-                                            RedisErrorMessages.INVALID_REDIS_COMMAND_ERROR_MSG,
-                                            cmdAndArgs.get(CMD_KEY))));
-                        }
-
-                        Object commandOutput;
-                        if (cmdAndArgs.containsKey(ARGS_KEY)) {
-                            commandOutput = jedis.sendCommand(command, (String[]) cmdAndArgs.get(ARGS_KEY));
-                        } else {
-                            commandOutput = jedis.sendCommand(command);
+                        final String executionMode = getExecutionMode(actionConfiguration);
+                        final Object output;
+                        switch (executionMode) {
+                            case EXECUTION_MODE_PIPELINE -> output =
+                                    executePipeline(jedis, getCommandsFromBody(query), false);
+                            case EXECUTION_MODE_TRANSACTION -> output =
+                                    executePipeline(jedis, getCommandsFromBody(query), true);
+                            case EXECUTION_MODE_SCAN -> output =
+                                    scanKeys(jedis, query.trim(), getScanCount(actionConfiguration));
+                            default -> {
+                                RedisCommand redisCommand = getRedisCommand(query.trim());
+                                output = processCommandOutput(
+                                        jedis.sendCommand(redisCommand.getCommand(), redisCommand.getArgs()));
+                            }
                         }
 
                         ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
-                        actionExecutionResult.setBody(
-                                objectMapper.valueToTree(removeQuotes(processCommandOutput(commandOutput))));
+                        actionExecutionResult.setBody(objectMapper.valueToTree(removeQuotes(output)));
                         actionExecutionResult.setIsExecutionSuccess(true);
 
                         log.debug("In the RedisPlugin, got action execution result");
@@ -159,6 +172,178 @@ public class RedisPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        private String getExecutionMode(ActionConfiguration actionConfiguration) {
+            String executionMode = getValueSafelyFromPropertyList(
+                    actionConfiguration.getPluginSpecifiedTemplates(),
+                    EXECUTION_MODE_INDEX,
+                    String.class,
+                    EXECUTION_MODE_SINGLE);
+            return executionMode.toUpperCase();
+        }
+
+        private int getScanCount(ActionConfiguration actionConfiguration) {
+            Object scanCount =
+                    getValueSafelyFromPropertyList(actionConfiguration.getPluginSpecifiedTemplates(), SCAN_COUNT_INDEX);
+            if (scanCount == null || isBlank(String.valueOf(scanCount))) {
+                return DEFAULT_SCAN_COUNT;
+            }
+
+            try {
+                int count = Integer.parseInt(String.valueOf(scanCount).trim());
+                return count > 0 ? count : DEFAULT_SCAN_COUNT;
+            } catch (NumberFormatException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(RedisErrorMessages.INVALID_SCAN_COUNT_ERROR_MSG, scanCount));
+            }
+        }
+
+        /**
+         * - Each non-blank line of the body is treated as one Redis command.
+         * - All commands are parsed upfront so that a malformed line fails the action before anything is sent to the
+         * server.
+         */
+        private List<RedisCommand> getCommandsFromBody(String query) {
+            List<RedisCommand> redisCommands = query.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .map(this::getRedisCommand)
+                    .collect(Collectors.toList());
+
+            if (redisCommands.isEmpty()) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(RedisErrorMessages.BODY_IS_NULL_OR_EMPTY_ERROR_MSG, query));
+            }
+
+            return redisCommands;
+        }
+
+        private RedisCommand getRedisCommand(String query) {
+            Map cmdAndArgs = getCommandAndArgs(query);
+            if (!cmdAndArgs.containsKey(CMD_KEY)) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        RedisErrorMessages.QUERY_PARSING_FAILED_ERROR_MSG);
+            }
+
+            Protocol.Command command;
+            try {
+                // Commands are in upper case
+                command = Protocol.Command.valueOf((String) cmdAndArgs.get(CMD_KEY));
+            } catch (IllegalArgumentException exc) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(RedisErrorMessages.INVALID_REDIS_COMMAND_ERROR_MSG, cmdAndArgs.get(CMD_KEY)));
+            }
+
+            String[] args = cmdAndArgs.containsKey(ARGS_KEY) ? (String[]) cmdAndArgs.get(ARGS_KEY) : new String[0];
+            return new RedisCommand(query, command, args);
+        }
+
+        /**
+         * - Sends all commands to the server in a single round trip and reads the replies together.
+         * - In transaction mode the commands are wrapped in MULTI/EXEC so that they are applied atomically.
+         * - Replies are returned in the same order as the commands, one entry per command. A command that fails in
+         * pipeline mode does not fail the whole action, its entry carries the error instead.
+         */
+        private List<Map<String, Object>> executePipeline(
+                Jedis jedis, List<RedisCommand> redisCommands, boolean isTransaction) {
+            List<Object> replies;
+            if (isTransaction) {
+                Transaction transaction = jedis.multi();
+                redisCommands.forEach(
+                        redisCommand -> transaction.sendCommand(redisCommand.getCommand(), redisCommand.getArgs()));
+                replies = transaction.exec();
+                if (replies == null) {
+                    throw new AppsmithPluginException(
+                            RedisPluginError.QUERY_EXECUTION_FAILED,
+                            RedisErrorMessages.TRANSACTION_ABORTED_ERROR_MSG,
+                            RedisErrorMessages.TRANSACTION_ABORTED_ERROR_MSG);
+                }
+            } else {
+                Pipeline pipeline = jedis.pipelined();
+                redisCommands.forEach(
+                        redisCommand -> pipeline.sendCommand(redisCommand.getCommand(), redisCommand.getArgs()));
+                replies = pipeline.syncAndReturnAll();
+            }
+
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (int i = 0; i < redisCommands.size(); i++) {
+                Object reply = i < replies.size() ? replies.get(i) : null;
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put(COMMAND_KEY, redisCommands.get(i).getQuery());
+                if (reply instanceof JedisDataException) {
+                    result.put(ERROR_KEY, ((JedisDataException) reply).getMessage());
+                } else {
+                    result.put(RESULT_KEY, processCommandOutput(reply));
+                }
+                results.add(result);
+            }
+
+            return results;
+        }
+
+        /**
+         * - Lists keys matching the pattern in the body by walking the keyspace with SCAN instead of KEYS, so that the
+         * Redis server is not blocked while a large keyspace is being listed.
+         * - The body may either be the bare pattern or a KEYS command, e.g. `user:*` or `KEYS user:*`. Any other command
+         * is rejected rather than being used as the pattern.
+         * - SCAN may return the same key more than once across iterations, hence the keys are de-duplicated while
+         * preserving the order in which they were first seen.
+         * - The scan stops once {@link #MAX_SCAN_KEYS} keys have been found.
+         */
+        private List<Map<String, String>> scanKeys(Jedis jedis, String query, int scanCount) {
+            String pattern = getScanPattern(query);
+
+            ScanParams scanParams = new ScanParams().match(pattern).count(scanCount);
+            Set<String> keys = new LinkedHashSet<>();
+            String cursor = ScanParams.SCAN_POINTER_START;
+            do {
+                ScanResult<String> scanResult = jedis.scan(cursor, scanParams);
+                for (String key : scanResult.getResult()) {
+                    if (keys.size() >= MAX_SCAN_KEYS) {
+                        break;
+                    }
+                    keys.add(key);
+                }
+                cursor = scanResult.getCursor();
+            } while (!ScanParams.SCAN_POINTER_START.equals(cursor) && keys.size() < MAX_SCAN_KEYS);
+
+            return keys.stream().map(key -> Map.of(RESULT_KEY, key)).collect(Collectors.toList());
+        }
+
+        private String getScanPattern(String query) {
+            Map cmdAndArgs = getCommandAndArgs(query);
+            String cmd = (String) cmdAndArgs.get(CMD_KEY);
+            String[] args = (String[]) cmdAndArgs.get(ARGS_KEY);
+            if (Protocol.Command.KEYS.name().equals(cmd)) {
+                if (args == null || args.length != 1) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            RedisErrorMessages.QUERY_PARSING_FAILED_ERROR_MSG);
+                }
+                return args[0];
+            }
+
+            if (args != null || isRedisCommand(cmd)) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(RedisErrorMessages.INVALID_SCAN_PATTERN_ERROR_MSG, query));
+            }
+
+            return query;
+        }
+
+        private boolean isRedisCommand(String cmd) {
+            try {
+                Protocol.Command.valueOf(cmd);
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+
         /**
          * - This method removes the outermost quotes - single or double quotes - so that end users don't have to do
          * it via javascript on the UI editor.
@@ -173,10 +358,10 @@ public class RedisPlugin extends BasePlugin {
             } else if (result instanceof Collection) {
                 return ((Collection) result).stream().map(this::removeQuotes).collect(Collectors.toList());
             } else if (result instanceof Map) {
-                return ((Map<String, Object>) result)
-                        .entrySet().stream()
-                                .map(item -> Map.entry(item.getKey(), removeQuotes(item.getValue())))
-                                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                // Collected into a LinkedHashMap, as the order of the entries is kept and null values are allowed
+                Map<String, Object> unquoted = new LinkedHashMap<>();
+                ((Map<String, Object>) result).forEach((key, value) -> unquoted.put(key, removeQuotes(value)));
+                return unquoted;
             }
 
             return result;
@@ -217,43 +402,25 @@ public class RedisPlugin extends BasePlugin {
         // This will be updated as we encounter different outputs.
         private List<Map<String, String>> processCommandOutput(Object commandOutput) {
             if (commandOutput == null) {
-                return List.of(Map.of("result", "null"));
+                return List.of(Map.of(RESULT_KEY, "null"));
             } else if (commandOutput instanceof byte[]) {
-                return List.of(Map.of("result", SafeEncoder.encode((byte[]) commandOutput)));
+                return List.of(Map.of(RESULT_KEY, SafeEncoder.encode((byte[]) commandOutput)));
             } else if (commandOutput instanceof List) {
-                List<byte[]> commandList = (List<byte[]>) commandOutput;
+                List<Object> commandList = (List<Object>) commandOutput;
                 return commandList.stream()
-                        .map(obj -> Map.of("result", SafeEncoder.encode(obj)))
+                        .map(obj -> Map.of(
+                                RESULT_KEY,
+                                obj instanceof byte[] ? SafeEncoder.encode((byte[]) obj) : String.valueOf(obj)))
                         .collect(Collectors.toList());
             } else {
-                return List.of(Map.of("result", String.valueOf(commandOutput)));
+                return List.of(Map.of(RESULT_KEY, String.valueOf(commandOutput)));
             }
         }
 
-        /**
-         * - Config taken from https://www.baeldung.com/jedis-java-redis-client-library
-         * - To understand what these config mean:
-         * https://www.infoworld.com/article/2071834/pool-resources-using-apache-s-commons-pool-framework.html
-         */
-        private JedisPoolConfig buildPoolConfig() {
-            final JedisPoolConfig poolConfig = new JedisPoolConfig();
-            poolConfig.setMaxTotal(5);
-            poolConfig.setMaxIdle(5);
-            poolConfig.setMinIdle(0);
-            poolConfig.setTestOnBorrow(true);
-            poolConfig.setTestOnReturn(true);
-            poolConfig.setTestWhileIdle(true);
-            poolConfig.setMinEvictableIdleTimeMillis(Duration.ofSeconds(60).toMillis());
-            poolConfig.setTimeBetweenEvictionRunsMillis(Duration.ofSeconds(30).toMillis());
-            poolConfig.setNumTestsPerEvictionRun(3);
-            poolConfig.setBlockWhenExhausted(true);
-            return poolConfig;
-        }
-
         @Override
         public Mono<JedisPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             return Mono.fromCallable(() -> {
-                        final JedisPoolConfig poolConfig = buildPoolConfig();
+                        final JedisPoolConfig poolConfig = buildPoolConfig(datasourceConfiguration);
                         int timeout =
                                 (int) Duration.ofSeconds(CONNECTION_TIMEOUT).toMillis();
                         URI uri = RedisURIUtils.getURI(datasourceConfiguration);
@@ -371,5 +538,13 @@ public class RedisPlugin extends BasePlugin {
                     .onErrorResume(error ->
                             Mono.just(new DatasourceTestResult(error.getCause().getMessage())));
         }
+
+        @Getter
+        @AllArgsConstructor
+        private static class RedisCommand {
+            private final String query;
+            private final Protocol.Command command;
+            private final String[] args;
+        }
     }
 }
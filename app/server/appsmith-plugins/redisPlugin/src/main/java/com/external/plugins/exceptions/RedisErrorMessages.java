@@ -15,6 +15,14 @@ public class RedisErrorMessages extends BasePluginErrorMessages {
 
     public static final String NO_PONG_RESPONSE_ERROR_MSG = "Expected PONG in response of PING but got %s";
 
+    public static final String INVALID_SCAN_COUNT_ERROR_MSG = "Scan batch size should be a positive number, found: %s";
+
+    public static final String INVALID_SCAN_PATTERN_ERROR_MSG =
+            "Scan expects a key pattern or a KEYS command, e.g. `user:*` or `KEYS user:*`, found: %s";
+
+    public static final String TRANSACTION_ABORTED_ERROR_MSG =
+            "Redis transaction was aborted by the server and none of the commands were applied.";
+
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG =
             "Error occurred while executing Redis query. To know more about the error please check the error details.";
 
@@ -0,0 +1,80 @@
+package com.external.utils;
+
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Property;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+public class RedisPoolConfigUtils {
+    public static final int MAX_TOTAL_INDEX = 0;
+    public static final int MAX_IDLE_INDEX = 1;
+    public static final int MIN_IDLE_INDEX = 2;
+    public static final int MAX_WAIT_MILLIS_INDEX = 3;
+
+    public static final int DEFAULT_MAX_TOTAL = 5;
+    public static final int DEFAULT_MAX_IDLE = 5;
+    public static final int DEFAULT_MIN_IDLE = 0;
+    // A negative value makes the pool block indefinitely, which is the Jedis default.
+    public static final long DEFAULT_MAX_WAIT_MILLIS = -1L;
+
+    /**
+     * - Config taken from https://www.baeldung.com/jedis-java-redis-client-library
+     * - To understand what these config mean:
+     * https://www.infoworld.com/article/2071834/pool-resources-using-apache-s-commons-pool-framework.html
+     * - Pool size and wait time can be overridden per datasource via the advanced section of the datasource form.
+     * Missing or invalid values fall back to the defaults above.
+     */
+    public static JedisPoolConfig buildPoolConfig(DatasourceConfiguration datasourceConfiguration) {
+        List<Property> properties = datasourceConfiguration.getProperties();
+        final int maxTotal = getPositiveInt(properties, MAX_TOTAL_INDEX, DEFAULT_MAX_TOTAL);
+        final int maxIdle = Math.min(getPositiveInt(properties, MAX_IDLE_INDEX, DEFAULT_MAX_IDLE), maxTotal);
+        final int minIdle = Math.min(getNonNegativeInt(properties, MIN_IDLE_INDEX, DEFAULT_MIN_IDLE), maxIdle);
+
+        final JedisPoolConfig poolConfig = new JedisPoolConfig();
+        poolConfig.setMaxTotal(maxTotal);
+        poolConfig.setMaxIdle(maxIdle);
+        poolConfig.setMinIdle(minIdle);
+        poolConfig.setMaxWaitMillis(getMaxWaitMillis(properties));
+        poolConfig.setTestOnBorrow(true);
+        poolConfig.setTestOnReturn(true);
+        poolConfig.setTestWhileIdle(true);
+        poolConfig.setMinEvictableIdleTimeMillis(Duration.ofSeconds(60).toMillis());
+        poolConfig.setTimeBetweenEvictionRunsMillis(Duration.ofSeconds(30).toMillis());
+        poolConfig.setNumTestsPerEvictionRun(3);
+        poolConfig.setBlockWhenExhausted(true);
+        return poolConfig;
+    }
+
+    private static long getMaxWaitMillis(List<Property> properties) {
+        Long value = parseLong(properties, MAX_WAIT_MILLIS_INDEX);
+        return value == null || value <= 0 ? DEFAULT_MAX_WAIT_MILLIS : value;
+    }
+
+    private static int getPositiveInt(List<Property> properties, int index, int defaultValue) {
+        Long value = parseLong(properties, index);
+        return value == null || value <= 0 || value > Integer.MAX_VALUE ? defaultValue : value.intValue();
+    }
+
+    private static int getNonNegativeInt(List<Property> properties, int index, int defaultValue) {
+        Long value = parseLong(properties, index);
+        return value == null || value < 0 || value > Integer.MAX_VALUE ? defaultValue : value.intValue();
+    }
+
+    private static Long parseLong(List<Property> properties, int index) {
+        Object value = getValueSafelyFromPropertyList(properties, index);
+        if (value == null || isBlank(String.valueOf(value))) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
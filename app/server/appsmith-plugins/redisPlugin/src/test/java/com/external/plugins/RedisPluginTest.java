@@ -7,9 +7,11 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.external.plugins.exceptions.RedisErrorMessages;
 import com.external.plugins.exceptions.RedisPluginError;
+import com.external.utils.RedisPoolConfigUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
@@ -23,10 +25,12 @@ import org.testcontainers.utility.DockerImageName;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -356,6 +360,160 @@ public class RedisPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void itShouldExecuteCommandsInPipeline() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("executionMode", "PIPELINE")));
+        actionConfiguration.setBody("SET pipelineKey1 value1\n\nSET pipelineKey2 'my value'\nINCR pipelineKey1\n"
+                + "MGET pipelineKey1 pipelineKey2");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(4, node.size());
+                    assertEquals(
+                            "SET pipelineKey1 value1",
+                            node.get(0).get("command").asText());
+                    assertEquals(
+                            "OK", node.get(0).get("result").get(0).get("result").asText());
+                    assertEquals(
+                            "OK", node.get(1).get("result").get(0).get("result").asText());
+
+                    // INCR on a non integer value fails only that command and not the whole pipeline.
+                    assertNotNull(node.get(2).get("error"));
+                    assertEquals(
+                            "value1",
+                            node.get(3).get("result").get(0).get("result").asText());
+                    assertEquals(
+                            "my value",
+                            node.get(3).get("result").get(1).get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldExecuteCommandsInTransaction() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("executionMode", "TRANSACTION")));
+        actionConfiguration.setBody("SET txCounter 10\nINCRBY txCounter 5\nGET txCounter");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(3, node.size());
+                    assertEquals(
+                            "15", node.get(1).get("result").get(0).get("result").asText());
+                    assertEquals(
+                            "15", node.get(2).get("result").get(0).get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldThrowErrorIfAnyPipelinedCommandIsInvalid() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("executionMode", "PIPELINE")));
+        actionConfiguration.setBody("SET invalidPipelineKey value\nLOL");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldScanKeysMatchingPattern() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration setActionConfiguration = new ActionConfiguration();
+        setActionConfiguration.setBody("MSET scan:1 a scan:2 b scan:3 c noscan d");
+        ActionConfiguration scanActionConfiguration = new ActionConfiguration();
+        scanActionConfiguration.setPluginSpecifiedTemplates(
+                List.of(new Property("executionMode", "SCAN"), new Property("scanCount", "1")));
+        scanActionConfiguration.setBody("KEYS scan:*");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(jedisPool -> pluginExecutor
+                .execute(jedisPool, datasourceConfiguration, setActionConfiguration)
+                .then(pluginExecutor.execute(jedisPool, datasourceConfiguration, scanActionConfiguration)));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    Set<String> keys = new HashSet<>();
+                    node.forEach(item -> keys.add(item.get("result").asText()));
+                    assertEquals(Set.of("scan:1", "scan:2", "scan:3"), keys);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldNotScanWithOtherCommandAsPattern() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration scanActionConfiguration = new ActionConfiguration();
+        scanActionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("executionMode", "SCAN")));
+        scanActionConfiguration.setBody("DEL scan:1");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, scanActionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                    assertEquals(
+                            String.format(RedisErrorMessages.INVALID_SCAN_PATTERN_ERROR_MSG, "DEL scan:1"),
+                            result.getBody());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldBuildPoolConfigFromDatasourceProperties() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        JedisPoolConfig defaultPoolConfig = RedisPoolConfigUtils.buildPoolConfig(datasourceConfiguration);
+        assertEquals(RedisPoolConfigUtils.DEFAULT_MAX_TOTAL, defaultPoolConfig.getMaxTotal());
+        assertEquals(RedisPoolConfigUtils.DEFAULT_MAX_IDLE, defaultPoolConfig.getMaxIdle());
+        assertEquals(RedisPoolConfigUtils.DEFAULT_MIN_IDLE, defaultPoolConfig.getMinIdle());
+
+        datasourceConfiguration.setProperties(List.of(
+                new Property("maxTotal", "20"),
+                new Property("maxIdle", "50"),
+                new Property("minIdle", "invalid"),
+                new Property("maxWaitMillis", "2000")));
+        JedisPoolConfig poolConfig = RedisPoolConfigUtils.buildPoolConfig(datasourceConfiguration);
+        assertEquals(20, poolConfig.getMaxTotal());
+        // Idle connections can never exceed the total connections in the pool.
+        assertEquals(20, poolConfig.getMaxIdle());
+        assertEquals(RedisPoolConfigUtils.DEFAULT_MIN_IDLE, poolConfig.getMinIdle());
+        assertEquals(2000L, poolConfig.getMaxWaitMillis());
+    }
+
     @Test
     public void verifyUniquenessOfRedisPluginErrorCode() {
         assert (Arrays.stream(RedisPluginError.values())
@@ -7,6 +7,8 @@ import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.helpers.RequestCaptureFilter;
+import com.appsmith.external.helpers.restApiUtils.helpers.StreamingResponseUtils;
+import com.appsmith.external.helpers.restApiUtils.helpers.StreamingResponseUtils.StreamingConfig;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -185,6 +187,17 @@ public class RestApiPlugin extends BasePlugin {
                 return Mono.just(errorResult);
             }
 
+            // Large responses can be streamed and narrowed down to the part that is needed, if configured.
+            final StreamingConfig streamingConfig;
+            try {
+                streamingConfig =
+                        StreamingResponseUtils.getStreamingConfig(actionConfiguration, sharedConfig.getCodecSize());
+            } catch (AppsmithPluginException e) {
+                errorResult.setErrorInfo(e);
+                errorResult.setRequest(actionExecutionRequest);
+                return Mono.just(errorResult);
+            }
+
             final RequestCaptureFilter requestCaptureFilter = new RequestCaptureFilter(objectMapper);
             Object requestBodyObj =
                     dataUtils.getRequestBodyObject(actionConfiguration, reqContentType, encodeParamsToggle, httpMethod);
@@ -203,7 +216,8 @@ public class RestApiPlugin extends BasePlugin {
                             hintMessages,
                             errorResult,
                             requestCaptureFilter,
-                            datasourceConfiguration)
+                            datasourceConfiguration,
+                            streamingConfig)
                     .onErrorResume(error -> {
                         boolean isBodySentWithApiRequest = requestBodyObj == null ? false : true;
                         errorResult.setRequest(requestCaptureFilter.populateRequestFields(
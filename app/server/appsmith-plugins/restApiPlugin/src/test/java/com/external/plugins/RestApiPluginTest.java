@@ -2730,4 +2730,181 @@ public class RestApiPluginTest {
                 })
                 .verifyComplete();
     }
+
+    private ActionConfiguration getStreamingActionConfiguration(String responsePath) {
+        ActionConfiguration actionConfig = new ActionConfiguration();
+        actionConfig.setHttpMethod(HttpMethod.GET);
+        Map<String, Object> formData = new HashMap<>();
+        PluginUtils.setValueSafelyInFormData(formData, "responseStreaming.enabled", true);
+        PluginUtils.setValueSafelyInFormData(formData, "responseStreaming.path", responsePath);
+        actionConfig.setFormData(formData);
+        return actionConfig;
+    }
+
+    @Test
+    public void testStreamingResponseWithResponsePath() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        String responseBody = "{\"meta\":{\"total\":3},\"data\":{\"items\":[{\"name\":\"a\",\"tags\":[1,2]},"
+                + "{\"name\":\"b\",\"tags\":[]},{\"id\":3}]},\"footer\":\"done\"}";
+        mockEndpoint.enqueue(
+                new MockResponse().setChunkedBody(responseBody, 7).addHeader("Content-Type", "application/json"));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                null, new ExecuteActionDTO(), dsConfig, getStreamingActionConfiguration("$.data.items[*].name"));
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals("[\"a\",\"b\"]", result.getBody().toString());
+                    assertEquals(
+                            "JSON",
+                            result.getHeaders()
+                                    .get("X-APPSMITH-DATATYPE")
+                                    .get(0)
+                                    .asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStreamingResponseWithoutResponsePath_returnsWholeDocument() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        String responseBody = "{\"data\":[1,2,3],\"next\":null}";
+        mockEndpoint.enqueue(
+                new MockResponse().setChunkedBody(responseBody, 4).addHeader("Content-Type", "application/json"));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                null, new ExecuteActionDTO(), dsConfig, getStreamingActionConfiguration(""));
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(responseBody, result.getBody().toString());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStreamingResponseWithUnmatchedResponsePath_returnsHint() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        mockEndpoint.enqueue(
+                new MockResponse().setBody("{\"data\":{\"rows\":[]}}").addHeader("Content-Type", "application/json"));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                null, new ExecuteActionDTO(), dsConfig, getStreamingActionConfiguration("data.items[0]"));
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNull(result.getBody());
+                    assertTrue(result.getMessages().stream()
+                            .anyMatch(message -> message.contains("response path did not match")));
+                    assertEquals(
+                            "JSON",
+                            result.getHeaders()
+                                    .get("X-APPSMITH-DATATYPE")
+                                    .get(0)
+                                    .asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStreamingResponseWithInvalidJson_returnsBodyAsString() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        String responseBody = "<html><body>Bad gateway</body></html>";
+        mockEndpoint.enqueue(
+                new MockResponse().setChunkedBody(responseBody, 5).addHeader("Content-Type", "application/json"));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                null, new ExecuteActionDTO(), dsConfig, getStreamingActionConfiguration("$.data.items[*]"));
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(responseBody, result.getBody());
+                    assertTrue(result.getMessages().stream().anyMatch(message -> message.contains("not a valid JSON")));
+                    assertEquals(
+                            "UNDEFINED",
+                            result.getHeaders()
+                                    .get("X-APPSMITH-DATATYPE")
+                                    .get(0)
+                                    .asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStreamingResponseTurningInvalidLaterOn_returnsError() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        String responseBody = "{\"data\":{\"items\":[1,2,}}";
+        mockEndpoint.enqueue(
+                new MockResponse().setChunkedBody(responseBody, 5).addHeader("Content-Type", "application/json"));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                null, new ExecuteActionDTO(), dsConfig, getStreamingActionConfiguration("$.data.items[*]"));
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertTrue(result.getPluginErrorDetails()
+                            .getAppsmithErrorMessage()
+                            .contains("not a valid JSON"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStreamingResponseExceedingMaxSize_returnsError() {
+        RestApiPlugin.RestApiPluginExecutor smallCodecPluginExecutor =
+                new RestApiPlugin.RestApiPluginExecutor(new MockSharedConfig() {
+                    @Override
+                    public int getCodecSize() {
+                        return 1024;
+                    }
+                });
+
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        StringBuilder responseBody = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < 1000; i++) {
+            responseBody.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append("}");
+        }
+        responseBody.append("]}");
+        mockEndpoint.enqueue(new MockResponse()
+                .setChunkedBody(responseBody.toString(), 256)
+                .addHeader("Content-Type", "application/json"));
+
+        Mono<ActionExecutionResult> resultMono = smallCodecPluginExecutor.executeParameterized(
+                null, new ExecuteActionDTO(), dsConfig, getStreamingActionConfiguration("$.data[*].id"));
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertTrue(result.getPluginErrorDetails()
+                            .getAppsmithErrorMessage()
+                            .contains("Response size exceeded"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStreamingResponseWithInvalidResponsePath_returnsError() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                null, new ExecuteActionDTO(), dsConfig, getStreamingActionConfiguration("$..items"));
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
 }
@@ -13,6 +13,7 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.external.services.SharedConfig;
 import com.appsmith.util.SerializationUtils;
+import com.appsmith.util.SharedHttpClientRegistry;
 import com.appsmith.util.WebClientUtils;
 import com.external.helpers.RequestCaptureFilter;
 import com.external.plugins.exceptions.SaaSErrorMessages;
@@ -57,6 +58,8 @@ public class SaasPlugin extends BasePlugin {
     @Extension
     public static class SaasPluginExecutor implements PluginExecutor<ExecutePluginDTO>, SmartSubstitutionInterface {
 
+        private static final String SAAS_CONNECTION_PROVIDER_NAME = "saas-provider";
+
         private final SharedConfig sharedConfig;
         // Setting max content length. This would've been coming from `spring.codec.max-in-memory-size` property if the
         // `WebClient` instance was loaded as an auto-wired bean.
@@ -122,7 +125,8 @@ public class SaasPlugin extends BasePlugin {
                     RequestCaptureFilter.populateRequestFields(actionConfiguration, uri, List.of(), objectMapper);
 
             // Initializing webClient to be used for http call
-            WebClient.Builder webClientBuilder = WebClientUtils.builder();
+            WebClient.Builder webClientBuilder = WebClientUtils.builder(SharedHttpClientRegistry.getConnectionProvider(
+                    SAAS_CONNECTION_PROVIDER_NAME, sharedConfig.getHttpClientPoolConfig()));
             webClientBuilder.defaultHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE);
             final RequestCaptureFilter requestCaptureFilter = new RequestCaptureFilter(objectMapper);
             webClientBuilder.filter(requestCaptureFilter);
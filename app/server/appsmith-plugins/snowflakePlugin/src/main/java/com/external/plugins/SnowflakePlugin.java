@@ -15,6 +15,7 @@ import com.appsmith.external.models.KeyPairAuth;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
+import com.external.utils.ExecutionUtils;
 import com.external.utils.SnowflakeKeyUtils;
 import com.external.utils.SqlUtils;
 import com.zaxxer.hikari.HikariConfig;
@@ -22,6 +23,7 @@ import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool;
 import lombok.extern.slf4j.Slf4j;
+import net.snowflake.client.core.QueryStatus;
 import net.snowflake.client.jdbc.SnowflakeBasicDataSource;
 import org.bouncycastle.pkcs.PKCSException;
 import org.pf4j.Extension;
@@ -33,12 +35,18 @@ import reactor.core.scheduler.Schedulers;
 
 import java.security.PrivateKey;
 import java.sql.*;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeoutException;
 
 import static com.appsmith.external.constants.Authentication.DB_AUTH;
 import static com.appsmith.external.constants.Authentication.SNOWFLAKE_KEY_PAIR_AUTH;
 import static com.appsmith.external.constants.PluginConstants.PluginName.SNOWFLAKE_PLUGIN_NAME;
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
+import static com.external.utils.ExecutionUtils.getAsyncQueryStatus;
+import static com.external.utils.ExecutionUtils.getRowsFromAsyncQueryResult;
 import static com.external.utils.ExecutionUtils.getRowsFromQueryResult;
+import static com.external.utils.ExecutionUtils.submitAsyncQuery;
 import static com.external.utils.SnowflakeDatasourceUtils.getConnectionFromHikariConnectionPool;
 import static com.external.utils.ValidationUtils.validateWarehouseDatabaseSchema;
 
@@ -56,10 +64,21 @@ public class SnowflakePlugin extends BasePlugin {
 
     private static final int SNOWFLAKE_DB_LOGIN_TIMEOUT_VALUE_SEC = 15;
 
+    private static final int ASYNC_EXECUTION_INDEX = 0;
+
+    private static final Duration ASYNC_POLL_INITIAL_DELAY = Duration.ofMillis(250);
+
+    private static final Duration ASYNC_POLL_MAX_DELAY = Duration.ofSeconds(2);
+
     public SnowflakePlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
+    @FunctionalInterface
+    private interface ConnectionCallback<T> {
+        T apply(Connection connection) throws Exception;
+    }
+
     @Extension
     public static class SnowflakePluginExecutor implements PluginExecutor<HikariDataSource> {
 
@@ -79,6 +98,11 @@ public class SnowflakePlugin extends BasePlugin {
                         SnowflakeErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
+            if (isAsyncExecutionEnabled(actionConfiguration)) {
+                return executeAsync(connection, query, Duration.ofMillis(actionConfiguration.getTimeoutInMillisecond()))
+                        .map(rowsList -> getActionExecutionResult(query, rowsList));
+            }
+
             return Mono.fromCallable(() -> {
                         Connection connectionFromPool;
 
@@ -140,14 +164,93 @@ public class SnowflakePlugin extends BasePlugin {
                             }
                         }
                     })
-                    .map(rowsList -> {
-                        ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
-                        result.setIsExecutionSuccess(true);
-                        ActionExecutionRequest request = new ActionExecutionRequest();
-                        request.setQuery(query);
-                        result.setRequest(request);
-                        return result;
+                    .map(rowsList -> getActionExecutionResult(query, rowsList))
+                    .subscribeOn(scheduler);
+        }
+
+        private ActionExecutionResult getActionExecutionResult(String query, List<Map<String, Object>> rowsList) {
+            ActionExecutionResult result = new ActionExecutionResult();
+            result.setBody(objectMapper.valueToTree(rowsList));
+            result.setIsExecutionSuccess(true);
+            ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setQuery(query);
+            result.setRequest(request);
+            return result;
+        }
+
+        private boolean isAsyncExecutionEnabled(ActionConfiguration actionConfiguration) {
+            Object asyncExecution = getValueSafelyFromPropertyList(
+                    actionConfiguration.getPluginSpecifiedTemplates(), ASYNC_EXECUTION_INDEX);
+            return Boolean.parseBoolean(String.valueOf(asyncExecution));
+        }
+
+        /**
+         * Long running warehouse queries would otherwise hold a bounded elastic thread and a pooled connection for
+         * their entire duration. Here the query is only submitted on a pooled connection, after which both the thread
+         * and the connection are released. The query status is then polled with a growing delay, borrowing a
+         * connection for each short status check only, and the result is fetched once the query has finished. If
+         * the action times out or its execution is cancelled, the query is cancelled in Snowflake as well.
+         */
+        private Mono<List<Map<String, Object>>> executeAsync(
+                HikariDataSource connection, String query, Duration timeout) {
+            return withConnectionFromPool(connection, connectionFromPool -> submitAsyncQuery(connectionFromPool, query))
+                    .flatMap(queryId -> {
+                        log.debug("Submitted snowflake query {} for asynchronous execution", queryId);
+                        return awaitAsyncQuery(connection, queryId)
+                                .then(withConnectionFromPool(
+                                        connection,
+                                        connectionFromPool -> getRowsFromAsyncQueryResult(connectionFromPool, queryId)))
+                                .timeout(timeout)
+                                .doOnError(TimeoutException.class, e -> cancelAsyncQuery(connection, queryId))
+                                .doOnCancel(() -> cancelAsyncQuery(connection, queryId));
+                    });
+        }
+
+        private Mono<QueryStatus> awaitAsyncQuery(HikariDataSource connection, String queryId) {
+            return withConnectionFromPool(
+                            connection, connectionFromPool -> getAsyncQueryStatus(connectionFromPool, queryId))
+                    .filter(status -> !QueryStatus.isStillRunning(status))
+                    .repeatWhenEmpty(attempts -> attempts.concatMap(attempt -> Mono.delay(getPollDelay(attempt))));
+        }
+
+        private Duration getPollDelay(long attempt) {
+            long delayMillis = ASYNC_POLL_INITIAL_DELAY.toMillis() << Math.min(attempt, 10);
+            return Duration.ofMillis(Math.min(delayMillis, ASYNC_POLL_MAX_DELAY.toMillis()));
+        }
+
+        private void cancelAsyncQuery(HikariDataSource connection, String queryId) {
+            withConnectionFromPool(connection, connectionFromPool -> {
+                        ExecutionUtils.cancelAsyncQuery(connectionFromPool, queryId);
+                        return queryId;
+                    })
+                    .subscribe(
+                            cancelledQueryId -> log.debug("Cancelled snowflake query {}", cancelledQueryId),
+                            error -> log.debug("Unable to cancel snowflake query {}", queryId, error));
+        }
+
+        /**
+         * Borrow a connection from the pool for a single short operation and return it to the pool right after.
+         */
+        private <T> Mono<T> withConnectionFromPool(HikariDataSource connection, ConnectionCallback<T> callback) {
+            return Mono.fromCallable(() -> {
+                        Connection connectionFromPool;
+                        try {
+                            connectionFromPool =
+                                    getConnectionFromHikariConnectionPool(connection, SNOWFLAKE_PLUGIN_NAME);
+                        } catch (SQLException e) {
+                            throw new StaleConnectionException(e.getMessage());
+                        }
+
+                        try {
+                            return callback.apply(connectionFromPool);
+                        } finally {
+                            try {
+                                // Return the connection back to the pool
+                                connectionFromPool.close();
+                            } catch (SQLException e) {
+                                log.debug("Execute Error returning Snowflake connection to pool", e);
+                            }
+                        }
                     })
                     .subscribeOn(scheduler);
         }
@@ -5,9 +5,14 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import lombok.extern.slf4j.Slf4j;
+import net.snowflake.client.core.QueryStatus;
+import net.snowflake.client.jdbc.SnowflakeConnection;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
+import net.snowflake.client.jdbc.SnowflakeResultSet;
+import net.snowflake.client.jdbc.SnowflakeStatement;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -18,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 
 import static com.external.plugins.exceptions.SnowflakeErrorMessages.CONNECTION_INVALID_ERROR_MSG;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @Slf4j
 public class ExecutionUtils {
@@ -32,7 +38,7 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query)
             throws AppsmithPluginException, StaleConnectionException {
-        List<Map<String, Object>> rowsList = new ArrayList<>();
+        List<Map<String, Object>> rowsList;
         ResultSet resultSet = null;
         Statement statement = null;
         try {
@@ -45,30 +51,9 @@ public class ExecutionUtils {
 
             statement = connection.createStatement();
             resultSet = statement.executeQuery(query);
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-
-            while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value = resultSet.getObject(i);
-                    row.put(metaData.getColumnName(i), value);
-                }
-                rowsList.add(row);
-            }
+            rowsList = getRowsFromResultSet(resultSet);
         } catch (SQLException e) {
-            if (e instanceof SnowflakeReauthenticationRequest) {
-                throw new StaleConnectionException(e.getMessage());
-            }
-            log.error("Exception caught when executing Snowflake query. Cause: ", e);
-            throw new AppsmithPluginException(
-                    SnowflakePluginError.QUERY_EXECUTION_FAILED,
-                    SnowflakeErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                    e.getMessage(),
-                    "SQLSTATE: " + e.getSQLState());
-
+            throw getQueryExecutionException(e);
         } finally {
             if (resultSet != null) {
                 try {
@@ -88,4 +73,111 @@ public class ExecutionUtils {
 
         return rowsList;
     }
+
+    /**
+     * Submit the query for asynchronous execution and return its query ID without waiting for the query to finish.
+     * The statement can be closed right away, Snowflake keeps running the query and its status and results can be
+     * looked up from any connection of the same user using the query ID.
+     *
+     * @param connection - Connection object to submit the query.
+     * @param query      - Query string
+     * @return Snowflake query ID
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static String submitAsyncQuery(Connection connection, String query)
+            throws AppsmithPluginException, StaleConnectionException {
+        try {
+            if (!connection.isValid(30)) {
+                throw new StaleConnectionException(CONNECTION_INVALID_ERROR_MSG);
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                ResultSet resultSet = statement.unwrap(SnowflakeStatement.class).executeAsyncQuery(query);
+                return resultSet.unwrap(SnowflakeResultSet.class).getQueryID();
+            }
+        } catch (SQLException e) {
+            throw getQueryExecutionException(e);
+        }
+    }
+
+    /**
+     * Returns the status of a query submitted with {@link #submitAsyncQuery(Connection, String)}. Queries that have
+     * failed or have been aborted are reported as an execution error.
+     */
+    public static QueryStatus getAsyncQueryStatus(Connection connection, String queryId)
+            throws AppsmithPluginException, StaleConnectionException {
+        QueryStatus status;
+        try (ResultSet resultSet = connection.unwrap(SnowflakeConnection.class).createResultSet(queryId)) {
+            status = resultSet.unwrap(SnowflakeResultSet.class).getStatus();
+        } catch (SQLException e) {
+            throw getQueryExecutionException(e);
+        }
+
+        if (QueryStatus.isAnError(status)) {
+            log.debug("Snowflake query {} ended with status {}", queryId, status);
+            throw new AppsmithPluginException(
+                    SnowflakePluginError.QUERY_EXECUTION_FAILED,
+                    SnowflakeErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                    isBlank(status.getErrorMessage()) ? status.getDescription() : status.getErrorMessage(),
+                    "Error code: " + status.getErrorCode());
+        }
+
+        return status;
+    }
+
+    /**
+     * Fetch the result of a finished asynchronous query as a list of rows. The driver downloads the result in chunks
+     * while the rows are being read.
+     */
+    public static List<Map<String, Object>> getRowsFromAsyncQueryResult(Connection connection, String queryId)
+            throws AppsmithPluginException, StaleConnectionException {
+        try (ResultSet resultSet = connection.unwrap(SnowflakeConnection.class).createResultSet(queryId)) {
+            return getRowsFromResultSet(resultSet);
+        } catch (SQLException e) {
+            throw getQueryExecutionException(e);
+        }
+    }
+
+    /**
+     * Ask Snowflake to cancel a running asynchronous query, e.g. once the action has timed out or its execution has
+     * been cancelled.
+     */
+    public static void cancelAsyncQuery(Connection connection, String queryId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT SYSTEM$CANCEL_QUERY(?)")) {
+            statement.setString(1, queryId);
+            statement.execute();
+        }
+    }
+
+    private static List<Map<String, Object>> getRowsFromResultSet(ResultSet resultSet) throws SQLException {
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int colCount = metaData.getColumnCount();
+
+        while (resultSet.next()) {
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value = resultSet.getObject(i);
+                row.put(metaData.getColumnName(i), value);
+            }
+            rowsList.add(row);
+        }
+
+        return rowsList;
+    }
+
+    private static RuntimeException getQueryExecutionException(SQLException e) {
+        if (e instanceof SnowflakeReauthenticationRequest) {
+            return new StaleConnectionException(e.getMessage());
+        }
+        log.error("Exception caught when executing Snowflake query. Cause: ", e);
+        return new AppsmithPluginException(
+                SnowflakePluginError.QUERY_EXECUTION_FAILED,
+                SnowflakeErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                e.getMessage(),
+                "SQLSTATE: " + e.getSQLState());
+    }
 }
@@ -1,6 +1,7 @@
 package com.external.plugins;
 
 import com.appsmith.external.constants.Authentication;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -21,11 +22,16 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.extern.slf4j.Slf4j;
+import net.snowflake.client.core.QueryStatus;
+import net.snowflake.client.jdbc.SnowflakeConnection;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
+import net.snowflake.client.jdbc.SnowflakeResultSet;
+import net.snowflake.client.jdbc.SnowflakeStatement;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.stubbing.Answer;
 import org.springframework.core.io.ClassPathResource;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -34,10 +40,14 @@ import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.security.PrivateKey;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.*;
 import java.util.Base64;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -46,6 +56,7 @@ import static com.appsmith.external.constants.Authentication.DB_AUTH;
 import static com.appsmith.external.constants.Authentication.SNOWFLAKE_KEY_PAIR_AUTH;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -402,4 +413,127 @@ public class SnowflakePluginTest {
                 auth.getPrivateKey().getDecodedContent(), auth.getPassphrase());
         assertInstanceOf(PrivateKey.class, privateKey);
     }
+
+    private static final String ASYNC_QUERY_ID = "async-query-id";
+
+    private static ActionConfiguration getAsyncActionConfiguration(String query, int timeoutInMillisecond) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+        actionConfiguration.setTimeoutInMillisecond(String.valueOf(timeoutInMillisecond));
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("asyncExecution", true)));
+        return actionConfiguration;
+    }
+
+    /**
+     * Mocks a connection pool on which an asynchronous query is submitted and then reports the given statuses, one for
+     * each poll, the last one being repeated.
+     */
+    private static HikariDataSource getAsyncConnectionPool(Connection mockConnection, QueryStatus... statuses)
+            throws SQLException {
+        HikariDataSource mockConnectionPool = mock(HikariDataSource.class);
+        when(mockConnectionPool.isClosed()).thenReturn(false);
+        when(mockConnectionPool.isRunning()).thenReturn(true);
+        when(mockConnectionPool.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.isValid(anyInt())).thenReturn(true);
+
+        Statement mockStatement = mock(Statement.class);
+        SnowflakeStatement mockSnowflakeStatement = mock(SnowflakeStatement.class);
+        ResultSet mockSubmittedResultSet = mock(ResultSet.class);
+        SnowflakeResultSet mockSubmittedSnowflakeResultSet = mock(SnowflakeResultSet.class);
+        when(mockConnection.createStatement()).thenReturn(mockStatement);
+        when(mockStatement.unwrap(SnowflakeStatement.class)).thenReturn(mockSnowflakeStatement);
+        when(mockSnowflakeStatement.executeAsyncQuery(anyString())).thenReturn(mockSubmittedResultSet);
+        when(mockSubmittedResultSet.unwrap(SnowflakeResultSet.class)).thenReturn(mockSubmittedSnowflakeResultSet);
+        when(mockSubmittedSnowflakeResultSet.getQueryID()).thenReturn(ASYNC_QUERY_ID);
+
+        SnowflakeConnection mockSnowflakeConnection = mock(SnowflakeConnection.class);
+        ResultSet mockAsyncResultSet = mock(ResultSet.class);
+        SnowflakeResultSet mockAsyncSnowflakeResultSet = mock(SnowflakeResultSet.class);
+        when(mockConnection.unwrap(SnowflakeConnection.class)).thenReturn(mockSnowflakeConnection);
+        when(mockSnowflakeConnection.createResultSet(ASYNC_QUERY_ID)).thenReturn(mockAsyncResultSet);
+        when(mockAsyncResultSet.unwrap(SnowflakeResultSet.class)).thenReturn(mockAsyncSnowflakeResultSet);
+        when(mockAsyncSnowflakeResultSet.getStatus())
+                .thenReturn(statuses[0], Arrays.copyOfRange(statuses, 1, statuses.length));
+
+        ResultSetMetaData mockMetaData = mock(ResultSetMetaData.class);
+        when(mockAsyncResultSet.getMetaData()).thenReturn(mockMetaData);
+        when(mockMetaData.getColumnCount()).thenReturn(1);
+        when(mockMetaData.getColumnName(1)).thenReturn("ID");
+        when(mockAsyncResultSet.next()).thenReturn(true, false);
+        when(mockAsyncResultSet.getObject(1)).thenReturn(1);
+
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        return mockConnectionPool;
+    }
+
+    @Test
+    public void testExecuteAsync_queryFinishes_returnsRowsAfterPolling() throws SQLException {
+        Connection mockConnection = mock(Connection.class);
+        HikariDataSource mockConnectionPool =
+                getAsyncConnectionPool(mockConnection, QueryStatus.QUEUED, QueryStatus.RUNNING, QueryStatus.SUCCESS);
+        String query = "SELECT ID FROM USERS";
+
+        StepVerifier.create(pluginExecutor.execute(
+                        mockConnectionPool, new DatasourceConfiguration(), getAsyncActionConfiguration(query, 10000)))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals("[{\"ID\":1}]", result.getBody().toString());
+                    assertEquals(query, result.getRequest().getQuery());
+                })
+                .verifyComplete();
+
+        // The query is submitted once and its connection is not held while it runs
+        verify(mockConnection, times(1)).createStatement();
+        verify(mockConnection, atLeast(4)).close();
+        verify(mockConnection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    public void testExecuteAsync_queryFails_returnsError() throws SQLException {
+        Connection mockConnection = mock(Connection.class);
+        HikariDataSource mockConnectionPool =
+                getAsyncConnectionPool(mockConnection, QueryStatus.RUNNING, QueryStatus.FAILED_WITH_ERROR);
+
+        StepVerifier.create(pluginExecutor.execute(
+                        mockConnectionPool,
+                        new DatasourceConfiguration(),
+                        getAsyncActionConfiguration("SELECT ID FROM USERS", 10000)))
+                .expectErrorMatches(error -> error instanceof AppsmithPluginException
+                        && ((AppsmithPluginException) error).getError() == SnowflakePluginError.QUERY_EXECUTION_FAILED)
+                .verify();
+    }
+
+    @Test
+    public void testExecuteAsync_timeout_cancelsQuery() throws SQLException {
+        Connection mockConnection = mock(Connection.class);
+        HikariDataSource mockConnectionPool = getAsyncConnectionPool(mockConnection, QueryStatus.RUNNING);
+
+        StepVerifier.create(pluginExecutor.execute(
+                        mockConnectionPool,
+                        new DatasourceConfiguration(),
+                        getAsyncActionConfiguration("SELECT ID FROM USERS", 500)))
+                .expectError(TimeoutException.class)
+                .verify();
+
+        verify(mockConnection, timeout(1000)).prepareStatement("SELECT SYSTEM$CANCEL_QUERY(?)");
+    }
+
+    @Test
+    public void testExecuteAsync_executionCancelled_cancelsQuery() throws SQLException {
+        Connection mockConnection = mock(Connection.class);
+        HikariDataSource mockConnectionPool = getAsyncConnectionPool(mockConnection, QueryStatus.RUNNING);
+
+        Disposable execution = pluginExecutor
+                .execute(
+                        mockConnectionPool,
+                        new DatasourceConfiguration(),
+                        getAsyncActionConfiguration("SELECT ID FROM USERS", 10000))
+                .subscribe();
+
+        // Cancel the execution once the query has been submitted and is being polled
+        verify(mockConnection, timeout(1000)).unwrap(SnowflakeConnection.class);
+        execution.dispose();
+
+        verify(mockConnection, timeout(1000)).prepareStatement("SELECT SYSTEM$CANCEL_QUERY(?)");
+    }
 }
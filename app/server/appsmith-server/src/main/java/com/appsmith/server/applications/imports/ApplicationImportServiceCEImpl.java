@@ -213,8 +213,13 @@ public class ApplicationImportServiceCEImpl
                 importedApplicationMono,
                 applicationJson);
 
-        Mono<Void> combinedActionImportablesMono = importedNewActionsMono.then(importedActionCollectionsMono);
-        return List.of(combinedActionImportablesMono);
+        // Actions and collections don't depend on each other while being imported, their ids are mapped to each other
+        // later, when the imported entities are updated. A partial import renames both of them against the same name
+        // references though, so they are imported one after the other in that case.
+        if (Boolean.TRUE.equals(importingMetaDTO.getIsPartialImport())) {
+            return List.of(importedNewActionsMono.then(importedActionCollectionsMono));
+        }
+        return List.of(Mono.when(importedNewActionsMono, importedActionCollectionsMono));
     }
 
     @Override
@@ -20,6 +20,8 @@ import reactor.core.publisher.Mono;
 
 import java.beans.Introspector;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RequiredArgsConstructor
 @Aspect
@@ -31,6 +33,11 @@ public class FeatureFlaggedMethodInvokerAspect {
 
     private final ApplicationContext applicationContext;
 
+    // CE service and method to fall back to when the feature is not supported, resolved once per annotated method
+    private final Map<Method, FallbackMethod> fallbackMethods = new ConcurrentHashMap<>();
+
+    private record FallbackMethod(Object service, Method method) {}
+
     /**
      * Intercepts method calls that are annotated with {@link FeatureFlagged}.
      * This advice method wraps the intercepted method call, allowing conditional execution based on the state
@@ -74,12 +81,12 @@ public class FeatureFlaggedMethodInvokerAspect {
             if (Boolean.TRUE.equals(isFeatureSupported)) {
                 return joinPoint.proceed(joinPoint.getArgs());
             }
-            Class<?> targetSuperClass = joinPoint.getTarget().getClass().getSuperclass();
-            Object service = applicationContext
-                    .getBeansOfType(targetSuperClass)
-                    .get(getSpringDefaultBeanName(targetSuperClass.getSimpleName()));
-            Method superMethod = targetSuperClass.getMethod(method.getName(), method.getParameterTypes());
-            return superMethod.invoke(service, joinPoint.getArgs());
+            FallbackMethod fallbackMethod = fallbackMethods.get(method);
+            if (fallbackMethod == null) {
+                fallbackMethod = getFallbackMethod(joinPoint, method);
+                fallbackMethods.put(method, fallbackMethod);
+            }
+            return fallbackMethod.method().invoke(fallbackMethod.service(), joinPoint.getArgs());
         } catch (Throwable e) {
             if (e instanceof AppsmithException) {
                 throw (AppsmithException) e;
@@ -91,6 +98,16 @@ public class FeatureFlaggedMethodInvokerAspect {
         }
     }
 
+    private FallbackMethod getFallbackMethod(ProceedingJoinPoint joinPoint, Method method)
+            throws NoSuchMethodException {
+        Class<?> targetSuperClass = joinPoint.getTarget().getClass().getSuperclass();
+        Object service = applicationContext
+                .getBeansOfType(targetSuperClass)
+                .get(getSpringDefaultBeanName(targetSuperClass.getSimpleName()));
+        Method superMethod = targetSuperClass.getMethod(method.getName(), method.getParameterTypes());
+        return new FallbackMethod(service, superMethod);
+    }
+
     /**
      * Method to get default bean name from java classes as per <a href="https://docs.spring.io/spring-framework/docs/5.2.3.RELEASE/spring-framework-reference/core.html#beans-beanname">Spring naming convention</a>
      */
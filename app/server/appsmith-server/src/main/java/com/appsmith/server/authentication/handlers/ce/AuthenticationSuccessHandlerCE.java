@@ -322,6 +322,14 @@ public class AuthenticationSuccessHandlerCE implements ServerAuthenticationSucce
 
                     monos.add(userDataService.ensureViewedCurrentVersionReleaseNotes(currentUser));
 
+                    // Index the session against the user, so that it can be revoked along with the other sessions of
+                    // the user, e.g. on a password reset
+                    monos.add(webFilterExchange
+                            .getExchange()
+                            .getSession()
+                            .flatMap(webSession ->
+                                    sessionUserService.addSessionToUserIndex(currentUser, webSession.getId())));
+
                     String modeOfLogin = FieldName.FORM_LOGIN;
                     if (authentication instanceof OAuth2AuthenticationToken) {
                         modeOfLogin = ((OAuth2AuthenticationToken) authentication).getAuthorizedClientRegistrationId();
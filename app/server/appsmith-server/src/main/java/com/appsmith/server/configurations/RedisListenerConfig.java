@@ -2,16 +2,23 @@ package com.appsmith.server.configurations;
 
 import com.appsmith.server.dtos.InstallPluginRedisDTO;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.services.FeatureFlagService;
+import com.appsmith.server.services.SessionUserService;
+import com.appsmith.server.services.ce.FeatureFlagServiceCEImpl;
+import com.appsmith.server.services.ce.SessionUserServiceCEImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveSubscription;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.concurrent.CancellationException;
 
 @Configuration
@@ -21,12 +28,27 @@ public class RedisListenerConfig {
     private final ObjectMapper objectMapper;
     private final PluginService pluginService;
     private final ChannelTopic topic;
+    private final SessionUserService sessionUserService;
+    private final FeatureFlagService featureFlagService;
+
+    // Keyspace events which are published when a key expires or is deleted. These are only published if they have been
+    // enabled with the `notify-keyspace-events` config of Redis, e.g. as `Egx`. Without them, the sessions of a user
+    // which have ended are removed from the index of the sessions of the user on the next login of the user instead.
+    private static final List<PatternTopic> SESSION_END_TOPICS =
+            List.of(PatternTopic.of("__keyevent@*__:expired"), PatternTopic.of("__keyevent@*__:del"));
 
     @Autowired
-    public RedisListenerConfig(ObjectMapper objectMapper, PluginService pluginService, ChannelTopic topic) {
+    public RedisListenerConfig(
+            ObjectMapper objectMapper,
+            PluginService pluginService,
+            ChannelTopic topic,
+            SessionUserService sessionUserService,
+            FeatureFlagService featureFlagService) {
         this.objectMapper = objectMapper;
         this.pluginService = pluginService;
         this.topic = topic;
+        this.sessionUserService = sessionUserService;
+        this.featureFlagService = featureFlagService;
     }
 
     /**
@@ -70,6 +92,38 @@ public class RedisListenerConfig {
                 })
                 // Required to subscribe else this chain is never invoked
                 .subscribe();
+
+        container
+                .receive(SESSION_END_TOPICS.toArray(PatternTopic[]::new))
+                // The message of a keyspace event is the key to which the event has happened
+                .map(ReactiveSubscription.Message::getMessage)
+                .filter(key -> key.startsWith(SessionUserServiceCEImpl.SPRING_SESSION_PREFIX))
+                .flatMap(sessionKey -> sessionUserService
+                        .removeSessionFromUserIndex(sessionKey)
+                        .onErrorResume(error -> {
+                            log.error("Error removing session {} from the user sessions index", sessionKey, error);
+                            return Mono.empty();
+                        }))
+                .doOnError(throwable -> {
+                    if (!(throwable instanceof CancellationException)) {
+                        log.error("Error occurred in RedisListenerConfig: ", throwable);
+                    }
+                })
+                .subscribe();
+
+        container
+                .receive(ChannelTopic.of(FeatureFlagServiceCEImpl.TENANT_FEATURES_UPDATED_CHANNEL))
+                // The features of the tenant have been updated on one of the servers, refresh them in memory
+                .flatMap(message -> featureFlagService.getTenantFeatures().onErrorResume(error -> {
+                    log.error("Error refreshing the features of tenant {}", message.getMessage(), error);
+                    return Mono.empty();
+                }))
+                .doOnError(throwable -> {
+                    if (!(throwable instanceof CancellationException)) {
+                        log.error("Error occurred in RedisListenerConfig: ", throwable);
+                    }
+                })
+                .subscribe();
         return container;
     }
 }
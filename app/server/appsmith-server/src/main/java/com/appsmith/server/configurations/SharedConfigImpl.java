@@ -1,11 +1,14 @@
 package com.appsmith.server.configurations;
 
 import com.appsmith.external.services.SharedConfig;
+import com.appsmith.util.HttpClientPoolConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
@@ -17,6 +20,30 @@ public class SharedConfigImpl implements SharedConfig {
     @Value("${appsmith.plugin.response.size.max:5}")
     private float maxPluginResponseSize = 5;
 
+    @Value("${appsmith.plugin.http.pool.max-connections:500}")
+    private int httpPoolMaxConnections;
+
+    @Value("${appsmith.plugin.http.pool.pending-acquire-max-count:1000}")
+    private int httpPoolPendingAcquireMaxCount;
+
+    @Value("${appsmith.plugin.http.pool.pending-acquire-timeout-seconds:45}")
+    private long httpPoolPendingAcquireTimeoutSeconds;
+
+    @Value("${appsmith.plugin.http.pool.max-idle-time-seconds:600}")
+    private long httpPoolMaxIdleTimeSeconds;
+
+    @Value("${appsmith.plugin.http.pool.max-life-time-seconds:600}")
+    private long httpPoolMaxLifeTimeSeconds;
+
+    @Value("${appsmith.plugin.http.pool.evict-in-background-seconds:120}")
+    private long httpPoolEvictInBackgroundSeconds;
+
+    @Value("${appsmith.plugin.http.http2.enabled:false}")
+    private boolean http2Enabled;
+
+    @Value("${appsmith.plugin.http.pool.metrics.enabled:true}")
+    private boolean httpPoolMetricsEnabled;
+
     private final CloudServicesConfig cloudServicesConfig;
 
     @Override
@@ -33,4 +60,18 @@ public class SharedConfigImpl implements SharedConfig {
     public String getRemoteExecutionUrl() {
         return cloudServicesConfig.getBaseUrl() + "/api/v1/actions/execute";
     }
+
+    @Override
+    public HttpClientPoolConfig getHttpClientPoolConfig() {
+        return HttpClientPoolConfig.builder()
+                .maxConnections(httpPoolMaxConnections)
+                .pendingAcquireMaxCount(httpPoolPendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofSeconds(httpPoolPendingAcquireTimeoutSeconds))
+                .maxIdleTime(Duration.ofSeconds(httpPoolMaxIdleTimeSeconds))
+                .maxLifeTime(Duration.ofSeconds(httpPoolMaxLifeTimeSeconds))
+                .evictInBackground(Duration.ofSeconds(httpPoolEvictInBackgroundSeconds))
+                .http2Enabled(http2Enabled)
+                .metricsEnabled(httpPoolMetricsEnabled)
+                .build();
+    }
 }
@@ -0,0 +1,36 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.services.SessionUserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Adds the sessions which have been created before the sessions of users were indexed to the index of the sessions of
+ * their user. This runs in the background once the server has started, so that it doesn't hold up the startup, and is
+ * a no-op once it has completed on any of the servers.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserSessionIndexBackfill implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final SessionUserService sessionUserService;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent applicationReadyEvent) {
+        sessionUserService
+                .indexExistingUserSessions()
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(
+                        count -> {
+                            if (count > 0) {
+                                log.info("Indexed {} existing sessions against their users", count);
+                            }
+                        },
+                        error -> log.error("Error indexing the existing sessions against their users", error));
+    }
+}
@@ -2,8 +2,10 @@ package com.appsmith.server.controllers.ce;
 
 import com.appsmith.external.views.Views;
 import com.appsmith.server.constants.Url;
+import com.appsmith.server.dtos.MigrationStatusDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.TestEmailConfigRequestDTO;
+import com.appsmith.server.migrations.partitioned.PartitionedMigrationRunner;
 import com.appsmith.server.solutions.EnvManager;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
@@ -19,7 +21,9 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.List;
 import java.util.Map;
 
 @RequestMapping(Url.INSTANCE_ADMIN_URL)
@@ -29,6 +33,8 @@ public class InstanceAdminControllerCE {
 
     private final EnvManager envManager;
 
+    private final PartitionedMigrationRunner partitionedMigrationRunner;
+
     @JsonView(Views.Public.class)
     @GetMapping("/env")
     public Mono<ResponseDTO<Map<String, String>>> getAll() {
@@ -68,6 +74,17 @@ public class InstanceAdminControllerCE {
         return envManager.restart().thenReturn(new ResponseDTO<>(HttpStatus.OK.value(), true, null));
     }
 
+    @JsonView(Views.Public.class)
+    @GetMapping("/migrations")
+    public Mono<ResponseDTO<List<MigrationStatusDTO>>> getMigrationStatuses() {
+        log.debug("Getting the status of partitioned migrations");
+        return envManager
+                .verifyCurrentUserIsSuper()
+                .then(Mono.fromCallable(partitionedMigrationRunner::getMigrationStatuses)
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .map(data -> new ResponseDTO<>(HttpStatus.OK.value(), data, null));
+    }
+
     @JsonView(Views.Public.class)
     @PostMapping("/send-test-email")
     public Mono<ResponseDTO<Boolean>> sendTestEmail(@RequestBody @Valid TestEmailConfigRequestDTO requestDTO) {
@@ -5,6 +5,7 @@ import com.appsmith.external.views.Git;
 import com.appsmith.external.views.Views;
 import com.appsmith.server.constants.ArtifactType;
 import com.appsmith.server.dtos.CustomJSLibContextDTO;
+import com.appsmith.server.searchentities.helpers.SearchEntityHelper;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.constraints.NotNull;
@@ -43,6 +44,11 @@ public class Application extends BaseDomain implements Artifact {
     @NotNull @JsonView(Views.Public.class)
     String name;
 
+    // Tokens of the name with which the application is searched, see SearchEntityHelper.getSearchTokens
+    @ToString.Exclude
+    @JsonView(Views.Internal.class)
+    List<String> searchTokens;
+
     @JsonView(Views.Public.class)
     String workspaceId;
 
@@ -317,6 +323,8 @@ public class Application extends BaseDomain implements Artifact {
     @Override
     public void sanitiseToExportDBObject() {
         this.setWorkspaceId(null);
+        // The export is serialised without the JSON views, and the tokens are computed again from the name on import
+        this.setSearchTokens(null);
         this.setModifiedBy(null);
         this.setCreatedBy(null);
         this.setLastDeployedAt(null);
@@ -494,6 +502,11 @@ public class Application extends BaseDomain implements Artifact {
         }
     }
 
+    public void setName(String name) {
+        this.name = name;
+        this.searchTokens = SearchEntityHelper.getSearchTokens(name);
+    }
+
     public static class Fields extends BaseDomain.Fields {
         public static final String gitApplicationMetadata_gitAuth =
                 dotted(gitApplicationMetadata, GitArtifactMetadata.Fields.gitAuth);
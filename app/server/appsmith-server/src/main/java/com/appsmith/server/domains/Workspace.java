@@ -3,6 +3,7 @@ package com.appsmith.server.domains;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.views.Views;
 import com.appsmith.server.constants.Url;
+import com.appsmith.server.searchentities.helpers.SearchEntityHelper;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
@@ -12,6 +13,7 @@ import lombok.ToString;
 import lombok.experimental.FieldNameConstants;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.util.List;
 import java.util.Set;
 
 @Getter
@@ -29,6 +31,11 @@ public class Workspace extends BaseDomain {
     @JsonView(Views.Public.class)
     private String name;
 
+    // Tokens of the name with which the workspace is searched, see SearchEntityHelper.getSearchTokens
+    @ToString.Exclude
+    @JsonView(Views.Internal.class)
+    private List<String> searchTokens;
+
     @JsonView(Views.Public.class)
     private String website;
 
@@ -69,5 +76,10 @@ public class Workspace extends BaseDomain {
         return Url.ASSET_URL + "/" + logoAssetId;
     }
 
+    public void setName(String name) {
+        this.name = name;
+        this.searchTokens = SearchEntityHelper.getSearchTokens(name);
+    }
+
     public static class Fields extends BaseDomain.Fields {}
 }
@@ -1,10 +1,13 @@
 package com.appsmith.server.dtos;
 
 import lombok.Data;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
 
 @Data
 public class ExportFileDTO {
     HttpHeaders httpHeaders;
-    Object artifactResource;
+    // Serialised artifact json, streamed in chunks
+    Flux<DataBuffer> artifactResource;
 }
@@ -0,0 +1,21 @@
+package com.appsmith.server.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigrationStatusDTO {
+    String id;
+    boolean background;
+    boolean completed;
+    int partitions;
+    int completedPartitions;
+    long processedDocuments;
+    Instant startedAt;
+    Instant completedAt;
+}
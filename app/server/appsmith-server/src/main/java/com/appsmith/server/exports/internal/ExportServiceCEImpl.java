@@ -25,16 +25,24 @@ import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,6 +63,9 @@ public class ExportServiceCEImpl implements ExportServiceCE {
     protected final Gson gson;
     private final JsonSchemaVersions jsonSchemaVersions;
 
+    private static final String EXPORT_FILE_PREFIX = "appsmith-export-";
+    private static final int EXPORT_FILE_BUFFER_SIZE = 64 * 1024;
+
     public ExportServiceCEImpl(
             SessionUserService sessionUserService,
             AnalyticsService analyticsService,
@@ -288,24 +299,66 @@ public class ExportServiceCEImpl implements ExportServiceCE {
     public Mono<ExportFileDTO> getArtifactFile(String artifactId, String branchName, ArtifactType artifactType) {
         return exportByArtifactIdAndBranchName(artifactId, branchName, artifactType)
                 .doOnNext(artifactExchangeJson -> artifactExchangeJson.setModifiedResources(null))
-                .map(artifactExchangeJson -> {
-                    String stringifiedFile = gson.toJson(artifactExchangeJson);
+                .flatMap(artifactExchangeJson -> {
                     String artifactName = artifactExchangeJson.getArtifact().getName();
-                    Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
-                    HttpHeaders responseHeaders = new HttpHeaders();
-                    ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
-                            .filename(artifactName + ".json", StandardCharsets.UTF_8)
-                            .build();
-                    responseHeaders.setContentDisposition(contentDisposition);
-                    responseHeaders.setContentType(MediaType.APPLICATION_JSON);
-
-                    ExportFileDTO exportFileDTO = new ExportFileDTO();
-                    exportFileDTO.setArtifactResource(jsonObject);
-                    exportFileDTO.setHttpHeaders(responseHeaders);
-                    return exportFileDTO;
+                    return writeExportFile(artifactExchangeJson).map(exportFile -> {
+                        HttpHeaders responseHeaders = new HttpHeaders();
+                        ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
+                                .filename(artifactName + ".json", StandardCharsets.UTF_8)
+                                .build();
+                        responseHeaders.setContentDisposition(contentDisposition);
+                        responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+                        responseHeaders.setContentLength(exportFile.toFile().length());
+
+                        ExportFileDTO exportFileDTO = new ExportFileDTO();
+                        exportFileDTO.setArtifactResource(readExportFile(exportFile));
+                        exportFileDTO.setHttpHeaders(responseHeaders);
+                        return exportFileDTO;
+                    });
                 });
     }
 
+    /**
+     * Serialises the exchange json straight to a temporary file. The json document is never held in memory as a whole,
+     * neither as a string nor as a tree of maps, which for large artifacts took a multiple of the memory of the
+     * exported entities themselves.
+     *
+     * @param artifactExchangeJson exchange json to be serialised
+     * @return path of the temporary file
+     */
+    private Mono<Path> writeExportFile(ArtifactExchangeJson artifactExchangeJson) {
+        return Mono.fromCallable(() -> {
+                    Path exportFile = Files.createTempFile(EXPORT_FILE_PREFIX, ".json");
+                    try (JsonWriter jsonWriter =
+                            gson.newJsonWriter(Files.newBufferedWriter(exportFile, StandardCharsets.UTF_8))) {
+                        gson.toJson(artifactExchangeJson, artifactExchangeJson.getClass(), jsonWriter);
+                    } catch (IOException | RuntimeException e) {
+                        deleteExportFile(exportFile);
+                        throw e;
+                    }
+                    return exportFile;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Streams the temporary export file in chunks, and deletes it once it has been read or the download is cancelled.
+     */
+    private Flux<DataBuffer> readExportFile(Path exportFile) {
+        return Flux.using(
+                () -> exportFile,
+                file -> DataBufferUtils.read(file, DefaultDataBufferFactory.sharedInstance, EXPORT_FILE_BUFFER_SIZE),
+                ExportServiceCEImpl::deleteExportFile);
+    }
+
+    private static void deleteExportFile(Path exportFile) {
+        try {
+            Files.deleteIfExists(exportFile);
+        } catch (IOException e) {
+            log.error("Error while deleting the export file {}", exportFile, e);
+        }
+    }
+
     /**
      * To send analytics event for import and export of application
      *
@@ -0,0 +1,42 @@
+package com.appsmith.server.filters;
+
+import com.appsmith.server.helpers.PermissionGroupsRequestCache;
+import com.appsmith.server.helpers.UserFeatureFlagsRequestCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puts the caches which live for the length of a request in the context of every request, so that the permission
+ * groups and the feature flags of the current user are resolved once for the request. The number of resolutions of the
+ * permission groups in a request is recorded once the request is done, which is more than one only if the permission
+ * groups of a user have been evicted during the request.
+ */
+@Component
+public class RequestScopedCacheFilter implements WebFilter {
+
+    private static final DistributionSummary RESOLUTIONS_SUMMARY = DistributionSummary.builder(
+                    "appsmith.request.permission_groups.resolutions")
+            .description("Number of times the permission groups of a user are resolved in a request")
+            .register(Metrics.globalRegistry);
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return Mono.defer(() -> {
+            PermissionGroupsRequestCache cache = new PermissionGroupsRequestCache();
+            return chain.filter(exchange)
+                    .doFinally(signalType -> {
+                        if (cache.getResolutionCount() > 0) {
+                            RESOLUTIONS_SUMMARY.record(cache.getResolutionCount());
+                        }
+                    })
+                    .contextWrite(context -> UserFeatureFlagsRequestCache.putInContext(
+                            PermissionGroupsRequestCache.putInContext(context, cache),
+                            new UserFeatureFlagsRequestCache()));
+        });
+    }
+}
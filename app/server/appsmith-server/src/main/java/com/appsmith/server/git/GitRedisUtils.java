@@ -4,17 +4,38 @@ import com.appsmith.external.git.constants.GitSpan;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.RedisUtils;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static com.appsmith.server.helpers.GitUtils.MAX_RETRIES;
 import static com.appsmith.server.helpers.GitUtils.RETRY_DELAY;
+import static com.appsmith.server.helpers.RedisUtils.FILE_LOCK_ACQUIRED;
 
+/**
+ * Git commands on an application are serialised with a reader/writer lock in Redis. Commands which change the repo
+ * take the lock exclusively, read-only commands can share it. Contending commands are queued in the order in which
+ * they asked for the lock, and are woken up through Redis pub/sub when the lock is released, instead of polling for it.
+ * The time spent waiting for the lock, and the time for which it's held, are recorded per command.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -22,24 +43,36 @@ public class GitRedisUtils {
 
     private final RedisUtils redisUtils;
     private final ObservationRegistry observationRegistry;
+    private final ReactiveRedisMessageListenerContainer redisMessageListenerContainer;
 
-    public Mono<Boolean> addFileLock(String defaultApplicationId, String commandName, Boolean isRetryAllowed) {
-        long numberOfRetries = Boolean.TRUE.equals(isRetryAllowed) ? MAX_RETRIES : 0L;
+    // Time for which a command waits for the lock before failing, the same as with the earlier fixed delay retries
+    private static final Duration MAX_WAIT_TIME = RETRY_DELAY.multipliedBy(MAX_RETRIES);
+
+    // A queued command which hasn't tried again for this long is dropped from the queue, e.g. when its node is gone
+    private static final Duration WAITER_TIME_LIMIT = RETRY_DELAY.multipliedBy(5);
+
+    private static final String LOCK_WAIT_METRIC = "appsmith.git.lock.wait";
+    private static final String LOCK_HOLD_METRIC = "appsmith.git.lock.hold";
 
+    // Exclusive locks held by the commands of this node, with the time at which they were acquired
+    private final Map<String, HeldFileLock> heldFileLocks = new ConcurrentHashMap<>();
+
+    private record HeldFileLock(String commandName, long acquiredAt) {}
+
+    public Mono<Boolean> addFileLock(String defaultApplicationId, String commandName, Boolean isRetryAllowed) {
         log.info(
                 "Git command {} is trying to acquire the lock for application id {}",
                 commandName,
                 defaultApplicationId);
-        return redisUtils
-                .addFileLock(defaultApplicationId, commandName)
-                .retryWhen(Retry.fixedDelay(numberOfRetries, RETRY_DELAY)
-                        .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
-                            if (retrySignal.failure() instanceof AppsmithException) {
-                                throw (AppsmithException) retrySignal.failure();
-                            }
-
-                            throw new AppsmithException(AppsmithError.GIT_FILE_IN_USE, commandName);
-                        }))
+        return Mono.defer(() -> acquireFileLock(
+                                defaultApplicationId,
+                                commandName,
+                                UUID.randomUUID().toString(),
+                                false,
+                                Boolean.TRUE.equals(isRetryAllowed))
+                        .doOnNext(acquiredAt ->
+                                heldFileLocks.put(defaultApplicationId, new HeldFileLock(commandName, acquiredAt)))
+                        .thenReturn(Boolean.TRUE))
                 .name(GitSpan.ADD_FILE_LOCK)
                 .tap(Micrometer.observation(observationRegistry));
     }
@@ -49,9 +82,129 @@ public class GitRedisUtils {
     }
 
     public Mono<Boolean> releaseFileLock(String defaultApplicationId) {
+        return Mono.defer(() -> {
+                    HeldFileLock heldFileLock = heldFileLocks.remove(defaultApplicationId);
+                    if (heldFileLock != null) {
+                        recordHoldTime(heldFileLock.commandName(), false, heldFileLock.acquiredAt());
+                    }
+                    return redisUtils.releaseFileLock(defaultApplicationId);
+                })
+                .name(GitSpan.RELEASE_FILE_LOCK)
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    /**
+     * Runs a read-only git command under the lock shared with the other read-only commands. The lock is released once
+     * the command completes, fails or is cancelled.
+     *
+     * @param defaultApplicationId id of the default application of the repo
+     * @param commandName          name of the git command
+     * @param commandMonoSupplier  supplies the command, which is subscribed to once the lock has been acquired
+     * @return result of the command
+     */
+    public <T> Mono<T> withSharedFileLock(
+            String defaultApplicationId, String commandName, Supplier<Mono<T>> commandMonoSupplier) {
+        return Mono.defer(() -> {
+            String token = UUID.randomUUID().toString();
+            Mono<Long> acquireMono = acquireFileLock(defaultApplicationId, commandName, token, true, true)
+                    .name(GitSpan.ADD_FILE_LOCK)
+                    .tap(Micrometer.observation(observationRegistry));
+
+            return Mono.usingWhen(
+                    acquireMono,
+                    acquiredAt -> commandMonoSupplier.get(),
+                    acquiredAt -> releaseSharedFileLock(defaultApplicationId, commandName, token, acquiredAt),
+                    (acquiredAt, error) -> releaseSharedFileLock(defaultApplicationId, commandName, token, acquiredAt),
+                    acquiredAt -> releaseSharedFileLock(defaultApplicationId, commandName, token, acquiredAt));
+        });
+    }
+
+    private Mono<Boolean> releaseSharedFileLock(
+            String defaultApplicationId, String commandName, String token, long acquiredAt) {
+        recordHoldTime(commandName, true, acquiredAt);
         return redisUtils
-                .releaseFileLock(defaultApplicationId)
+                .releaseSharedFileLock(defaultApplicationId, commandName, token)
                 .name(GitSpan.RELEASE_FILE_LOCK)
                 .tap(Micrometer.observation(observationRegistry));
     }
+
+    /**
+     * Acquires the lock, waiting in the queue for it if it's held by another command and retries are allowed. The
+     * queue is tried again whenever the lock is released, and once every retry delay as well in case a notification has
+     * been missed, which also keeps this waiter alive in the queue.
+     *
+     * @return the time at which the lock has been acquired, in nanos
+     */
+    private Mono<Long> acquireFileLock(
+            String defaultApplicationId, String commandName, String token, boolean isShared, boolean isRetryAllowed) {
+        long queuedAt = System.nanoTime();
+
+        if (!isRetryAllowed) {
+            return redisUtils
+                    .tryAcquireFileLock(defaultApplicationId, commandName, token, isShared, false, WAITER_TIME_LIMIT)
+                    .flatMap(result -> onAcquireAttempt(commandName, isShared, queuedAt, result));
+        }
+
+        long deadline = queuedAt + MAX_WAIT_TIME.toNanos();
+        AtomicReference<String> lockHolder = new AtomicReference<>();
+        Flux<Long> wakeUps = Flux.merge(
+                        Flux.just(0L),
+                        redisMessageListenerContainer
+                                .receive(ChannelTopic.of(redisUtils.getFileLockChannel(defaultApplicationId)))
+                                .map(message -> 0L),
+                        Flux.interval(RETRY_DELAY))
+                // Wake ups which arrive while an attempt is running are covered by the next attempt
+                .onBackpressureLatest();
+
+        return wakeUps.concatMap(
+                        wakeUp -> {
+                            if (System.nanoTime() > deadline) {
+                                return Mono.just(Objects.requireNonNullElse(lockHolder.get(), ""));
+                            }
+                            return redisUtils
+                                    .tryAcquireFileLock(
+                                            defaultApplicationId, commandName, token, isShared, true, WAITER_TIME_LIMIT)
+                                    .doOnNext(lockHolder::set)
+                                    .filter(FILE_LOCK_ACQUIRED::equals);
+                        },
+                        1)
+                .next()
+                .flatMap(result -> onAcquireAttempt(commandName, isShared, queuedAt, result))
+                .onErrorResume(error -> redisUtils
+                        .leaveFileLockQueue(defaultApplicationId, commandName, token, isShared)
+                        .onErrorResume(leaveError -> {
+                            log.error("Error while leaving the git lock queue of {}", defaultApplicationId, leaveError);
+                            return Mono.empty();
+                        })
+                        .then(Mono.error(error)));
+    }
+
+    private Mono<Long> onAcquireAttempt(String commandName, boolean isShared, long queuedAt, String result) {
+        boolean isAcquired = FILE_LOCK_ACQUIRED.equals(result);
+        Timer.builder(LOCK_WAIT_METRIC)
+                .description("Time spent by git commands waiting for the git lock")
+                .tags("command", commandName, "mode", getMode(isShared), "acquired", String.valueOf(isAcquired))
+                .register(Metrics.globalRegistry)
+                .record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+
+        if (isAcquired) {
+            return Mono.just(System.nanoTime());
+        }
+        if (!StringUtils.hasText(result)) {
+            return Mono.error(new AppsmithException(AppsmithError.GIT_FILE_IN_USE, commandName));
+        }
+        return Mono.error(new AppsmithException(AppsmithError.GIT_FILE_IN_USE, commandName, result));
+    }
+
+    private static void recordHoldTime(String commandName, boolean isShared, long acquiredAt) {
+        Timer.builder(LOCK_HOLD_METRIC)
+                .description("Time for which git commands hold the git lock")
+                .tags("command", commandName, "mode", getMode(isShared))
+                .register(Metrics.globalRegistry)
+                .record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static String getMode(boolean isShared) {
+        return isShared ? "shared" : "exclusive";
+    }
 }
@@ -31,11 +31,15 @@ import reactor.core.scheduler.Schedulers;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.appsmith.external.git.constants.GitConstants.PAGE_LIST;
 import static java.lang.Boolean.TRUE;
@@ -55,6 +59,41 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
     public static final String AUTO_COMMIT_MSG_FORMAT =
             "System generated commit, to support new features in Appsmith %s";
 
+    // Number of pages whose DSL is migrated by RTS at the same time
+    private static final int MAX_CONCURRENT_DSL_MIGRATIONS = 4;
+
+    // Auto commits running on this node by application and branch. Events which arrive for the same branch while an
+    // auto commit is running are coalesced, one for each kind of migration, and are run once the running one finishes.
+    private final Map<String, AutoCommitJob> runningAutoCommits = new ConcurrentHashMap<>();
+
+    private static class AutoCommitJob {
+        private AutoCommitEvent pendingDslEvent;
+        private AutoCommitEvent pendingServerSideEvent;
+
+        private void addPendingEvent(AutoCommitEvent event) {
+            if (Boolean.TRUE.equals(event.getIsServerSideEvent())) {
+                pendingServerSideEvent = event;
+            } else {
+                pendingDslEvent = event;
+            }
+        }
+
+        /**
+         * The DSL migration only writes the files when a page needs to be migrated, hence it doesn't cover a server
+         * side migration and both are run when both are pending.
+         */
+        private List<AutoCommitEvent> getPendingEvents() {
+            List<AutoCommitEvent> pendingEvents = new ArrayList<>();
+            if (pendingDslEvent != null) {
+                pendingEvents.add(pendingDslEvent);
+            }
+            if (pendingServerSideEvent != null) {
+                pendingEvents.add(pendingServerSideEvent);
+            }
+            return pendingEvents;
+        }
+    }
+
     @Override
     public void publish(AutoCommitEvent autoCommitEvent) {
         applicationEventPublisher.publishEvent(autoCommitEvent);
@@ -66,20 +105,63 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
     @Override
     public void handle(AutoCommitEvent event) {
         log.info("received event for auto commit: {}", event);
-        Mono<Boolean> autocommitMigration;
-        if (Boolean.TRUE.equals(event.getIsServerSideEvent())) {
-            autocommitMigration = this.autoCommitServerMigration(event);
-        } else {
-            autocommitMigration = this.autoCommitDSLMigration(event);
+        String jobKey = getAutoCommitJobKey(event);
+        AtomicBoolean isAlreadyRunning = new AtomicBoolean(false);
+        runningAutoCommits.compute(jobKey, (key, job) -> {
+            if (job == null) {
+                return new AutoCommitJob();
+            }
+            job.addPendingEvent(event);
+            isAlreadyRunning.set(true);
+            return job;
+        });
+
+        if (isAlreadyRunning.get()) {
+            log.info(
+                    "auto commit is already running for application: {}, branch: {}, the event will be run after it",
+                    event.getApplicationId(),
+                    event.getBranchName());
+            return;
         }
+        runAutoCommit(jobKey, List.of(event));
+    }
 
-        autocommitMigration
+    private void runAutoCommit(String jobKey, List<AutoCommitEvent> events) {
+        Flux.fromIterable(events)
+                .concatMap(event -> getAutoCommitMigration(event)
+                        .doOnNext(result -> log.info(
+                                "Auto-commit completed successfully for application: {}", event.getApplicationId()))
+                        .onErrorResume(error -> {
+                            log.error("Error during auto-commit for application: {}", event.getApplicationId(), error);
+                            return Mono.empty();
+                        }))
                 .subscribeOn(Schedulers.boundedElastic())
-                .subscribe(
-                        result -> log.info(
-                                "Auto-commit completed successfully for application: {}", event.getApplicationId()),
-                        error -> log.error(
-                                "Error during auto-commit for application: {}", event.getApplicationId(), error));
+                .doFinally(signalType -> {
+                    // run the events which have arrived in the meantime, at most one of each kind
+                    AtomicReference<List<AutoCommitEvent>> pendingEvents = new AtomicReference<>(List.of());
+                    runningAutoCommits.compute(jobKey, (key, job) -> {
+                        if (job == null) {
+                            return null;
+                        }
+                        pendingEvents.set(job.getPendingEvents());
+                        return pendingEvents.get().isEmpty() ? null : new AutoCommitJob();
+                    });
+                    if (!pendingEvents.get().isEmpty()) {
+                        runAutoCommit(jobKey, pendingEvents.get());
+                    }
+                })
+                .subscribe();
+    }
+
+    private Mono<Boolean> getAutoCommitMigration(AutoCommitEvent event) {
+        if (Boolean.TRUE.equals(event.getIsServerSideEvent())) {
+            return this.autoCommitServerMigration(event);
+        }
+        return this.autoCommitDSLMigration(event);
+    }
+
+    private static String getAutoCommitJobKey(AutoCommitEvent event) {
+        return event.getApplicationId() + "/" + event.getBranchName();
     }
 
     private <T> Mono<T> setProgress(T result, String applicationId, int progress) {
@@ -125,15 +207,34 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
                 .flatMap(autoCommitLocked -> dslMigrationUtils.getLatestDslVersion())
                 .flatMap(latestSchemaVersion -> resetUncommittedChanges(autoCommitEvent)
                         .flatMap(result -> setProgress(result, autoCommitEvent.getApplicationId(), 10))
-                        .then(commonGitFileUtils.reconstructArtifactExchangeJsonFromGitRepo(
+                        // only the main containers are read to find the pages to migrate, before reading the whole app
+                        .then(Mono.defer(() -> commonGitFileUtils.getPageNamesRequiringDslMigration(
                                 autoCommitEvent.getWorkspaceId(),
                                 autoCommitEvent.getApplicationId(),
                                 autoCommitEvent.getRepoName(),
                                 autoCommitEvent.getBranchName(),
-                                ArtifactType.APPLICATION))
-                        .flatMap(result -> setProgress(result, autoCommitEvent.getApplicationId(), 30))
-                        .flatMap(applicationJson -> migrateUnpublishedPageDSLs(
-                                (ApplicationJson) applicationJson, latestSchemaVersion, autoCommitEvent))
+                                latestSchemaVersion,
+                                ArtifactType.APPLICATION)))
+                        .filter(pageNames -> {
+                            if (pageNames.isEmpty()) {
+                                log.info("No page requires migration, skipping auto commit");
+                                return false;
+                            }
+                            return true;
+                        })
+                        .flatMap(pageNames -> commonGitFileUtils
+                                .reconstructArtifactExchangeJsonFromGitRepo(
+                                        autoCommitEvent.getWorkspaceId(),
+                                        autoCommitEvent.getApplicationId(),
+                                        autoCommitEvent.getRepoName(),
+                                        autoCommitEvent.getBranchName(),
+                                        ArtifactType.APPLICATION)
+                                .flatMap(result -> setProgress(result, autoCommitEvent.getApplicationId(), 30))
+                                .flatMap(applicationJson -> migrateUnpublishedPageDSLs(
+                                        (ApplicationJson) applicationJson,
+                                        latestSchemaVersion,
+                                        pageNames,
+                                        autoCommitEvent)))
                         .flatMap(result -> setProgress(result, autoCommitEvent.getApplicationId(), 50))
                         .flatMap(applicationJson -> saveApplicationJsonToFileSystem(applicationJson, autoCommitEvent))
                         .flatMap(result -> setProgress(result, autoCommitEvent.getApplicationId(), 70))
@@ -188,13 +289,17 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
      * 2. If there is no page with older DSL version
      * @param applicationJson ApplicationJson object
      * @param latestSchemaVersion latest version of the schema
+     * @param pageNames names of the pages which require a migration
      * @param autoCommitEvent AutoCommitEvent object
      * @return updated application json
      */
     private Mono<ApplicationJson> migrateUnpublishedPageDSLs(
-            ApplicationJson applicationJson, Integer latestSchemaVersion, AutoCommitEvent autoCommitEvent) {
+            ApplicationJson applicationJson,
+            Integer latestSchemaVersion,
+            Set<String> pageNames,
+            AutoCommitEvent autoCommitEvent) {
         if (!CollectionUtils.isNullOrEmpty(applicationJson.getPageList())) {
-            return migratePageDsl(applicationJson.getPageList(), latestSchemaVersion)
+            return migratePageDsl(applicationJson.getPageList(), latestSchemaVersion, pageNames)
                     // if no page is updated then no need to proceed further
                     .filter(list -> {
                         if (CollectionUtils.isNullOrEmpty(list)) {
@@ -229,18 +334,22 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
     }
 
     /**
-     * This method takes a list of NewPage and latest dsl schema version. It'll iterate through the list of the pages
-     * and migrate the page dsl if the version in the page dsl is older than latestSchemaVersion.
+     * This method takes a list of NewPage and latest dsl schema version. It'll iterate through the given pages
+     * and migrate the page dsl if the version in the page dsl is older than latestSchemaVersion. A bounded number of
+     * pages is migrated at the same time.
      * After finishing all the migrations, it'll return a list of page names that have been updated.
      * @param newPageList list of NewPage objects
      * @param latestSchemaVersion latest dsl schema version obtained from RTS
+     * @param pageNames names of the pages which require a migration
      * @return list of names of the pages that have been migrated.
      */
-    private Mono<List<String>> migratePageDsl(List<NewPage> newPageList, Integer latestSchemaVersion) {
+    private Mono<List<String>> migratePageDsl(
+            List<NewPage> newPageList, Integer latestSchemaVersion, Set<String> pageNames) {
         return Flux.fromIterable(newPageList)
                 .filter(newPage -> {
                     // filter the pages which have unpublished page with layouts and where dsl version is not latest
                     if (newPage.getUnpublishedPage() != null
+                            && pageNames.contains(newPage.getUnpublishedPage().getName())
                             && !CollectionUtils.isNullOrEmpty(
                                     newPage.getUnpublishedPage().getLayouts())) {
                         Layout layout =
@@ -250,16 +359,18 @@ public class AutoCommitEventHandlerCEImpl implements AutoCommitEventHandlerCE {
                     return false;
                 })
                 .map(NewPage::getUnpublishedPage)
-                .flatMap(pageDTO -> {
-                    Layout layout = pageDTO.getLayouts().get(0);
-                    return dslMigrationUtils
-                            .migratePageDsl(layout.getDsl())
-                            .map(migratedDsl -> {
-                                layout.setDsl(migratedDsl);
-                                return migratedDsl;
-                            })
-                            .thenReturn(pageDTO.getName());
-                })
+                .flatMap(
+                        pageDTO -> {
+                            Layout layout = pageDTO.getLayouts().get(0);
+                            return dslMigrationUtils
+                                    .migratePageDsl(layout.getDsl())
+                                    .map(migratedDsl -> {
+                                        layout.setDsl(migratedDsl);
+                                        return migratedDsl;
+                                    })
+                                    .thenReturn(pageDTO.getName());
+                        },
+                        MAX_CONCURRENT_DSL_MIGRATIONS)
                 .collectList();
     }
 
@@ -173,6 +173,20 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Fetches the complete history of the repo if it has been cloned with a limited depth, before the commands which
+     * need the history, like merges and the log.
+     */
+    private Mono<Boolean> unshallowRepository(Path repoSuffix, GitAuth gitAuth) {
+        if (gitAuth == null) {
+            return Mono.just(FALSE);
+        }
+        return gitExecutor
+                .unshallowRepository(repoSuffix, gitAuth.getPublicKey(), gitAuth.getPrivateKey())
+                .onErrorResume(error -> Mono.error(
+                        new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "fetch", error.getMessage())));
+    }
+
     public GitArtifactHelper<?> getArtifactGitService(@NonNull ArtifactType artifactType) {
         return switch (artifactType) {
             case APPLICATION -> gitApplicationHelper;
@@ -255,10 +269,17 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
         Path baseRepoSuffix = gitArtifactHelper.getRepoSuffixPath(
                 branchedArtifact.getWorkspaceId(), gitData.getDefaultArtifactId(), gitData.getRepoName());
 
+        // The credentials of the repo are stored in the default artifact
+        Mono<Boolean> unshallowMono = gitArtifactHelper
+                .getArtifactById(gitData.getDefaultArtifactId(), gitArtifactHelper.getArtifactReadPermission())
+                .flatMap(defaultArtifact -> unshallowRepository(
+                        baseRepoSuffix, defaultArtifact.getGitArtifactMetadata().getGitAuth()));
+
         Mono<List<GitLogDTO>> commitHistoryMono = gitExecutor
                 .checkoutToBranch(baseRepoSuffix, gitData.getBranchName())
                 .onErrorResume(e ->
                         Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "checkout", e.getMessage())))
+                .then(unshallowMono)
                 .then(gitExecutor
                         .getCommitHistory(baseRepoSuffix)
                         .onErrorResume(e -> Mono.error(
@@ -307,73 +328,70 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
         Mono<? extends ArtifactExchangeJson> exportedArtifactJsonMono =
                 exportService.exportByArtifactId(branchedArtifact.getId(), VERSION_CONTROL, artifactType);
 
-        Mono<GitStatusDTO> statusMono = exportedArtifactJsonMono
-                .flatMap(artifactExchangeJson -> {
-                    return addFileLock(defaultArtifactId, GitCommandConstants.STATUS, isFileLock)
-                            .thenReturn(artifactExchangeJson);
-                })
-                .flatMap(artifactExchangeJson -> {
-                    try {
-                        GitAuth gitAuth = gitData.getGitAuth();
-                        Mono<String> fetchRemoteMono;
+        Mono<GitStatusDTO> statusMono;
+        if (isFileLock && !compareRemote && commonGitFileUtils.isStatusFromLastCommitEnabled()) {
+            // Neither the working tree nor the refs are written to, hence the lock can be shared with other readers
+            statusMono = exportedArtifactJsonMono.flatMap(artifactExchangeJson -> gitRedisUtils.withSharedFileLock(
+                    defaultArtifactId,
+                    GitCommandConstants.STATUS,
+                    () -> commonGitFileUtils.getStatusFromLastCommit(
+                            repoSuffix, artifactExchangeJson, finalBranchName)));
+        } else {
+            statusMono = exportedArtifactJsonMono
+                    .flatMap(artifactExchangeJson -> {
+                        return addFileLock(defaultArtifactId, GitCommandConstants.STATUS, isFileLock)
+                                .thenReturn(artifactExchangeJson);
+                    })
+                    .flatMap(artifactExchangeJson -> {
+                        try {
+                            GitAuth gitAuth = gitData.getGitAuth();
+                            Mono<String> fetchRemoteMono;
+
+                            if (compareRemote) {
+                                fetchRemoteMono = Mono.defer(() -> gitExecutor.fetchRemote(
+                                                repoSuffix,
+                                                gitAuth.getPublicKey(),
+                                                gitAuth.getPrivateKey(),
+                                                false,
+                                                branchName,
+                                                false))
+                                        .onErrorResume(error -> Mono.error(new AppsmithException(
+                                                AppsmithError.GIT_GENERIC_ERROR, error.getMessage())));
+                            } else {
+                                fetchRemoteMono = Mono.just("ignored");
+                            }
 
-                        if (compareRemote) {
-                            fetchRemoteMono = Mono.defer(() -> gitExecutor.fetchRemote(
-                                            repoSuffix,
-                                            gitAuth.getPublicKey(),
-                                            gitAuth.getPrivateKey(),
-                                            false,
-                                            branchName,
-                                            false))
-                                    .onErrorResume(error -> Mono.error(new AppsmithException(
-                                            AppsmithError.GIT_GENERIC_ERROR, error.getMessage())));
-                        } else {
-                            fetchRemoteMono = Mono.just("ignored");
-                        }
+                            if (commonGitFileUtils.isStatusFromLastCommitEnabled()) {
+                                // Nothing is written to the repo, hence it doesn't need to be reset afterwards either
+                                return fetchRemoteMono.then(Mono.defer(() -> commonGitFileUtils.getStatusFromLastCommit(
+                                        repoSuffix, artifactExchangeJson, finalBranchName)));
+                            }
 
-                        return Mono.zip(
-                                commonGitFileUtils.saveArtifactToLocalRepo(
-                                        repoSuffix, artifactExchangeJson, finalBranchName),
-                                fetchRemoteMono);
-                    } catch (IOException | GitAPIException e) {
-                        return Mono.error(
-                                new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
-                    }
-                })
-                .flatMap(tuple -> {
-                    return gitExecutor.getStatus(tuple.getT1(), finalBranchName).flatMap(gitStatusDTO -> {
-                        // Remove any files which are copied by hard resetting the repo
-                        try {
-                            return gitExecutor
-                                    .resetToLastCommit(repoSuffix, branchName)
-                                    .thenReturn(gitStatusDTO);
-                        } catch (Exception e) {
-                            log.error(
-                                    "failed to reset to last commit for application: {}, branch: {}",
-                                    defaultArtifactId,
-                                    branchName,
-                                    e);
+                            return Mono.zip(
+                                            commonGitFileUtils.saveArtifactToLocalRepo(
+                                                    repoSuffix, artifactExchangeJson, finalBranchName),
+                                            fetchRemoteMono)
+                                    .flatMap(tuple -> getStatusAndResetToLastCommit(
+                                            tuple.getT1(), repoSuffix, defaultArtifactId, branchName, finalBranchName));
+                        } catch (IOException | GitAPIException e) {
                             return Mono.error(
                                     new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
                         }
+                    })
+                    .flatMap(gitStatusDTO -> {
+                        // release the lock if there's a successful response
+                        return releaseFileLock(defaultArtifactId, isFileLock).thenReturn(gitStatusDTO);
                     });
-                })
-                .flatMap(gitStatusDTO -> {
-                    // release the lock if there's a successful response
-                    return releaseFileLock(defaultArtifactId, isFileLock).thenReturn(gitStatusDTO);
-                })
-                .onErrorResume(throwable -> {
-                    /*
-                     in case of any error, the global exception handler will release the lock
-                     hence we don't need to do that manually
-                    */
-                    log.error(
-                            "Error to get status for application: {}, branch: {}",
-                            defaultArtifactId,
-                            branchName,
-                            throwable);
-                    return Mono.error(new AppsmithException(AppsmithError.GIT_GENERIC_ERROR, throwable.getMessage()));
-                });
+        }
+
+        statusMono = statusMono.onErrorResume(throwable -> {
+            /*
+             in case of any error, the global exception handler will release the lock
+             hence we don't need to do that manually
+            */
+            log.error("Error to get status for application: {}, branch: {}", defaultArtifactId, branchName, throwable);
+            return Mono.error(new AppsmithException(AppsmithError.GIT_GENERIC_ERROR, throwable.getMessage()));
+        });
 
         return Mono.zip(statusMono, sessionUserService.getCurrentUser())
                 .elapsed()
@@ -395,6 +413,23 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    private Mono<GitStatusDTO> getStatusAndResetToLastCommit(
+            Path repoPath, Path repoSuffix, String defaultArtifactId, String branchName, String finalBranchName) {
+        return gitExecutor.getStatus(repoPath, finalBranchName).flatMap(gitStatusDTO -> {
+            // Remove any files which are copied by hard resetting the repo
+            try {
+                return gitExecutor.resetToLastCommit(repoSuffix, branchName).thenReturn(gitStatusDTO);
+            } catch (Exception e) {
+                log.error(
+                        "failed to reset to last commit for application: {}, branch: {}",
+                        defaultArtifactId,
+                        branchName,
+                        e);
+                return Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
+            }
+        });
+    }
+
     /**
      * Get the status of the mentioned branch
      *
@@ -486,6 +521,8 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                             finalBranchName,
                             false);
 
+                    // The repo isn't unshallowed for this, in a shallow repo the ahead and behind counts are capped
+                    // by the clone depth when the branches have diverged further back than that
                     Mono<BranchTrackingStatus> branchedStatusMono =
                             gitExecutor.getBranchTrackingStatus(repoPath, finalBranchName);
 
@@ -602,6 +639,8 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                             finalBranchName,
                             false);
 
+                    // The repo isn't unshallowed for this, in a shallow repo the ahead and behind counts are capped
+                    // by the clone depth when the branches have diverged further back than that
                     Mono<BranchTrackingStatus> branchedStatusMono =
                             gitExecutor.getBranchTrackingStatus(repoPath, finalBranchName);
 
@@ -1547,7 +1586,7 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                                     false,
                                     branchName,
                                     true)
-                            .flatMap(fetchStatus -> gitExecutor
+                            .then(gitExecutor
                                     .checkoutRemoteBranch(repoPath, branchName)
                                     .zipWith(Mono.just(artifact))
                                     .onErrorResume(error -> Mono.error(new AppsmithException(
@@ -1946,6 +1985,7 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                     try {
                         Mono<MergeStatusDTO> pullStatusMono = gitExecutor
                                 .checkoutToBranch(repoSuffix, branchName)
+                                .then(unshallowRepository(repoSuffix, gitData.getGitAuth()))
                                 .then(gitExecutor.pullApplication(
                                         repoSuffix,
                                         gitData.getRemoteUrl(),
@@ -2523,7 +2563,12 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
 
                     // 2. git checkout destinationBranch ---> git merge sourceBranch
                     return Mono.zip(
-                                    gitExecutor.mergeBranch(repoSuffix, sourceBranch, destinationBranch),
+                                    unshallowRepository(
+                                                    repoSuffix,
+                                                    defaultArtifact
+                                                            .getGitArtifactMetadata()
+                                                            .getGitAuth())
+                                            .then(gitExecutor.mergeBranch(repoSuffix, sourceBranch, destinationBranch)),
                                     Mono.just(defaultArtifact))
                             .onErrorResume(error -> addAnalyticsForGitOperation(
                                             AnalyticsEvents.GIT_MERGE,
@@ -2711,6 +2756,7 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                         }
                         return Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", error));
                     })
+                    .then(unshallowRepository(repoSuffix, gitArtifactMetadata.getGitAuth()))
                     .then(gitExecutor
                             .isMergeBranch(repoSuffix, sourceBranch, destinationBranch)
                             .flatMap(mergeStatusDTO -> releaseFileLock(defaultArtifactId)
@@ -3074,7 +3120,10 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                             gitArtifactMetadata.getRemoteUrl(),
                             gitAuth.getPrivateKey(),
                             gitAuth.getPublicKey())
-                    .flatMap(defaultBranch -> gitExecutor.listBranches(repoPath))
+                    // The clone might have been restricted to the default branch, fetch the others before listing
+                    .flatMap(defaultBranch -> gitExecutor.fetchRemote(
+                            repoPath, gitAuth.getPublicKey(), gitAuth.getPrivateKey(), false, defaultBranch, true))
+                    .then(gitExecutor.listBranches(repoPath))
                     .flatMap(gitBranchDTOList -> {
                         List<String> branchesToCheckout = new ArrayList<>();
                         for (GitBranchDTO gitBranchDTO : gitBranchDTOList) {
@@ -3128,11 +3177,12 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
             String defaultBranchName,
             String currentBranch,
             boolean pruneBranches) {
-        return addFileLock(defaultArtifact.getId(), GitCommandConstants.LIST_BRANCH)
-                .flatMap(objects -> {
-                    GitArtifactMetadata gitArtifactMetadata = defaultArtifact.getGitArtifactMetadata();
-
-                    if (TRUE.equals(pruneBranches)) {
+        Mono<List<GitBranchDTO>> branchListMono;
+        if (TRUE.equals(pruneBranches)) {
+            // Fetching the remote updates the refs of the repo, hence the lock can't be shared
+            branchListMono = addFileLock(defaultArtifact.getId(), GitCommandConstants.LIST_BRANCH)
+                    .flatMap(objects -> {
+                        GitArtifactMetadata gitArtifactMetadata = defaultArtifact.getGitArtifactMetadata();
                         return gitExecutor
                                 .fetchRemote(
                                         repoPath,
@@ -3142,12 +3192,15 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                                         currentBranch,
                                         true)
                                 .then(gitExecutor.listBranches(repoPath));
-                    } else {
-                        return gitExecutor.listBranches(repoPath);
-                    }
-                })
-                .flatMap(branchDTOList ->
-                        releaseFileLock(defaultArtifact.getId()).thenReturn(branchDTOList))
+                    })
+                    .flatMap(branchDTOList ->
+                            releaseFileLock(defaultArtifact.getId()).thenReturn(branchDTOList));
+        } else {
+            branchListMono = gitRedisUtils.withSharedFileLock(
+                    defaultArtifact.getId(), GitCommandConstants.LIST_BRANCH, () -> gitExecutor.listBranches(repoPath));
+        }
+
+        return branchListMono
                 .map(branchDTOList -> {
                     for (GitBranchDTO branchDTO : branchDTOList) {
                         if (StringUtils.equalsIgnoreCase(branchDTO.getBranchName(), defaultBranchName)) {
@@ -0,0 +1,3 @@
+package com.appsmith.server.git.maintenance;
+
+public interface GitMaintenanceScheduledTask extends GitMaintenanceScheduledTaskCE {}
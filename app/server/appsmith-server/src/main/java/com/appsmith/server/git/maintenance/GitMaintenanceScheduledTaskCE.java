@@ -0,0 +1,5 @@
+package com.appsmith.server.git.maintenance;
+
+public interface GitMaintenanceScheduledTaskCE {
+    void maintainGitRepositories();
+}
@@ -0,0 +1,232 @@
+package com.appsmith.server.git.maintenance;
+
+import com.appsmith.external.dtos.GitRepositoryStatisticsDTO;
+import com.appsmith.external.git.GitExecutor;
+import com.appsmith.external.git.constants.GitConstants.GitCommandConstants;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.git.GitRedisUtils;
+import com.appsmith.server.helpers.CommonGitFileUtils;
+import com.appsmith.server.repositories.ApplicationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the local git repos small. Every run packs the loose objects of the repos which have accumulated the most of
+ * them, a few repos at a time so that the git volume isn't hammered, and deletes the repos of applications which don't
+ * exist anymore. Repos are only touched while their git lock is free, and are skipped otherwise.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GitMaintenanceScheduledTaskCEImpl implements GitMaintenanceScheduledTaskCE {
+
+    private final GitExecutor gitExecutor;
+    private final GitRedisUtils gitRedisUtils;
+    private final CommonGitFileUtils commonGitFileUtils;
+    private final ApplicationRepository applicationRepository;
+    private final Scheduler scheduler;
+
+    @Value("${appsmith.git.maintenance.enabled:true}")
+    private boolean isMaintenanceEnabled;
+
+    // Number of repos which are packed in a single run
+    @Value("${appsmith.git.maintenance.max-repositories-per-run:10}")
+    private int maxRepositoriesPerRun;
+
+    // Repos with at least as many loose objects, or pack files, are packed
+    @Value("${appsmith.git.maintenance.loose-objects-threshold:1000}")
+    private int looseObjectsThreshold;
+
+    @Value("${appsmith.git.maintenance.pack-files-threshold:50}")
+    private int packFilesThreshold;
+
+    // Number of seconds after which a lock file is stale
+    @Value("${appsmith.index.lock.file.time:300}")
+    private int staleLockFileSeconds;
+
+    // Repos which have been used recently are never considered to be orphaned, e.g. while an application is imported
+    private static final Duration ORPHANED_REPOSITORY_GRACE_PERIOD = Duration.ofDays(1);
+
+    private static final String RUN_METRIC = "appsmith.git.maintenance.run";
+    private static final String RECLAIMED_METRIC = "appsmith.git.maintenance.reclaimed";
+    private static final String REPOSITORIES_METRIC = "appsmith.git.maintenance.repositories";
+
+    private final AtomicBoolean isRunning = new AtomicBoolean(false);
+
+    @Scheduled(initialDelay = 10 * 60 * 1000 /* ten minutes */, fixedDelay = 60 * 60 * 1000 /* one hour */)
+    @Observed(name = "maintainGitRepositories")
+    public void maintainGitRepositories() {
+        if (!isMaintenanceEnabled || !isRunning.compareAndSet(false, true)) {
+            return;
+        }
+
+        runMaintenance()
+                .doFinally(signalType -> isRunning.set(false))
+                .subscribeOn(scheduler)
+                .subscribe();
+    }
+
+    /**
+     * Runs maintenance on the local repos once, and returns the number of bytes reclaimed on the git volume.
+     */
+    protected Mono<Long> runMaintenance() {
+        log.info("Running maintenance on the local git repositories");
+        long startedAt = System.nanoTime();
+        // Orphaned repos are deleted a few at a time as well, the others are deleted by the next runs
+        AtomicInteger orphanedRepositories = new AtomicInteger();
+
+        return gitExecutor
+                .getRepositoryStatistics()
+                .filterWhen(statistics ->
+                        isOrphaned(statistics, orphanedRepositories).map(isOrphaned -> !isOrphaned))
+                .filter(this::isMaintenanceRequired)
+                .sort(Comparator.comparingLong(GitRepositoryStatisticsDTO::getNumberOfLooseObjects)
+                        .thenComparing(GitRepositoryStatisticsDTO::getLastUsedAt)
+                        .reversed())
+                .take(maxRepositoriesPerRun)
+                .concatMap(this::maintainRepository)
+                .reduce(0L, Long::sum)
+                .doOnNext(
+                        reclaimedBytes -> log.info("Git repository maintenance has reclaimed {} bytes", reclaimedBytes))
+                .doOnError(error -> log.error("Error while running maintenance on the git repositories", error))
+                .doFinally(signalType -> Timer.builder(RUN_METRIC)
+                        .description("Time taken by a run of the git repository maintenance")
+                        .register(Metrics.globalRegistry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+    }
+
+    protected boolean isMaintenanceRequired(GitRepositoryStatisticsDTO statistics) {
+        return statistics.getNumberOfLooseObjects() >= looseObjectsThreshold
+                || statistics.getNumberOfPackFiles() >= packFilesThreshold;
+    }
+
+    /**
+     * Checks whether the base artifact of a repo still exists. Repos are stored under the id of their base artifact.
+     */
+    protected Mono<Boolean> isBaseArtifactPresent(String baseArtifactId) {
+        return applicationRepository
+                .findById(baseArtifactId, (AclPermission) null)
+                .hasElement();
+    }
+
+    private Mono<Long> maintainRepository(GitRepositoryStatisticsDTO statistics) {
+        String baseArtifactId = getBaseArtifactId(statistics);
+        return withFileLock(
+                        baseArtifactId,
+                        () -> gitExecutor.maintainRepository(statistics.getRepoSuffix(), staleLockFileSeconds))
+                .doOnNext(reclaimedBytes -> recordRepository("packed", reclaimedBytes))
+                .onErrorResume(error -> {
+                    if (isFileInUse(error)) {
+                        log.debug("Skipping maintenance of the repo {} as it's in use", statistics.getRepoSuffix());
+                        countRepository("skipped");
+                    } else {
+                        log.error("Error while running maintenance on the repo {}", statistics.getRepoSuffix(), error);
+                        countRepository("failed");
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Deletes the repo if its application doesn't exist anymore. Returns true for the repos which are orphaned, even
+     * when they couldn't be deleted in this run, so that they aren't packed either.
+     */
+    private Mono<Boolean> isOrphaned(GitRepositoryStatisticsDTO statistics, AtomicInteger orphanedRepositories) {
+        if (statistics.getLastUsedAt().isAfter(Instant.now().minus(ORPHANED_REPOSITORY_GRACE_PERIOD))) {
+            return Mono.just(Boolean.FALSE);
+        }
+
+        String baseArtifactId = getBaseArtifactId(statistics);
+        return isBaseArtifactPresent(baseArtifactId)
+                // A repo is only deleted when its application is known to be gone
+                .onErrorResume(error -> {
+                    log.error(
+                            "Error while looking up the application of the repo {}", statistics.getRepoSuffix(), error);
+                    return Mono.just(Boolean.TRUE);
+                })
+                .flatMap(isPresent -> {
+                    if (Boolean.TRUE.equals(isPresent)) {
+                        return Mono.just(Boolean.FALSE);
+                    }
+                    if (orphanedRepositories.getAndIncrement() >= maxRepositoriesPerRun) {
+                        return Mono.just(Boolean.TRUE);
+                    }
+                    log.info(
+                            "Deleting the repo {} as its application doesn't exist anymore",
+                            statistics.getRepoSuffix());
+                    return withFileLock(
+                                    baseArtifactId,
+                                    () -> commonGitFileUtils.deleteLocalRepo(statistics.getRepoSuffix()))
+                            .doOnNext(isDeleted -> recordRepository("pruned", statistics.getSizeOfObjects()))
+                            // The repo is left alone for this run if it couldn't be deleted
+                            .onErrorResume(error -> {
+                                if (!isFileInUse(error)) {
+                                    log.error(
+                                            "Error while deleting the orphaned repo {}",
+                                            statistics.getRepoSuffix(),
+                                            error);
+                                }
+                                countRepository(isFileInUse(error) ? "skipped" : "failed");
+                                return Mono.just(Boolean.TRUE);
+                            })
+                            .thenReturn(Boolean.TRUE);
+                });
+    }
+
+    /**
+     * Runs the given git operation under the git lock of the repo. The lock isn't waited for, as the repo is in use
+     * anyway and can be maintained in a later run.
+     */
+    private <T> Mono<T> withFileLock(String baseArtifactId, Supplier<Mono<T>> operationMonoSupplier) {
+        return Mono.usingWhen(
+                gitRedisUtils.addFileLock(baseArtifactId, GitCommandConstants.MAINTENANCE, false),
+                isLocked -> operationMonoSupplier.get(),
+                isLocked -> gitRedisUtils.releaseFileLock(baseArtifactId));
+    }
+
+    private static String getBaseArtifactId(GitRepositoryStatisticsDTO statistics) {
+        // Repos are placed at workspaceId/baseArtifactId/repoName
+        return statistics.getRepoSuffix().getName(1).toString();
+    }
+
+    private static boolean isFileInUse(Throwable error) {
+        return error instanceof AppsmithException appsmithException
+                && AppsmithError.GIT_FILE_IN_USE.equals(appsmithException.getError());
+    }
+
+    private static void countRepository(String action) {
+        Counter.builder(REPOSITORIES_METRIC)
+                .description("Number of git repositories handled by the git repository maintenance")
+                .tag("action", action)
+                .register(Metrics.globalRegistry)
+                .increment();
+    }
+
+    private static void recordRepository(String action, long reclaimedBytes) {
+        countRepository(action);
+        DistributionSummary.builder(RECLAIMED_METRIC)
+                .description("Bytes reclaimed on the git volume by the git repository maintenance")
+                .baseUnit("bytes")
+                .tag("action", action)
+                .register(Metrics.globalRegistry)
+                .record(reclaimedBytes);
+    }
+}
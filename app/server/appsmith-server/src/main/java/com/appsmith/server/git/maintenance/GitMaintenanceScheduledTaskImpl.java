@@ -0,0 +1,22 @@
+package com.appsmith.server.git.maintenance;
+
+import com.appsmith.external.git.GitExecutor;
+import com.appsmith.server.git.GitRedisUtils;
+import com.appsmith.server.helpers.CommonGitFileUtils;
+import com.appsmith.server.repositories.ApplicationRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+
+@Component
+public class GitMaintenanceScheduledTaskImpl extends GitMaintenanceScheduledTaskCEImpl
+        implements GitMaintenanceScheduledTask {
+
+    public GitMaintenanceScheduledTaskImpl(
+            GitExecutor gitExecutor,
+            GitRedisUtils gitRedisUtils,
+            CommonGitFileUtils commonGitFileUtils,
+            ApplicationRepository applicationRepository,
+            Scheduler scheduler) {
+        super(gitExecutor, gitRedisUtils, commonGitFileUtils, applicationRepository, scheduler);
+    }
+}
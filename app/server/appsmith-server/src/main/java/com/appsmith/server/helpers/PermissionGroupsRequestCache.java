@@ -0,0 +1,94 @@
+package com.appsmith.server.helpers;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Holds the permission groups of the users of a request, so that they are resolved once per request instead of once
+ * per repository call. An instance is put in the Reactor context of every request by
+ * {@link com.appsmith.server.filters.RequestScopedCacheFilter}. Outside of a request, e.g. in scheduled jobs,
+ * the permission groups are resolved every time, as before.
+ * <p>
+ * The permission groups of a user are evicted from the request along with the permission groups cache of the user, so
+ * that a request which changes the roles of a user sees the new permission groups from then on.
+ */
+public class PermissionGroupsRequestCache {
+
+    private static final String CONTEXT_KEY = PermissionGroupsRequestCache.class.getName();
+
+    // Never expires in Reactor, the permission groups are kept until the request ends or they're evicted
+    private static final Duration UNTIL_EVICTED = Duration.ofMillis(Long.MAX_VALUE);
+
+    private final Map<String, Mono<Set<String>>> permissionGroups = new ConcurrentHashMap<>();
+
+    private final AtomicInteger resolutionCount = new AtomicInteger();
+
+    public static Context putInContext(Context context, PermissionGroupsRequestCache cache) {
+        return context.put(CONTEXT_KEY, cache);
+    }
+
+    /**
+     * Returns the permission groups of the user from the request, resolving them if they haven't been resolved yet in
+     * this request. An error isn't kept, the permission groups are resolved again by the next call instead.
+     *
+     * @param email                           email of the user, which identifies the user within a request
+     * @param includeAnonymousUserPermissions whether the permission groups of the anonymous user are included
+     * @param resolver                        resolves the permission groups of the user
+     * @return the permission groups of the user, which must not be modified
+     */
+    public static Mono<Set<String>> get(
+            String email, boolean includeAnonymousUserPermissions, Supplier<Mono<Set<String>>> resolver) {
+        return Mono.deferContextual(contextView -> {
+            PermissionGroupsRequestCache cache = getFromContext(contextView);
+            if (cache == null) {
+                return resolver.get();
+            }
+            String key = getKey(email, includeAnonymousUserPermissions);
+            return cache.permissionGroups.computeIfAbsent(key, ignored -> {
+                cache.resolutionCount.incrementAndGet();
+                return resolver.get()
+                        .map(Set::copyOf)
+                        .cache(groups -> UNTIL_EVICTED, error -> Duration.ZERO, () -> Duration.ZERO);
+            });
+        });
+    }
+
+    /**
+     * Evicts the permission groups of the user from the request, if there is one.
+     *
+     * @param email email of the user
+     */
+    public static Mono<Void> evict(String email) {
+        return Mono.deferContextual(contextView -> {
+            PermissionGroupsRequestCache cache = getFromContext(contextView);
+            if (cache != null) {
+                String prefix = email + ":";
+                cache.permissionGroups.keySet().removeIf(key -> key.startsWith(prefix));
+            }
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * @return the number of times the permission groups of any user have been resolved in the request
+     */
+    public int getResolutionCount() {
+        return resolutionCount.get();
+    }
+
+    private static PermissionGroupsRequestCache getFromContext(ContextView contextView) {
+        return contextView.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    private static String getKey(String email, boolean includeAnonymousUserPermissions) {
+        return email + ":" + includeAnonymousUserPermissions;
+    }
+}
@@ -4,10 +4,12 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 
 import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitCommandConstantsCE.AUTO_COMMIT;
 import static org.springframework.util.StringUtils.hasText;
@@ -26,15 +28,102 @@ public class RedisUtils {
 
     private static final Duration AUTO_COMMIT_TIME_LIMIT = Duration.ofMinutes(3);
 
+    public static final String FILE_LOCK_ACQUIRED = "acquired";
+
+    // The keys of a file lock share the hash tag of the key, so that they are in the same slot of a Redis cluster, as
+    // the script which acquires the lock uses all of them
+    private static final String FILE_LOCK_KEY_FORMAT = "{%s}";
+    private static final String FILE_LOCK_READERS_KEY_FORMAT = "{%s}:readers";
+    private static final String FILE_LOCK_QUEUE_KEY_FORMAT = "{%s}:queue";
+    private static final String FILE_LOCK_HEARTBEATS_KEY_FORMAT = "{%s}:heartbeats";
+    private static final String FILE_LOCK_CHANNEL_FORMAT = "git_lock:%s";
+    private static final String FILE_LOCK_RELEASED_MESSAGE = "released";
+
+    /*
+     Reader/writer lock with a FIFO queue of waiters. The writer holds the file lock key itself, with the command as the
+     value, so that the rest of the code can keep on checking and releasing it as before. Readers are kept in a sorted
+     set scored by the time at which they expire. Waiters are kept in a sorted set scored by the time at which they were
+     queued, and in another one scored by the time at which they were last seen, so that the waiters of a node which
+     has gone away are dropped from the queue. A writer only gets the lock when it's at the head of the queue and there
+     are no readers, a reader gets it as long as there is no writer holding or waiting ahead of it.
+
+     KEYS: writer, readers, queue, heartbeats
+     ARGV: mode (W or R), token, command, now in millis, lock time limit in millis, waiter time limit in millis,
+     whether the waiter should be queued when the lock is held (1 or 0)
+    */
+    private static final RedisScript<String> ACQUIRE_FILE_LOCK_SCRIPT = RedisScript.of(
+            """
+            local now = tonumber(ARGV[4])
+            local lockTimeLimit = tonumber(ARGV[5])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            local staleWaiters = redis.call('ZRANGEBYSCORE', KEYS[4], '-inf', now - tonumber(ARGV[6]))
+            for _, staleWaiter in ipairs(staleWaiters) do
+                redis.call('ZREM', KEYS[3], staleWaiter)
+                redis.call('ZREM', KEYS[4], staleWaiter)
+            end
+
+            local member = ARGV[1] .. '|' .. ARGV[3] .. '|' .. ARGV[2]
+            local function wait(holder)
+                if ARGV[7] == '1' then
+                    if not redis.call('ZSCORE', KEYS[3], member) then
+                        redis.call('ZADD', KEYS[3], now, member)
+                    end
+                    redis.call('ZADD', KEYS[4], now, member)
+                    redis.call('PEXPIRE', KEYS[3], lockTimeLimit)
+                    redis.call('PEXPIRE', KEYS[4], lockTimeLimit)
+                end
+                return holder
+            end
+            local function commandOf(lockMember)
+                return string.match(lockMember, '^%a|([^|]*)|') or lockMember
+            end
+
+            local writer = redis.call('GET', KEYS[1])
+            if writer then
+                return wait(writer)
+            end
+
+            local rank = redis.call('ZRANK', KEYS[3], member)
+            local waitersAhead = {}
+            if not rank then
+                waitersAhead = redis.call('ZRANGE', KEYS[3], 0, -1)
+            elseif rank > 0 then
+                waitersAhead = redis.call('ZRANGE', KEYS[3], 0, rank - 1)
+            end
+            if ARGV[1] == 'W' then
+                local reader = redis.call('ZRANGE', KEYS[2], 0, 0)[1]
+                if reader then
+                    return wait(commandOf(reader))
+                end
+                if waitersAhead[1] then
+                    return wait(commandOf(waitersAhead[1]))
+                end
+                redis.call('SET', KEYS[1], ARGV[3], 'PX', lockTimeLimit)
+            else
+                for _, waiter in ipairs(waitersAhead) do
+                    if string.sub(waiter, 1, 1) == 'W' then
+                        return wait(commandOf(waiter))
+                    end
+                end
+                redis.call('ZADD', KEYS[2], now + lockTimeLimit, member)
+                redis.call('PEXPIRE', KEYS[2], lockTimeLimit)
+            end
+            redis.call('ZREM', KEYS[3], member)
+            redis.call('ZREM', KEYS[4], member)
+            return 'acquired'
+            """,
+            String.class);
+
     public Mono<Boolean> addFileLock(String key, String gitCommand) {
         String command = hasText(gitCommand) ? gitCommand : REDIS_FILE_LOCK_VALUE;
-        return redisOperations.hasKey(key).flatMap(isKeyPresent -> {
+        String fileLockKey = String.format(FILE_LOCK_KEY_FORMAT, key);
+        return redisOperations.hasKey(fileLockKey).flatMap(isKeyPresent -> {
             if (!Boolean.TRUE.equals(isKeyPresent)) {
-                return redisOperations.opsForValue().set(key, gitCommand, FILE_LOCK_TIME_LIMIT);
+                return redisOperations.opsForValue().set(fileLockKey, gitCommand, FILE_LOCK_TIME_LIMIT);
             }
             return redisOperations
                     .opsForValue()
-                    .get(key)
+                    .get(fileLockKey)
                     .flatMap(commandName ->
                             Mono.error(new AppsmithException(AppsmithError.GIT_FILE_IN_USE, command, commandName)));
         });
@@ -50,7 +139,78 @@ public class RedisUtils {
     }
 
     public Mono<Boolean> releaseFileLock(String key) {
-        return redisOperations.opsForValue().delete(key);
+        return redisOperations
+                .opsForValue()
+                .delete(String.format(FILE_LOCK_KEY_FORMAT, key))
+                .flatMap(isDeleted -> notifyFileLockWaiters(key).thenReturn(isDeleted));
+    }
+
+    /**
+     * Tries to acquire the reader/writer file lock once.
+     *
+     * @param key          key of the file lock
+     * @param gitCommand   command which needs the lock
+     * @param token        identifies the caller for as long as it waits for, or holds, the lock
+     * @param isShared     whether the lock can be shared with other read-only commands
+     * @param isQueued     whether the caller should be queued for the lock, if it's held by another command
+     * @param waiterTimeLimit time after which a queued caller which hasn't tried again is dropped from the queue
+     * @return {@link #FILE_LOCK_ACQUIRED} if the lock has been acquired, else the command which is holding, or waiting
+     * ahead for, the lock
+     */
+    public Mono<String> tryAcquireFileLock(
+            String key, String gitCommand, String token, boolean isShared, boolean isQueued, Duration waiterTimeLimit) {
+        String command = hasText(gitCommand) ? gitCommand : REDIS_FILE_LOCK_VALUE;
+        return redisOperations
+                .execute(
+                        ACQUIRE_FILE_LOCK_SCRIPT,
+                        getFileLockKeys(key),
+                        List.of(
+                                isShared ? "R" : "W",
+                                token,
+                                command,
+                                String.valueOf(System.currentTimeMillis()),
+                                String.valueOf(FILE_LOCK_TIME_LIMIT.toMillis()),
+                                String.valueOf(waiterTimeLimit.toMillis()),
+                                isQueued ? "1" : "0"))
+                .next();
+    }
+
+    public Mono<Boolean> releaseSharedFileLock(String key, String gitCommand, String token) {
+        String command = hasText(gitCommand) ? gitCommand : REDIS_FILE_LOCK_VALUE;
+        return redisOperations
+                .opsForZSet()
+                .remove(String.format(FILE_LOCK_READERS_KEY_FORMAT, key), "R|" + command + "|" + token)
+                .flatMap(removed -> notifyFileLockWaiters(key).thenReturn(removed > 0));
+    }
+
+    /**
+     * Removes the caller from the queue of the file lock, once it has stopped waiting for it.
+     */
+    public Mono<Boolean> leaveFileLockQueue(String key, String gitCommand, String token, boolean isShared) {
+        String command = hasText(gitCommand) ? gitCommand : REDIS_FILE_LOCK_VALUE;
+        String member = (isShared ? "R|" : "W|") + command + "|" + token;
+        return redisOperations
+                .opsForZSet()
+                .remove(String.format(FILE_LOCK_QUEUE_KEY_FORMAT, key), member)
+                .then(redisOperations.opsForZSet().remove(String.format(FILE_LOCK_HEARTBEATS_KEY_FORMAT, key), member))
+                // The waiters behind might have been blocked by this one
+                .flatMap(removed -> notifyFileLockWaiters(key).thenReturn(removed > 0));
+    }
+
+    public String getFileLockChannel(String key) {
+        return String.format(FILE_LOCK_CHANNEL_FORMAT, key);
+    }
+
+    private Mono<Long> notifyFileLockWaiters(String key) {
+        return redisOperations.convertAndSend(getFileLockChannel(key), FILE_LOCK_RELEASED_MESSAGE);
+    }
+
+    private static List<String> getFileLockKeys(String key) {
+        return List.of(
+                String.format(FILE_LOCK_KEY_FORMAT, key),
+                String.format(FILE_LOCK_READERS_KEY_FORMAT, key),
+                String.format(FILE_LOCK_QUEUE_KEY_FORMAT, key),
+                String.format(FILE_LOCK_HEARTBEATS_KEY_FORMAT, key));
     }
 
     public Mono<Boolean> hasKey(String key) {
@@ -0,0 +1,171 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.UsagePulse;
+import com.appsmith.server.repositories.UsagePulseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the usage pulses in memory and inserts them in bulk, instead of inserting a document for every pulse that a
+ * client sends. Only the first pulse of a user in a view mode is kept for every window of
+ * {@link #DEDUPLICATION_WINDOW}, which is the interval at which the clients send the pulses, so the pulses sent from
+ * the other open tabs of the user are dropped.
+ * <p>
+ * The pulses are inserted on an interval, whenever {@code appsmith.usage-pulse.flush-size} pulses are pending, and
+ * when the server shuts down. At most {@code appsmith.usage-pulse.max-pending} pulses are kept while the inserts fail,
+ * the oldest ones are dropped beyond that.
+ */
+@Slf4j
+@Component
+public class UsagePulseBuffer {
+
+    static final Duration DEDUPLICATION_WINDOW = Duration.ofHours(1);
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final UsagePulseRepository repository;
+
+    private final int flushSize;
+
+    private final int maxPending;
+
+    // Pulses which have been received in the current and the previous windows, to drop the duplicate ones
+    private final Map<PulseKey, Boolean> receivedPulses = new ConcurrentHashMap<>();
+
+    // Oldest pulses first
+    private final Deque<UsagePulse> pendingPulses = new ConcurrentLinkedDeque<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final Timer flushTimer = Timer.builder("appsmith.usage_pulse.flush")
+            .description("Time taken to insert a batch of usage pulses")
+            .register(Metrics.globalRegistry);
+
+    private final Counter droppedCounter = Counter.builder("appsmith.usage_pulse.dropped")
+            .description("Number of usage pulses dropped as too many were waiting to be inserted")
+            .register(Metrics.globalRegistry);
+
+    private record PulseKey(String tenantId, String user, Boolean viewMode, long window) {}
+
+    public UsagePulseBuffer(
+            UsagePulseRepository repository,
+            @Value("${appsmith.usage-pulse.flush-size:500}") int flushSize,
+            @Value("${appsmith.usage-pulse.max-pending:50000}") int maxPending) {
+        this.repository = repository;
+        this.flushSize = flushSize;
+        this.maxPending = maxPending;
+        Gauge.builder("appsmith.usage_pulse.pending", pendingCount, AtomicInteger::get)
+                .description("Number of usage pulses waiting to be inserted")
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Adds the pulse to the ones to be inserted, unless the user has already sent a pulse in the same view mode in the
+     * current window.
+     *
+     * @param usagePulse pulse to add
+     * @return the pulse, with its id set
+     */
+    public Mono<UsagePulse> add(UsagePulse usagePulse) {
+        // The id and the creation time aren't set by the bulk insert
+        usagePulse.updateForBulkWriteOperation();
+
+        PulseKey key = new PulseKey(
+                usagePulse.getTenantId(),
+                usagePulse.getUser(),
+                usagePulse.getViewMode(),
+                getWindow(usagePulse.getCreatedAt()));
+        if (receivedPulses.putIfAbsent(key, Boolean.TRUE) == null) {
+            pendingPulses.addLast(usagePulse);
+            pendingCount.incrementAndGet();
+            dropOldestPulses();
+            if (pendingCount.get() >= flushSize) {
+                flush().subscribeOn(Schedulers.boundedElastic()).subscribe();
+            }
+        }
+
+        return Mono.just(usagePulse);
+    }
+
+    /**
+     * Inserts the pending pulses. If the insert fails, the pulses are added back to be inserted by the next flush, as
+     * long as there is room for them.
+     */
+    public Mono<Void> flush() {
+        List<UsagePulse> batch = new ArrayList<>();
+        UsagePulse usagePulse;
+        while ((usagePulse = pendingPulses.pollFirst()) != null) {
+            batch.add(usagePulse);
+        }
+        pendingCount.addAndGet(-batch.size());
+
+        // Pulses of windows before the previous one can't be received anymore, except from clients with skewed clocks
+        long previousWindow = getWindow(Instant.now()) - 1;
+        receivedPulses.keySet().removeIf(key -> key.window() < previousWindow);
+
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+        return repository
+                .bulkInsert(batch)
+                .doOnSuccess(ignored -> sample.stop(flushTimer))
+                .onErrorResume(error -> {
+                    log.error("Error while inserting {} usage pulses", batch.size(), error);
+                    // The pulses are older than the ones received since they were taken, so they go back in front
+                    for (int i = batch.size() - 1; i >= 0; i--) {
+                        pendingPulses.addFirst(batch.get(i));
+                    }
+                    pendingCount.addAndGet(batch.size());
+                    dropOldestPulses();
+                    return Mono.empty();
+                });
+    }
+
+    @Scheduled(
+            initialDelayString = "${appsmith.usage-pulse.flush-interval-ms:10000}",
+            fixedDelayString = "${appsmith.usage-pulse.flush-interval-ms:10000}")
+    public void flushPeriodically() {
+        flush().block();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush().block(SHUTDOWN_FLUSH_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.error("Error while inserting the pending usage pulses on shutdown", e);
+        }
+    }
+
+    private void dropOldestPulses() {
+        while (pendingCount.get() > maxPending && pendingPulses.pollFirst() != null) {
+            pendingCount.decrementAndGet();
+            droppedCounter.increment();
+        }
+    }
+
+    private static long getWindow(Instant instant) {
+        return instant.toEpochMilli() / DEDUPLICATION_WINDOW.toMillis();
+    }
+}
@@ -0,0 +1,53 @@
+package com.appsmith.server.helpers;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the feature flags of the users of a request, so that they are fetched once per request instead of once per
+ * flag that is checked. An instance is put in the Reactor context of every request by
+ * {@link com.appsmith.server.filters.RequestScopedCacheFilter}. Outside of a request, e.g. in scheduled jobs, the flags
+ * are fetched every time, as before.
+ */
+public class UserFeatureFlagsRequestCache {
+
+    private static final String CONTEXT_KEY = UserFeatureFlagsRequestCache.class.getName();
+
+    // Reactor doesn't expire a cached value with this TTL, so the flags are kept for the rest of the request
+    private static final Duration FOR_REQUEST = Duration.ofMillis(Long.MAX_VALUE);
+
+    private final Map<String, Mono<Map<String, Boolean>>> userFlags = new ConcurrentHashMap<>();
+
+    public static Context putInContext(Context context, UserFeatureFlagsRequestCache cache) {
+        return context.put(CONTEXT_KEY, cache);
+    }
+
+    /**
+     * Returns the feature flags of the user from the request, fetching them if they haven't been fetched yet in this
+     * request. A failed fetch isn't kept, so that the flags are fetched again by the next check.
+     *
+     * @param userIdentifier identifier of the user against which the flags are evaluated
+     * @param fetcher        fetches the feature flags of the user
+     * @return the feature flags of the user, which must not be modified
+     */
+    public static Mono<Map<String, Boolean>> get(String userIdentifier, Supplier<Mono<Map<String, Boolean>>> fetcher) {
+        return Mono.deferContextual(contextView -> {
+            UserFeatureFlagsRequestCache cache = getFromContext(contextView);
+            if (cache == null) {
+                return fetcher.get();
+            }
+            return cache.userFlags.computeIfAbsent(userIdentifier, ignored -> fetcher.get()
+                    .cache(flags -> FOR_REQUEST, error -> Duration.ZERO, () -> Duration.ZERO));
+        });
+    }
+
+    private static UserFeatureFlagsRequestCache getFromContext(ContextView contextView) {
+        return contextView.getOrDefault(CONTEXT_KEY, null);
+    }
+}
@@ -1,6 +1,7 @@
 package com.appsmith.server.helpers.ce;
 
 import com.appsmith.external.constants.AnalyticsEvents;
+import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.git.FileInterface;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.Stopwatch;
@@ -19,12 +20,14 @@ import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.ArtifactGitFileUtils;
+import com.appsmith.server.helpers.GitUtils;
 import com.appsmith.server.migrations.JsonSchemaVersions;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -33,6 +36,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
@@ -40,6 +44,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitCommandConstantsCE.CHECKOUT_BRANCH;
 import static com.appsmith.external.git.constants.ce.GitConstantsCE.RECONSTRUCT_PAGE;
@@ -66,6 +72,11 @@ public class CommonGitFileUtilsCE {
 
     private final JsonSchemaVersions jsonSchemaVersions;
 
+    // Whether the git status is computed against the last commit without saving the artifact to the local repo
+    @Getter
+    @Value("${appsmith.git.status.last-commit-diff.enabled:false}")
+    private boolean isStatusFromLastCommitEnabled;
+
     private ArtifactGitFileUtils<?> getArtifactBasedFileHelper(ArtifactType artifactType) {
         if (ArtifactType.APPLICATION.equals(artifactType)) {
             return applicationGitFileUtils;
@@ -100,6 +111,21 @@ public class CommonGitFileUtilsCE {
         }
     }
 
+    /**
+     * This method will compute the status of the artifact against the last commit of the branch, without saving the
+     * artifact to the local repo directory.
+     *
+     * @param baseRepoSuffix       path suffix used to create a local repo path
+     * @param artifactExchangeJson artifact reference object from which entire artifact can be rehydrated
+     * @param branchName           name of the branch for the current artifact
+     * @return status of the branch against its last commit
+     */
+    public Mono<GitStatusDTO> getStatusFromLastCommit(
+            Path baseRepoSuffix, ArtifactExchangeJson artifactExchangeJson, String branchName) {
+        ArtifactGitReference artifactGitReference = createArtifactReference(artifactExchangeJson);
+        return fileUtils.getStatusFromLastCommit(baseRepoSuffix, artifactGitReference, branchName);
+    }
+
     public Mono<Path> saveArtifactToLocalRepoWithAnalytics(
             Path baseRepoSuffix, ArtifactExchangeJson artifactExchangeJson, String branchName) {
 
@@ -422,6 +448,40 @@ public class CommonGitFileUtilsCE {
         return Mono.create(sink -> jsonObjectMono.subscribe(sink::success, sink::error, null, sink.currentContext()));
     }
 
+    /**
+     * Lists the pages of the branch whose DSL is older than the latest DSL version. Only the main container of every
+     * page is read from the repo to find its DSL version, the widgets of the pages are not read. The repo is expected to
+     * be checked out to the branch.
+     *
+     * @param workspaceId       : workspace id of the artifact
+     * @param defaultArtifactId : default artifact id
+     * @param repoName          : name of the repo
+     * @param branchName        : name of the branch
+     * @param latestDslVersion  : latest DSL version
+     * @param artifactType      : artifact type of this operation
+     * @return names of the pages which require a DSL migration
+     */
+    public Mono<Set<String>> getPageNamesRequiringDslMigration(
+            String workspaceId,
+            String defaultArtifactId,
+            String repoName,
+            String branchName,
+            Integer latestDslVersion,
+            ArtifactType artifactType) {
+        ArtifactGitFileUtils<?> artifactGitFileUtils = getArtifactBasedFileHelper(artifactType);
+        Path baseRepoSuffix = artifactGitFileUtils.getRepoSuffixPath(workspaceId, defaultArtifactId, repoName);
+
+        return fileUtils
+                .getPageNamesFromGitRepo(baseRepoSuffix)
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(pageName -> fileUtils
+                        .reconstructPageFromGitRepo(pageName, branchName, baseRepoSuffix, false)
+                        .map(fileOperations::getMainContainer)
+                        .filter(mainContainer -> GitUtils.isMigrationRequired(mainContainer, latestDslVersion))
+                        .map(mainContainer -> pageName))
+                .collect(Collectors.toSet());
+    }
+
     private Integer getServerSchemaVersion(JsonObject metadataJsonObject) {
         if (metadataJsonObject == null) {
             return jsonSchemaVersions.getServerVersion();
@@ -72,6 +72,14 @@ public final class BridgeQuery<T extends BaseDomain> extends Criteria {
         return this;
     }
 
+    /**
+     * Matches the documents in which the array at the given key contains all the given values.
+     */
+    public BridgeQuery<T> containsAll(@NonNull String key, @NonNull Collection<String> values) {
+        checks.add(Criteria.where(key).all(values));
+        return this;
+    }
+
     public BridgeQuery<T> notIn(@NonNull String needle, @NonNull Collection<String> haystack) {
         checks.add(Criteria.where(needle).not().in(haystack));
         return this;
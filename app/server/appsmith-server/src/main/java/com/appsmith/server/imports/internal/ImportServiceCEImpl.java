@@ -31,6 +31,8 @@ import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -43,10 +45,13 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -55,6 +60,7 @@ public class ImportServiceCEImpl implements ImportServiceCE {
 
     public static final Set<MediaType> ALLOWED_CONTENT_TYPES = Set.of(MediaType.APPLICATION_JSON);
     private static final String INVALID_JSON_FILE = "invalid json file";
+    private static final String IMPORT_PHASE_METRIC = "appsmith.import.phase";
     private final ArtifactBasedImportService<Application, ApplicationImportDTO, ApplicationJson>
             applicationImportService;
     private final SessionUserService sessionUserService;
@@ -470,6 +476,8 @@ public class ImportServiceCEImpl implements ImportServiceCE {
 
         // Start the stopwatch to log the execution time
         Stopwatch stopwatch = new Stopwatch(AnalyticsEvents.IMPORT.getEventName());
+        // Execution time of every phase of the import, in the order in which the phases have completed
+        Map<String, Long> phaseExecutionTimes = Collections.synchronizedMap(new LinkedHashMap<>());
 
         // this would import customJsLibs for all type of artifacts
         Mono<Void> artifactSpecificImportableEntities =
@@ -481,23 +489,41 @@ public class ImportServiceCEImpl implements ImportServiceCE {
          If the first db call inside a transaction is a Flux, then there's a chance of creating multiple mongo
          transactions which will lead to NoSuchTransaction exception.
         */
-        final Mono<? extends Artifact> importableArtifactMono = workspaceMono
-                .then(Mono.defer(() -> artifactSpecificImportableEntities))
-                .then(Mono.defer(() -> contextBasedImportService.updateAndSaveArtifactInContext(
-                        importedDoc.getArtifact(), importingMetaDTO, mappedImportableResourcesDTO, currUserMono)))
+        final Mono<? extends Artifact> importableArtifactMono = timeImportPhase(
+                        "artifact",
+                        workspaceMono
+                                .then(Mono.defer(() -> artifactSpecificImportableEntities))
+                                .then(Mono.defer(() -> contextBasedImportService.updateAndSaveArtifactInContext(
+                                        importedDoc.getArtifact(),
+                                        importingMetaDTO,
+                                        mappedImportableResourcesDTO,
+                                        currUserMono))),
+                        phaseExecutionTimes)
                 .cache();
 
         final Mono<? extends Artifact> importMono = importableArtifactMono
-                .then(Mono.defer(() -> generateImportableEntities(
-                        importingMetaDTO,
-                        mappedImportableResourcesDTO,
-                        workspaceMono,
-                        importableArtifactMono,
-                        importedDoc)))
+                .then(timeImportPhase(
+                        "entities",
+                        Mono.defer(() -> generateImportableEntities(
+                                importingMetaDTO,
+                                mappedImportableResourcesDTO,
+                                workspaceMono,
+                                importableArtifactMono,
+                                importedDoc)),
+                        phaseExecutionTimes))
                 .then(importableArtifactMono)
-                .flatMap(importableArtifact -> updateImportableEntities(
-                        contextBasedImportService, importableArtifact, mappedImportableResourcesDTO, importingMetaDTO))
-                .flatMap(importableArtifact -> updateImportableArtifact(contextBasedImportService, importableArtifact))
+                .flatMap(importableArtifact -> timeImportPhase(
+                        "updateEntities",
+                        updateImportableEntities(
+                                contextBasedImportService,
+                                importableArtifact,
+                                mappedImportableResourcesDTO,
+                                importingMetaDTO),
+                        phaseExecutionTimes))
+                .flatMap(importableArtifact -> timeImportPhase(
+                        "updateArtifact",
+                        updateImportableArtifact(contextBasedImportService, importableArtifact),
+                        phaseExecutionTimes))
                 .onErrorResume(throwable -> {
                     String errorMessage = ImportExportUtils.getErrorMessage(throwable);
                     log.error("Error importing {}. Error: {}", artifactContextString, errorMessage, throwable);
@@ -505,9 +531,12 @@ public class ImportServiceCEImpl implements ImportServiceCE {
                             new AppsmithException(AppsmithError.GENERIC_JSON_IMPORT_ERROR, workspaceId, errorMessage));
                 })
                 // execute dry run for datasource
-                .flatMap(importableArtifact -> dryOperationRepository
-                        .executeAllDbOps(mappedImportableResourcesDTO)
-                        .thenReturn(importableArtifact))
+                .flatMap(importableArtifact -> timeImportPhase(
+                        "dryOperations",
+                        dryOperationRepository
+                                .executeAllDbOps(mappedImportableResourcesDTO)
+                                .thenReturn(importableArtifact),
+                        phaseExecutionTimes))
                 .as(transactionalOperator::transactional);
 
         final Mono<? extends Artifact> resultMono = importMono
@@ -519,7 +548,9 @@ public class ImportServiceCEImpl implements ImportServiceCE {
                     User user = tuple.getT2();
                     stopwatch.stopTimer();
                     stopwatch.stopAndLogTimeInMillis();
-                    return sendImportRelatedAnalyticsEvent(importedDoc, importableArtifact, stopwatch, user);
+                    log.debug("Execution time of the import phases in ms: {}", phaseExecutionTimes);
+                    return sendImportRelatedAnalyticsEvent(
+                            importedDoc, importableArtifact, stopwatch, phaseExecutionTimes, user);
                 });
 
         // Import Context is currently a slow API because it needs to import and create context, pages, actions
@@ -714,24 +745,50 @@ public class ImportServiceCEImpl implements ImportServiceCE {
      * @param artifactExchangeJson : Json which has been used for importing the artifact
      * @param importableArtifact:  the artifact which is imported
      * @param stopwatch            : stopwatch
+     * @param phaseExecutionTimes  : execution time of every phase of the import, in ms
      * @param currentUser          : user which has initiated the import
      */
     private Mono<Artifact> sendImportRelatedAnalyticsEvent(
             ArtifactExchangeJson artifactExchangeJson,
             Artifact importableArtifact,
             Stopwatch stopwatch,
+            Map<String, Long> phaseExecutionTimes,
             User currentUser) {
 
         Map<String, Object> analyticsData = new HashMap<>(getArtifactBasedImportService(artifactExchangeJson)
                 .createImportAnalyticsData(artifactExchangeJson, importableArtifact));
         analyticsData.put(FieldName.FLOW_NAME, stopwatch.getFlow());
         analyticsData.put("executionTime", stopwatch.getExecutionTime());
+        analyticsData.put("phaseExecutionTimes", new LinkedHashMap<>(phaseExecutionTimes));
 
         return analyticsService
                 .sendEvent(AnalyticsEvents.UNIT_EXECUTION_TIME.getEventName(), currentUser.getUsername(), analyticsData)
                 .thenReturn(importableArtifact);
     }
 
+    /**
+     * Records the time taken by a phase of the import, once it completes successfully, in the given map and in the
+     * import phase timer.
+     *
+     * @param phase               name of the phase
+     * @param phaseMono           the phase, timed from the moment it's subscribed to
+     * @param phaseExecutionTimes map in which the execution time of the phase is put, in ms
+     */
+    private static <T> Mono<T> timeImportPhase(String phase, Mono<T> phaseMono, Map<String, Long> phaseExecutionTimes) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return phaseMono.doOnSuccess(result -> {
+                long executionTime = System.nanoTime() - startedAt;
+                phaseExecutionTimes.put(phase, TimeUnit.NANOSECONDS.toMillis(executionTime));
+                Timer.builder(IMPORT_PHASE_METRIC)
+                        .description("Time taken by the phases of the import of an artifact")
+                        .tag("phase", phase)
+                        .register(Metrics.globalRegistry)
+                        .record(executionTime, TimeUnit.NANOSECONDS);
+            });
+        });
+    }
+
     @Override
     public Mono<List<Datasource>> findDatasourceByArtifactId(
             String workspaceId, String defaultArtifactId, ArtifactType artifactType) {
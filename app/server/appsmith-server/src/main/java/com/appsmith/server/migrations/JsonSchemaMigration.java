@@ -1,6 +1,7 @@
 package com.appsmith.server.migrations;
 
 import com.appsmith.server.constants.ArtifactType;
+import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.dtos.ApplicationJson;
 import com.appsmith.server.dtos.ArtifactExchangeJson;
 import com.appsmith.server.exceptions.AppsmithError;
@@ -11,11 +12,57 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JsonSchemaMigration {
 
+    /**
+     * A step of the server schema migration which is run on the whole json, for jsons at the given version or older.
+     */
+    private record ApplicationMigrationStep(int version, Consumer<ApplicationJson> migration) {}
+
+    /**
+     * A step of the server schema migration which is run on each of the actions of the json, for jsons at the given
+     * version or older.
+     */
+    private record ActionMigrationStep(int version, BiConsumer<ApplicationJson, NewAction> migration) {}
+
+    private static final List<ApplicationMigrationStep> APPLICATION_MIGRATION_STEPS = List.of(
+            // Remove unwanted fields from DTO and allow serialization for JsonIgnore fields
+            new ApplicationMigrationStep(4, applicationJson -> {
+                if (!CollectionUtils.isNullOrEmpty(applicationJson.getPageList())
+                        && applicationJson.getExportedApplication() != null) {
+                    MigrationHelperMethods.arrangeApplicationPagesAsPerImportedPageOrder(applicationJson);
+                    MigrationHelperMethods.updateMongoEscapedWidget(applicationJson);
+                }
+            }),
+            new ApplicationMigrationStep(6, MigrationHelperMethods::ensureXmlParserPresenceInCustomJsLibList));
+
+    private static final List<ActionMigrationStep> ACTION_MIGRATION_STEPS = List.of(
+            // Migration for deprecating archivedAt field in ActionDTO
+            new ActionMigrationStep(
+                    1,
+                    (applicationJson, newAction) ->
+                            MigrationHelperMethods.updateArchivedAtByDeletedATForAction(newAction)),
+            // Migration for converting formData elements to one that supports viewType
+            new ActionMigrationStep(
+                    2, (applicationJson, newAction) -> MigrationHelperMethods.migrateActionFormDataToObject(newAction)),
+            // Remove unwanted fields from DTO and allow serialization for JsonIgnore fields
+            new ActionMigrationStep(4, (applicationJson, newAction) -> {
+                if (applicationJson.getInvisibleActionFields() != null) {
+                    MigrationHelperMethods.updateUserSetOnLoadAction(
+                            applicationJson.getInvisibleActionFields(), newAction);
+                }
+            }),
+            new ActionMigrationStep(
+                    5,
+                    (applicationJson, newAction) -> MigrationHelperMethods.migrateGoogleSheetsActionToUqi(newAction)));
+
     private final JsonSchemaVersions jsonSchemaVersions;
 
     private boolean isCompatible(ApplicationJson applicationJson) {
@@ -104,55 +151,33 @@ public class JsonSchemaMigration {
      * @return : transformed applicationJson
      */
     private ApplicationJson migrateServerSchema(ApplicationJson applicationJson) {
-        if (jsonSchemaVersions.getServerVersion().equals(applicationJson.getServerSchemaVersion())) {
+        final Integer serverVersion = jsonSchemaVersions.getServerVersion();
+        final int jsonServerVersion = applicationJson.getServerSchemaVersion();
+        if (serverVersion.equals(jsonServerVersion)) {
             // No need to run server side migration
             return applicationJson;
         }
-        // Run migration linearly
-        // Updating the schema version after each migration is not required as we are not exiting by breaking the switch
-        // cases, but this keeps the version number and the migration in sync
-        switch (applicationJson.getServerSchemaVersion()) {
-            case 0:
-
-            case 1:
-                // Migration for deprecating archivedAt field in ActionDTO
-                if (!CollectionUtils.isNullOrEmpty(applicationJson.getActionList())) {
-                    MigrationHelperMethods.updateArchivedAtByDeletedATForActions(applicationJson.getActionList());
-                }
-                applicationJson.setServerSchemaVersion(2);
-            case 2:
-                // Migration for converting formData elements to one that supports viewType
-                MigrationHelperMethods.migrateActionFormDataToObject(applicationJson);
-                applicationJson.setServerSchemaVersion(3);
-            case 3:
-                // File structure migration to update git directory structure
-                applicationJson.setServerSchemaVersion(4);
-            case 4:
-                // Remove unwanted fields from DTO and allow serialization for JsonIgnore fields
-                if (!CollectionUtils.isNullOrEmpty(applicationJson.getPageList())
-                        && applicationJson.getExportedApplication() != null) {
-                    MigrationHelperMethods.arrangeApplicationPagesAsPerImportedPageOrder(applicationJson);
-                    MigrationHelperMethods.updateMongoEscapedWidget(applicationJson);
-                }
-                if (!CollectionUtils.isNullOrEmpty(applicationJson.getActionList())) {
-                    MigrationHelperMethods.updateUserSetOnLoadAction(applicationJson);
-                }
-                applicationJson.setServerSchemaVersion(5);
-            case 5:
-                MigrationHelperMethods.migrateGoogleSheetsActionsToUqi(applicationJson);
-                applicationJson.setServerSchemaVersion(6);
-            case 6:
-                MigrationHelperMethods.ensureXmlParserPresenceInCustomJsLibList(applicationJson);
-                applicationJson.setServerSchemaVersion(7);
-            default:
-                // Unable to detect the serverSchema
+
+        // Run only the steps for the versions after the one of the json. The steps for the actions are run in a single
+        // pass over the actions, in the order of their versions
+        for (ApplicationMigrationStep step : APPLICATION_MIGRATION_STEPS) {
+            if (jsonServerVersion <= step.version()) {
+                step.migration().accept(applicationJson);
+            }
         }
 
-        if (applicationJson.getServerSchemaVersion().equals(jsonSchemaVersions.getServerVersion())) {
-            return applicationJson;
+        final List<ActionMigrationStep> actionMigrationSteps = ACTION_MIGRATION_STEPS.stream()
+                .filter(step -> jsonServerVersion <= step.version())
+                .toList();
+        if (!actionMigrationSteps.isEmpty() && !CollectionUtils.isNullOrEmpty(applicationJson.getActionList())) {
+            applicationJson.getActionList().parallelStream().forEach(newAction -> {
+                for (ActionMigrationStep step : actionMigrationSteps) {
+                    step.migration().accept(applicationJson, newAction);
+                }
+            });
         }
 
-        applicationJson.setServerSchemaVersion(jsonSchemaVersions.getServerVersion());
+        applicationJson.setServerSchemaVersion(serverVersion);
         return applicationJson;
     }
 }
@@ -54,12 +54,16 @@ public class MigrationHelperMethods {
     // Migration for deprecating archivedAt field in ActionDTO
     public static void updateArchivedAtByDeletedATForActions(List<NewAction> actionList) {
         for (NewAction newAction : actionList) {
-            ActionDTO unpublishedAction = newAction.getUnpublishedAction();
-            if (unpublishedAction != null) {
-                final Instant archivedAt = unpublishedAction.getArchivedAt();
-                unpublishedAction.setDeletedAt(archivedAt);
-                unpublishedAction.setArchivedAt(null);
-            }
+            updateArchivedAtByDeletedATForAction(newAction);
+        }
+    }
+
+    public static void updateArchivedAtByDeletedATForAction(NewAction newAction) {
+        ActionDTO unpublishedAction = newAction.getUnpublishedAction();
+        if (unpublishedAction != null) {
+            final Instant archivedAt = unpublishedAction.getArchivedAt();
+            unpublishedAction.setDeletedAt(archivedAt);
+            unpublishedAction.setArchivedAt(null);
         }
     }
 
@@ -67,17 +71,19 @@ public class MigrationHelperMethods {
         final List<NewAction> actionList = applicationJson.getActionList();
 
         if (!CollectionUtils.isNullOrEmpty(actionList)) {
-            actionList.parallelStream().forEach(newAction -> {
-                // determine plugin
-                final String pluginName = newAction.getPluginId();
-                if ("mongo-plugin".equals(pluginName)) {
-                    migrateMongoActionsFormData(newAction);
-                } else if ("amazons3-plugin".equals(pluginName)) {
-                    migrateAmazonS3ActionsFormData(newAction);
-                } else if ("firestore-plugin".equals(pluginName)) {
-                    migrateFirestoreActionsFormData(newAction);
-                }
-            });
+            actionList.parallelStream().forEach(MigrationHelperMethods::migrateActionFormDataToObject);
+        }
+    }
+
+    public static void migrateActionFormDataToObject(NewAction newAction) {
+        // determine plugin
+        final String pluginName = newAction.getPluginId();
+        if ("mongo-plugin".equals(pluginName)) {
+            migrateMongoActionsFormData(newAction);
+        } else if ("amazons3-plugin".equals(pluginName)) {
+            migrateAmazonS3ActionsFormData(newAction);
+        } else if ("firestore-plugin".equals(pluginName)) {
+            migrateFirestoreActionsFormData(newAction);
         }
     }
 
@@ -170,22 +176,24 @@ public class MigrationHelperMethods {
     public static void updateUserSetOnLoadAction(ApplicationJson applicationJson) {
         Map<String, InvisibleActionFields> invisibleActionFieldsMap = applicationJson.getInvisibleActionFields();
         if (invisibleActionFieldsMap != null) {
-            applicationJson.getActionList().parallelStream().forEach(newAction -> {
-                if (newAction.getUnpublishedAction() != null) {
-                    newAction
-                            .getUnpublishedAction()
-                            .setUserSetOnLoad(invisibleActionFieldsMap
-                                    .get(newAction.getId())
-                                    .getUnpublishedUserSetOnLoad());
-                }
-                if (newAction.getPublishedAction() != null) {
-                    newAction
-                            .getPublishedAction()
-                            .setUserSetOnLoad(invisibleActionFieldsMap
-                                    .get(newAction.getId())
-                                    .getPublishedUserSetOnLoad());
-                }
-            });
+            applicationJson.getActionList().parallelStream()
+                    .forEach(newAction -> updateUserSetOnLoadAction(invisibleActionFieldsMap, newAction));
+        }
+    }
+
+    public static void updateUserSetOnLoadAction(
+            Map<String, InvisibleActionFields> invisibleActionFieldsMap, NewAction newAction) {
+        if (newAction.getUnpublishedAction() != null) {
+            newAction
+                    .getUnpublishedAction()
+                    .setUserSetOnLoad(
+                            invisibleActionFieldsMap.get(newAction.getId()).getUnpublishedUserSetOnLoad());
+        }
+        if (newAction.getPublishedAction() != null) {
+            newAction
+                    .getPublishedAction()
+                    .setUserSetOnLoad(
+                            invisibleActionFieldsMap.get(newAction.getId()).getPublishedUserSetOnLoad());
         }
     }
 
@@ -193,13 +201,15 @@ public class MigrationHelperMethods {
         final List<NewAction> actionList = applicationJson.getActionList();
 
         if (!CollectionUtils.isNullOrEmpty(actionList)) {
-            actionList.parallelStream().forEach(newAction -> {
-                // Determine plugin
-                final String pluginName = newAction.getPluginId();
-                if ("google-sheets-plugin".equals(pluginName)) {
-                    migrateGoogleSheetsToUqi(newAction);
-                }
-            });
+            actionList.parallelStream().forEach(MigrationHelperMethods::migrateGoogleSheetsActionToUqi);
+        }
+    }
+
+    public static void migrateGoogleSheetsActionToUqi(NewAction newAction) {
+        // Determine plugin
+        final String pluginName = newAction.getPluginId();
+        if ("google-sheets-plugin".equals(pluginName)) {
+            migrateGoogleSheetsToUqi(newAction);
         }
     }
 
@@ -0,0 +1,62 @@
+package com.appsmith.server.migrations.db.ce;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Workspace;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import static com.appsmith.server.migrations.DatabaseChangelog1.dropIndexIfExists;
+import static com.appsmith.server.migrations.DatabaseChangelog1.ensureIndexes;
+import static com.appsmith.server.migrations.DatabaseChangelog1.makeIndex;
+
+/**
+ * The permission check of a query matches a single policy which has both the required permission and any of the
+ * permission groups of the user. With the index on the permission groups alone, every policy which has any of the
+ * permission groups of the user is a candidate, whatever its permission. The compound index bounds the scan by the
+ * permission as well. The existing index on the permission groups is kept for the queries which only look at the
+ * permission groups.
+ */
+@Slf4j
+@ChangeUnit(order = "057", id = "add-permission-compound-index-to-domain-objects", author = " ")
+public class Migration057AddPermissionCompoundIndexToDomainObjects {
+
+    private final MongoTemplate mongoTemplate;
+
+    public static final String POLICY_PERMISSION_PERMISSION_GROUPS_INDEX = "policies_permission_permissionGroups";
+
+    public Migration057AddPermissionCompoundIndexToDomainObjects(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @RollbackExecution
+    public void rollbackExecution() {}
+
+    @Execution
+    public void addPermissionCompoundIndexToDomainObjects() {
+        addPermissionCompoundIndex(Application.class);
+        addPermissionCompoundIndex(Workspace.class);
+    }
+
+    private void addPermissionCompoundIndex(Class<?> domainClass) {
+        Index index = makeIndex("policies.permission", "policies.permissionGroups")
+                .named(POLICY_PERMISSION_PERMISSION_GROUPS_INDEX);
+
+        try {
+            dropIndexIfExists(mongoTemplate, domainClass, POLICY_PERMISSION_PERMISSION_GROUPS_INDEX);
+
+            ensureIndexes(mongoTemplate, domainClass, index);
+        } catch (UncategorizedMongoDbException exception) {
+            log.error(
+                    "An error occurred while creating the index : {}, skipping the additon of index because of {}.",
+                    POLICY_PERMISSION_PERMISSION_GROUPS_INDEX,
+                    exception.getMessage());
+        } catch (Exception e) {
+            log.error("An error occurred while creating the index : {}", POLICY_PERMISSION_PERMISSION_GROUPS_INDEX, e);
+        }
+    }
+}
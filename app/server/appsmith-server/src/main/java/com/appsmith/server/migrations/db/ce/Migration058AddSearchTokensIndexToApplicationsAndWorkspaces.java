@@ -0,0 +1,60 @@
+package com.appsmith.server.migrations.db.ce;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Workspace;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import static com.appsmith.server.migrations.DatabaseChangelog1.dropIndexIfExists;
+import static com.appsmith.server.migrations.DatabaseChangelog1.ensureIndexes;
+import static com.appsmith.server.migrations.DatabaseChangelog1.makeIndex;
+
+/**
+ * The search of applications and workspaces by name looks up the tokens of the search string in the search tokens of
+ * the names, instead of matching the regex against the name of every document the user has access to. The tokens of the
+ * existing documents are set in the background by {@link
+ * com.appsmith.server.migrations.partitioned.SearchTokensMigration}.
+ */
+@Slf4j
+@ChangeUnit(order = "058", id = "add-search-tokens-index-to-applications-and-workspaces", author = " ")
+public class Migration058AddSearchTokensIndexToApplicationsAndWorkspaces {
+
+    private final MongoTemplate mongoTemplate;
+
+    public static final String SEARCH_TOKENS_INDEX = "searchTokens";
+
+    public Migration058AddSearchTokensIndexToApplicationsAndWorkspaces(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @RollbackExecution
+    public void rollbackExecution() {}
+
+    @Execution
+    public void addSearchTokensIndexToApplicationsAndWorkspaces() {
+        addSearchTokensIndex(Application.class, Application.Fields.searchTokens);
+        addSearchTokensIndex(Workspace.class, Workspace.Fields.searchTokens);
+    }
+
+    private void addSearchTokensIndex(Class<?> domainClass, String searchTokensField) {
+        Index index = makeIndex(searchTokensField).named(SEARCH_TOKENS_INDEX);
+
+        try {
+            dropIndexIfExists(mongoTemplate, domainClass, SEARCH_TOKENS_INDEX);
+
+            ensureIndexes(mongoTemplate, domainClass, index);
+        } catch (UncategorizedMongoDbException exception) {
+            log.error(
+                    "An error occurred while creating the index : {}, skipping the additon of index because of {}.",
+                    SEARCH_TOKENS_INDEX,
+                    exception.getMessage());
+        } catch (Exception e) {
+            log.error("An error occurred while creating the index : {}", SEARCH_TOKENS_INDEX, e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.appsmith.server.migrations.partitioned;
+
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.List;
+
+/**
+ * A data migration which is run by the {@link PartitionedMigrationRunner} over ranges of the ids of a collection in
+ * parallel, with its progress saved after every batch so that it resumes where it left off after a restart.
+ * <p>
+ * Migrations which have to be done before the server serves requests are run from a {@code @ChangeUnit} with
+ * {@link PartitionedMigrationRunner#run}. Migrations which the server can serve requests without are run in the
+ * background once the server has started, if they are Spring beans and {@link #isBackground()} is true.
+ * <p>
+ * A batch may be migrated again after a restart if the server stopped before its progress was saved, so migrating a
+ * document has to be idempotent.
+ */
+public interface PartitionedMigration {
+
+    /**
+     * @return id of the migration, under which its progress is saved
+     */
+    String getId();
+
+    /**
+     * @return domain class of the collection which is migrated
+     */
+    Class<?> getDomainClass();
+
+    /**
+     * @return criteria for the documents which are migrated, or null to go through all the documents
+     */
+    default Criteria getCriteria() {
+        return null;
+    }
+
+    /**
+     * @return whether the migration is run in the background after the server has started
+     */
+    default boolean isBackground() {
+        return false;
+    }
+
+    /**
+     * Migrates a document, by returning the writes which are done for it. The writes of a batch of documents are done
+     * together in one bulk write.
+     *
+     * @param document document to migrate
+     * @return writes for the document, which are empty if nothing needs to be changed
+     */
+    List<WriteModel<Document>> migrate(Document document);
+}
@@ -0,0 +1,392 @@
+package com.appsmith.server.migrations.partitioned;
+
+import com.appsmith.server.dtos.MigrationStatusDTO;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Runs {@link PartitionedMigration}s. The ids of the documents to migrate are split into ranges, which are migrated in
+ * parallel in batches of documents, with the writes of a batch done in one bulk write. The progress of every range is
+ * saved after every batch, so that a migration resumes from where it left off when the server is restarted.
+ * <p>
+ * A range is leased to the server which migrates it, so that servers which run the same migration at the same time
+ * share its ranges, and a range which is left behind by a server that has stopped is taken over once its lease expires.
+ */
+@Slf4j
+@Component
+public class PartitionedMigrationRunner implements ApplicationListener<ApplicationReadyEvent> {
+
+    static final String MIGRATION_COLLECTION = "partitionedMigration";
+    static final String PARTITION_COLLECTION = "partitionedMigrationPartition";
+
+    private static final String ID = "_id";
+    private static final String MIGRATION_ID = "migrationId";
+    private static final String BACKGROUND = "background";
+    private static final String BOUNDARIES = "boundaries";
+    private static final String FROM = "from";
+    private static final String TO = "to";
+    private static final String LAST_ID = "lastId";
+    private static final String PROCESSED = "processed";
+    private static final String COMPLETED = "completed";
+    private static final String OWNER = "owner";
+    private static final String LEASE_UNTIL = "leaseUntil";
+    private static final String STARTED_AT = "startedAt";
+    private static final String COMPLETED_AT = "completedAt";
+
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+    private static final Duration CLAIM_RETRY_DELAY = Duration.ofSeconds(10);
+
+    // Ranges per thread, so that threads which are done with their ranges early take over the remaining ones
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectProvider<PartitionedMigration> migrations;
+    private final int parallelism;
+    private final int batchSize;
+
+    // Identifies this server in the leases of the ranges
+    private final String owner = UUID.randomUUID().toString();
+
+    public PartitionedMigrationRunner(
+            MongoTemplate mongoTemplate,
+            ObjectProvider<PartitionedMigration> migrations,
+            @Value("${appsmith.migrations.parallelism:4}") int parallelism,
+            @Value("${appsmith.migrations.batch-size:1000}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.migrations = migrations;
+        this.parallelism = Math.max(1, parallelism);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Runs the background migrations which haven't completed yet, one after the other, without holding up the startup.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent applicationReadyEvent) {
+        List<PartitionedMigration> backgroundMigrations = migrations
+                .orderedStream()
+                .filter(PartitionedMigration::isBackground)
+                .toList();
+        if (backgroundMigrations.isEmpty()) {
+            return;
+        }
+
+        Mono.fromRunnable(() -> backgroundMigrations.forEach(migration -> {
+                    try {
+                        run(migration);
+                    } catch (RuntimeException e) {
+                        log.error("Error while running background migration {}", migration.getId(), e);
+                    }
+                }))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    /**
+     * Runs the migration to completion, resuming it if it has been run partially before. Returns once all the ranges
+     * of the migration have been migrated, including the ones migrated by other servers.
+     *
+     * @param migration migration to run
+     */
+    public void run(PartitionedMigration migration) {
+        String migrationId = migration.getId();
+        Document migrationDocument = findOrCreateMigration(migration);
+        if (Boolean.TRUE.equals(migrationDocument.getBoolean(COMPLETED))) {
+            log.debug("Partitioned migration {} has already completed", migrationId);
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        int partitionCount = createPartitions(migrationId, migrationDocument.getList(BOUNDARIES, ObjectId.class));
+        int threadCount = Math.min(parallelism, partitionCount);
+        log.info(
+                "Running partitioned migration {} over {} ranges with {} threads",
+                migrationId,
+                partitionCount,
+                threadCount);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                workers.add(executorService.submit(() -> migratePartitions(migration)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Partitioned migration " + migrationId + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Partitioned migration " + migrationId + " was interrupted", e);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        if (hasPendingPartitions(migrationId)) {
+            throw new IllegalStateException("Partitioned migration " + migrationId + " stopped before completing");
+        }
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where(ID).is(migrationId)),
+                new Update().set(COMPLETED, true).set(COMPLETED_AT, new Date()),
+                MIGRATION_COLLECTION);
+        log.info("Partitioned migration {} completed in {} ms", migrationId, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * @return status of every partitioned migration which has been started
+     */
+    public List<MigrationStatusDTO> getMigrationStatuses() {
+        Map<String, List<Document>> partitionsByMigration =
+                mongoTemplate.findAll(Document.class, PARTITION_COLLECTION).stream()
+                        .collect(Collectors.groupingBy(partition -> partition.getString(MIGRATION_ID)));
+
+        return mongoTemplate.findAll(Document.class, MIGRATION_COLLECTION).stream()
+                .map(migration -> {
+                    List<Document> partitions = partitionsByMigration.getOrDefault(migration.getString(ID), List.of());
+                    Date startedAt = migration.getDate(STARTED_AT);
+                    Date completedAt = migration.getDate(COMPLETED_AT);
+                    return new MigrationStatusDTO(
+                            migration.getString(ID),
+                            Boolean.TRUE.equals(migration.getBoolean(BACKGROUND)),
+                            Boolean.TRUE.equals(migration.getBoolean(COMPLETED)),
+                            partitions.size(),
+                            (int) partitions.stream()
+                                    .filter(partition -> Boolean.TRUE.equals(partition.getBoolean(COMPLETED)))
+                                    .count(),
+                            partitions.stream()
+                                    .mapToLong(partition -> partition.get(PROCESSED, 0L))
+                                    .sum(),
+                            startedAt == null ? null : startedAt.toInstant(),
+                            completedAt == null ? null : completedAt.toInstant());
+                })
+                .toList();
+    }
+
+    /**
+     * Finds the saved migration, or saves it with the boundaries of its ranges if it's run for the first time. The
+     * boundaries are saved along with the migration so that every server, and every run after a restart, uses the
+     * same ranges.
+     */
+    private Document findOrCreateMigration(PartitionedMigration migration) {
+        Query migrationQuery = new Query(Criteria.where(ID).is(migration.getId()));
+        Document migrationDocument = mongoTemplate.findOne(migrationQuery, Document.class, MIGRATION_COLLECTION);
+        if (migrationDocument != null) {
+            return migrationDocument;
+        }
+
+        String collectionName = mongoTemplate.getCollectionName(migration.getDomainClass());
+        Object minId = findBoundaryId(migration, collectionName, Sort.Direction.ASC);
+        Object maxId = findBoundaryId(migration, collectionName, Sort.Direction.DESC);
+        List<ObjectId> boundaries = minId instanceof ObjectId min && maxId instanceof ObjectId max
+                ? splitIdRange(min, max, parallelism * PARTITIONS_PER_THREAD)
+                : List.of();
+
+        return mongoTemplate.findAndModify(
+                migrationQuery,
+                new Update()
+                        .setOnInsert(BACKGROUND, migration.isBackground())
+                        .setOnInsert(BOUNDARIES, boundaries)
+                        .setOnInsert(COMPLETED, false)
+                        .setOnInsert(STARTED_AT, new Date()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                Document.class,
+                MIGRATION_COLLECTION);
+    }
+
+    private Object findBoundaryId(PartitionedMigration migration, String collectionName, Sort.Direction direction) {
+        Query query = migration.getCriteria() == null ? new Query() : new Query(migration.getCriteria());
+        query.fields().include(ID);
+        query.with(Sort.by(direction, ID)).limit(1);
+        Document document = mongoTemplate.findOne(query, Document.class, collectionName);
+        return document == null ? null : document.get(ID);
+    }
+
+    /**
+     * Splits the ids between the two ids into ranges of about the same length of time, by the timestamps of the ids.
+     *
+     * @return ids at which the ranges start, other than the first range which starts from the smallest id
+     */
+    static List<ObjectId> splitIdRange(ObjectId minId, ObjectId maxId, int partitionCount) {
+        long minTimestamp = Integer.toUnsignedLong(minId.getTimestamp());
+        long maxTimestamp = Integer.toUnsignedLong(maxId.getTimestamp());
+        List<ObjectId> boundaries = new ArrayList<>();
+        long previousTimestamp = minTimestamp;
+        for (int i = 1; i < partitionCount; i++) {
+            long timestamp = minTimestamp + (maxTimestamp - minTimestamp) * i / partitionCount;
+            if (timestamp > previousTimestamp) {
+                // The smallest id with the timestamp
+                boundaries.add(new ObjectId(String.format("%08x%016x", timestamp, 0)));
+                previousTimestamp = timestamp;
+            }
+        }
+        return boundaries;
+    }
+
+    /**
+     * Saves the ranges of the migration, unless they have been saved already.
+     *
+     * @return number of ranges
+     */
+    private int createPartitions(String migrationId, List<ObjectId> boundaries) {
+        int partitionCount = boundaries.size() + 1;
+        for (int i = 0; i < partitionCount; i++) {
+            mongoTemplate.upsert(
+                    new Query(Criteria.where(ID).is(migrationId + ":" + i)),
+                    new Update()
+                            .setOnInsert(MIGRATION_ID, migrationId)
+                            .setOnInsert(FROM, i == 0 ? null : boundaries.get(i - 1))
+                            .setOnInsert(TO, i == boundaries.size() ? null : boundaries.get(i))
+                            .setOnInsert(PROCESSED, 0L)
+                            .setOnInsert(COMPLETED, false),
+                    PARTITION_COLLECTION);
+        }
+        return partitionCount;
+    }
+
+    /**
+     * Migrates ranges of the migration until none are left. Ranges which are leased by other servers are waited for,
+     * and taken over if their lease runs out.
+     */
+    private void migratePartitions(PartitionedMigration migration) {
+        String migrationId = migration.getId();
+        while (!Thread.currentThread().isInterrupted()) {
+            Document partition = claimPartition(migrationId);
+            if (partition != null) {
+                migratePartition(migration, partition);
+                continue;
+            }
+
+            if (!hasPendingPartitions(migrationId)) {
+                return;
+            }
+            try {
+                Thread.sleep(CLAIM_RETRY_DELAY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private boolean hasPendingPartitions(String migrationId) {
+        return mongoTemplate.exists(
+                new Query(Criteria.where(MIGRATION_ID)
+                        .is(migrationId)
+                        .and(COMPLETED)
+                        .is(false)),
+                PARTITION_COLLECTION);
+    }
+
+    private Document claimPartition(String migrationId) {
+        Date now = new Date();
+        Query claimableQuery = new Query(Criteria.where(MIGRATION_ID)
+                .is(migrationId)
+                .and(COMPLETED)
+                .is(false)
+                .orOperator(
+                        Criteria.where(LEASE_UNTIL).is(null),
+                        Criteria.where(LEASE_UNTIL).lt(now)));
+        return mongoTemplate.findAndModify(
+                claimableQuery,
+                new Update().set(OWNER, owner).set(LEASE_UNTIL, getLeaseUntil()),
+                FindAndModifyOptions.options().returnNew(true),
+                Document.class,
+                PARTITION_COLLECTION);
+    }
+
+    private void migratePartition(PartitionedMigration migration, Document partition) {
+        String partitionId = partition.getString(ID);
+        String collectionName = mongoTemplate.getCollectionName(migration.getDomainClass());
+        Object from = partition.get(FROM);
+        Object to = partition.get(TO);
+        Object lastId = partition.get(LAST_ID);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            Criteria idCriteria = Criteria.where(ID);
+            if (lastId != null) {
+                idCriteria.gt(lastId);
+            } else if (from != null) {
+                idCriteria.gte(from);
+            }
+            if (to != null) {
+                idCriteria.lt(to);
+            }
+            if (lastId == null && from == null && to == null) {
+                idCriteria.exists(true);
+            }
+            Criteria criteria = migration.getCriteria() == null
+                    ? idCriteria
+                    : new Criteria().andOperator(migration.getCriteria(), idCriteria);
+            Query batchQuery =
+                    new Query(criteria).with(Sort.by(Sort.Direction.ASC, ID)).limit(batchSize);
+
+            List<Document> documents = mongoTemplate.find(batchQuery, Document.class, collectionName);
+            if (documents.isEmpty()) {
+                mongoTemplate.updateFirst(
+                        new Query(Criteria.where(ID).is(partitionId).and(OWNER).is(owner)),
+                        new Update().set(COMPLETED, true).unset(LEASE_UNTIL),
+                        PARTITION_COLLECTION);
+                return;
+            }
+
+            List<WriteModel<Document>> writes = new ArrayList<>();
+            for (Document document : documents) {
+                writes.addAll(migration.migrate(document));
+            }
+            if (!writes.isEmpty()) {
+                mongoTemplate.getCollection(collectionName).bulkWrite(writes, new BulkWriteOptions().ordered(false));
+            }
+
+            lastId = documents.get(documents.size() - 1).get(ID);
+            long checkpointed = mongoTemplate
+                    .updateFirst(
+                            new Query(Criteria.where(ID)
+                                    .is(partitionId)
+                                    .and(OWNER)
+                                    .is(owner)),
+                            new Update()
+                                    .set(LAST_ID, lastId)
+                                    .inc(PROCESSED, (long) documents.size())
+                                    .set(LEASE_UNTIL, getLeaseUntil()),
+                            PARTITION_COLLECTION)
+                    .getMatchedCount();
+            if (checkpointed == 0) {
+                // The lease has run out and the range has been taken over by another server
+                log.warn("Range {} of a partitioned migration has been taken over by another server", partitionId);
+                return;
+            }
+        }
+    }
+
+    private static Date getLeaseUntil() {
+        return new Date(System.currentTimeMillis() + LEASE_DURATION.toMillis());
+    }
+}
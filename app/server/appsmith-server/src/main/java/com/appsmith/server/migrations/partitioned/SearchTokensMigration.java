@@ -0,0 +1,85 @@
+package com.appsmith.server.migrations.partitioned;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Workspace;
+import com.appsmith.server.searchentities.helpers.SearchEntityHelper;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sets the search tokens of the names of the applications and the workspaces which were saved before the tokens were
+ * introduced. Until then, such a document is searched by matching the regex against its name.
+ */
+public abstract class SearchTokensMigration implements PartitionedMigration {
+
+    private static final String NAME = "name";
+
+    protected abstract String getSearchTokensField();
+
+    @Override
+    public Criteria getCriteria() {
+        return Criteria.where(getSearchTokensField()).exists(false).and(NAME).exists(true);
+    }
+
+    @Override
+    public boolean isBackground() {
+        return true;
+    }
+
+    @Override
+    public List<WriteModel<Document>> migrate(Document document) {
+        String name = document.getString(NAME);
+        if (name == null) {
+            return List.of();
+        }
+
+        return List.of(new UpdateOneModel<>(
+                Filters.eq("_id", document.get("_id")),
+                Updates.set(getSearchTokensField(), SearchEntityHelper.getSearchTokens(name))));
+    }
+
+    @Component
+    public static class ApplicationSearchTokensMigration extends SearchTokensMigration {
+
+        @Override
+        public String getId() {
+            return "add-search-tokens-to-applications";
+        }
+
+        @Override
+        public Class<?> getDomainClass() {
+            return Application.class;
+        }
+
+        @Override
+        protected String getSearchTokensField() {
+            return Application.Fields.searchTokens;
+        }
+    }
+
+    @Component
+    public static class WorkspaceSearchTokensMigration extends SearchTokensMigration {
+
+        @Override
+        public String getId() {
+            return "add-search-tokens-to-workspaces";
+        }
+
+        @Override
+        public Class<?> getDomainClass() {
+            return Workspace.class;
+        }
+
+        @Override
+        protected String getSearchTokensField() {
+            return Workspace.Fields.searchTokens;
+        }
+    }
+}
@@ -29,6 +29,11 @@ public interface NewPageServiceCE extends CrudService<NewPage, String> {
 
     Flux<NewPage> findNewPagesByApplicationId(String applicationId, AclPermission permission);
 
+    /**
+     * Fetches the pages with only the fields which are needed to list them, i.e. without their layouts.
+     */
+    Flux<NewPage> findPageSummariesByIds(List<String> pageIds, AclPermission permission);
+
     Mono<NewPage> findByIdAndBranchName(String id, String branchName);
 
     Mono<PageDTO> saveUnpublishedPage(PageDTO page);
@@ -75,6 +80,10 @@ public interface NewPageServiceCE extends CrudService<NewPage, String> {
 
     Flux<NewPage> saveAll(List<NewPage> pages);
 
+    Mono<Void> bulkInsertPagesInRepository(List<NewPage> pages);
+
+    Mono<Void> bulkUpdatePagesInRepository(List<NewPage> pages);
+
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
 
     Mono<NewPage> findByBranchNameAndDefaultPageId(String branchName, String defaultPageId, AclPermission permission);
@@ -18,6 +18,7 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.TextUtils;
+import com.appsmith.server.projections.ApplicationIdsOnly;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.BaseService;
@@ -444,6 +445,11 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
         return repository.findByApplicationId(applicationId, permission);
     }
 
+    @Override
+    public Flux<NewPage> findPageSummariesByIds(List<String> pageIds, AclPermission permission) {
+        return repository.findAllPageDTOsByIds(pageIds, permission);
+    }
+
     @Override
     public Mono<List<NewPage>> archivePagesByApplicationId(String applicationId, AclPermission permission) {
         return findNewPagesByApplicationId(applicationId, permission)
@@ -547,6 +553,28 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
         return repository.saveAll(pages);
     }
 
+    @Override
+    public Mono<Void> bulkInsertPagesInRepository(List<NewPage> pages) {
+        pages.forEach(newPage -> {
+            newPage.updateForBulkWriteOperation();
+            if (newPage.getGitSyncId() == null) {
+                newPage.setGitSyncId(newPage.getApplicationId() + "_" + UUID.randomUUID());
+            }
+        });
+        return repository.bulkInsert(pages);
+    }
+
+    @Override
+    public Mono<Void> bulkUpdatePagesInRepository(List<NewPage> pages) {
+        pages.forEach(newPage -> {
+            newPage.updateForBulkWriteOperation();
+            if (newPage.getGitSyncId() == null) {
+                newPage.setGitSyncId(newPage.getApplicationId() + "_" + UUID.randomUUID());
+            }
+        });
+        return repository.bulkUpdate(pages);
+    }
+
     @Override
     public Mono<String> getNameByPageId(String pageId, boolean isPublishedName) {
         return repository.getNameByPageId(pageId, isPublishedName);
@@ -586,7 +614,7 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
 
     @Override
     public Mono<String> findRootApplicationIdFromNewPage(String branchName, String defaultPageId) {
-        Mono<NewPage> getPageMono;
+        Mono<ApplicationIdsOnly> getPageMono;
         if (!StringUtils.hasLength(branchName)) {
             if (!StringUtils.hasLength(defaultPageId)) {
                 return Mono.error(new AppsmithException(INVALID_PARAMETER, FieldName.PAGE_ID, defaultPageId));
@@ -594,23 +622,18 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
             getPageMono = repository
                     .queryBuilder()
                     .byId(defaultPageId)
-                    .fields(FieldName.APPLICATION_ID, FieldName.DEFAULT_RESOURCES)
                     .permission(pagePermission.getReadPermission())
-                    .one();
+                    .one(ApplicationIdsOnly.class);
         } else {
             getPageMono = repository.findPageByBranchNameAndDefaultPageId(
-                    branchName, defaultPageId, pagePermission.getReadPermission());
+                    branchName, defaultPageId, pagePermission.getReadPermission(), ApplicationIdsOnly.class);
         }
         return getPageMono
                 .switchIfEmpty(Mono.error(new AppsmithException(
                         AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE_ID, defaultPageId + ", " + branchName)))
-                .map(newPage -> {
+                .map(applicationIds -> {
                     log.debug("Retrieved possible application ids for page, picking the appropriate one now");
-                    if (newPage.getDefaultResources() != null) {
-                        return newPage.getDefaultResources().getApplicationId();
-                    } else {
-                        return newPage.getApplicationId();
-                    }
+                    return applicationIds.getDefaultApplicationId();
                 });
     }
 
@@ -141,9 +141,7 @@ public class NewPageImportableServiceCEImpl implements ImportableServiceCE<NewPa
                             actionAndCollectionMapsDTO.getPublishedActionIdToCollectionIdMap());
                 })
                 .collectList()
-                .flatMapMany(newPageService::saveAll)
-                .collectList()
-                .then()
+                .flatMap(newPageService::bulkUpdatePagesInRepository)
                 .onErrorResume(throwable -> {
                     log.error("Failed to set action ids in pages", throwable);
                     return Mono.error(throwable);
@@ -435,78 +433,106 @@ public class NewPageImportableServiceCEImpl implements ImportableServiceCE<NewPa
                             .filter(newPage -> !StringUtils.isEmpty(newPage.getGitSyncId()))
                             .forEach(newPage -> savedPagesGitIdToPageMap.put(newPage.getGitSyncId(), newPage));
 
-                    return Flux.fromIterable(pages).flatMap(newPage -> {
-                        log.debug(
-                                "Importing page: {}",
-                                newPage.getUnpublishedPage().getName());
-                        // Check if the page has gitSyncId and if it's already in DB
-                        if (newPage.getGitSyncId() != null
-                                && savedPagesGitIdToPageMap.containsKey(newPage.getGitSyncId())) {
-                            // Since the resource is already present in DB, just update resource
-                            NewPage existingPage = savedPagesGitIdToPageMap.get(newPage.getGitSyncId());
-                            if (!permissionProvider.hasEditPermission(existingPage)) {
-                                log.error(
-                                        "User does not have permission to edit page with id: {}", existingPage.getId());
-                                return Mono.error(new AppsmithException(
-                                        AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.PAGE, existingPage.getId()));
-                            }
-                            Set<Policy> existingPagePolicy = existingPage.getPolicies();
-                            copyNestedNonNullProperties(newPage, existingPage);
-                            // Update branchName
-                            existingPage.getDefaultResources().setBranchName(branchName);
-                            // Recover the deleted state present in DB from imported page
-                            existingPage
-                                    .getUnpublishedPage()
-                                    .setDeletedAt(newPage.getUnpublishedPage().getDeletedAt());
-                            existingPage.setDeletedAt(newPage.getDeletedAt());
-                            existingPage.setPolicies(existingPagePolicy);
-                            return newPageService.save(existingPage);
-                        } else {
-                            // check if user has permission to add new page to the application
-                            if (!permissionProvider.canCreatePage(application)) {
-                                log.error(
-                                        "User does not have permission to create page in application with id: {}",
-                                        application.getId());
-                                return Mono.error(new AppsmithException(
-                                        AppsmithError.ACL_NO_RESOURCE_FOUND,
-                                        FieldName.APPLICATION,
-                                        application.getId()));
-                            }
-                            if (application.getGitApplicationMetadata() != null) {
-                                final String defaultApplicationId =
-                                        application.getGitApplicationMetadata().getDefaultArtifactId();
-                                return newPageService
-                                        .findByGitSyncIdAndDefaultApplicationId(
-                                                defaultApplicationId, newPage.getGitSyncId(), Optional.empty())
-                                        .switchIfEmpty(Mono.defer(() -> {
-                                            // This is the first page we are saving with given gitSyncId in this
-                                            // instance
-                                            DefaultResources defaultResources = new DefaultResources();
-                                            defaultResources.setApplicationId(defaultApplicationId);
-                                            defaultResources.setBranchName(branchName);
-                                            newPage.setDefaultResources(defaultResources);
-                                            return saveNewPageAndUpdateDefaultResources(newPage, branchName);
-                                        }))
-                                        .flatMap(branchedPage -> {
-                                            DefaultResources defaultResources = branchedPage.getDefaultResources();
-                                            // Create new page but keep defaultApplicationId and defaultPageId same for
-                                            // both the
-                                            // pages
-                                            defaultResources.setBranchName(branchName);
-                                            newPage.setDefaultResources(defaultResources);
-                                            newPage.getUnpublishedPage()
-                                                    .setDeletedAt(branchedPage
-                                                            .getUnpublishedPage()
-                                                            .getDeletedAt());
-                                            newPage.setDeletedAt(branchedPage.getDeletedAt());
-                                            // Set policies from existing branch object
-                                            newPage.setPolicies(branchedPage.getPolicies());
-                                            return newPageService.save(newPage);
-                                        });
-                            }
-                            return saveNewPageAndUpdateDefaultResources(newPage, branchName);
-                        }
-                    });
+                    return Flux.fromIterable(pages)
+                            .flatMap(newPage -> {
+                                log.debug(
+                                        "Importing page: {}",
+                                        newPage.getUnpublishedPage().getName());
+                                // Check if the page has gitSyncId and if it's already in DB
+                                if (newPage.getGitSyncId() != null
+                                        && savedPagesGitIdToPageMap.containsKey(newPage.getGitSyncId())) {
+                                    // Since the resource is already present in DB, just update resource
+                                    NewPage existingPage = savedPagesGitIdToPageMap.get(newPage.getGitSyncId());
+                                    if (!permissionProvider.hasEditPermission(existingPage)) {
+                                        log.error(
+                                                "User does not have permission to edit page with id: {}",
+                                                existingPage.getId());
+                                        return Mono.error(new AppsmithException(
+                                                AppsmithError.ACL_NO_RESOURCE_FOUND,
+                                                FieldName.PAGE,
+                                                existingPage.getId()));
+                                    }
+                                    Set<Policy> existingPagePolicy = existingPage.getPolicies();
+                                    copyNestedNonNullProperties(newPage, existingPage);
+                                    // Update branchName
+                                    existingPage.getDefaultResources().setBranchName(branchName);
+                                    // Recover the deleted state present in DB from imported page
+                                    existingPage
+                                            .getUnpublishedPage()
+                                            .setDeletedAt(
+                                                    newPage.getUnpublishedPage().getDeletedAt());
+                                    existingPage.setDeletedAt(newPage.getDeletedAt());
+                                    existingPage.setPolicies(existingPagePolicy);
+                                    return Mono.just(new PageToSave(existingPage, false));
+                                } else {
+                                    // check if user has permission to add new page to the application
+                                    if (!permissionProvider.canCreatePage(application)) {
+                                        log.error(
+                                                "User does not have permission to create page in application with id: {}",
+                                                application.getId());
+                                        return Mono.error(new AppsmithException(
+                                                AppsmithError.ACL_NO_RESOURCE_FOUND,
+                                                FieldName.APPLICATION,
+                                                application.getId()));
+                                    }
+                                    if (application.getGitApplicationMetadata() != null) {
+                                        final String defaultApplicationId = application
+                                                .getGitApplicationMetadata()
+                                                .getDefaultArtifactId();
+                                        return newPageService
+                                                .findByGitSyncIdAndDefaultApplicationId(
+                                                        defaultApplicationId, newPage.getGitSyncId(), Optional.empty())
+                                                .switchIfEmpty(Mono.fromSupplier(() -> {
+                                                    // This is the first page we are saving with given gitSyncId in
+                                                    // this instance
+                                                    DefaultResources defaultResources = new DefaultResources();
+                                                    defaultResources.setApplicationId(defaultApplicationId);
+                                                    defaultResources.setBranchName(branchName);
+                                                    newPage.setDefaultResources(defaultResources);
+                                                    return createDefaultResourcesBeforeInsert(newPage, branchName);
+                                                }))
+                                                .map(branchedPage -> {
+                                                    DefaultResources defaultResources =
+                                                            branchedPage.getDefaultResources();
+                                                    // Create new page but keep defaultApplicationId and defaultPageId
+                                                    // same for both the pages
+                                                    defaultResources.setBranchName(branchName);
+                                                    newPage.setDefaultResources(defaultResources);
+                                                    newPage.getUnpublishedPage()
+                                                            .setDeletedAt(branchedPage
+                                                                    .getUnpublishedPage()
+                                                                    .getDeletedAt());
+                                                    newPage.setDeletedAt(branchedPage.getDeletedAt());
+                                                    // Set policies from existing branch object
+                                                    newPage.setPolicies(branchedPage.getPolicies());
+                                                    return new PageToSave(newPage, true);
+                                                });
+                                    }
+                                    return Mono.just(new PageToSave(
+                                            createDefaultResourcesBeforeInsert(newPage, branchName), true));
+                                }
+                            })
+                            .collectList()
+                            .flatMapMany(pagesToSave -> {
+                                // All the pages are written with one bulk insert and one bulk update, instead of one
+                                // or two round trips to the DB per page
+                                List<NewPage> pagesToInsert = pagesToSave.stream()
+                                        .filter(PageToSave::isNew)
+                                        .map(PageToSave::page)
+                                        .toList();
+                                List<NewPage> pagesToUpdate = pagesToSave.stream()
+                                        .filter(pageToSave -> !pageToSave.isNew())
+                                        .map(PageToSave::page)
+                                        .toList();
+                                log.debug(
+                                        "Saving imported pages, new: {}, existing: {}",
+                                        pagesToInsert.size(),
+                                        pagesToUpdate.size());
+                                return Mono.when(
+                                                newPageService.bulkInsertPagesInRepository(pagesToInsert),
+                                                newPageService.bulkUpdatePagesInRepository(pagesToUpdate))
+                                        .thenMany(Flux.fromIterable(pagesToSave).map(PageToSave::page));
+                            });
                 })
                 .onErrorResume(error -> {
                     log.error("Error importing page", error);
@@ -514,14 +540,15 @@ public class NewPageImportableServiceCEImpl implements ImportableServiceCE<NewPa
                 });
     }
 
-    private Mono<NewPage> saveNewPageAndUpdateDefaultResources(NewPage newPage, String branchName) {
-        NewPage update = new NewPage();
-        return newPageService.save(newPage).flatMap(page -> {
-            update.setDefaultResources(
-                    DefaultResourcesUtils.createDefaultIdsOrUpdateWithGivenResourceIds(page, branchName)
-                            .getDefaultResources());
-            return newPageService.update(page.getId(), update);
-        });
+    private record PageToSave(NewPage page, boolean isNew) {}
+
+    /**
+     * Generates the id of a page which is yet to be inserted, so that the default resources of the page can refer to
+     * it before the page is saved.
+     */
+    private NewPage createDefaultResourcesBeforeInsert(NewPage newPage, String branchName) {
+        newPage.updateForBulkWriteOperation();
+        return DefaultResourcesUtils.createDefaultIdsOrUpdateWithGivenResourceIds(newPage, branchName);
     }
 
     private Map<String, String> updateNewPagesBeforeMerge(List<NewPage> existingPages, List<NewPage> importedPages) {
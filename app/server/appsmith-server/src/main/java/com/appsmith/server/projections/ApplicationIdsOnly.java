@@ -0,0 +1,16 @@
+package com.appsmith.server.projections;
+
+import com.appsmith.external.models.DefaultResources;
+
+public record ApplicationIdsOnly(String applicationId, DefaultResources defaultResources) {
+
+    /**
+     * @return id of the default application, which is the application itself if it isn't connected to git
+     */
+    public String getDefaultApplicationId() {
+        if (defaultResources != null) {
+            return defaultResources.getApplicationId();
+        }
+        return applicationId;
+    }
+}
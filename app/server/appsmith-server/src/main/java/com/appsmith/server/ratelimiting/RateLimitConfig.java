@@ -1,6 +1,8 @@
 package com.appsmith.server.ratelimiting;
 
 import com.appsmith.server.constants.RateLimitConstants;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
@@ -18,12 +20,16 @@ import org.springframework.context.annotation.Configuration;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 @Configuration
 @Slf4j
 public class RateLimitConfig {
     private static final Map<String, BucketConfiguration> apiConfigurationMap = new HashMap<>();
+    private static final int MAX_CACHED_USER_SPECIFIC_BUCKETS = 10_000;
+
+    private final Cache<String, BucketProxy> userSpecificBuckets = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_USER_SPECIFIC_BUCKETS)
+            .build();
 
     @Autowired
     private final AbstractRedisClient redisClient;
@@ -71,14 +77,20 @@ public class RateLimitConfig {
         return apiBuckets;
     }
 
+    /**
+     * Returns the bucket of the user for the API. The proxies of the buckets are kept in a bounded cache, so that a
+     * bucket which is checked often is not built again for every check. Building a proxy does not read the bucket from
+     * Redis, the configuration is only applied when the bucket does not exist in Redis yet.
+     */
     public BucketProxy getOrCreateAPIUserSpecificBucket(String apiIdentifier, String userId) {
-        String bucketIdentifier = apiIdentifier + userId;
-        Optional<BucketConfiguration> bucketProxy = proxyManager().getProxyConfiguration(bucketIdentifier.getBytes());
-        if (bucketProxy.isPresent()) {
-            return proxyManager().builder().build(bucketIdentifier.getBytes(), bucketProxy.get());
-        }
+        String bucketIdentifier = getBucketIdentifier(apiIdentifier, userId);
+        return userSpecificBuckets.asMap().computeIfAbsent(bucketIdentifier, key -> proxyManager()
+                .builder()
+                .build(key.getBytes(), apiConfigurationMap.get(apiIdentifier)));
+    }
 
-        return proxyManager().builder().build(bucketIdentifier.getBytes(), apiConfigurationMap.get(apiIdentifier));
+    public static String getBucketIdentifier(String apiIdentifier, String userId) {
+        return apiIdentifier + userId;
     }
 
     private static BucketConfiguration createBucketConfiguration(Duration refillDuration, int limit) {
@@ -4,7 +4,12 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.RedisUtils;
 import com.appsmith.server.ratelimiting.RateLimitConfig;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.bucket4j.ConsumptionProbe;
 import io.github.bucket4j.distributed.BucketProxy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
@@ -28,6 +33,21 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
     private final RedisUtils redisUtils;
     private final String BLOCKED_HOSTNAME_PREFIX = "blocked";
 
+    private static final String THROTTLED_REQUESTS_METRIC = "appsmith.ratelimit.throttled";
+    private static final String THROTTLED_LOCALLY = "local";
+    private static final String THROTTLED_BY_REDIS = "redis";
+    // Once a bucket is found to be empty, further requests for it are rejected by this instance without checking Redis
+    // till the bucket is refilled, for at most this long. This bounds how long a reset of the bucket by another
+    // instance takes to be seen here.
+    private static final long MAX_LOCAL_THROTTLING_NANOS = Duration.ofSeconds(5).toNanos();
+    private static final int MAX_LOCALLY_THROTTLED_BUCKETS = 10_000;
+
+    // Bucket identifier to the value of System.nanoTime() till which the bucket is known to be empty
+    private final Cache<String, Long> throttledBuckets = CacheBuilder.newBuilder()
+            .maximumSize(MAX_LOCALLY_THROTTLED_BUCKETS)
+            .expireAfterWrite(Duration.ofNanos(MAX_LOCAL_THROTTLING_NANOS))
+            .build();
+
     public RateLimitServiceCEImpl(
             Map<String, BucketProxy> apiBuckets, RateLimitConfig rateLimitConfig, RedisUtils redisUtils) {
         this.apiBuckets = apiBuckets;
@@ -40,10 +60,26 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
 
         return sanitizeInput(apiIdentifier, userIdentifier)
                 .flatMap(isInputValid -> {
+                    String bucketIdentifier = RateLimitConfig.getBucketIdentifier(apiIdentifier, userIdentifier);
+                    Long throttledUntil = throttledBuckets.getIfPresent(bucketIdentifier);
+                    if (throttledUntil != null && System.nanoTime() < throttledUntil) {
+                        // The bucket was found to be empty recently, it is not checked in Redis again till then
+                        countThrottledRequest(apiIdentifier, THROTTLED_LOCALLY);
+                        return Mono.just(FALSE);
+                    }
+
                     BucketProxy userSpecificBucket =
                             rateLimitConfig.getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier);
+                    ConsumptionProbe probe = userSpecificBucket.tryConsumeAndReturnRemaining(
+                            DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST);
+                    if (probe.isConsumed()) {
+                        return Mono.just(TRUE);
+                    }
 
-                    return Mono.just(userSpecificBucket.tryConsume(DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST));
+                    long throttledFor = Math.min(probe.getNanosToWaitForRefill(), MAX_LOCAL_THROTTLING_NANOS);
+                    throttledBuckets.put(bucketIdentifier, System.nanoTime() + throttledFor);
+                    countThrottledRequest(apiIdentifier, THROTTLED_BY_REDIS);
+                    return Mono.just(FALSE);
                 })
                 .map(isSuccessful -> {
                     if (FALSE.equals(isSuccessful)) {
@@ -66,6 +102,7 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
 
         return sanitizeInput(apiIdentifier, userIdentifier)
                 .flatMap(isInputValid -> {
+                    throttledBuckets.invalidate(RateLimitConfig.getBucketIdentifier(apiIdentifier, userIdentifier));
                     rateLimitConfig
                             .getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier)
                             .reset();
@@ -78,6 +115,15 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
                 .subscribeOn(scheduler);
     }
 
+    private void countThrottledRequest(String apiIdentifier, String source) {
+        Counter.builder(THROTTLED_REQUESTS_METRIC)
+                .description("Number of requests rejected by a rate limit")
+                .tag("api", apiIdentifier)
+                .tag("source", source)
+                .register(Metrics.globalRegistry)
+                .increment();
+    }
+
     /* **************************************************************************************************** */
     /*
      * Following functions are used in case we need to block the endpoint for a specified period of time
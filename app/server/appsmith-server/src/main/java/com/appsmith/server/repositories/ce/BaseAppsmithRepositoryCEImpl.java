@@ -7,6 +7,7 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PermissionGroupsRequestCache;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
@@ -40,6 +41,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -86,6 +88,9 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     public static final int NO_SKIP = 0;
 
+    // Number of documents written with a single command by the bulk insert and update
+    public static final int BULK_WRITE_BATCH_SIZE = 500;
+
     @SuppressWarnings("unchecked")
     public BaseAppsmithRepositoryCEImpl() {
         this.genericDomain =
@@ -165,12 +170,21 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         return getCurrentUserPermissionGroups(true);
     }
 
+    /**
+     * Resolves the permission groups of the current user once per request, the repository calls of a request after the
+     * first one get them from the request.
+     *
+     * @see PermissionGroupsRequestCache
+     */
     protected Mono<Set<String>> getCurrentUserPermissionGroups(boolean includeAnonymousUserPermissions) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> (User) ctx.getAuthentication().getPrincipal())
-                .flatMap(user -> includeAnonymousUserPermissions
-                        ? getAllPermissionGroupsForUser(user)
-                        : getStrictPermissionGroupsForUser(user));
+                .flatMap(user -> PermissionGroupsRequestCache.get(
+                        user.getEmail(),
+                        includeAnonymousUserPermissions,
+                        () -> includeAnonymousUserPermissions
+                                ? getAllPermissionGroupsForUser(user)
+                                : getStrictPermissionGroupsForUser(user)));
     }
 
     protected Query createQueryWithPermission(
@@ -205,10 +219,14 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     public Flux<T> queryAllExecute(QueryAllParams<T> params) {
-        return queryAllExecute(params, this.genericDomain)
-                .flatMap(obj -> setUserPermissionsInObject(obj, params.getPermissionGroups()));
+        return queryAllExecute(params, this.genericDomain);
     }
 
+    /**
+     * Runs the query with the result mapped to the given projection, which only reads the fields of the projection from
+     * the DB. Projections which are views of a domain, i.e. which extend {@link BaseDomain}, get the permissions of the
+     * user set in them just like the domain objects, for which they need to have the policies.
+     */
     public <P> Flux<P> queryAllExecute(QueryAllParams<T> params, Class<P> projectionClass) {
         return ensurePermissionGroupsInParams(params).thenMany(Flux.defer(() -> {
             final AclPermission permission = params.getPermission();
@@ -239,15 +257,18 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                     .query(this.genericDomain)
                     .as(projectionClass)
                     .matching(query.cursorBatchSize(10_000))
-                    .all();
+                    .all()
+                    .flatMap(obj -> setUserPermissionsInProjection(obj, permissionGroups));
         }));
     }
 
     public Mono<T> queryOneExecute(QueryAllParams<T> params) {
-        return queryOneExecute(params, this.genericDomain)
-                .flatMap(obj -> setUserPermissionsInObject(obj, params.getPermissionGroups()));
+        return queryOneExecute(params, this.genericDomain);
     }
 
+    /**
+     * Same as {@link #queryAllExecute(QueryAllParams, Class)}, for a single result.
+     */
     public <P> Mono<P> queryOneExecute(QueryAllParams<T> params, Class<P> projectionClass) {
         return ensurePermissionGroupsInParams(params).then(Mono.defer(() -> {
             final AclPermission permission = params.getPermission();
@@ -266,7 +287,8 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                     .query(genericDomain)
                     .as(projectionClass)
                     .matching(query.cursorBatchSize(10_000))
-                    .one();
+                    .one()
+                    .flatMap(obj -> setUserPermissionsInProjection(obj, permissionGroups));
         }));
     }
 
@@ -403,27 +425,56 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     public Mono<T> setUserPermissionsInObject(T obj, Set<String> permissionGroups) {
+        obj.setUserPermissions(getUserPermissions(obj.getPolicies(), permissionGroups));
+        return Mono.just(obj);
+    }
+
+    /**
+     * Sets the permissions of the user in a projected object, if it's a view of a domain. Other projections, e.g.
+     * {@link com.appsmith.server.projections.IdOnly}, don't carry permissions and are returned as they are.
+     */
+    private <P> Mono<P> setUserPermissionsInProjection(P obj, Set<String> permissionGroups) {
+        if (genericDomain.isInstance(obj)) {
+            return setUserPermissionsInObject(genericDomain.cast(obj), permissionGroups)
+                    .thenReturn(obj);
+        }
+        if (obj instanceof BaseDomain domainView) {
+            domainView.setUserPermissions(getUserPermissions(domainView.getPolicies(), permissionGroups));
+        }
+        return Mono.just(obj);
+    }
+
+    /**
+     * Collects the permissions which are given by any of the permission groups of the user. A policy usually has a
+     * handful of permission groups, while a user can have hundreds of them, so the permission groups of every policy
+     * are looked up in the permission groups of the user, and not the other way around. Policies for a permission which
+     * has already been found are skipped.
+     *
+     * @param policies         policies of the object
+     * @param permissionGroups permission groups of the user, looked up by {@link Set#contains}
+     * @return the permissions of the user on the object
+     */
+    public static Set<String> getUserPermissions(Set<Policy> policies, Set<String> permissionGroups) {
         Set<String> permissions = new HashSet<>();
-        obj.setUserPermissions(permissions);
 
-        if (CollectionUtils.isEmpty(obj.getPolicies()) || permissionGroups.isEmpty()) {
-            return Mono.just(obj);
+        if (CollectionUtils.isEmpty(policies) || CollectionUtils.isEmpty(permissionGroups)) {
+            return permissions;
         }
 
-        for (Policy policy : obj.getPolicies()) {
+        for (Policy policy : policies) {
             Set<String> policyPermissionGroups = policy.getPermissionGroups();
-            if (CollectionUtils.isEmpty(policyPermissionGroups)) {
+            if (CollectionUtils.isEmpty(policyPermissionGroups) || permissions.contains(policy.getPermission())) {
                 continue;
             }
-            for (String permissionGroup : permissionGroups) {
-                if (policyPermissionGroups.contains(permissionGroup)) {
+            for (String policyPermissionGroup : policyPermissionGroups) {
+                if (permissionGroups.contains(policyPermissionGroup)) {
                     permissions.add(policy.getPermission());
                     break;
                 }
             }
         }
 
-        return Mono.just(obj);
+        return permissions;
     }
 
     /**
@@ -510,49 +561,79 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         });
     }
 
+    /**
+     * Inserts the given documents with as few round trips as possible. The documents are converted and written in
+     * batches of {@link #BULK_WRITE_BATCH_SIZE}, so that a large import doesn't hold all of them in memory as BSON at
+     * once, or run into the size limit of a single write command.
+     */
     public Mono<Void> bulkInsert(List<T> domainList) {
         if (CollectionUtils.isEmpty(domainList)) {
             return Mono.empty();
         }
 
-        // convert the list of domains to a list of DBObjects
-        List<Document> dbObjects = domainList.stream()
-                .map(domain -> {
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(domain, document);
-                    return document;
-                })
-                .collect(Collectors.toList());
-
         return mongoOperations
                 .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.insertMany(dbObjects))
-                .collectList()
-                .then();
+                .flatMap(documentMongoCollection -> Flux.fromIterable(domainList)
+                        .buffer(BULK_WRITE_BATCH_SIZE)
+                        .concatMap(batch -> {
+                            // convert the batch of domains to a list of DBObjects
+                            List<Document> dbObjects = batch.stream()
+                                    .map(domain -> {
+                                        Document document = new Document();
+                                        mongoOperations.getConverter().write(domain, document);
+                                        return document;
+                                    })
+                                    .collect(Collectors.toList());
+                            return documentMongoCollection.insertMany(dbObjects);
+                        })
+                        .then());
     }
 
+    /**
+     * Updates the given documents, which must have been saved before, in batches of {@link #BULK_WRITE_BATCH_SIZE}.
+     * Every field of a document which is not null is set, the other fields are left as they are in the DB. As the
+     * documents are written with a $set, which isn't audited, the updatedAt and modifiedBy of the documents are set
+     * here, the latter only if there is a user.
+     */
     public Mono<Void> bulkUpdate(List<T> domainObjects) {
         if (CollectionUtils.isEmpty(domainObjects)) {
             return Mono.empty();
         }
 
-        // convert the list of new actions to a list of DBObjects
-        List<WriteModel<Document>> dbObjects = domainObjects.stream()
-                .map(actionCollection -> {
-                    assert actionCollection.getId() != null;
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(actionCollection, document);
-                    document.remove("_id");
-                    return (WriteModel<Document>) new UpdateOneModel<Document>(
-                            new Document("_id", new ObjectId(actionCollection.getId())),
-                            new Document("$set", document));
+        Mono<String> currentUsernameMono = ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(ctx -> ctx.getAuthentication())
+                .mapNotNull(authentication -> authentication.getPrincipal())
+                .filter(principal -> principal instanceof User)
+                .mapNotNull(principal -> ((User) principal).getUsername());
+
+        return currentUsernameMono
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(currentUsername -> {
+                    Instant updatedAt = Instant.now();
+                    domainObjects.forEach(domain -> {
+                        domain.setUpdatedAt(updatedAt);
+                        currentUsername.ifPresent(domain::setModifiedBy);
+                    });
                 })
-                .collect(Collectors.toList());
-
-        return mongoOperations
-                .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.bulkWrite(dbObjects))
-                .collectList()
-                .then();
+                .then(mongoOperations.getCollection(mongoOperations.getCollectionName(genericDomain)))
+                .flatMap(documentMongoCollection -> Flux.fromIterable(domainObjects)
+                        .buffer(BULK_WRITE_BATCH_SIZE)
+                        .concatMap(batch -> {
+                            // convert the batch of domains to a list of DBObjects
+                            List<WriteModel<Document>> dbObjects = batch.stream()
+                                    .map(domain -> {
+                                        assert domain.getId() != null;
+                                        Document document = new Document();
+                                        mongoOperations.getConverter().write(domain, document);
+                                        document.remove("_id");
+                                        return (WriteModel<Document>) new UpdateOneModel<Document>(
+                                                new Document("_id", new ObjectId(domain.getId())),
+                                                new Document("$set", document));
+                                    })
+                                    .collect(Collectors.toList());
+                            return documentMongoCollection.bulkWrite(dbObjects);
+                        })
+                        .then());
     }
 }
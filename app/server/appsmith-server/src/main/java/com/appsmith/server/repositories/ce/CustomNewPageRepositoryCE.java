@@ -32,6 +32,9 @@ public interface CustomNewPageRepositoryCE extends AppsmithRepository<NewPage> {
     Mono<NewPage> findPageByBranchNameAndDefaultPageId(
             String branchName, String defaultPageId, AclPermission permission);
 
+    <P> Mono<P> findPageByBranchNameAndDefaultPageId(
+            String branchName, String defaultPageId, AclPermission permission, Class<P> projectionClass);
+
     Mono<NewPage> findByGitSyncIdAndDefaultApplicationId(
             String defaultApplicationId, String gitSyncId, AclPermission permission);
 
@@ -148,6 +148,12 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
     @Override
     public Mono<NewPage> findPageByBranchNameAndDefaultPageId(
             String branchName, String defaultPageId, AclPermission permission) {
+        return findPageByBranchNameAndDefaultPageId(branchName, defaultPageId, permission, NewPage.class);
+    }
+
+    @Override
+    public <P> Mono<P> findPageByBranchNameAndDefaultPageId(
+            String branchName, String defaultPageId, AclPermission permission, Class<P> projectionClass) {
 
         final BridgeQuery<NewPage> q =
                 // defaultPageIdCriteria
@@ -160,7 +166,7 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
             q.isNull(NewPage.Fields.defaultResources_branchName);
         }
 
-        return queryBuilder().criteria(q).permission(permission).one();
+        return queryBuilder().criteria(q).permission(permission).one(projectionClass);
     }
 
     public Mono<String> findBranchedPageId(String branchName, String defaultPageId, AclPermission permission) {
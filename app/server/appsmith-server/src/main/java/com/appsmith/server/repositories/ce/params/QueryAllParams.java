@@ -52,6 +52,10 @@ public class QueryAllParams<T extends BaseDomain> {
         return repo.queryAllExecute(this);
     }
 
+    /**
+     * Runs the query, reading only the fields of the given projection from the DB. Projections which are views of a
+     * domain, i.e. which extend {@link BaseDomain}, get the permissions of the user set in them like the domain does.
+     */
     public <P> Flux<P> all(Class<P> projectionClass) {
         return repo.queryAllExecute(this, projectionClass);
     }
@@ -60,6 +64,9 @@ public class QueryAllParams<T extends BaseDomain> {
         return repo.queryOneExecute(this);
     }
 
+    /**
+     * Same as {@link #all(Class)}, for a single result.
+     */
     public <P> Mono<P> one(Class<P> projectionClass) {
         return repo.queryOneExecute(this, projectionClass);
     }
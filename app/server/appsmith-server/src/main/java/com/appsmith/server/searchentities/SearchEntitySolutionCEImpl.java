@@ -38,6 +38,7 @@ public class SearchEntitySolutionCEImpl implements SearchEntitySolutionCE {
     /**
      * This method searches for workspaces and applications based on the searchString provided.
      * The search is performed with contains operator on the name field of the entities and is case-insensitive.
+     * The entities are first narrowed down with the index on the search tokens of their names.
      * The search results are sorted by the updated_at field in descending order.
      * searchString = "test" will return all entities with name containing "test".
      * e.g. "test_app", "test_workspace", "appTest", "wsTest_random" etc.
@@ -65,6 +66,7 @@ public class SearchEntitySolutionCEImpl implements SearchEntitySolutionCE {
             workspacesMono = workspaceService
                     .filterByEntityFieldsWithoutPublicAccess(
                             List.of(Workspace.Fields.name),
+                            Workspace.Fields.searchTokens,
                             searchString,
                             pageable,
                             sort,
@@ -77,6 +79,7 @@ public class SearchEntitySolutionCEImpl implements SearchEntitySolutionCE {
             applicationsMono = applicationService
                     .filterByEntityFieldsWithoutPublicAccess(
                             List.of(Application.Fields.name),
+                            Application.Fields.searchTokens,
                             searchString,
                             pageable,
                             sort,
@@ -4,7 +4,15 @@ import com.appsmith.server.constants.FieldName;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 public class SearchEntityHelper {
+
+    public static final int SEARCH_TOKEN_LENGTH = 3;
+
     /**
      * This method checks if the entity should be searched based on the entities list provided. If the entities list is null or empty, then all entities are searched.
      *
@@ -31,4 +39,30 @@ public class SearchEntityHelper {
     public static Pageable getPageable(int page, int size) {
         return Pageable.ofSize(size).withPage(page);
     }
+
+    /**
+     * This method splits the text into its distinct lowercase substrings of {@link #SEARCH_TOKEN_LENGTH} characters.
+     * The tokens of the name of an entity are stored with it, so that the entities whose name contains a search string
+     * are found with an index on the tokens, as all the tokens of the search string are tokens of those names.
+     * e.g. "MyApp" has the tokens "mya", "yap" and "app".
+     *
+     * @param text  The text to split into tokens.
+     * @return      The tokens of the text, which are empty if the text is shorter than a token, or null if it is null.
+     */
+    public static List<String> getSearchTokens(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        // Every character is lowercased on its own, as lowercasing the whole text depends on the context, e.g. a Greek
+        // Σ becomes ς at the end of the text and σ elsewhere, and the tokens of a search string must be tokens of the
+        // names which contain it
+        int[] lowerCaseCodePoints =
+                text.codePoints().map(Character::toLowerCase).toArray();
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i + SEARCH_TOKEN_LENGTH <= lowerCaseCodePoints.length; i++) {
+            tokens.add(new String(lowerCaseCodePoints, i, SEARCH_TOKEN_LENGTH));
+        }
+        return new ArrayList<>(tokens);
+    }
 }
@@ -9,6 +9,8 @@ import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.repositories.AppsmithRepository;
 import com.appsmith.server.repositories.BaseRepository;
+import com.appsmith.server.repositories.ce.params.QueryAllParams;
+import com.appsmith.server.searchentities.helpers.SearchEntityHelper;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -114,6 +116,24 @@ public abstract class BaseService<
             Pageable pageable,
             Sort sort,
             AclPermission permission) {
+        return filterByEntityFieldsWithoutPublicAccess(
+                searchableEntityFields, null, searchString, pageable, sort, permission);
+    }
+
+    /**
+     * Searches the entities like {@link #filterByEntityFieldsWithoutPublicAccess(List, String, Pageable, Sort,
+     * AclPermission)}, with the search narrowed down first with the index on the given field, which holds the search
+     * tokens of the searchable field, see {@link SearchEntityHelper#getSearchTokens}. The entities whose tokens haven't
+     * been set yet are searched without the tokens.
+     */
+    @Override
+    public Flux<T> filterByEntityFieldsWithoutPublicAccess(
+            List<String> searchableEntityFields,
+            String searchTokensField,
+            String searchString,
+            Pageable pageable,
+            Sort sort,
+            AclPermission permission) {
 
         if (searchableEntityFields == null || searchableEntityFields.isEmpty()) {
             return Flux.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, ENTITY_FIELDS));
@@ -124,16 +144,21 @@ public abstract class BaseService<
             criteria.add(Bridge.searchIgnoreCase(fieldName, searchString));
         }
 
-        Flux<T> result = repository
+        QueryAllParams<T> queryAllParams = repository
                 .queryBuilder()
                 .criteria(Bridge.or(criteria))
                 .permission(permission)
                 .sort(sort)
-                .includeAnonymousUserPermissions(false)
-                .all();
+                .includeAnonymousUserPermissions(false);
+        List<String> searchTokens = SearchEntityHelper.getSearchTokens(searchString);
+        if (searchTokensField != null && searchTokens != null && !searchTokens.isEmpty()) {
+            queryAllParams.criteria(
+                    Bridge.or(Bridge.containsAll(searchTokensField, searchTokens), Bridge.isNull(searchTokensField)));
+        }
         if (pageable != null) {
-            return result.skip(pageable.getOffset()).take(pageable.getPageSize());
+            // Only the requested page is read from the DB
+            queryAllParams.skip((int) pageable.getOffset()).limit(pageable.getPageSize());
         }
-        return result;
+        return queryAllParams.all();
     }
 }
@@ -2,6 +2,7 @@ package com.appsmith.server.services;
 
 import com.appsmith.server.helpers.FeatureFlagMigrationHelper;
 import com.appsmith.server.services.ce.FeatureFlagServiceCEImpl;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -11,12 +12,14 @@ public class FeatureFlagServiceImpl extends FeatureFlagServiceCEImpl implements
             TenantService tenantService,
             UserIdentifierService userIdentifierService,
             CacheableFeatureFlagHelper cacheableFeatureFlagHelper,
-            FeatureFlagMigrationHelper featureFlagMigrationHelper) {
+            FeatureFlagMigrationHelper featureFlagMigrationHelper,
+            ReactiveRedisOperations<String, String> stringRedisOperations) {
         super(
                 sessionUserService,
                 tenantService,
                 userIdentifierService,
                 cacheableFeatureFlagHelper,
-                featureFlagMigrationHelper);
+                featureFlagMigrationHelper,
+                stringRedisOperations);
     }
 }
@@ -11,8 +11,10 @@ import org.springframework.stereotype.Service;
 public class SessionUserServiceImpl extends SessionUserServiceCEImpl implements SessionUserService {
 
     public SessionUserServiceImpl(
-            UserRepository userRepository, ReactiveRedisOperations<String, Object> redisOperations) {
+            UserRepository userRepository,
+            ReactiveRedisOperations<String, Object> redisOperations,
+            ReactiveRedisOperations<String, String> stringRedisOperations) {
 
-        super(userRepository, redisOperations);
+        super(userRepository, redisOperations, stringRedisOperations);
     }
 }
@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.helpers.UsagePulseBuffer;
 import com.appsmith.server.repositories.UsagePulseRepository;
 import com.appsmith.server.services.ce.UsagePulseServiceCEImpl;
 import org.springframework.stereotype.Service;
@@ -14,7 +15,15 @@ public class UsagePulseServiceImpl extends UsagePulseServiceCEImpl implements Us
             UserService userService,
             TenantService tenantService,
             ConfigService configService,
-            CommonConfig commonConfig) {
-        super(repository, sessionUserService, userService, tenantService, configService, commonConfig);
+            CommonConfig commonConfig,
+            UsagePulseBuffer usagePulseBuffer) {
+        super(
+                repository,
+                sessionUserService,
+                userService,
+                tenantService,
+                configService,
+                commonConfig,
+                usagePulseBuffer);
     }
 }
@@ -75,5 +75,11 @@ public interface ApplicationPageServiceCE {
     Mono<List<NewPage>> getPagesBasedOnApplicationMode(
             Application branchedApplication, ApplicationMode applicationMode);
 
+    /**
+     * Same as {@link #getPagesBasedOnApplicationMode}, with only the fields of the pages which are needed to list them.
+     */
+    Mono<List<NewPage>> getPageSummariesBasedOnApplicationMode(
+            Application branchedApplication, ApplicationMode applicationMode);
+
     Mono<PageDTO> getPageDTOAfterMigratingDSL(NewPage newPage, boolean viewMode, boolean migrateDsl);
 }
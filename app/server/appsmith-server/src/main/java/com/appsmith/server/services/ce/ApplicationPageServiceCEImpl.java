@@ -296,6 +296,22 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .collectList();
     }
 
+    @Override
+    public Mono<List<NewPage>> getPageSummariesBasedOnApplicationMode(
+            Application branchedApplication, ApplicationMode applicationMode) {
+
+        List<ApplicationPage> applicationPages = ApplicationMode.PUBLISHED.equals(applicationMode)
+                ? branchedApplication.getPublishedPages()
+                : branchedApplication.getPages();
+
+        List<String> pageIds =
+                applicationPages.stream().map(ApplicationPage::getId).toList();
+
+        return newPageService
+                .findPageSummariesByIds(pageIds, pagePermission.getReadPermission())
+                .collectList();
+    }
+
     @Override
     public Mono<PageDTO> getPageDTOAfterMigratingDSL(NewPage newPage, boolean viewMode, boolean migrateDsl) {
         return sendPageViewAnalyticsEvent(newPage, viewMode)
@@ -216,9 +216,11 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                         defaultApplicationId, branchName, mode))
                 .cache();
 
+        // In view mode the pages are only listed, so their layouts aren't read from the DB
         Mono<List<NewPage>> pagesFromCurrentApplicationMonoCached = branchedApplicationMonoCached
-                .flatMap(branchedApplication ->
-                        applicationPageService.getPagesBasedOnApplicationMode(branchedApplication, mode))
+                .flatMap(branchedApplication -> isViewMode
+                        ? applicationPageService.getPageSummariesBasedOnApplicationMode(branchedApplication, mode)
+                        : applicationPageService.getPagesBasedOnApplicationMode(branchedApplication, mode))
                 .cache();
 
         /* Get all applicationPages in application */
@@ -32,7 +32,8 @@ public interface FeatureFlagServiceCE {
     Mono<Void> getAllRemoteFeaturesForTenantAndUpdateFeatureFlagsWithPendingMigrations();
 
     /**
-     * To get all features of the current tenant.
+     * To get all features of the current tenant from the cache, which also refreshes the in memory features of the
+     * tenant that the flags are checked against.
      * @return Mono of Map
      */
     Mono<Map<String, Boolean>> getTenantFeatures();
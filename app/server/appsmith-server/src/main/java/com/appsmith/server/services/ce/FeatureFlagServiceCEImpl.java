@@ -9,12 +9,14 @@ import com.appsmith.server.featureflags.CachedFeatures;
 import com.appsmith.server.featureflags.CachedFlags;
 import com.appsmith.server.helpers.CollectionUtils;
 import com.appsmith.server.helpers.FeatureFlagMigrationHelper;
+import com.appsmith.server.helpers.UserFeatureFlagsRequestCache;
 import com.appsmith.server.services.CacheableFeatureFlagHelper;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
 import com.appsmith.server.services.UserIdentifierService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
@@ -36,9 +38,17 @@ public class FeatureFlagServiceCEImpl implements FeatureFlagServiceCE {
     private final CacheableFeatureFlagHelper cacheableFeatureFlagHelper;
 
     private final FeatureFlagMigrationHelper featureFlagMigrationHelper;
+
+    private final ReactiveRedisOperations<String, String> stringRedisOperations;
     private static final long FEATURE_FLAG_CACHE_TIME_MIN = 120;
 
-    private CachedFeatures cachedTenantFeatureFlags;
+    // Channel on which the id of a tenant is published when its features have been updated, so that all the servers
+    // refresh their in memory features of the tenant
+    public static final String TENANT_FEATURES_UPDATED_CHANNEL = "appsmith:tenant-features-updated";
+
+    // In memory features of the tenant, which the flags are checked against. These are refreshed from the cache on a
+    // schedule, and whenever the features of the tenant are updated on any of the servers.
+    private volatile CachedFeatures cachedTenantFeatureFlags;
 
     /**
      * This function checks if the feature is enabled for the current user. In case the user object is not present,
@@ -66,7 +76,7 @@ public class FeatureFlagServiceCEImpl implements FeatureFlagServiceCE {
     @Override
     public Mono<Map<String, Boolean>> getAllFeatureFlagsForUser() {
         // Combine local flags, remote flags, and tenant features, and merge them into a single map
-        return Mono.zip(this.getAllRemoteFeatureFlagsForUser(), this.getTenantFeatures())
+        return Mono.zip(this.getAllRemoteFeatureFlagsForUser(), this.getTenantFeaturesFromMemory())
                 .map(remoteAndTenantFlags -> {
                     Map<String, Boolean> combinedFlags = new HashMap<>();
                     combinedFlags.putAll(remoteAndTenantFlags.getT1());
@@ -86,32 +96,38 @@ public class FeatureFlagServiceCEImpl implements FeatureFlagServiceCE {
         Mono<User> userMono = sessionUserService.getCurrentUser().cache();
         return userMono.flatMap(user -> {
                     String userIdentifier = userIdentifierService.getUserIdentifier(user);
-                    // Checks for flags present in cache and if the cache is not expired
+                    // The flags of the user are fetched once per request
+                    return UserFeatureFlagsRequestCache.get(
+                            userIdentifier, () -> getRemoteFeatureFlagsForUser(userIdentifier, user));
+                })
+                .switchIfEmpty(Mono.just(new HashMap<>()));
+    }
+
+    private Mono<Map<String, Boolean>> getRemoteFeatureFlagsForUser(String userIdentifier, User user) {
+        // Checks for flags present in cache and if the cache is not expired
+        return cacheableFeatureFlagHelper
+                .fetchUserCachedFlags(userIdentifier, user)
+                .flatMap(cachedFlags -> {
+                    if (cachedFlags.getRefreshedAt().until(Instant.now(), ChronoUnit.MINUTES)
+                            < FEATURE_FLAG_CACHE_TIME_MIN) {
+                        return Mono.just(cachedFlags.getFlags());
+                    }
+                    // empty the cache for the userIdentifier as expired
                     return cacheableFeatureFlagHelper
-                            .fetchUserCachedFlags(userIdentifier, user)
-                            .flatMap(cachedFlags -> {
-                                if (cachedFlags.getRefreshedAt().until(Instant.now(), ChronoUnit.MINUTES)
-                                        < FEATURE_FLAG_CACHE_TIME_MIN) {
-                                    return Mono.just(cachedFlags.getFlags());
+                            .evictUserCachedFlags(userIdentifier)
+                            .then(cacheableFeatureFlagHelper.fetchUserCachedFlags(userIdentifier, user))
+                            .flatMap(cachedFlagsUpdated -> {
+                                // In case the retrieval of the latest flags from CS encounters an error,
+                                // the previous flags will serve as a fallback value.
+                                if (cachedFlagsUpdated == null
+                                        || CollectionUtils.isNullOrEmpty(cachedFlagsUpdated.getFlags())) {
+                                    return cacheableFeatureFlagHelper
+                                            .updateUserCachedFlags(userIdentifier, cachedFlags)
+                                            .map(CachedFlags::getFlags);
                                 }
-                                // empty the cache for the userIdentifier as expired
-                                return cacheableFeatureFlagHelper
-                                        .evictUserCachedFlags(userIdentifier)
-                                        .then(cacheableFeatureFlagHelper.fetchUserCachedFlags(userIdentifier, user))
-                                        .flatMap(cachedFlagsUpdated -> {
-                                            // In case the retrieval of the latest flags from CS encounters an error,
-                                            // the previous flags will serve as a fallback value.
-                                            if (cachedFlagsUpdated == null
-                                                    || CollectionUtils.isNullOrEmpty(cachedFlagsUpdated.getFlags())) {
-                                                return cacheableFeatureFlagHelper
-                                                        .updateUserCachedFlags(userIdentifier, cachedFlags)
-                                                        .map(CachedFlags::getFlags);
-                                            }
-                                            return Mono.just(cachedFlagsUpdated.getFlags());
-                                        });
+                                return Mono.just(cachedFlagsUpdated.getFlags());
                             });
-                })
-                .switchIfEmpty(Mono.just(new HashMap<>()));
+                });
     }
 
     /**
@@ -148,11 +164,23 @@ public class FeatureFlagServiceCEImpl implements FeatureFlagServiceCE {
                                     }
                                     return Mono.just(defaultTenant);
                                 }))
+                // Refresh the features of the tenant in memory, here and on the other servers
+                .flatMap(tenant -> this.getTenantFeatures().then(publishTenantFeaturesUpdate(tenant.getId())))
                 .then();
     }
 
+    private Mono<Long> publishTenantFeaturesUpdate(String tenantId) {
+        return stringRedisOperations
+                .convertAndSend(TENANT_FEATURES_UPDATED_CHANNEL, tenantId)
+                .onErrorResume(error -> {
+                    log.error("Error while publishing the update of the features of tenant {}", tenantId, error);
+                    return Mono.empty();
+                });
+    }
+
     /**
-     * To get all features of the current tenant.
+     * To get all features of the current tenant from the cache, which also refreshes the in memory features of the
+     * tenant.
      * @return Mono of Map
      */
     public Mono<Map<String, Boolean>> getTenantFeatures() {
@@ -166,6 +194,19 @@ public class FeatureFlagServiceCEImpl implements FeatureFlagServiceCE {
                 .switchIfEmpty(Mono.just(new HashMap<>()));
     }
 
+    /**
+     * To get all features of the current tenant from memory, so that flags can be checked without a round trip to the
+     * cache. The features are fetched from the cache only if they haven't been loaded in memory yet.
+     * @return Mono of Map
+     */
+    private Mono<Map<String, Boolean>> getTenantFeaturesFromMemory() {
+        CachedFeatures cachedFeatures = this.cachedTenantFeatureFlags;
+        if (cachedFeatures != null && cachedFeatures.getFeatures() != null) {
+            return Mono.just(cachedFeatures.getFeatures());
+        }
+        return this.getTenantFeatures();
+    }
+
     /**
      * This function checks if there are any pending migrations for a feature flag and executes them.
      * @param tenant    tenant for which the migrations need to be executed
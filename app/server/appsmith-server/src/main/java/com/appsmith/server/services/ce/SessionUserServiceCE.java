@@ -21,4 +21,10 @@ public interface SessionUserServiceCE {
     Mono<Long> deleteSessionsByKeys(List<String> keys);
 
     Flux<Tuple2<String, User>> getSessionKeysWithUserSessions();
+
+    Mono<Void> addSessionToUserIndex(User user, String sessionId);
+
+    Mono<Void> removeSessionFromUserIndex(String sessionKey);
+
+    Mono<Long> indexExistingUserSessions();
 }
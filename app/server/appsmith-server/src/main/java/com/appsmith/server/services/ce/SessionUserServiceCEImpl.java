@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
@@ -19,7 +20,10 @@ import org.springframework.web.server.WebSession;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
@@ -30,10 +34,20 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
 
     private final UserRepository userRepository;
     private final ReactiveRedisOperations<String, Object> redisOperations;
+    private final ReactiveRedisOperations<String, String> stringRedisOperations;
 
-    public static final String SPRING_SESSION_PATTERN = "spring:session:sessions:*";
+    // This prefix comes from calling `ReactiveRedisSessionRepository.getSessionKey("")` private method.
+    public static final String SPRING_SESSION_PREFIX = "spring:session:sessions:";
+    public static final String SPRING_SESSION_PATTERN = SPRING_SESSION_PREFIX + "*";
     private static final String SESSION_ATTRIBUTE = "sessionAttr:";
 
+    // Set of the keys of the sessions of a user, followed by the tenant id and the email of the user
+    private static final String USER_SESSIONS_INDEX_PREFIX = "appsmith:user-sessions:";
+    // Key of the user sessions index to which a session belongs, followed by the session id
+    private static final String SESSION_USER_INDEX_PREFIX = "appsmith:session-user-index:";
+    public static final String USER_SESSIONS_INDEX_BACKFILLED_KEY = "appsmith:user-sessions-index:backfilled";
+    private static final int SESSION_SCAN_BATCH_SIZE = 1000;
+
     @Override
     public Mono<User> getCurrentUser() {
         return ReactiveSecurityContextHolder.getContext()
@@ -75,34 +89,66 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
     @Override
     public Mono<Void> logoutAllSessions(String email) {
         return getSessionKeysByUserEmail(email)
-                .flatMap(this::deleteSessionsByKeys)
+                .flatMap(keys -> deleteSessionsByKeys(keys)
+                        // The index entries of the deleted sessions are removed along with the sessions
+                        .then(Flux.fromIterable(keys)
+                                .flatMap(this::removeSessionFromUserIndex)
+                                .then()))
                 .then();
     }
 
     /**
-     * This method returns a list of session keys, for the given user email.
+     * This method returns a list of session keys, for the given user email. The keys are read from the index of the
+     * sessions of the user. The index keys don't expire, as a session which is in use outlives its initial expiry, so
+     * the sessions which don't exist anymore are removed from the index here.
      * @param email The email of the user whose sessions keys should be fetched.
      * @return      A Mono of list of session keys.
      */
     @Override
     public Mono<List<String>> getSessionKeysByUserEmail(String email) {
-        // This pattern string comes from calling `ReactiveRedisSessionRepository.getSessionKey("*")` private method.
-        return getSessionKeysWithUserSessions()
-                // Now we have tuples of session keys, and the corresponding user objects.
-                // Filter the ones we need to clear out.
-                .filter(tuple ->
-                        StringUtils.equalsIgnoreCase(email, tuple.getT2().getEmail()))
-                .map(Tuple2::getT1)
-                .collectList();
+        return userRepository
+                .findByEmail(email)
+                .flatMap(user -> pruneUserSessionsIndex(getUserSessionsIndexKey(user.getTenantId(), user.getEmail())))
+                .defaultIfEmpty(List.of());
+    }
+
+    /**
+     * Removes the sessions which don't exist anymore from the index of the sessions of a user, in case their expiry
+     * has been missed.
+     * @param indexKey The key of the index of the sessions of the user.
+     * @return         The keys of the sessions in the index which still exist.
+     */
+    private Mono<List<String>> pruneUserSessionsIndex(String indexKey) {
+        return stringRedisOperations
+                .opsForSet()
+                .members(indexKey)
+                .flatMap(key -> redisOperations.hasKey(key).map(exists -> Tuples.of(key, exists)))
+                .collectList()
+                .flatMap(keysWithExistence -> {
+                    List<String> liveKeys = new ArrayList<>();
+                    List<String> staleKeys = new ArrayList<>();
+                    keysWithExistence.forEach(
+                            tuple -> (Boolean.TRUE.equals(tuple.getT2()) ? liveKeys : staleKeys).add(tuple.getT1()));
+                    if (staleKeys.isEmpty()) {
+                        return Mono.just(liveKeys);
+                    }
+                    return Flux.fromIterable(staleKeys)
+                            .flatMap(this::removeSessionFromUserIndex)
+                            .then(stringRedisOperations.opsForSet().remove(indexKey, staleKeys.toArray()))
+                            .thenReturn(liveKeys);
+                });
     }
 
     /**
      * This method returns a Flux of tuples, where the first element is the session key, and the second element is the
-     * corresponding User object.
+     * corresponding User object. It goes through all the sessions in Redis, so it shouldn't be used on a request path.
      */
     public Flux<Tuple2<String, User>> getSessionKeysWithUserSessions() {
         return redisOperations
-                .keys(SPRING_SESSION_PATTERN)
+                .scan(ScanOptions.scanOptions()
+                        .match(SPRING_SESSION_PATTERN)
+                        .count(SESSION_SCAN_BATCH_SIZE)
+                        .build())
                 .flatMap(key -> Mono.zip(
                         Mono.just(key),
                         // The values are maps, containing various pieces of session related information.
@@ -119,6 +165,79 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
                                 .next()));
     }
 
+    /**
+     * Adds the session to the index of the sessions of the user, so that the sessions of the user can be revoked
+     * without going through all the sessions in Redis. Sessions of the user which don't exist anymore are removed from
+     * the index at the same time, in case their expiry has been missed.
+     * @param user      The user who is logged in with the session.
+     * @param sessionId The id of the session.
+     */
+    @Override
+    public Mono<Void> addSessionToUserIndex(User user, String sessionId) {
+        final String indexKey = getUserSessionsIndexKey(user.getTenantId(), user.getEmail());
+        final String sessionKey = SPRING_SESSION_PREFIX + sessionId;
+
+        // The index is pruned before the session is added, as the session may not have been written to Redis yet
+        return pruneUserSessionsIndex(indexKey)
+                .then(stringRedisOperations.opsForSet().add(indexKey, sessionKey))
+                .then(stringRedisOperations.opsForValue().set(SESSION_USER_INDEX_PREFIX + sessionId, indexKey))
+                .then()
+                .onErrorResume(error -> {
+                    // The session is still usable, it will only be missed when all the sessions of the user are revoked
+                    log.error("Error adding session to the sessions index of the user", error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Removes a session, which has expired or has been deleted, from the index of the sessions of its user.
+     * @param sessionKey The key of the session in Redis.
+     */
+    @Override
+    public Mono<Void> removeSessionFromUserIndex(String sessionKey) {
+        if (!sessionKey.startsWith(SPRING_SESSION_PREFIX)) {
+            return Mono.empty();
+        }
+        final String reverseIndexKey = SESSION_USER_INDEX_PREFIX + sessionKey.substring(SPRING_SESSION_PREFIX.length());
+        return stringRedisOperations
+                .opsForValue()
+                .get(reverseIndexKey)
+                .flatMap(indexKey -> stringRedisOperations.opsForSet().remove(indexKey, sessionKey))
+                .then(stringRedisOperations.delete(reverseIndexKey))
+                .then();
+    }
+
+    /**
+     * Adds the sessions which have been created before the sessions of users were indexed to the index. This goes
+     * through all the sessions in Redis once, and is skipped after it has completed.
+     * @return The number of sessions which have been indexed.
+     */
+    @Override
+    public Mono<Long> indexExistingUserSessions() {
+        return stringRedisOperations.hasKey(USER_SESSIONS_INDEX_BACKFILLED_KEY).flatMap(isBackfilled -> {
+            if (Boolean.TRUE.equals(isBackfilled)) {
+                return Mono.just(0L);
+            }
+            return getSessionKeysWithUserSessions()
+                    .flatMap(
+                            tuple -> addSessionToUserIndex(
+                                            tuple.getT2(), tuple.getT1().substring(SPRING_SESSION_PREFIX.length()))
+                                    .thenReturn(tuple.getT1()),
+                            16)
+                    .count()
+                    .flatMap(count -> stringRedisOperations
+                            .opsForValue()
+                            .set(
+                                    USER_SESSIONS_INDEX_BACKFILLED_KEY,
+                                    Instant.now().toString())
+                            .thenReturn(count));
+        });
+    }
+
+    private static String getUserSessionsIndexKey(String tenantId, String email) {
+        return USER_SESSIONS_INDEX_PREFIX + tenantId + ":" + StringUtils.lowerCase(email);
+    }
+
     @Override
     public Mono<Long> deleteSessionsByKeys(List<String> keys) {
         return CollectionUtils.isNullOrEmpty(keys)
@@ -7,6 +7,7 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.UsagePulseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.UsagePulseBuffer;
 import com.appsmith.server.repositories.UsagePulseRepository;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.SessionUserService;
@@ -37,6 +38,8 @@ public class UsagePulseServiceCEImpl implements UsagePulseServiceCE {
 
     private final CommonConfig commonConfig;
 
+    private final UsagePulseBuffer usagePulseBuffer;
+
     /**
      * To create a usage pulse
      *
@@ -100,12 +103,13 @@ public class UsagePulseServiceCEImpl implements UsagePulseServiceCE {
     }
 
     /**
-     * To save usagePulse to the database
+     * To save usagePulse to the database. The pulses are inserted in batches, and a pulse is dropped if the user has
+     * already sent one recently, see {@link UsagePulseBuffer}
      *
      * @param usagePulse UsagePulse
      * @return Mono of UsagePulse
      */
     public Mono<UsagePulse> save(UsagePulse usagePulse) {
-        return repository.save(usagePulse);
+        return usagePulseBuffer.add(usagePulse);
     }
 }
@@ -34,4 +34,18 @@ public class ScheduledTaskCEImpl implements ScheduledTaskCE {
                 .subscribeOn(scheduler)
                 .subscribe();
     }
+
+    /**
+     * Refreshes the in memory features of the tenant from the cache, in case an update of the features on another
+     * server has been missed by this one.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedRate = 60 * 1000 /* one minute */)
+    @Observed(name = "refreshTenantFeatures")
+    public void refreshTenantFeatures() {
+        featureFlagService
+                .getTenantFeatures()
+                .doOnError(error -> log.error("Error while refreshing tenant feature flags", error))
+                .subscribeOn(scheduler)
+                .subscribe();
+    }
 }
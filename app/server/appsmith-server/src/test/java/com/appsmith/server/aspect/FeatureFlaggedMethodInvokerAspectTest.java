@@ -12,13 +12,17 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.lang.reflect.Method;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -31,6 +35,9 @@ class FeatureFlaggedMethodInvokerAspectTest {
     @Autowired
     TestComponent testComponent;
 
+    @Autowired
+    FeatureFlaggedMethodInvokerAspect featureFlaggedMethodInvokerAspect;
+
     private static final String EE_RESPONSE = "ee_impl_method";
     private static final String CE_COMPATIBLE_RESPONSE = "ce_compatible_impl_method";
     private static final String CE_RESPONSE = "ce_impl_method";
@@ -84,6 +91,20 @@ class FeatureFlaggedMethodInvokerAspectTest {
         StepVerifier.create(resultMono).expectNext(CE_RESPONSE).verifyComplete();
     }
 
+    @Test
+    void ceEeDiffMethod_whenCalledAgain_reusesResolvedFallbackMethod() {
+        StepVerifier.create(testComponent.ceEeDiffMethod())
+                .expectNext(CE_RESPONSE)
+                .verifyComplete();
+        Object fallbackMethod = getResolvedFallbackMethod("ceEeDiffMethod");
+        assertNotNull(fallbackMethod);
+
+        StepVerifier.create(testComponent.ceEeDiffMethod())
+                .expectNext(CE_RESPONSE)
+                .verifyComplete();
+        assertSame(fallbackMethod, getResolvedFallbackMethod("ceEeDiffMethod"));
+    }
+
     @Test
     void ceEeDiffMethod_eeImplTest() {
         Mockito.when(featureFlagService.check(eq(FeatureFlagEnum.TENANT_TEST_FEATURE)))
@@ -146,4 +167,15 @@ class FeatureFlaggedMethodInvokerAspectTest {
                         "ceEeThrowNonAppsmithException",
                         "Exception while invoking super class method"));
     }
+
+    @SuppressWarnings("unchecked")
+    private Object getResolvedFallbackMethod(String methodName) {
+        Map<Method, Object> fallbackMethods = (Map<Method, Object>)
+                ReflectionTestUtils.getField(featureFlaggedMethodInvokerAspect, "fallbackMethods");
+        return fallbackMethods.entrySet().stream()
+                .filter(entry -> entry.getKey().getName().equals(methodName))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
 }
@@ -40,6 +40,7 @@ import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.dtos.ApplicationAccessDTO;
 import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.ExportFileDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -65,6 +66,7 @@ import com.appsmith.server.solutions.EnvironmentPermission;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -77,12 +79,17 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.function.Tuples;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -189,6 +196,9 @@ public class ExportServiceTests {
     @Autowired
     JsonSchemaVersions jsonSchemaVersions;
 
+    @Autowired
+    Gson gson;
+
     @BeforeEach
     public void setup() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any()))
@@ -366,6 +376,36 @@ public class ExportServiceTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getArtifactFile_whenApplicationIsExported_streamsSerialisedApplicationJson() {
+        Mono<ExportFileDTO> exportFileMono = exportService.getArtifactFile(testAppId, null, ArtifactType.APPLICATION);
+
+        StepVerifier.create(exportFileMono.flatMap(
+                        exportFileDTO -> DataBufferUtils.join(exportFileDTO.getArtifactResource())
+                                .map(dataBuffer -> {
+                                    String content = dataBuffer.toString(StandardCharsets.UTF_8);
+                                    DataBufferUtils.release(dataBuffer);
+                                    return Tuples.of(exportFileDTO.getHttpHeaders(), content);
+                                })))
+                .assertNext(tuple -> {
+                    HttpHeaders httpHeaders = tuple.getT1();
+                    String content = tuple.getT2();
+                    assertThat(httpHeaders.getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+                    assertThat(httpHeaders.getContentLength())
+                            .isEqualTo(content.getBytes(StandardCharsets.UTF_8).length);
+
+                    ApplicationJson applicationJson = gson.fromJson(content, ApplicationJson.class);
+                    assertThat(applicationJson.getExportedApplication().getName())
+                            .isEqualTo("Export-Application-Test-Application");
+                    assertThat(applicationJson.getServerSchemaVersion())
+                            .isEqualTo(jsonSchemaVersions.getServerVersion());
+                    assertThat(applicationJson.getModifiedResources()).isNull();
+                    assertThat(applicationJson.getPageList()).isNotEmpty();
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void createExportAppJsonWithDatasourceButWithoutActionsTest() {
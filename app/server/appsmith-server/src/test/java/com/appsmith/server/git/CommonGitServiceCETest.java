@@ -255,6 +255,8 @@ public class CommonGitServiceCETest {
 
         Mockito.when(gitCloudServicesUtils.getPrivateRepoLimitForOrg(eq(workspaceId), Mockito.anyBoolean()))
                 .thenReturn(Mono.just(-1));
+        Mockito.when(gitExecutor.unshallowRepository(any(Path.class), any(), any()))
+                .thenReturn(Mono.just(Boolean.FALSE));
 
         Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
@@ -4308,6 +4310,9 @@ public class CommonGitServiceCETest {
                     assertThat(response.getBehindCount()).isEqualTo(2);
                 })
                 .verifyComplete();
+
+        // The fetch leaves a shallow clone shallow
+        Mockito.verify(gitExecutor, Mockito.never()).unshallowRepository(any(Path.class), any(), any());
     }
 
     @WithUserDetails("api_user")
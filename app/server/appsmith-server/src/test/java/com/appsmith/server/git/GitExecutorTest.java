@@ -26,8 +26,11 @@ import reactor.test.StepVerifier;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -677,9 +680,164 @@ public class GitExecutorTest {
                 .verifyComplete();
     }
 
+    private Path createRemoteWithFeatureBranch() throws IOException, GitAPIException {
+        for (int i = 0; i < 3; i++) {
+            writeFileInThePath("testFile", "Commit " + i);
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Commit " + i).call();
+        }
+        String defaultBranch = git.getRepository().getBranch();
+        git.checkout().setCreateBranch(true).setName("feature").call();
+        writeFileInThePath("featureFile", "Feature commit");
+        git.add().addFilepattern(".").call();
+        git.commit().setMessage("Feature commit").call();
+        git.checkout().setName(defaultBranch).call();
+        return Files.createTempDirectory("clone");
+    }
+
+    @Test
+    public void cloneRemoteIntoArtifactRepo_WithDepthAndSingleBranch_ClonesDefaultBranchOnly()
+            throws IOException, GitAPIException {
+        Path clonePath = createRemoteWithFeatureBranch();
+        int cloneDepth = gitServiceConfig.getCloneDepth();
+        boolean isCloneSingleBranch = gitServiceConfig.isCloneSingleBranch();
+        gitServiceConfig.setCloneDepth(1);
+        gitServiceConfig.setCloneSingleBranch(true);
+        try {
+            String defaultBranch = gitExecutor
+                    .cloneRemoteIntoArtifactRepo(clonePath, "file://" + tempFolder.getAbsolutePath(), "", "")
+                    .block();
+            assertThat(defaultBranch).isEqualTo(git.getRepository().getBranch());
+
+            StepVerifier.create(gitExecutor.listBranches(clonePath))
+                    .assertNext(branches -> assertThat(branches)
+                            .extracting(GitBranchDTO::getBranchName)
+                            .containsExactlyInAnyOrder(defaultBranch, "origin/" + defaultBranch))
+                    .verifyComplete();
+
+            StepVerifier.create(gitExecutor.getCommitHistory(clonePath))
+                    .assertNext(commits -> assertThat(commits).hasSize(1))
+                    .verifyComplete();
+
+            // The fetch refspec covers all the branches again, for the fetches after the clone
+            try (Git clonedGit = Git.open(clonePath.toFile())) {
+                assertThat(clonedGit.getRepository().getConfig().getStringList("remote", "origin", "fetch"))
+                        .containsExactly("+refs/heads/*:refs/remotes/origin/*");
+            }
+        } finally {
+            gitServiceConfig.setCloneDepth(cloneDepth);
+            gitServiceConfig.setCloneSingleBranch(isCloneSingleBranch);
+            FileUtils.deleteDirectory(clonePath.toFile());
+        }
+    }
+
+    @Test
+    public void cloneRemoteIntoArtifactRepo_WithDepthAndSingleBranch_ListsAndChecksOutOtherBranchAfterFetch()
+            throws IOException, GitAPIException {
+        Path clonePath = createRemoteWithFeatureBranch();
+        int cloneDepth = gitServiceConfig.getCloneDepth();
+        boolean isCloneSingleBranch = gitServiceConfig.isCloneSingleBranch();
+        gitServiceConfig.setCloneDepth(1);
+        gitServiceConfig.setCloneSingleBranch(true);
+        try {
+            String defaultBranch = gitExecutor
+                    .cloneRemoteIntoArtifactRepo(clonePath, "file://" + tempFolder.getAbsolutePath(), "", "")
+                    .block();
+
+            Mono<List<GitBranchDTO>> branchesMono = gitExecutor
+                    .fetchRemote(clonePath, "", "", false, defaultBranch, true)
+                    .then(gitExecutor.listBranches(clonePath));
+            StepVerifier.create(branchesMono)
+                    .assertNext(branches -> assertThat(branches)
+                            .extracting(GitBranchDTO::getBranchName)
+                            .contains("origin/feature"))
+                    .verifyComplete();
+
+            // The other branch is checked out without fetching the complete history
+            Mono<List<GitLogDTO>> featureHistoryMono = gitExecutor
+                    .checkoutRemoteBranch(clonePath, "feature")
+                    .then(gitExecutor.getCommitHistory(clonePath));
+            StepVerifier.create(featureHistoryMono)
+                    .assertNext(commits -> assertThat(commits)
+                            .extracting(GitLogDTO::getCommitMessage)
+                            .containsExactly("Feature commit"))
+                    .verifyComplete();
+
+            // The complete history is only fetched when it's asked for
+            StepVerifier.create(gitExecutor
+                            .unshallowRepository(clonePath, "", "")
+                            .then(gitExecutor.getCommitHistory(clonePath)))
+                    .assertNext(commits -> assertThat(commits)
+                            .extracting(GitLogDTO::getCommitMessage)
+                            .containsExactly("Feature commit", "Commit 2", "Commit 1", "Commit 0"))
+                    .verifyComplete();
+
+            StepVerifier.create(gitExecutor.unshallowRepository(clonePath, "", ""))
+                    .expectNext(Boolean.FALSE)
+                    .verifyComplete();
+        } finally {
+            gitServiceConfig.setCloneDepth(cloneDepth);
+            gitServiceConfig.setCloneSingleBranch(isCloneSingleBranch);
+            FileUtils.deleteDirectory(clonePath.toFile());
+        }
+    }
+
+    @Test
+    public void fetchRemote_WithShallowClone_LeavesRepoShallow() throws IOException, GitAPIException {
+        Path clonePath = createRemoteWithFeatureBranch();
+        int cloneDepth = gitServiceConfig.getCloneDepth();
+        boolean isCloneSingleBranch = gitServiceConfig.isCloneSingleBranch();
+        gitServiceConfig.setCloneDepth(1);
+        gitServiceConfig.setCloneSingleBranch(true);
+        try {
+            String defaultBranch = gitExecutor
+                    .cloneRemoteIntoArtifactRepo(clonePath, "file://" + tempFolder.getAbsolutePath(), "", "")
+                    .block();
+
+            // Both a fetch of one branch and a fetch of all the branches keep the repo shallow
+            StepVerifier.create(gitExecutor
+                            .fetchRemote(clonePath, "", "", false, defaultBranch, false)
+                            .then(gitExecutor.fetchRemote(clonePath, "", "", false, defaultBranch, true))
+                            .then(gitExecutor.getCommitHistory(clonePath)))
+                    .assertNext(commits -> assertThat(commits).hasSize(1))
+                    .verifyComplete();
+
+            try (Git clonedGit = Git.open(clonePath.toFile())) {
+                assertThat(clonedGit.getRepository().getObjectDatabase().getShallowCommits())
+                        .isNotEmpty();
+            }
+            StepVerifier.create(gitExecutor.unshallowRepository(clonePath, "", ""))
+                    .expectNext(Boolean.TRUE)
+                    .verifyComplete();
+        } finally {
+            gitServiceConfig.setCloneDepth(cloneDepth);
+            gitServiceConfig.setCloneSingleBranch(isCloneSingleBranch);
+            FileUtils.deleteDirectory(clonePath.toFile());
+        }
+    }
+
+    @Test
+    public void maintainRepository_WithLockFiles_DeletesOnlyStaleOnes() throws IOException {
+        createFileInThePath("testFile");
+        commitToRepo();
+        Path staleIndexLock = Files.writeString(path.resolve("index.lock"), "");
+        Path staleRefLock = Files.writeString(path.resolve("refs/heads/stale.lock"), "");
+        Path freshRefLock = Files.writeString(path.resolve("refs/heads/fresh.lock"), "");
+        FileTime staleTime = FileTime.from(Instant.now().minusSeconds(600));
+        Files.setLastModifiedTime(staleIndexLock, staleTime);
+        Files.setLastModifiedTime(staleRefLock, staleTime);
+
+        StepVerifier.create(gitExecutor.maintainRepository(path, 300))
+                .assertNext(reclaimedBytes -> assertThat(reclaimedBytes).isGreaterThanOrEqualTo(0L))
+                .verifyComplete();
+
+        assertThat(staleIndexLock).doesNotExist();
+        assertThat(staleRefLock).doesNotExist();
+        assertThat(freshRefLock).exists();
+    }
+
     // TODO cover the below mentioned test cases
     /*
      * resetToLastCommit
-     * Clone
      * */
 }
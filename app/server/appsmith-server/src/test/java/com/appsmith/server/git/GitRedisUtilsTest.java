@@ -0,0 +1,243 @@
+package com.appsmith.server.git;
+
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.RedisUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.appsmith.server.helpers.RedisUtils.FILE_LOCK_ACQUIRED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class GitRedisUtilsTest {
+
+    private static final Duration WAITER_TIME_LIMIT = Duration.ofMinutes(1);
+
+    @Autowired
+    RedisUtils redisUtils;
+
+    @Autowired
+    GitRedisUtils gitRedisUtils;
+
+    @Autowired
+    ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private String applicationId;
+
+    @BeforeEach
+    public void setup() {
+        applicationId = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        reactiveRedisOperations
+                .delete(
+                        "{" + applicationId + "}",
+                        "{" + applicationId + "}:readers",
+                        "{" + applicationId + "}:queue",
+                        "{" + applicationId + "}:heartbeats")
+                .block();
+    }
+
+    private Mono<String> tryAcquire(String command, String token, boolean isShared, boolean isQueued) {
+        return redisUtils.tryAcquireFileLock(applicationId, command, token, isShared, isQueued, WAITER_TIME_LIMIT);
+    }
+
+    @Test
+    public void tryAcquireFileLock_WhenLockIsHeldExclusively_ReturnsHolder() {
+        StepVerifier.create(tryAcquire("commit", "writer", false, false))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+
+        // Neither another writer nor a reader can get the lock while the writer holds it
+        StepVerifier.create(tryAcquire("pull", "other-writer", false, false))
+                .expectNext("commit")
+                .verifyComplete();
+        StepVerifier.create(tryAcquire("status", "reader", true, false))
+                .expectNext("commit")
+                .verifyComplete();
+    }
+
+    @Test
+    public void tryAcquireFileLock_WhenLockIsShared_ReadersCoexistAndWriterWaits() {
+        StepVerifier.create(tryAcquire("status", "reader-1", true, false))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+        StepVerifier.create(tryAcquire("status", "reader-2", true, false))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+
+        StepVerifier.create(tryAcquire("commit", "writer", false, false))
+                .expectNext("status")
+                .verifyComplete();
+
+        // The writer gets the lock once both readers are gone
+        redisUtils.releaseSharedFileLock(applicationId, "status", "reader-1").block();
+        StepVerifier.create(tryAcquire("commit", "writer", false, false))
+                .expectNext("status")
+                .verifyComplete();
+        redisUtils.releaseSharedFileLock(applicationId, "status", "reader-2").block();
+        StepVerifier.create(tryAcquire("commit", "writer", false, false))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+    }
+
+    @Test
+    public void tryAcquireFileLock_WhenWriterIsQueuedAhead_LaterReaderWaitsForIt() {
+        StepVerifier.create(tryAcquire("status", "reader-1", true, true))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+
+        // The writer queues up behind the reader which holds the lock
+        StepVerifier.create(tryAcquire("commit", "writer", false, true))
+                .expectNext("status")
+                .verifyComplete();
+
+        // A reader which comes later doesn't overtake the queued writer
+        StepVerifier.create(tryAcquire("status", "reader-2", true, true))
+                .expectNext("commit")
+                .verifyComplete();
+
+        redisUtils.releaseSharedFileLock(applicationId, "status", "reader-1").block();
+
+        // The reader is still behind the writer, which is now at the head of the queue
+        StepVerifier.create(tryAcquire("status", "reader-2", true, true))
+                .expectNext("commit")
+                .verifyComplete();
+        StepVerifier.create(tryAcquire("commit", "writer", false, true))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+
+        redisUtils.releaseFileLock(applicationId).block();
+        StepVerifier.create(tryAcquire("status", "reader-2", true, true))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+    }
+
+    @Test
+    public void tryAcquireFileLock_WhenQueuedWaiterGoesStale_WaiterIsDropped() throws InterruptedException {
+        Duration shortWaiterTimeLimit = Duration.ofMillis(200);
+        StepVerifier.create(redisUtils.tryAcquireFileLock(
+                        applicationId, "status", "reader", true, true, shortWaiterTimeLimit))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+        StepVerifier.create(redisUtils.tryAcquireFileLock(
+                        applicationId, "commit", "stale-writer", false, true, shortWaiterTimeLimit))
+                .expectNext("status")
+                .verifyComplete();
+
+        // The writer doesn't try again, so it's dropped from the queue and no longer blocks later readers
+        Thread.sleep(shortWaiterTimeLimit.multipliedBy(2).toMillis());
+        StepVerifier.create(redisUtils.tryAcquireFileLock(
+                        applicationId, "status", "other-reader", true, true, shortWaiterTimeLimit))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+    }
+
+    @Test
+    public void tryAcquireFileLock_KeysShareHashTag() {
+        tryAcquire("status", "reader", true, false).block();
+        tryAcquire("commit", "writer", false, true).block();
+
+        // All the keys used by the script are in the same slot of a Redis cluster
+        assertThat(reactiveRedisOperations
+                        .hasKey("{" + applicationId + "}:readers")
+                        .block())
+                .isTrue();
+        assertThat(reactiveRedisOperations
+                        .hasKey("{" + applicationId + "}:queue")
+                        .block())
+                .isTrue();
+        assertThat(reactiveRedisOperations
+                        .hasKey("{" + applicationId + "}:heartbeats")
+                        .block())
+                .isTrue();
+        assertThat(reactiveRedisOperations.hasKey(applicationId + ":readers").block())
+                .isFalse();
+    }
+
+    @Test
+    public void addFileLock_WhenLockIsHeldAndRetryIsNotAllowed_ThrowsFileInUse() {
+        StepVerifier.create(gitRedisUtils.addFileLock(applicationId, "commit", false))
+                .expectNext(Boolean.TRUE)
+                .verifyComplete();
+
+        StepVerifier.create(gitRedisUtils.addFileLock(applicationId, "pull", false))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(AppsmithException.class);
+                    assertThat(((AppsmithException) error).getAppErrorCode())
+                            .isEqualTo(AppsmithError.GIT_FILE_IN_USE.getAppErrorCode());
+                })
+                .verify();
+
+        gitRedisUtils.releaseFileLock(applicationId).block();
+        StepVerifier.create(gitRedisUtils.addFileLock(applicationId, "pull", false))
+                .expectNext(Boolean.TRUE)
+                .verifyComplete();
+    }
+
+    @Test
+    public void addFileLock_WhenLockIsReleased_QueuedCommandAcquiresIt() {
+        gitRedisUtils.addFileLock(applicationId, "commit", false).block();
+
+        Mono<Boolean> queuedLockMono = gitRedisUtils.addFileLock(applicationId, "pull", true);
+        Mono<Boolean> releaseMono =
+                Mono.delay(Duration.ofMillis(500)).then(gitRedisUtils.releaseFileLock(applicationId));
+
+        StepVerifier.create(Mono.zip(queuedLockMono, releaseMono))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isTrue();
+                    assertThat(tuple.getT2()).isTrue();
+                })
+                .verifyComplete();
+
+        StepVerifier.create(tryAcquire("status", "reader", true, false))
+                .expectNext("pull")
+                .verifyComplete();
+    }
+
+    @Test
+    public void withSharedFileLock_WhenCommandCompletes_ReleasesSharedLock() {
+        Mono<String> sharedCommandMono = gitRedisUtils.withSharedFileLock(
+                applicationId, "status", () -> tryAcquire("status", "other-reader", true, false)
+                        .flatMap(otherReader -> tryAcquire("commit", "writer", false, false)
+                                .map(writer -> otherReader + "," + writer)));
+
+        // Another reader shares the lock while the command runs, a writer doesn't
+        StepVerifier.create(sharedCommandMono)
+                .expectNext(FILE_LOCK_ACQUIRED + ",status")
+                .verifyComplete();
+
+        redisUtils
+                .releaseSharedFileLock(applicationId, "status", "other-reader")
+                .block();
+        StepVerifier.create(tryAcquire("commit", "writer", false, false))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+    }
+
+    @Test
+    public void withSharedFileLock_WhenCommandFails_ReleasesSharedLock() {
+        Mono<String> failingCommandMono = gitRedisUtils.withSharedFileLock(
+                applicationId, "status", () -> Mono.error(new IllegalStateException("failed")));
+
+        StepVerifier.create(failingCommandMono)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        StepVerifier.create(tryAcquire("commit", "writer", false, false))
+                .expectNext(FILE_LOCK_ACQUIRED)
+                .verifyComplete();
+    }
+}
@@ -13,6 +13,8 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.ApplicationJson;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.events.AutoCommitEvent;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.featureflags.CachedFeatures;
 import com.appsmith.server.git.GitRedisUtils;
 import com.appsmith.server.helpers.CommonGitFileUtils;
@@ -29,6 +31,7 @@ import org.eclipse.jgit.api.errors.GitAPIException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +41,7 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.annotation.DirtiesContext;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.io.IOException;
@@ -48,6 +52,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.appsmith.server.git.autocommit.AutoCommitEventHandlerCEImpl.AUTO_COMMIT_MSG_FORMAT;
@@ -56,6 +61,7 @@ import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 @SpringBootTest
@@ -200,6 +206,20 @@ public class AutoCommitEventHandlerImplTest {
 
         doReturn(Mono.just(TRUE)).when(gitExecutor).resetToLastCommit(baseRepoSuffix, autoCommitEvent.getBranchName());
 
+        doReturn(Mono.just(Set.of(applicationJson
+                        .getPageList()
+                        .get(0)
+                        .getUnpublishedPage()
+                        .getName())))
+                .when(commonGitFileUtils)
+                .getPageNamesRequiringDslMigration(
+                        autoCommitEvent.getWorkspaceId(),
+                        autoCommitEvent.getApplicationId(),
+                        autoCommitEvent.getRepoName(),
+                        autoCommitEvent.getBranchName(),
+                        currentDslVersion + 1,
+                        ArtifactType.APPLICATION);
+
         doReturn(Mono.just(applicationJson))
                 .when(commonGitFileUtils)
                 .reconstructArtifactExchangeJsonFromGitRepo(
@@ -646,4 +666,64 @@ public class AutoCommitEventHandlerImplTest {
                 })
                 .verifyComplete();
     }
+
+    private AutoCommitEvent createAutoCommitEvent(String authorName, boolean isServerSideEvent) {
+        AutoCommitEvent autoCommitEvent = new AutoCommitEvent();
+        autoCommitEvent.setApplicationId(defaultApplicationId);
+        autoCommitEvent.setBranchName(branchName);
+        autoCommitEvent.setWorkspaceId(workspaceId);
+        autoCommitEvent.setAuthorName(authorName);
+        autoCommitEvent.setIsServerSideEvent(isServerSideEvent);
+        return autoCommitEvent;
+    }
+
+    @Test
+    public void handle_WhenEventsArriveWhileAutoCommitIsRunning_RunsLatestEventOfEachKindAfterIt() {
+        AutoCommitEventHandler handler = Mockito.spy(autoCommitEventHandler);
+        Sinks.One<Boolean> runningAutoCommit = Sinks.one();
+        AtomicInteger dslMigrationCount = new AtomicInteger();
+        doAnswer(invocation -> dslMigrationCount.incrementAndGet() == 1 ? runningAutoCommit.asMono() : Mono.just(TRUE))
+                .when(handler)
+                .autoCommitDSLMigration(any());
+        doReturn(Mono.just(TRUE)).when(handler).autoCommitServerMigration(any());
+
+        handler.handle(createAutoCommitEvent("first", false));
+        Mockito.verify(handler, Mockito.timeout(5000)).autoCommitDSLMigration(any());
+
+        // Coalesced while the first auto commit is running, the server side migration isn't dropped for the DSL one
+        handler.handle(createAutoCommitEvent("second", false));
+        handler.handle(createAutoCommitEvent("server", true));
+        handler.handle(createAutoCommitEvent("third", false));
+        Mockito.verify(handler, Mockito.times(1)).autoCommitDSLMigration(any());
+        Mockito.verify(handler, Mockito.never()).autoCommitServerMigration(any());
+
+        runningAutoCommit.tryEmitValue(TRUE);
+
+        ArgumentCaptor<AutoCommitEvent> dslEventCaptor = ArgumentCaptor.forClass(AutoCommitEvent.class);
+        Mockito.verify(handler, Mockito.timeout(5000).times(2)).autoCommitDSLMigration(dslEventCaptor.capture());
+        assertThat(dslEventCaptor.getAllValues())
+                .extracting(AutoCommitEvent::getAuthorName)
+                .containsExactly("first", "third");
+
+        ArgumentCaptor<AutoCommitEvent> serverEventCaptor = ArgumentCaptor.forClass(AutoCommitEvent.class);
+        Mockito.verify(handler, Mockito.timeout(5000).times(1)).autoCommitServerMigration(serverEventCaptor.capture());
+        assertThat(serverEventCaptor.getValue().getAuthorName()).isEqualTo("server");
+    }
+
+    @Test
+    public void handle_WhenAutoCommitFinishesWithoutPendingEvents_RunsNextEventRightAway() {
+        AutoCommitEventHandler handler = Mockito.spy(autoCommitEventHandler);
+        doReturn(Mono.error(new AppsmithException(AppsmithError.GIT_FILE_IN_USE, "auto commit")))
+                .doReturn(Mono.just(TRUE))
+                .when(handler)
+                .autoCommitDSLMigration(any());
+
+        handler.handle(createAutoCommitEvent("first", false));
+        Mockito.verify(handler, Mockito.timeout(5000)).autoCommitDSLMigration(any());
+
+        // The failed auto commit has been removed from the running ones, hence the next event isn't held back
+        Mockito.verify(handler, Mockito.after(500).times(1)).autoCommitDSLMigration(any());
+        handler.handle(createAutoCommitEvent("second", false));
+        Mockito.verify(handler, Mockito.timeout(5000).times(2)).autoCommitDSLMigration(any());
+    }
 }
@@ -0,0 +1,162 @@
+package com.appsmith.server.git.maintenance;
+
+import com.appsmith.external.dtos.GitRepositoryStatisticsDTO;
+import com.appsmith.external.git.GitExecutor;
+import com.appsmith.external.git.constants.GitConstants.GitCommandConstants;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.git.GitRedisUtils;
+import com.appsmith.server.helpers.CommonGitFileUtils;
+import com.appsmith.server.repositories.ApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+
+public class GitMaintenanceScheduledTaskTest {
+
+    private GitExecutor gitExecutor;
+    private GitRedisUtils gitRedisUtils;
+    private CommonGitFileUtils commonGitFileUtils;
+    private ApplicationRepository applicationRepository;
+    private GitMaintenanceScheduledTaskImpl gitMaintenanceScheduledTask;
+
+    @BeforeEach
+    public void setup() {
+        gitExecutor = Mockito.mock(GitExecutor.class);
+        gitRedisUtils = Mockito.mock(GitRedisUtils.class);
+        commonGitFileUtils = Mockito.mock(CommonGitFileUtils.class);
+        applicationRepository = Mockito.mock(ApplicationRepository.class);
+        gitMaintenanceScheduledTask = new GitMaintenanceScheduledTaskImpl(
+                gitExecutor, gitRedisUtils, commonGitFileUtils, applicationRepository, Schedulers.immediate());
+        ReflectionTestUtils.setField(gitMaintenanceScheduledTask, "maxRepositoriesPerRun", 2);
+        ReflectionTestUtils.setField(gitMaintenanceScheduledTask, "looseObjectsThreshold", 1000);
+        ReflectionTestUtils.setField(gitMaintenanceScheduledTask, "packFilesThreshold", 50);
+        ReflectionTestUtils.setField(gitMaintenanceScheduledTask, "staleLockFileSeconds", 300);
+
+        Mockito.when(gitRedisUtils.addFileLock(anyString(), eq(GitCommandConstants.MAINTENANCE), eq(false)))
+                .thenReturn(Mono.just(Boolean.TRUE));
+        Mockito.when(gitRedisUtils.releaseFileLock(anyString())).thenReturn(Mono.just(Boolean.TRUE));
+        Mockito.when(commonGitFileUtils.deleteLocalRepo(any())).thenReturn(Mono.just(Boolean.TRUE));
+        Mockito.when(gitExecutor.maintainRepository(any(), anyInt())).thenReturn(Mono.just(100L));
+        Mockito.when(applicationRepository.findById(anyString(), (AclPermission) isNull()))
+                .thenReturn(Mono.empty());
+    }
+
+    private static GitRepositoryStatisticsDTO getStatistics(
+            String baseArtifactId, long numberOfLooseObjects, Duration unusedFor) {
+        return new GitRepositoryStatisticsDTO(
+                Path.of("workspace-id", baseArtifactId, "repo"),
+                numberOfLooseObjects,
+                1,
+                1000,
+                Instant.now().minus(unusedFor));
+    }
+
+    private void givenApplicationExists(String baseArtifactId) {
+        Mockito.when(applicationRepository.findById(eq(baseArtifactId), (AclPermission) isNull()))
+                .thenReturn(Mono.just(new Application()));
+    }
+
+    @Test
+    public void runMaintenance_WhenApplicationIsGone_PrunesOnlyUnusedRepos() {
+        GitRepositoryStatisticsDTO orphaned = getStatistics("orphaned", 0, Duration.ofDays(2));
+        GitRepositoryStatisticsDTO recentlyUsed = getStatistics("recently-used", 0, Duration.ofHours(1));
+        GitRepositoryStatisticsDTO present = getStatistics("present", 0, Duration.ofDays(2));
+        givenApplicationExists("present");
+        Mockito.when(gitExecutor.getRepositoryStatistics()).thenReturn(Flux.just(orphaned, recentlyUsed, present));
+
+        StepVerifier.create(gitMaintenanceScheduledTask.runMaintenance())
+                .expectNext(0L)
+                .verifyComplete();
+
+        Mockito.verify(commonGitFileUtils).deleteLocalRepo(orphaned.getRepoSuffix());
+        Mockito.verify(commonGitFileUtils, Mockito.times(1)).deleteLocalRepo(any());
+        Mockito.verify(gitRedisUtils).releaseFileLock("orphaned");
+    }
+
+    @Test
+    public void runMaintenance_WhenApplicationLookupFails_KeepsRepo() {
+        GitRepositoryStatisticsDTO statistics = getStatistics("lookup-fails", 2000, Duration.ofDays(2));
+        Mockito.when(applicationRepository.findById(eq("lookup-fails"), (AclPermission) isNull()))
+                .thenReturn(Mono.error(new RuntimeException("Database is unavailable")));
+        Mockito.when(gitExecutor.getRepositoryStatistics()).thenReturn(Flux.just(statistics));
+
+        StepVerifier.create(gitMaintenanceScheduledTask.runMaintenance())
+                .expectNext(100L)
+                .verifyComplete();
+
+        Mockito.verify(commonGitFileUtils, Mockito.never()).deleteLocalRepo(any());
+        Mockito.verify(gitExecutor).maintainRepository(statistics.getRepoSuffix(), 300);
+    }
+
+    @Test
+    public void runMaintenance_WhenManyReposAreOrphaned_PrunesAtMostMaxRepositoriesPerRun() {
+        Mockito.when(gitExecutor.getRepositoryStatistics())
+                .thenReturn(Flux.just(
+                        getStatistics("orphaned-1", 2000, Duration.ofDays(2)),
+                        getStatistics("orphaned-2", 2000, Duration.ofDays(2)),
+                        getStatistics("orphaned-3", 2000, Duration.ofDays(2))));
+
+        StepVerifier.create(gitMaintenanceScheduledTask.runMaintenance())
+                .expectNext(0L)
+                .verifyComplete();
+
+        Mockito.verify(commonGitFileUtils, Mockito.times(2)).deleteLocalRepo(any());
+        // The repo left for a later run isn't packed either
+        Mockito.verify(gitExecutor, Mockito.never()).maintainRepository(any(), anyInt());
+    }
+
+    @Test
+    public void runMaintenance_WhenRepoIsLocked_SkipsIt() {
+        GitRepositoryStatisticsDTO locked = getStatistics("locked", 3000, Duration.ofHours(1));
+        GitRepositoryStatisticsDTO free = getStatistics("free", 2000, Duration.ofHours(1));
+        GitRepositoryStatisticsDTO orphanedLocked = getStatistics("orphaned-locked", 0, Duration.ofDays(2));
+        Mockito.when(gitRedisUtils.addFileLock(eq("locked"), eq(GitCommandConstants.MAINTENANCE), eq(false)))
+                .thenReturn(Mono.error(new AppsmithException(AppsmithError.GIT_FILE_IN_USE, "maintenance")));
+        Mockito.when(gitRedisUtils.addFileLock(eq("orphaned-locked"), eq(GitCommandConstants.MAINTENANCE), eq(false)))
+                .thenReturn(Mono.error(new AppsmithException(AppsmithError.GIT_FILE_IN_USE, "maintenance")));
+        Mockito.when(gitExecutor.getRepositoryStatistics()).thenReturn(Flux.just(locked, free, orphanedLocked));
+
+        StepVerifier.create(gitMaintenanceScheduledTask.runMaintenance())
+                .expectNext(100L)
+                .verifyComplete();
+
+        Mockito.verify(gitExecutor, Mockito.never()).maintainRepository(eq(locked.getRepoSuffix()), anyInt());
+        Mockito.verify(gitExecutor).maintainRepository(free.getRepoSuffix(), 300);
+        Mockito.verify(commonGitFileUtils, Mockito.never()).deleteLocalRepo(any());
+    }
+
+    @Test
+    public void runMaintenance_PacksReposWithMostLooseObjectsFirst() {
+        GitRepositoryStatisticsDTO small = getStatistics("small", 10, Duration.ofHours(1));
+        GitRepositoryStatisticsDTO large = getStatistics("large", 5000, Duration.ofHours(1));
+        GitRepositoryStatisticsDTO medium = getStatistics("medium", 2000, Duration.ofHours(1));
+        GitRepositoryStatisticsDTO largest = getStatistics("largest", 9000, Duration.ofHours(1));
+        Mockito.when(gitExecutor.getRepositoryStatistics()).thenReturn(Flux.just(small, large, medium, largest));
+
+        StepVerifier.create(gitMaintenanceScheduledTask.runMaintenance())
+                .expectNext(200L)
+                .verifyComplete();
+
+        Mockito.verify(gitExecutor).maintainRepository(largest.getRepoSuffix(), 300);
+        Mockito.verify(gitExecutor).maintainRepository(large.getRepoSuffix(), 300);
+        Mockito.verify(gitExecutor, Mockito.times(2)).maintainRepository(any(), anyInt());
+    }
+}
@@ -0,0 +1,91 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PermissionGroupsRequestCacheTest {
+
+    @Test
+    public void get_whenCalledTwiceInRequest_resolvesPermissionGroupsOnce() {
+        AtomicInteger resolutions = new AtomicInteger();
+        PermissionGroupsRequestCache cache = new PermissionGroupsRequestCache();
+
+        Mono<Set<String>> permissionGroupsMono = PermissionGroupsRequestCache.get("user@example.com", true, () -> {
+            resolutions.incrementAndGet();
+            return Mono.just(Set.of("developer"));
+        });
+
+        StepVerifier.create(permissionGroupsMono
+                        .then(permissionGroupsMono)
+                        .contextWrite(context -> PermissionGroupsRequestCache.putInContext(context, cache)))
+                .expectNext(Set.of("developer"))
+                .verifyComplete();
+
+        assertThat(resolutions).hasValue(1);
+        assertThat(cache.getResolutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_whenEvictedInRequest_resolvesPermissionGroupsAgain() {
+        AtomicInteger resolutions = new AtomicInteger();
+        PermissionGroupsRequestCache cache = new PermissionGroupsRequestCache();
+
+        Mono<Set<String>> permissionGroupsMono = PermissionGroupsRequestCache.get(
+                "user@example.com", true, () -> Mono.just(Set.of("role" + resolutions.incrementAndGet())));
+
+        StepVerifier.create(permissionGroupsMono
+                        .then(PermissionGroupsRequestCache.evict("user@example.com"))
+                        .then(permissionGroupsMono)
+                        .contextWrite(context -> PermissionGroupsRequestCache.putInContext(context, cache)))
+                .expectNext(Set.of("role2"))
+                .verifyComplete();
+
+        assertThat(cache.getResolutionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_whenResolutionFailsInRequest_resolvesPermissionGroupsAgain() {
+        AtomicInteger resolutions = new AtomicInteger();
+        PermissionGroupsRequestCache cache = new PermissionGroupsRequestCache();
+
+        Mono<Set<String>> permissionGroupsMono = PermissionGroupsRequestCache.get(
+                "user@example.com",
+                true,
+                () -> Mono.defer(() -> resolutions.incrementAndGet() == 1
+                        ? Mono.error(new IllegalStateException("resolution failed"))
+                        : Mono.just(Set.of("developer"))));
+
+        StepVerifier.create(permissionGroupsMono
+                        .onErrorResume(error -> Mono.empty())
+                        .then(permissionGroupsMono)
+                        .then(permissionGroupsMono)
+                        .contextWrite(context -> PermissionGroupsRequestCache.putInContext(context, cache)))
+                .expectNext(Set.of("developer"))
+                .verifyComplete();
+
+        // The failure isn't kept, the permission groups which are resolved after it are
+        assertThat(resolutions).hasValue(2);
+    }
+
+    @Test
+    public void get_whenOutsideOfRequest_resolvesPermissionGroupsEveryTime() {
+        AtomicInteger resolutions = new AtomicInteger();
+
+        Mono<Set<String>> permissionGroupsMono = PermissionGroupsRequestCache.get("user@example.com", true, () -> {
+            resolutions.incrementAndGet();
+            return Mono.just(Set.of("developer"));
+        });
+
+        StepVerifier.create(permissionGroupsMono.then(permissionGroupsMono))
+                .expectNext(Set.of("developer"))
+                .verifyComplete();
+
+        assertThat(resolutions).hasValue(2);
+    }
+}
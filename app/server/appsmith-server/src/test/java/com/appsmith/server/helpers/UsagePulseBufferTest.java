@@ -0,0 +1,118 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.UsagePulse;
+import com.appsmith.server.repositories.UsagePulseRepository;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class UsagePulseBufferTest {
+
+    private UsagePulseRepository repository;
+    private UsagePulseBuffer usagePulseBuffer;
+
+    @BeforeEach
+    public void setUp() {
+        repository = Mockito.mock(UsagePulseRepository.class);
+        Mockito.when(repository.bulkInsert(anyList())).thenReturn(Mono.empty());
+        usagePulseBuffer = new UsagePulseBuffer(repository, 100, 200);
+    }
+
+    private static UsagePulse createPulse(String user, boolean viewMode) {
+        UsagePulse usagePulse = new UsagePulse();
+        usagePulse.setTenantId("tenant");
+        usagePulse.setUser(user);
+        usagePulse.setViewMode(viewMode);
+        return usagePulse;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flush_whenUserSendsDuplicatePulses_insertsOnePulsePerViewMode() {
+        usagePulseBuffer.add(createPulse("user1", true)).block();
+        usagePulseBuffer.add(createPulse("user1", true)).block();
+        usagePulseBuffer.add(createPulse("user1", false)).block();
+        usagePulseBuffer.add(createPulse("user2", true)).block();
+
+        StepVerifier.create(usagePulseBuffer.flush()).verifyComplete();
+
+        ArgumentCaptor<List<UsagePulse>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).bulkInsert(captor.capture());
+        assertThat(captor.getValue()).hasSize(3).allSatisfy(usagePulse -> {
+            assertThat(usagePulse.getId()).isNotNull();
+            assertThat(usagePulse.getCreatedAt()).isNotNull();
+        });
+
+        // A pulse of the same window which is received after the flush is still a duplicate
+        usagePulseBuffer.add(createPulse("user1", true)).block();
+        StepVerifier.create(usagePulseBuffer.flush()).verifyComplete();
+        verify(repository, times(1)).bulkInsert(anyList());
+    }
+
+    @Test
+    public void flush_whenInsertFails_insertsPulsesInNextFlush() {
+        Mockito.when(repository.bulkInsert(anyList()))
+                .thenReturn(Mono.error(new RuntimeException("insert failed")))
+                .thenReturn(Mono.empty());
+
+        usagePulseBuffer.add(createPulse("user1", true)).block();
+
+        StepVerifier.create(usagePulseBuffer.flush()).verifyComplete();
+        StepVerifier.create(usagePulseBuffer.flush()).verifyComplete();
+        verify(repository, times(2)).bulkInsert(anyList());
+
+        StepVerifier.create(usagePulseBuffer.flush()).verifyComplete();
+        verify(repository, times(2)).bulkInsert(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flush_whenInsertsKeepFailing_keepsNewestPulsesUpToMaxPending() {
+        Mockito.when(repository.bulkInsert(anyList())).thenReturn(Mono.error(new RuntimeException("insert failed")));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        usagePulseBuffer = new UsagePulseBuffer(repository, 1000, 150);
+
+        for (int i = 0; i < 100; i++) {
+            usagePulseBuffer.add(createPulse("old-user" + i, true)).block();
+        }
+        StepVerifier.create(usagePulseBuffer.flush()).verifyComplete();
+        for (int i = 0; i < 99; i++) {
+            usagePulseBuffer.add(createPulse("new-user" + i, true)).block();
+        }
+
+        Mockito.when(repository.bulkInsert(anyList())).thenReturn(Mono.empty());
+        StepVerifier.create(usagePulseBuffer.flush()).verifyComplete();
+
+        ArgumentCaptor<List<UsagePulse>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).bulkInsert(captor.capture());
+        List<UsagePulse> insertedPulses = captor.getAllValues().get(1);
+        assertThat(insertedPulses).hasSize(150);
+        // The oldest pulses are dropped, the failed ones which are kept are still inserted before the newer ones
+        assertThat(insertedPulses.get(0).getUser()).isEqualTo("old-user49");
+        assertThat(insertedPulses.get(51).getUser()).isEqualTo("new-user0");
+        assertThat(meterRegistry.counter("appsmith.usage_pulse.dropped").count())
+                .isEqualTo(49);
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    public void flush_whenNothingIsPending_doesNotInsert() {
+        StepVerifier.create(usagePulseBuffer.flush()).verifyComplete();
+
+        verify(repository, never()).bulkInsert(anyList());
+    }
+}
@@ -0,0 +1,71 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserFeatureFlagsRequestCacheTest {
+
+    @Test
+    public void get_whenCalledTwiceInRequest_fetchesFlagsOnce() {
+        AtomicInteger fetches = new AtomicInteger();
+        UserFeatureFlagsRequestCache cache = new UserFeatureFlagsRequestCache();
+
+        Mono<Map<String, Boolean>> flagsMono = UserFeatureFlagsRequestCache.get("user-identifier", () -> {
+            fetches.incrementAndGet();
+            return Mono.just(Map.of("feature", true));
+        });
+
+        StepVerifier.create(flagsMono
+                        .then(flagsMono)
+                        .contextWrite(context -> UserFeatureFlagsRequestCache.putInContext(context, cache)))
+                .expectNext(Map.of("feature", true))
+                .verifyComplete();
+
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    public void get_whenFetchFailsInRequest_fetchesFlagsAgain() {
+        AtomicInteger fetches = new AtomicInteger();
+        UserFeatureFlagsRequestCache cache = new UserFeatureFlagsRequestCache();
+
+        Mono<Map<String, Boolean>> flagsMono = UserFeatureFlagsRequestCache.get(
+                "user-identifier",
+                () -> Mono.defer(() -> fetches.incrementAndGet() == 1
+                        ? Mono.error(new IllegalStateException("fetch failed"))
+                        : Mono.just(Map.of("feature", true))));
+
+        StepVerifier.create(flagsMono
+                        .onErrorResume(error -> Mono.empty())
+                        .then(flagsMono)
+                        .then(flagsMono)
+                        .contextWrite(context -> UserFeatureFlagsRequestCache.putInContext(context, cache)))
+                .expectNext(Map.of("feature", true))
+                .verifyComplete();
+
+        // The failure isn't kept, the flags which are fetched after it are
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    public void get_whenOutsideOfRequest_fetchesFlagsEveryTime() {
+        AtomicInteger fetches = new AtomicInteger();
+
+        Mono<Map<String, Boolean>> flagsMono = UserFeatureFlagsRequestCache.get("user-identifier", () -> {
+            fetches.incrementAndGet();
+            return Mono.just(Map.of("feature", true));
+        });
+
+        StepVerifier.create(flagsMono.then(flagsMono))
+                .expectNext(Map.of("feature", true))
+                .verifyComplete();
+
+        assertThat(fetches).hasValue(2);
+    }
+}
@@ -1,5 +1,6 @@
 package com.appsmith.server.imports.internal;
 
+import com.appsmith.external.dtos.DslExecutableDTO;
 import com.appsmith.external.dtos.ModifiedResources;
 import com.appsmith.external.helpers.AppsmithBeanUtils;
 import com.appsmith.external.models.ActionConfiguration;
@@ -4694,6 +4695,81 @@ public class ImportServiceTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void importApplication_reimportIntoExistingApplication_PagesUpdatedAndLinkedToImportedActions() {
+        ApplicationJson applicationJson = createAppJson("test_assets/ImportExportServiceTest/valid-application.json")
+                .block();
+        applicationJson.getExportedApplication().setName("reimport-" + UUID.randomUUID());
+        Application application = importService
+                .importNewArtifactInWorkspaceFromJson(workspaceId, applicationJson)
+                .map(importableArtifact -> (Application) importableArtifact)
+                .block();
+        assertThat(application).isNotNull();
+        Map<String, String> pageIdsByGitSyncId = newPageService
+                .findNewPagesByApplicationId(application.getId(), MANAGE_PAGES)
+                .collectMap(NewPage::getGitSyncId, NewPage::getId)
+                .block();
+        Instant reimportedAt = Instant.now();
+
+        Application reimportedApplication = createAppJson("test_assets/ImportExportServiceTest/valid-application.json")
+                .flatMap(reimportedJson ->
+                        importService.restoreSnapshot(workspaceId, application.getId(), null, reimportedJson))
+                .map(importableArtifact -> (Application) importableArtifact)
+                .block();
+        assertThat(reimportedApplication.getId()).isEqualTo(application.getId());
+
+        List<NewPage> pageList = newPageService
+                .findNewPagesByApplicationId(application.getId(), MANAGE_PAGES)
+                .collectList()
+                .block();
+        List<NewAction> actionList = newActionService
+                .findAllByApplicationIdAndViewMode(application.getId(), false, MANAGE_ACTIONS, null)
+                .collectList()
+                .block();
+        List<ActionCollection> actionCollectionList = actionCollectionService
+                .findAllByApplicationIdAndViewMode(application.getId(), false, MANAGE_ACTIONS, null)
+                .collectList()
+                .block();
+
+        // The existing pages are updated in place, with the audit fields of the update
+        assertThat(pageList).hasSize(2);
+        pageList.forEach(newPage -> {
+            assertThat(newPage.getId()).isEqualTo(pageIdsByGitSyncId.get(newPage.getGitSyncId()));
+            assertThat(newPage.getUpdatedAt()).isAfterOrEqualTo(reimportedAt);
+            assertThat(newPage.getModifiedBy()).isEqualTo("api_user");
+        });
+
+        // Actions and collections, which are imported in parallel, belong to the pages and to each other
+        Set<String> pageIds = pageList.stream().map(NewPage::getId).collect(Collectors.toSet());
+        Set<String> actionIds = actionList.stream().map(NewAction::getId).collect(Collectors.toSet());
+        Set<String> actionCollectionIds =
+                actionCollectionList.stream().map(ActionCollection::getId).collect(Collectors.toSet());
+        assertThat(actionList).hasSize(3);
+        assertThat(actionCollectionList).hasSize(2);
+        actionList.forEach(newAction -> {
+            assertThat(pageIds).contains(newAction.getUnpublishedAction().getPageId());
+            String collectionId = newAction.getUnpublishedAction().getCollectionId();
+            if (collectionId != null) {
+                assertThat(actionCollectionIds).contains(collectionId);
+            }
+        });
+        actionCollectionList.forEach(actionCollection -> assertThat(pageIds)
+                .contains(actionCollection.getUnpublishedCollection().getPageId()));
+
+        // The on load actions of the page layouts point at the re-imported actions
+        List<String> onLoadActionIds = pageList.stream()
+                .flatMap(newPage -> newPage.getUnpublishedPage().getLayouts().stream())
+                .map(Layout::getLayoutOnLoadActions)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .flatMap(Set::stream)
+                .map(DslExecutableDTO::getId)
+                .toList();
+        assertThat(onLoadActionIds).isNotEmpty();
+        assertThat(actionIds).containsAll(onLoadActionIds);
+    }
+
     /**
      * Testcase for updating the existing application:
      * 1. Import application in org
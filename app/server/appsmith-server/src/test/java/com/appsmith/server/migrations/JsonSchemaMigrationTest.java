@@ -1,6 +1,10 @@
 package com.appsmith.server.migrations;
 
 import com.appsmith.external.enums.FeatureFlagEnum;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.server.constants.ApplicationConstants;
+import com.appsmith.server.domains.CustomJSLib;
+import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.dtos.ApplicationJson;
 import com.appsmith.server.dtos.ArtifactExchangeJson;
 import com.appsmith.server.featureflags.CachedFeatures;
@@ -18,6 +22,9 @@ import reactor.test.StepVerifier;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static java.lang.Boolean.FALSE;
@@ -138,4 +145,41 @@ public class JsonSchemaMigrationTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void migrateApplicationJsonToLatestSchema_whenJsonIsOneVersionBehind_runsOnlyTheLastSteps() {
+        CachedFeatures cachedFeatures = new CachedFeatures();
+        cachedFeatures.setFeatures(Map.of(FeatureFlagEnum.release_git_autocommit_feature_enabled.name(), FALSE));
+
+        Mockito.when(featureFlagService.getCachedTenantFeatureFlags())
+                .thenAnswer((Answer<CachedFeatures>) invocations -> cachedFeatures);
+
+        Instant archivedAt = Instant.now();
+        ActionDTO unpublishedAction = new ActionDTO();
+        unpublishedAction.setArchivedAt(archivedAt);
+        NewAction newAction = new NewAction();
+        newAction.setUnpublishedAction(unpublishedAction);
+
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setServerSchemaVersion(jsonSchemaVersionsFallback.getServerVersion() - 1);
+        applicationJson.setClientSchemaVersion(jsonSchemaVersionsFallback.getClientVersion());
+        applicationJson.setActionList(new ArrayList<>(List.of(newAction)));
+
+        Mono<ApplicationJson> applicationJsonMono =
+                jsonSchemaMigration.migrateApplicationJsonToLatestSchema(applicationJson);
+        StepVerifier.create(applicationJsonMono)
+                .assertNext(appJson -> {
+                    assertThat(appJson.getServerSchemaVersion())
+                            .isEqualTo(jsonSchemaVersionsFallback.getServerVersion());
+                    // The step for the last version has been run
+                    assertThat(appJson.getCustomJSLibList())
+                            .extracting(CustomJSLib::getUidString)
+                            .containsExactly(ApplicationConstants.XML_PARSER_LIBRARY_UID);
+                    // The steps for the older versions have not been run
+                    ActionDTO action = appJson.getActionList().get(0).getUnpublishedAction();
+                    assertThat(action.getArchivedAt()).isEqualTo(archivedAt);
+                    assertThat(action.getDeletedAt()).isNull();
+                })
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,243 @@
+package com.appsmith.server.migrations.partitioned;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class PartitionedMigrationRunnerIntegrationTest {
+
+    private static final String COLLECTION = "partitionedMigrationTestItem";
+    private static final int DOCUMENT_COUNT = 40;
+    private static final int BATCH_SIZE = 5;
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    private String migrationId;
+
+    private List<ObjectId> ids;
+
+    @org.springframework.data.mongodb.core.mapping.Document(COLLECTION)
+    static class TestItem {}
+
+    /**
+     * Counts the migrations of every document with an $inc, so that a document which is migrated twice shows up. It
+     * fails on the given document, if any, before the writes of its batch are done.
+     */
+    private static class CountingMigration implements PartitionedMigration {
+        private final String id;
+        private final String name;
+        private final ObjectId failOn;
+        private final Map<Object, String> migratedBy;
+
+        CountingMigration(String id, String name, ObjectId failOn, Map<Object, String> migratedBy) {
+            this.id = id;
+            this.name = name;
+            this.failOn = failOn;
+            this.migratedBy = migratedBy;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public Class<?> getDomainClass() {
+            return TestItem.class;
+        }
+
+        @Override
+        public List<WriteModel<Document>> migrate(Document document) {
+            if (document.get("_id").equals(failOn)) {
+                throw new IllegalStateException("Stopped partway");
+            }
+            migratedBy.put(document.get("_id"), name);
+            return List.of(new UpdateOneModel<>(Filters.eq("_id", document.get("_id")), Updates.inc("migrations", 1)));
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        migrationId = "test-" + UUID.randomUUID();
+        mongoTemplate.dropCollection(COLLECTION);
+
+        // Ids ten seconds apart, so that the ids are split into several ranges
+        ids = new ArrayList<>();
+        long timestamp = System.currentTimeMillis() / 1000 - 3600;
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            ObjectId id = new ObjectId(String.format("%08x%016x", timestamp + i * 10L, i));
+            ids.add(id);
+            mongoTemplate.insert(new Document("_id", id).append("migrations", 0), COLLECTION);
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        mongoTemplate.dropCollection(COLLECTION);
+        mongoTemplate.remove(
+                new Query(Criteria.where("_id").is(migrationId)), PartitionedMigrationRunner.MIGRATION_COLLECTION);
+        mongoTemplate.remove(
+                new Query(Criteria.where("migrationId").is(migrationId)),
+                PartitionedMigrationRunner.PARTITION_COLLECTION);
+    }
+
+    @SuppressWarnings("unchecked")
+    private PartitionedMigrationRunner createRunner(int parallelism) {
+        return new PartitionedMigrationRunner(
+                mongoTemplate, Mockito.mock(ObjectProvider.class), parallelism, BATCH_SIZE);
+    }
+
+    private List<Document> findPartitions() {
+        return mongoTemplate.find(
+                new Query(Criteria.where("migrationId").is(migrationId)),
+                Document.class,
+                PartitionedMigrationRunner.PARTITION_COLLECTION);
+    }
+
+    private Document findMigration() {
+        return mongoTemplate.findOne(
+                new Query(Criteria.where("_id").is(migrationId)),
+                Document.class,
+                PartitionedMigrationRunner.MIGRATION_COLLECTION);
+    }
+
+    private Map<Object, Integer> findMigrationCounts() {
+        return mongoTemplate.findAll(Document.class, COLLECTION).stream()
+                .collect(Collectors.toMap(
+                        document -> document.get("_id"), document -> document.getInteger("migrations")));
+    }
+
+    @Test
+    public void run_migratesEveryDocumentOnceWithBulkWrites() {
+        Map<Object, String> migratedBy = new ConcurrentHashMap<>();
+
+        createRunner(1).run(new CountingMigration(migrationId, "runner", null, migratedBy));
+
+        assertThat(findMigrationCounts().values()).hasSize(DOCUMENT_COUNT).containsOnly(1);
+        List<Document> partitions = findPartitions();
+        assertThat(partitions).hasSizeGreaterThan(1);
+        assertThat(partitions).allSatisfy(partition -> assertThat(partition.getBoolean("completed"))
+                .isTrue());
+        assertThat(partitions.stream()
+                        .mapToLong(partition -> partition.getLong("processed"))
+                        .sum())
+                .isEqualTo(DOCUMENT_COUNT);
+        assertThat(findMigration().getBoolean("completed")).isTrue();
+        assertThat(findMigration().getDate("completedAt")).isNotNull();
+
+        // A completed migration isn't run again
+        createRunner(1).run(new CountingMigration(migrationId, "runner", ids.get(0), migratedBy));
+        assertThat(findMigrationCounts().values()).containsOnly(1);
+    }
+
+    @Test
+    public void run_whenInterruptedPartway_resumesFromLastIdAfterLeaseTakeover() {
+        Map<Object, String> migratedBy = new ConcurrentHashMap<>();
+        // With four ranges of ten documents, this is in the second batch of the third range
+        ObjectId failOn = ids.get(27);
+
+        assertThatThrownBy(() -> createRunner(1).run(new CountingMigration(migrationId, "first", failOn, migratedBy)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(findMigration().getBoolean("completed")).isFalse();
+        Document interruptedPartition = findPartitions().stream()
+                .filter(partition -> !partition.getBoolean("completed") && partition.get("lastId") != null)
+                .findFirst()
+                .orElseThrow();
+        ObjectId lastId = interruptedPartition.getObjectId("lastId");
+        // The batch which failed hasn't been saved, the one before it has
+        assertThat(lastId).isEqualTo(ids.get(24));
+        assertThat(interruptedPartition.getLong("processed")).isEqualTo(BATCH_SIZE);
+        assertThat(findPartitions().stream().filter(partition -> partition.getBoolean("completed")))
+                .hasSize(2);
+        Map<Object, Integer> countsAfterInterruption = findMigrationCounts();
+        assertThat(countsAfterInterruption.get(lastId)).isEqualTo(1);
+        assertThat(countsAfterInterruption.get(failOn)).isZero();
+
+        // The range is still leased to the runner which has stopped, until its lease runs out
+        String firstOwner = interruptedPartition.getString("owner");
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("migrationId").is(migrationId)),
+                new Update().set("leaseUntil", new Date(System.currentTimeMillis() - 1000)),
+                PartitionedMigrationRunner.PARTITION_COLLECTION);
+
+        createRunner(1).run(new CountingMigration(migrationId, "second", null, migratedBy));
+
+        // Every document has been migrated exactly once, the second runner has started after the last saved id
+        assertThat(findMigrationCounts().values()).hasSize(DOCUMENT_COUNT).containsOnly(1);
+        assertThat(migratedBy.get(lastId)).isEqualTo("first");
+        assertThat(migratedBy.get(failOn)).isEqualTo("second");
+        Document resumedPartition = findPartitions().stream()
+                .filter(partition -> partition.getString("_id").equals(interruptedPartition.getString("_id")))
+                .findFirst()
+                .orElseThrow();
+        assertThat(resumedPartition.getBoolean("completed")).isTrue();
+        assertThat(resumedPartition.getString("owner")).isNotEqualTo(firstOwner);
+        assertThat(resumedPartition.get("leaseUntil")).isNull();
+        assertThat(findMigration().getBoolean("completed")).isTrue();
+    }
+
+    @Test
+    public void run_whenRunOnTwoServers_sharesRanges() {
+        Map<Object, String> migratedBy = new ConcurrentHashMap<>();
+        AtomicInteger slowDown = new AtomicInteger();
+        Function<String, PartitionedMigration> slowMigration =
+                name -> new CountingMigration(migrationId, name, null, migratedBy) {
+                    @Override
+                    public List<WriteModel<Document>> migrate(Document document) {
+                        // Keeps a range busy for long enough for the other server to claim the other ranges
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        slowDown.incrementAndGet();
+                        return super.migrate(document);
+                    }
+                };
+
+        PartitionedMigrationRunner firstRunner = createRunner(2);
+        PartitionedMigrationRunner secondRunner = createRunner(2);
+        CompletableFuture.allOf(
+                        CompletableFuture.runAsync(() -> firstRunner.run(slowMigration.apply("first"))),
+                        CompletableFuture.runAsync(() -> secondRunner.run(slowMigration.apply("second"))))
+                .join();
+
+        assertThat(findMigrationCounts().values()).hasSize(DOCUMENT_COUNT).containsOnly(1);
+        assertThat(slowDown.get()).isEqualTo(DOCUMENT_COUNT);
+        assertThat(migratedBy.values()).contains("first", "second");
+        assertThat(findPartitions()).allSatisfy(partition -> assertThat(partition.getBoolean("completed"))
+                .isTrue());
+        assertThat(findMigration().getBoolean("completed")).isTrue();
+    }
+}
@@ -0,0 +1,38 @@
+package com.appsmith.server.migrations.partitioned;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PartitionedMigrationRunnerTest {
+
+    private static ObjectId objectIdAt(long timestamp) {
+        return new ObjectId(String.format("%08x%016x", timestamp, 12345L));
+    }
+
+    @Test
+    public void splitIdRange_whenRangeIsLong_splitsIntoEqualTimeRanges() {
+        List<ObjectId> boundaries = PartitionedMigrationRunner.splitIdRange(objectIdAt(1000), objectIdAt(2000), 4);
+
+        assertThat(boundaries).extracting(ObjectId::getTimestamp).containsExactly(1250, 1500, 1750);
+        assertThat(boundaries)
+                .allSatisfy(boundary -> assertThat(boundary.toHexString()).endsWith("0000000000000000"));
+    }
+
+    @Test
+    public void splitIdRange_whenRangeIsShorterThanPartitions_skipsEmptyRanges() {
+        List<ObjectId> boundaries = PartitionedMigrationRunner.splitIdRange(objectIdAt(1000), objectIdAt(1002), 8);
+
+        assertThat(boundaries).extracting(ObjectId::getTimestamp).containsExactly(1001);
+    }
+
+    @Test
+    public void splitIdRange_whenAllIdsHaveSameTimestamp_returnsSingleRange() {
+        List<ObjectId> boundaries = PartitionedMigrationRunner.splitIdRange(objectIdAt(1000), objectIdAt(1000), 8);
+
+        assertThat(boundaries).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.appsmith.server.ratelimiting;
+
+import com.appsmith.server.constants.RateLimitConstants;
+import com.appsmith.server.helpers.RedisUtils;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.BucketProxy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class RateLimitServiceTest {
+
+    private static final String API = RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API;
+
+    private BucketProxy bucket;
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    public void setUp() {
+        bucket = Mockito.mock(BucketProxy.class);
+        RateLimitConfig rateLimitConfig = Mockito.mock(RateLimitConfig.class);
+        Mockito.when(rateLimitConfig.getOrCreateAPIUserSpecificBucket(API, "user"))
+                .thenReturn(bucket);
+        rateLimitService =
+                new RateLimitServiceImpl(Map.of(API, bucket), rateLimitConfig, Mockito.mock(RedisUtils.class));
+    }
+
+    @Test
+    public void tryIncreaseCounter_whenBucketIsEmpty_rejectsLaterRequestsWithoutCheckingRedis() {
+        Mockito.when(bucket.tryConsumeAndReturnRemaining(anyLong()))
+                .thenReturn(ConsumptionProbe.rejected(0, Duration.ofMinutes(1).toNanos(), 0));
+
+        StepVerifier.create(rateLimitService.tryIncreaseCounter(API, "user"))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(rateLimitService.tryIncreaseCounter(API, "user"))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(bucket, times(1)).tryConsumeAndReturnRemaining(anyLong());
+    }
+
+    @Test
+    public void tryIncreaseCounter_afterReset_checksRedisAgain() {
+        Mockito.when(bucket.tryConsumeAndReturnRemaining(anyLong()))
+                .thenReturn(ConsumptionProbe.rejected(0, Duration.ofMinutes(1).toNanos(), 0))
+                .thenReturn(ConsumptionProbe.consumed(4, 0));
+
+        StepVerifier.create(rateLimitService.tryIncreaseCounter(API, "user"))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(rateLimitService.resetCounter(API, "user")).verifyComplete();
+        StepVerifier.create(rateLimitService.tryIncreaseCounter(API, "user"))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(bucket, times(2)).tryConsumeAndReturnRemaining(anyLong());
+    }
+}
@@ -0,0 +1,47 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.external.models.Policy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BaseAppsmithRepositoryCEImplTest {
+
+    @Test
+    public void getUserPermissions_whenAnyPermissionGroupMatches_returnsPolicyPermissions() {
+        Set<Policy> policies = Set.of(
+                Policy.builder()
+                        .permission("read:applications")
+                        .permissionGroups(Set.of("viewer", "developer"))
+                        .build(),
+                Policy.builder()
+                        .permission("manage:applications")
+                        .permissionGroups(Set.of("developer"))
+                        .build(),
+                Policy.builder()
+                        .permission("delete:applications")
+                        .permissionGroups(Set.of("administrator"))
+                        .build(),
+                Policy.builder().permission("export:applications").build());
+
+        Set<String> permissions =
+                BaseAppsmithRepositoryCEImpl.getUserPermissions(policies, Set.of("developer", "anonymous"));
+
+        assertThat(permissions).containsExactlyInAnyOrder("read:applications", "manage:applications");
+    }
+
+    @Test
+    public void getUserPermissions_whenUserHasNoPermissionGroups_returnsNoPermissions() {
+        Set<Policy> policies = Set.of(Policy.builder()
+                .permission("read:applications")
+                .permissionGroups(Set.of("viewer"))
+                .build());
+
+        assertThat(BaseAppsmithRepositoryCEImpl.getUserPermissions(policies, Set.of()))
+                .isEmpty();
+        assertThat(BaseAppsmithRepositoryCEImpl.getUserPermissions(null, Set.of("viewer")))
+                .isEmpty();
+    }
+}
@@ -8,18 +8,27 @@ import com.appsmith.server.dtos.SearchEntityDTO;
 import com.appsmith.server.helpers.CollectionUtils;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.WorkspaceService;
+import com.appsmith.server.solutions.ApplicationPermission;
+import com.appsmith.server.solutions.WorkspacePermission;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.test.context.support.WithUserDetails;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.getSort;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -38,6 +47,15 @@ class SearchEntitySolutionCETest {
     @Autowired
     SearchEntitySolution searchEntitySolution;
 
+    @Autowired
+    ApplicationPermission applicationPermission;
+
+    @Autowired
+    WorkspacePermission workspacePermission;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
     private final List<String> applicationIds = new ArrayList<>();
 
     private final List<String> workspaceIds = new ArrayList<>();
@@ -242,6 +260,99 @@ class SearchEntitySolutionCETest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails("api_user")
+    public void filterByEntityFields_withSearchTokens_returnsSameResultsAsRegexOnlySearch() {
+        final String prefix = UUID.randomUUID().toString().substring(0, 8);
+        Workspace workspace =
+                workspaceService.create(mockWorkspace(prefix + " Sales Team")).block();
+        assertNotNull(workspace, "Workspace should not be null");
+        workspaceIds.add(workspace.getId());
+        for (String name : List.of("Sales Dashboard", "sales report", "Inventory", "Untokenised Sales", "ΟΔΟΣΑ")) {
+            Application application = new Application();
+            application.setName(prefix + " " + name);
+            application.setWorkspaceId(workspace.getId());
+            application = applicationPageService
+                    .createApplication(application, workspace.getId())
+                    .block();
+            assertNotNull(application, "Application should not be null");
+            applicationIds.add(application.getId());
+        }
+        // Applications saved before the tokens were added don't have them until the migration has run
+        mongoOperations
+                .updateFirst(
+                        new Query(Criteria.where(Application.Fields.name).is(prefix + " Untokenised Sales")),
+                        new Update().unset(Application.Fields.searchTokens),
+                        Application.class)
+                .block();
+
+        // Tokenised, mixed case, shorter than a token, spanning words and ending in a letter whose lowercase depends on
+        // its position in the text
+        List<String> searchStrings = List.of(
+                prefix, prefix + " sales", "DASHboard", "sal", "Sa", "s", "es R", "sales team", "xyz-none", "ΟΔΟΣ");
+        for (String searchString : searchStrings) {
+            Set<String> tokenisedApplicationIds = applicationService
+                    .filterByEntityFieldsWithoutPublicAccess(
+                            List.of(Application.Fields.name),
+                            Application.Fields.searchTokens,
+                            searchString,
+                            null,
+                            getSort(),
+                            applicationPermission.getReadPermission())
+                    .map(Application::getId)
+                    .collect(Collectors.toSet())
+                    .block();
+            Set<String> regexApplicationIds = applicationService
+                    .filterByEntityFieldsWithoutPublicAccess(
+                            List.of(Application.Fields.name),
+                            searchString,
+                            null,
+                            getSort(),
+                            applicationPermission.getReadPermission())
+                    .map(Application::getId)
+                    .collect(Collectors.toSet())
+                    .block();
+            assertThat(tokenisedApplicationIds).as(searchString).isEqualTo(regexApplicationIds);
+
+            Set<String> tokenisedWorkspaceIds = workspaceService
+                    .filterByEntityFieldsWithoutPublicAccess(
+                            List.of(Workspace.Fields.name),
+                            Workspace.Fields.searchTokens,
+                            searchString,
+                            null,
+                            getSort(),
+                            workspacePermission.getReadPermission())
+                    .map(Workspace::getId)
+                    .collect(Collectors.toSet())
+                    .block();
+            Set<String> regexWorkspaceIds = workspaceService
+                    .filterByEntityFieldsWithoutPublicAccess(
+                            List.of(Workspace.Fields.name),
+                            searchString,
+                            null,
+                            getSort(),
+                            workspacePermission.getReadPermission())
+                    .map(Workspace::getId)
+                    .collect(Collectors.toSet())
+                    .block();
+            assertThat(tokenisedWorkspaceIds).as(searchString).isEqualTo(regexWorkspaceIds);
+        }
+
+        // The application without tokens is still found
+        Set<String> untokenisedApplicationNames = applicationService
+                .filterByEntityFieldsWithoutPublicAccess(
+                        List.of(Application.Fields.name),
+                        Application.Fields.searchTokens,
+                        prefix + " UNTOKENISED",
+                        null,
+                        getSort(),
+                        applicationPermission.getReadPermission())
+                .map(Application::getName)
+                .collect(Collectors.toSet())
+                .block();
+        assertThat(untokenisedApplicationNames).containsExactly(prefix + " Untokenised Sales");
+    }
+
     private static Application mockGitConnectedApplication(
             String branchName, String defaultBranchName, String searchString, Workspace workspace) {
         Application application = new Application();
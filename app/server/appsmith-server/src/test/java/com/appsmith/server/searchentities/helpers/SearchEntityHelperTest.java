@@ -1,8 +1,11 @@
 package com.appsmith.server.searchentities.helpers;
 
+import com.appsmith.server.domains.Application;
 import org.junit.jupiter.api.Test;
 
+import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.getSearchTokens;
 import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.shouldSearchEntity;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -45,4 +48,36 @@ class SearchEntityHelperTest {
     public void testShouldSearchEntity_MultipleEntitiesNoMatch() {
         assertFalse(shouldSearchEntity(TestEntity.class, new String[] {"Entity1", "Entity2", "Entity3"}));
     }
+
+    @Test
+    public void testGetSearchTokens_RepeatedTokens() {
+        assertThat(getSearchTokens("MyApp App")).containsExactly("mya", "yap", "app", "pp ", "p a", " ap");
+    }
+
+    @Test
+    public void testGetSearchTokens_TextShorterThanToken() {
+        assertThat(getSearchTokens("ab")).isEmpty();
+        assertThat(getSearchTokens(null)).isNull();
+    }
+
+    @Test
+    public void testGetSearchTokens_NameContainsSearchString() {
+        assertThat(getSearchTokens("Sales Dashboard 2024")).containsAll(getSearchTokens("DASHboard"));
+    }
+
+    @Test
+    public void testGetSearchTokens_NameContainsSearchStringEndingInFinalSigma() {
+        // Lowercased as a whole, the Σ at the end of the search string would be ς while it's σ inside the name
+        assertThat(getSearchTokens("ΟΔΟΣΑ")).containsAll(getSearchTokens("ΟΔΟΣ"));
+        assertThat(getSearchTokens("ΟΔΟΣ")).containsExactly("οδο", "δοσ");
+    }
+
+    @Test
+    public void testGetSearchTokens_ApplicationRenamed() {
+        Application application = new Application();
+        application.setName("Orders");
+        application.setName("Invoices");
+
+        assertThat(application.getSearchTokens()).isEqualTo(getSearchTokens("Invoices"));
+    }
 }
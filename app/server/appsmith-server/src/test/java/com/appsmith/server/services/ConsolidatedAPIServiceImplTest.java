@@ -220,7 +220,7 @@ public class ConsolidatedAPIServiceImplTest {
 
         doReturn(Mono.just(List.of(new NewPage())))
                 .when(spyApplicationPageService)
-                .getPagesBasedOnApplicationMode(any(), any());
+                .getPageSummariesBasedOnApplicationMode(any(), any());
 
         doReturn(Mono.just(sampleApplicationPagesDTO))
                 .when(spyNewPageService)
@@ -0,0 +1,128 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.domains.User;
+import com.appsmith.server.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.appsmith.server.services.ce.SessionUserServiceCEImpl.SPRING_SESSION_PREFIX;
+import static com.appsmith.server.services.ce.SessionUserServiceCEImpl.USER_SESSIONS_INDEX_BACKFILLED_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+@SpringBootTest
+public class SessionUserServiceTest {
+
+    @Autowired
+    SessionUserService sessionUserService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ReactiveRedisOperations<String, Object> redisOperations;
+
+    private User user;
+
+    @BeforeEach
+    public void setup() {
+        user = userRepository.findByEmail("api_user").block();
+        // Start every test without any indexed session of the user
+        sessionUserService.logoutAllSessions(user.getEmail()).block();
+    }
+
+    private String createSession() {
+        String sessionId = UUID.randomUUID().toString();
+        SecurityContextImpl securityContext =
+                new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        redisOperations
+                .opsForHash()
+                .put(
+                        SPRING_SESSION_PREFIX + sessionId,
+                        "sessionAttr:" + DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME,
+                        securityContext)
+                .block();
+        return sessionId;
+    }
+
+    @Test
+    public void addSessionToUserIndex_whenSessionIsAdded_sessionIsFoundByUserEmail() {
+        String sessionId = createSession();
+
+        sessionUserService.addSessionToUserIndex(user, sessionId).block();
+
+        assertThat(sessionUserService.getSessionKeysByUserEmail(user.getEmail()).block())
+                .containsExactly(SPRING_SESSION_PREFIX + sessionId);
+    }
+
+    @Test
+    public void removeSessionFromUserIndex_whenSessionIsDeleted_sessionIsNotFoundByUserEmail() {
+        String sessionId = createSession();
+        String otherSessionId = createSession();
+        sessionUserService.addSessionToUserIndex(user, sessionId).block();
+        sessionUserService.addSessionToUserIndex(user, otherSessionId).block();
+
+        redisOperations.delete(SPRING_SESSION_PREFIX + sessionId).block();
+        sessionUserService
+                .removeSessionFromUserIndex(SPRING_SESSION_PREFIX + sessionId)
+                .block();
+
+        assertThat(sessionUserService.getSessionKeysByUserEmail(user.getEmail()).block())
+                .containsExactly(SPRING_SESSION_PREFIX + otherSessionId);
+    }
+
+    @Test
+    public void getSessionKeysByUserEmail_whenSessionExpiryIsMissed_staleSessionIsPruned() {
+        String sessionId = createSession();
+        String otherSessionId = createSession();
+        sessionUserService.addSessionToUserIndex(user, sessionId).block();
+        sessionUserService.addSessionToUserIndex(user, otherSessionId).block();
+
+        // The session expires without its expiry event being received
+        redisOperations.delete(SPRING_SESSION_PREFIX + sessionId).block();
+
+        assertThat(sessionUserService.getSessionKeysByUserEmail(user.getEmail()).block())
+                .containsExactly(SPRING_SESSION_PREFIX + otherSessionId);
+    }
+
+    @Test
+    public void logoutAllSessions_whenUserHasIndexedSessions_deletesAllSessions() {
+        String sessionId = createSession();
+        String otherSessionId = createSession();
+        sessionUserService.addSessionToUserIndex(user, sessionId).block();
+        sessionUserService.addSessionToUserIndex(user, otherSessionId).block();
+
+        sessionUserService.logoutAllSessions(user.getEmail()).block();
+
+        assertThat(redisOperations.hasKey(SPRING_SESSION_PREFIX + sessionId).block())
+                .isFalse();
+        assertThat(redisOperations
+                        .hasKey(SPRING_SESSION_PREFIX + otherSessionId)
+                        .block())
+                .isFalse();
+        assertThat(sessionUserService.getSessionKeysByUserEmail(user.getEmail()).block())
+                .isEmpty();
+    }
+
+    @Test
+    public void indexExistingUserSessions_whenSessionsAreNotIndexed_indexesThemOnce() {
+        String sessionId = createSession();
+        redisOperations.delete(USER_SESSIONS_INDEX_BACKFILLED_KEY).block();
+
+        Long indexedCount = sessionUserService.indexExistingUserSessions().block();
+
+        assertThat(indexedCount).isPositive();
+        assertThat(sessionUserService.getSessionKeysByUserEmail(user.getEmail()).block())
+                .contains(SPRING_SESSION_PREFIX + sessionId);
+        // The backfill is skipped once it has completed
+        assertThat(sessionUserService.indexExistingUserSessions().block()).isZero();
+    }
+}
@@ -5,6 +5,7 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.dtos.UsagePulseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.UsagePulseBuffer;
 import com.appsmith.server.repositories.UsagePulseRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
@@ -34,6 +35,9 @@ public class UsagePulseServiceTest {
     @Autowired
     private UsagePulseRepository repository;
 
+    @Autowired
+    private UsagePulseBuffer usagePulseBuffer;
+
     @BeforeEach
     public void setup() {
         commonConfig.setCloudHosting(false);
@@ -117,17 +121,19 @@ public class UsagePulseServiceTest {
     @WithUserDetails(value = "anonymousUser")
     public void createUsagePulse_forAppsmithCloud_pulseNotSavedInDB() {
         UsagePulseDTO usagePulseDTO = new UsagePulseDTO();
-        String anonymousUserId = "testAnonymousUserId";
         usagePulseDTO.setViewMode(true);
-        usagePulseDTO.setAnonymousUserId(anonymousUserId);
+        usagePulseDTO.setAnonymousUserId(UUID.randomUUID().toString());
 
-        usagePulseService.createPulse(usagePulseDTO).block();
+        usagePulseBuffer.flush().block();
         Long usagePulseCount = repository.count().block();
         usagePulseService.createPulse(usagePulseDTO).block();
+        usagePulseBuffer.flush().block();
         Long usagePulseCountForSelfHostedInstance = repository.count().block();
 
         commonConfig.setCloudHosting(true);
+        usagePulseDTO.setAnonymousUserId(UUID.randomUUID().toString());
         usagePulseService.createPulse(usagePulseDTO).block();
+        usagePulseBuffer.flush().block();
         Long usagePulseCountForCloud = repository.count().block();
 
         assertThat(usagePulseCount).isNotNull();
@@ -135,6 +141,22 @@ public class UsagePulseServiceTest {
         assertThat(usagePulseCountForSelfHostedInstance).isEqualTo(usagePulseCountForCloud);
     }
 
+    @Test
+    @WithUserDetails(value = "anonymousUser")
+    public void createUsagePulse_whenUserSendsPulsesFromManyTabs_savesOnePulse() {
+        UsagePulseDTO usagePulseDTO = new UsagePulseDTO();
+        usagePulseDTO.setViewMode(true);
+        usagePulseDTO.setAnonymousUserId(UUID.randomUUID().toString());
+
+        usagePulseBuffer.flush().block();
+        Long usagePulseCount = repository.count().block();
+        usagePulseService.createPulse(usagePulseDTO).block();
+        usagePulseService.createPulse(usagePulseDTO).block();
+        usagePulseBuffer.flush().block();
+
+        assertThat(repository.count().block()).isEqualTo(usagePulseCount + 1);
+    }
+
     @Test
     public void createPulse_inEditMode_withAnonymousUser_throwException() {
         UsagePulseDTO usagePulseDTO = new UsagePulseDTO();
@@ -7,6 +7,7 @@ import com.appsmith.server.dtos.FeaturesResponseDTO;
 import com.appsmith.server.featureflags.CachedFeatures;
 import com.appsmith.server.featureflags.CachedFlags;
 import com.appsmith.server.helpers.FeatureFlagMigrationHelper;
+import com.appsmith.server.helpers.UserFeatureFlagsRequestCache;
 import com.appsmith.server.services.CacheableFeatureFlagHelper;
 import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.TenantService;
@@ -27,6 +28,7 @@ import org.springframework.test.context.ActiveProfiles;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -37,12 +39,15 @@ import static com.appsmith.server.constants.FeatureMigrationType.ENABLE;
 import static com.appsmith.server.constants.MigrationStatus.COMPLETED;
 import static com.appsmith.server.constants.MigrationStatus.PENDING;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 @Slf4j
@@ -117,6 +122,8 @@ public class FeatureFlagServiceCETest {
         FeaturesResponseDTO responseDTO = new FeaturesResponseDTO();
         responseDTO.setFeatures(tenantFeatures);
         doReturn(Mono.just(responseDTO)).when(cacheableFeatureFlagHelper).getRemoteFeaturesForTenant(any());
+        // Refresh the in memory tenant features, as is done on a schedule and whenever the tenant features are updated
+        featureFlagService.getTenantFeatures().block();
         // Assert true for same feature flag after tenant level flag overrides the existing flag
         StepVerifier.create(featureFlagService.getAllFeatureFlagsForUser())
                 .assertNext(result -> {
@@ -126,6 +133,46 @@ public class FeatureFlagServiceCETest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void check_whenCalledManyTimesInRequest_fetchesUserFlagsOnce() {
+        Mono<Boolean> checksMono = featureFlagService
+                .check(TENANT_TEST_FEATURE)
+                .then(featureFlagService.check(FeatureFlagEnum.TEST_FEATURE_2))
+                .then(featureFlagService.getAllFeatureFlagsForUser())
+                .then(featureFlagService.check(TENANT_TEST_FEATURE))
+                .contextWrite(context ->
+                        UserFeatureFlagsRequestCache.putInContext(context, new UserFeatureFlagsRequestCache()));
+
+        StepVerifier.create(checksMono).expectNextCount(1).verifyComplete();
+
+        verify(cacheableFeatureFlagHelper, times(1)).fetchUserCachedFlags(anyString(), any());
+    }
+
+    @Test
+    public void tenantFeaturesUpdatedMessage_refreshesInMemoryTenantFeatures() {
+        String tenantId = tenantService.getDefaultTenantId().block();
+        featureFlagService.getTenantFeatures().block();
+        assertTrue(
+                featureFlagService.getCachedTenantFeatureFlags().getFeatures().get(TENANT_TEST_FEATURE.name()));
+
+        // The features are updated on another server, which publishes the update
+        Map<String, Boolean> tenantFeatures = new HashMap<>();
+        tenantFeatures.put(TENANT_TEST_FEATURE.name(), false);
+        FeaturesResponseDTO responseDTO = new FeaturesResponseDTO();
+        responseDTO.setFeatures(tenantFeatures);
+        doReturn(Mono.just(responseDTO)).when(cacheableFeatureFlagHelper).getRemoteFeaturesForTenant(any());
+        reactiveRedisTemplate
+                .convertAndSend(FeatureFlagServiceCEImpl.TENANT_FEATURES_UPDATED_CHANNEL, tenantId)
+                .block();
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertFalse(featureFlagService
+                        .getCachedTenantFeatureFlags()
+                        .getFeatures()
+                        .get(TENANT_TEST_FEATURE.name())));
+    }
+
     @Test
     public void getFeatureFlags_withUserIdentifier_redisKeyExists() {
         String userIdentifier = "testIdentifier";